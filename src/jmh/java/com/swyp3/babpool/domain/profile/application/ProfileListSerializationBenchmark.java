@@ -0,0 +1,114 @@
+package com.swyp3.babpool.domain.profile.application;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.swyp3.babpool.domain.profile.application.response.ProfilePagingResponse;
+import com.swyp3.babpool.global.common.response.ApiResponse;
+import com.swyp3.babpool.global.config.ObjectMapperResolver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 프로필 목록 한 페이지(GET /api/profile/list, 기본 10건) 응답의 직렬화 CPU 시간과 응답 크기.
+ * - reflection : 기존 설정 (리플렉션 접근자 + String.valueOf 로 Long 을 문자열로 변환)
+ * - optimized : Blackbird 접근자 + Long 을 char 배열에 바로 쓰는 JsonResponseLongToString
+ * json 은 직렬화만, gzip 은 직렬화 후 Tomcat 과 같은 GZIPOutputStream 으로 압축한 비용이다.
+ * 페이지당 응답 크기(json/gzip bytes)는 setUp 에서 출력하고, 할당량은 gc 프로파일러의 gc.alloc.rate.norm 으로 확인한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProfileListSerializationBenchmark {
+
+    @Param({"reflection", "optimized"})
+    private String mode;
+
+    @Param({"10"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<Page<ProfilePagingResponse>> page;
+
+    @Setup
+    public void setUp() throws IOException {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        if ("optimized".equals(mode)) {
+            builder.serializerByType(Long.class, new ObjectMapperResolver.JsonResponseLongToString())
+                    .modulesToInstall(new BlackbirdModule());
+        } else {
+            builder.serializerByType(Long.class, new StringValueOfLongSerializer());
+        }
+        objectMapper = builder.build();
+
+        List<ProfilePagingResponse> profiles = new ArrayList<>();
+        for (int i = 0; i < pageSize; i++) {
+            profiles.add(ProfilePagingResponse.builder()
+                    .profileId(200000000000000001L + i)
+                    .profileImageUrl("https://babpool-image-bucket.s3.ap-northeast-2.amazonaws.com/static/018df2dd-6b59-7758-9e76-2862767ce0" + (10 + i) + "_card.jpg")
+                    .profileIntro("안녕하세요, 밥약 신청 환영합니다 " + i)
+                    .profileContents("백엔드 개발에 관심이 많은 학생입니다. 진로, 대외활동, 학교 생활 무엇이든 편하게 이야기 나눠요. " + i)
+                    .profileModifyDate(LocalDateTime.of(2024, 3, 1, 12, 0).minusHours(i))
+                    .keywordNameList(List.of("개발", "취업", "대외활동"))
+                    .userGrade("THIRD_GRADE")
+                    .userNickname("밥풀" + i)
+                    .build());
+        }
+        page = ApiResponse.ok(new PageImpl<>(profiles,
+                PageRequest.of(0, pageSize, Sort.by(Sort.Direction.DESC, "profile_modify_date")), 1_000));
+
+        byte[] json = json();
+        System.out.printf("profile-list page (mode=%s, size=%d) : json=%d bytes, gzip=%d bytes%n",
+                mode, pageSize, json.length, gzip(json).length);
+    }
+
+    @Benchmark
+    public byte[] json() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] jsonGzip() throws IOException {
+        return gzip(json());
+    }
+
+    private static byte[] gzip(byte[] content) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(content.length / 4);
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+            gzipOutputStream.write(content);
+        }
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * 변경 전 JsonResponseLongToString 과 같은 구현
+     */
+    private static class StringValueOfLongSerializer extends JsonSerializer<Long> {
+        @Override
+        public void serialize(Long value, JsonGenerator jsonGenerator, SerializerProvider serializerProvider) throws IOException {
+            jsonGenerator.writeString(String.valueOf(value));
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.swyp3.babpool.domain.user.application;
+
+import com.swyp3.babpool.domain.profile.domain.Profile;
+import com.swyp3.babpool.domain.user.dao.SignUpRepository;
+import com.swyp3.babpool.domain.user.domain.User;
+import com.swyp3.babpool.domain.user.domain.UserRole;
+import com.swyp3.babpool.domain.user.domain.UserStatus;
+import com.swyp3.babpool.global.tsid.TsidKeyGenerator;
+import com.swyp3.babpool.infra.auth.AuthPlatform;
+import com.swyp3.babpool.infra.auth.domain.Auth;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionFactoryBean;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 동시 가입 처리량(가입/초). 실제 SignUpRepository(SignUpMapper.xml)와 DataSourceTransactionManager 로
+ * H2(MySQL 모드)에 사용자/소셜 로그인/프로필 행을 저장한다.
+ * maxBatchSize=1 은 묶음 없이 한 명씩 저장하는 경우와 같다.
+ * 내장 DB 는 네트워크 왕복이 없으므로, 운영 MySQL 보다 묶음 저장의 이득이 작게 측정된다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(16)
+public class SignUpBatchWriterBenchmark {
+
+    private static final String[] SCHEMA = {
+            "CREATE TABLE IF NOT EXISTS t_user_account (user_id BIGINT NOT NULL PRIMARY KEY, user_email VARCHAR(255), " +
+                    "user_status VARCHAR(20), user_role VARCHAR(20), user_grade VARCHAR(20), user_nick_name VARCHAR(255), " +
+                    "user_create_date DATETIME DEFAULT CURRENT_TIMESTAMP, user_modify_date DATETIME DEFAULT CURRENT_TIMESTAMP)",
+            "CREATE TABLE IF NOT EXISTS t_oauth (oauth_id BIGINT NOT NULL PRIMARY KEY, user_id BIGINT NOT NULL, " +
+                    "oauth_platform_name VARCHAR(20), oauth_platform_id VARCHAR(255))",
+            "CREATE TABLE IF NOT EXISTS t_profile (profile_id BIGINT NOT NULL PRIMARY KEY, user_id BIGINT NOT NULL, " +
+                    "profile_image_url VARCHAR(255), profile_active_flag BOOLEAN)",
+            "CREATE INDEX IF NOT EXISTS idx_oauth_user ON t_oauth (user_id)",
+            "CREATE INDEX IF NOT EXISTS idx_profile_user ON t_profile (user_id)"
+    };
+
+    @Param({"1", "50"})
+    private int maxBatchSize;
+
+    private HikariDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private SignUpBatchWriter signUpBatchWriter;
+    private final TsidKeyGenerator tsidKeyGenerator = new TsidKeyGenerator();
+
+    @Setup
+    public void setUp() throws Exception {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:signup-benchmark;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        config.setMaximumPoolSize(16);
+        dataSource = new HikariDataSource(config);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        for (String sql : SCHEMA) {
+            jdbcTemplate.execute(sql);
+        }
+
+        SqlSessionFactoryBean sqlSessionFactoryBean = new SqlSessionFactoryBean();
+        sqlSessionFactoryBean.setDataSource(dataSource);
+        sqlSessionFactoryBean.setMapperLocations(new ClassPathResource("mapper/SignUpMapper.xml"));
+        SqlSessionFactory sqlSessionFactory = sqlSessionFactoryBean.getObject();
+        SignUpRepository signUpRepository = new SqlSessionTemplate(sqlSessionFactory).getMapper(SignUpRepository.class);
+
+        signUpBatchWriter = new SignUpBatchWriter(signUpRepository, new DataSourceTransactionManager(dataSource), maxBatchSize);
+    }
+
+    /**
+     * 반복마다 테이블을 비워, 쌓인 행 수가 다음 반복의 INSERT 비용에 영향을 주지 않도록 한다.
+     */
+    @TearDown(Level.Iteration)
+    public void truncate() {
+        jdbcTemplate.execute("TRUNCATE TABLE t_user_account");
+        jdbcTemplate.execute("TRUNCATE TABLE t_oauth");
+        jdbcTemplate.execute("TRUNCATE TABLE t_profile");
+    }
+
+    @TearDown
+    public void tearDown() {
+        dataSource.close();
+    }
+
+    @Benchmark
+    public int signUp() {
+        return signUpBatchWriter.write(newSignUpEntry());
+    }
+
+    private SignUpEntry newSignUpEntry() {
+        long[] ids = tsidKeyGenerator.generateTsids(3);
+        long userId = ids[0];
+        return SignUpEntry.builder()
+                .user(User.allArgsBuilder()
+                        .userId(userId)
+                        .userEmail(userId + "@benchmark.test")
+                        .userStatus(UserStatus.PREACTIVE)
+                        .userRole(UserRole.USER)
+                        .userGrade("none")
+                        .userNickName("user" + userId)
+                        .allArgsBuild())
+                .auth(Auth.builder()
+                        .oauthId(ids[1])
+                        .userId(userId)
+                        .oauthPlatformName(AuthPlatform.KAKAO)
+                        .oauthPlatformId(String.valueOf(userId))
+                        .build())
+                .profile(Profile.builder()
+                        .profileId(ids[2])
+                        .userId(userId)
+                        .profileImageUrl("https://bab-pool.test/profile.png")
+                        .profileActiveFlag(true)
+                        .build())
+                .build();
+    }
+}
@@ -0,0 +1,57 @@
+package com.swyp3.babpool.global.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 응답 직렬화 비용. 애플리케이션은 {@link ObjectMapperResolver.JsonResponseLongToString} 으로 모든 Long 을 문자열로 내려준다.
+ * - longToString : 애플리케이션과 같은 설정
+ * - defaultLong : Jackson 기본 숫자 직렬화 (비교 기준)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LongToStringSerializationBenchmark {
+
+    private ObjectMapper longToStringMapper;
+    private ObjectMapper defaultMapper;
+    private List<ProfileCard> profileCards;
+
+    @Setup
+    public void setUp() {
+        longToStringMapper = new ObjectMapper()
+                .registerModule(new SimpleModule().addSerializer(Long.class, new ObjectMapperResolver.JsonResponseLongToString()));
+        defaultMapper = new ObjectMapper();
+        profileCards = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            profileCards.add(new ProfileCard(200000000000000001L + i, 100000000000000001L + i, "밥풀" + i,
+                    "https://bucket.s3.ap-northeast-2.amazonaws.com/profile/" + i + ".png",
+                    List.of(400000000000000001L, 400000000000000002L, 400000000000000003L)));
+        }
+    }
+
+    @Benchmark
+    public String longToString() throws JsonProcessingException {
+        return longToStringMapper.writeValueAsString(profileCards);
+    }
+
+    @Benchmark
+    public String defaultLong() throws JsonProcessingException {
+        return defaultMapper.writeValueAsString(profileCards);
+    }
+
+    public record ProfileCard(Long profileId, Long userId, String nickName, String profileImageUrl, List<Long> keywordIds) {
+    }
+}
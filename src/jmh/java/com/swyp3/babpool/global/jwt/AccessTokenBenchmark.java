@@ -0,0 +1,60 @@
+package com.swyp3.babpool.global.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 실행되는 Access Token 검증 비용.
+ * - parseAccessTokenBaseline : 기존 방식. 호출마다 서명 키와 JwtParser 를 새로 만든다.
+ * - parseAccessToken : 미리 만들어 둔 JwtParser 로 서명 검증과 클레임 파싱
+ * - authenticateCached : VerifiedTokenCache 에 검증 결과가 있는 경우
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AccessTokenBenchmark {
+
+    private static final String SECRET = "12345678901234567890123456789012";
+
+    private JwtTokenizer jwtTokenizer;
+    private JwtAuthenticator cachedAuthenticator;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtTokenizer = new JwtTokenizer(SECRET, SECRET);
+        cachedAuthenticator = new JwtAuthenticator(jwtTokenizer, new VerifiedTokenCache(VerifiedTokenCache.DEFAULT_MAX_SIZE));
+        accessToken = jwtTokenizer.createAccessToken(100000000000000001L, List.of("USER"));
+        cachedAuthenticator.authenticate(accessToken);
+    }
+
+    @Benchmark
+    public Claims parseAccessTokenBaseline() {
+        return Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .build()
+                .parseClaimsJws(accessToken)
+                .getBody();
+    }
+
+    @Benchmark
+    public Claims parseAccessToken() {
+        return jwtTokenizer.parseAccessToken(accessToken);
+    }
+
+    @Benchmark
+    public Claims authenticateCached() {
+        return cachedAuthenticator.authenticate(accessToken);
+    }
+}
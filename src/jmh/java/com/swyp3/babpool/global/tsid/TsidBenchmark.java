@@ -0,0 +1,48 @@
+package com.swyp3.babpool.global.tsid;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TSID 생성 처리량. 하나의 TsidKeyGenerator 를 여러 스레드가 함께 사용한다.
+ * - generateTsids20 : 밥약 가능 일정, 키워드 매핑 저장처럼 한 번에 여러 건을 생성하는 경우 (20건)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TsidBenchmark {
+
+    private TsidKeyGenerator tsidKeyGenerator;
+
+    @Setup
+    public void setUp() {
+        tsidKeyGenerator = new TsidKeyGenerator();
+        tsidKeyGenerator.init();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public long generateTsid() {
+        return tsidKeyGenerator.generateTsid();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long generateTsidContended() {
+        return tsidKeyGenerator.generateTsid();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long[] generateTsids20() {
+        return tsidKeyGenerator.generateTsids(20);
+    }
+}
@@ -0,0 +1,25 @@
+package com.swyp3.babpool.global.uuid.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UuidResolverBenchmark {
+
+    private final UuidResolver uuidResolver = new UuidResolver();
+    private final UUID uuid = UUID.fromString("018e1b7a-6f3c-7cc2-9a4e-3f1d2c5b6a7e");
+
+    @Benchmark
+    public byte[] parseUuidToBytes() {
+        return uuidResolver.parseUuidToBytes(uuid);
+    }
+}
@@ -0,0 +1,195 @@
+package com.swyp3.babpool.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.swyp3.babpool.domain.profile.domain.Profile;
+import com.swyp3.babpool.domain.user.dao.SignUpRepository;
+import com.swyp3.babpool.domain.user.domain.User;
+import com.swyp3.babpool.domain.user.domain.UserRole;
+import com.swyp3.babpool.domain.user.domain.UserStatus;
+import com.swyp3.babpool.global.dataset.DatasetSpec;
+import com.swyp3.babpool.global.dataset.SyntheticDataGenerator;
+import com.swyp3.babpool.global.mybatis.SchemaMigrations;
+import com.swyp3.babpool.global.tsid.TsidKeyGenerator;
+import com.swyp3.babpool.infra.auth.AuthPlatform;
+import com.swyp3.babpool.infra.auth.domain.Auth;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 내장 DB(test 프로필)와 EmbeddedLocalRedisConfig 의 내장 Redis 로 애플리케이션을 띄우고, 실제 HTTP 로 부하를 준다.
+ * ./gradlew loadTest -PloadTest.duration-seconds=60 -PloadTest.browse-rate=50 -PloadTest.slo.p95-ms=200
+ * - browse : 프로필 목록 50%, 검색 20%, 상세 30%
+ * - booking : 가능 일정 등록 -> 밥약 요청 -> 수락 -> 리뷰 작성
+ * 두 시나리오는 동시에 실행되며, 요청별 p95/p99/오류율이 SLO 를 넘기면 실패한다.
+ * -PloadTest.dataset-users=100000 을 주면 SyntheticDataGenerator 로 배경 데이터를 먼저 적재한 뒤 측정한다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class ApiLoadTest {
+
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+    private static final String[] SEARCH_TERMS = {"밥", "개발", "디자인", "취업"};
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private SignUpRepository signUpRepository;
+    @Autowired
+    private TsidKeyGenerator tsidKeyGenerator;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private DataSource dataSource;
+
+    private final List<Participant> participants = new ArrayList<>();
+    private final AtomicLong slotSequence = new AtomicLong();
+    private LocalDateTime firstSlot;
+    private LoadTestClient client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        client = new LoadTestClient("http://localhost:" + port, objectMapper);
+        firstSlot = LocalDateTime.now().plusDays(7).truncatedTo(ChronoUnit.HOURS);
+        SchemaMigrations.apply(dataSource);
+        int datasetUsers = Integer.getInteger("loadTest.dataset-users", 0);
+        if (datasetUsers > 0) {
+            SyntheticDataGenerator.load(dataSource, DatasetSpec.builder()
+                    .users(datasetUsers)
+                    .seed(Long.getLong("loadTest.dataset-seed", 20240301L))
+                    .build());
+        }
+        createParticipants(Integer.getInteger("loadTest.users", 20));
+    }
+
+    @DisplayName("프로필 조회와 밥약 진행을 동시에 부하로 주고, 요청별 SLO 를 확인한다.")
+    @Test
+    void browseAndBook() throws Exception {
+        // given
+        Duration duration = Duration.ofSeconds(Long.getLong("loadTest.duration-seconds", 30L));
+        ArrivalRateScenario browse = new ArrivalRateScenario("browse",
+                Double.parseDouble(System.getProperty("loadTest.browse-rate", "30")), duration)
+                .action(50, this::profileList)
+                .action(20, this::profileSearch)
+                .action(30, this::profileDetail);
+        ArrivalRateScenario booking = new ArrivalRateScenario("booking",
+                Double.parseDouble(System.getProperty("loadTest.booking-rate", "2")), duration)
+                .action(1, this::bookAndReview);
+
+        // when
+        double elapsedSeconds = new OpenModelLoadGenerator(client).run(List.of(browse, booking));
+
+        // then
+        LoadTestReport report = new LoadTestReport("api-load-test", elapsedSeconds, client.getRecorder().summarize(elapsedSeconds));
+        System.out.println(report.toTable());
+        report.writeJson(Path.of(System.getProperty("loadTest.report-dir", "build/reports/loadTest")));
+        assertThat(ServiceLevelObjective.fromSystemProperties().violations(report)).isEmpty();
+    }
+
+    private void profileList(LoadTestClient client) throws Exception {
+        client.get("GET /api/profile/list", "/api/profile/list?userGrades=&keywords=&page=" + ThreadLocalRandom.current().nextInt(3), null);
+    }
+
+    private void profileSearch(LoadTestClient client) throws Exception {
+        String searchTerm = SEARCH_TERMS[ThreadLocalRandom.current().nextInt(SEARCH_TERMS.length)];
+        client.get("GET /api/profile/list?searchTerm", "/api/profile/list?userGrades=&keywords=&searchTerm="
+                + URLEncoder.encode(searchTerm, StandardCharsets.UTF_8), null);
+    }
+
+    private void profileDetail(LoadTestClient client) throws Exception {
+        Participant viewer = randomParticipant();
+        Participant target = randomParticipant();
+        client.get("GET /api/profile/detail/{id}", "/api/profile/detail/" + target.profileId(), viewer.accessToken());
+    }
+
+    private void bookAndReview(LoadTestClient client) throws Exception {
+        Participant host = randomParticipant();
+        Participant sender = randomParticipant();
+        while (sender == host) {
+            sender = randomParticipant();
+        }
+        String slot = firstSlot.plusHours(slotSequence.getAndIncrement()).format(DATE_TIME_FORMAT);
+
+        client.post("POST /api/possible/datetime", "/api/possible/datetime", host.accessToken(),
+                Map.of("possibleDateTimeAddList", List.of(slot), "possibleDateTimeDelList", List.of()));
+        long appointmentId = client.post("POST /api/appointment", "/api/appointment", sender.accessToken(),
+                        Map.of("targetProfileId", host.profileId(), "possibleDateTime", slot, "appointmentContent", "부하 테스트 밥약 요청"))
+                .path("appointmentId").asLong();
+        client.post("POST /api/appointment/accept", "/api/appointment/accept", host.accessToken(),
+                Map.of("appointmentId", appointmentId));
+        client.post("POST /api/review/create", "/api/review/create", sender.accessToken(),
+                Map.of("appointmentId", appointmentId, "reviewRate", "BEST", "reviewComment", "부하 테스트 리뷰"));
+    }
+
+    private Participant randomParticipant() {
+        return participants.get(ThreadLocalRandom.current().nextInt(participants.size()));
+    }
+
+    /**
+     * 가입을 마친 사용자와 공개된 프로필을 만들고, /api/test/jwt/tokens/{userId} 로 Access Token 을 발급받는다.
+     */
+    private void createParticipants(int count) throws Exception {
+        List<User> users = new ArrayList<>();
+        List<Auth> auths = new ArrayList<>();
+        List<Profile> profiles = new ArrayList<>();
+        long[] ids = tsidKeyGenerator.generateTsids(count * 3);
+        for (int i = 0; i < count; i++) {
+            long userId = ids[i * 3];
+            users.add(User.allArgsBuilder()
+                    .userId(userId)
+                    .userEmail("load-test-" + userId + "@bab-pool.com")
+                    .userNickName("부하테스트" + i)
+                    .userStatus(UserStatus.ACTIVE)
+                    .userRole(UserRole.USER)
+                    .userGrade("FIRST_GRADE")
+                    .allArgsBuild());
+            auths.add(Auth.builder()
+                    .oauthId(ids[i * 3 + 1])
+                    .userId(userId)
+                    .oauthPlatformName(AuthPlatform.KAKAO)
+                    .oauthPlatformId("load-test-" + userId)
+                    .build());
+            profiles.add(Profile.builder()
+                    .profileId(ids[i * 3 + 2])
+                    .userId(userId)
+                    .profileIntro("밥 한 끼 같이 해요 " + i)
+                    .profileContents("개발, 디자인, 취업 이야기를 나눠요.")
+                    .profileActiveFlag(true)
+                    .build());
+        }
+        signUpRepository.saveUsers(users);
+        signUpRepository.saveAuths(auths);
+        signUpRepository.saveProfiles(profiles);
+
+        for (int i = 0; i < count; i++) {
+            String accessToken = client.get("GET /api/test/jwt/tokens/{userId}", "/api/test/jwt/tokens/" + users.get(i).getUserId(), null)
+                    .path("accessToken").asText();
+            participants.add(new Participant(users.get(i).getUserId(), profiles.get(i).getProfileId(), accessToken));
+        }
+        client.getRecorder().clear();
+    }
+
+    private record Participant(Long userId, Long profileId, String accessToken) {
+    }
+}
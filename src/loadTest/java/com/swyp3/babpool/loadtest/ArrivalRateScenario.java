@@ -0,0 +1,63 @@
+package com.swyp3.babpool.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 열린 모델(open model) 시나리오. 응답 속도와 관계없이 초당 ratePerSecond 번 도착하며,
+ * 도착할 때마다 가중치에 따라 하나의 작업을 고른다.
+ */
+public class ArrivalRateScenario {
+
+    private final String name;
+    private final double ratePerSecond;
+    private final Duration duration;
+    private final List<WeightedAction> actions = new ArrayList<>();
+    private int totalWeight;
+
+    public ArrivalRateScenario(String name, double ratePerSecond, Duration duration) {
+        this.name = name;
+        this.ratePerSecond = ratePerSecond;
+        this.duration = duration;
+    }
+
+    public ArrivalRateScenario action(int weight, Action action) {
+        actions.add(new WeightedAction(weight, action));
+        totalWeight += weight;
+        return this;
+    }
+
+    Action pick() {
+        int target = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (WeightedAction weightedAction : actions) {
+            target -= weightedAction.weight();
+            if (target < 0) {
+                return weightedAction.action();
+            }
+        }
+        throw new IllegalStateException("등록된 작업이 없습니다. scenario : " + name);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public double getRatePerSecond() {
+        return ratePerSecond;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    @FunctionalInterface
+    public interface Action {
+
+        void run(LoadTestClient client) throws Exception;
+    }
+
+    private record WeightedAction(int weight, Action action) {
+    }
+}
@@ -0,0 +1,75 @@
+package com.swyp3.babpool.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 요청 이름별 응답 시간과 오류 수를 기록한다.
+ */
+public class LatencyRecorder {
+
+    private final Map<String, Samples> samplesByName = new ConcurrentHashMap<>();
+
+    public void record(String name, long latencyNanos, boolean error) {
+        samplesByName.computeIfAbsent(name, key -> new Samples()).add(latencyNanos, error);
+    }
+
+    /**
+     * 준비 단계(데이터 적재, 토큰 발급)의 기록을 측정에서 제외할 때 사용한다.
+     */
+    public void clear() {
+        samplesByName.clear();
+    }
+
+    /**
+     * @return 요청 이름 순으로 정렬된 통계
+     */
+    public Map<String, LatencySummary> summarize(double durationSeconds) {
+        Map<String, LatencySummary> summaries = new TreeMap<>();
+        samplesByName.forEach((name, samples) -> summaries.put(name, samples.summarize(name, durationSeconds)));
+        return summaries;
+    }
+
+    private static final class Samples {
+
+        private long[] latencies = new long[1024];
+        private int count;
+        private int errors;
+
+        synchronized void add(long latencyNanos, boolean error) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latencyNanos;
+            if (error) {
+                errors++;
+            }
+        }
+
+        synchronized LatencySummary summarize(String name, double durationSeconds) {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            return new LatencySummary(name, count, errors, count / durationSeconds,
+                    percentileMillis(sorted, 0.50), percentileMillis(sorted, 0.95), percentileMillis(sorted, 0.99),
+                    sorted.length == 0 ? 0.0 : sorted[sorted.length - 1] / 1_000_000.0);
+        }
+
+        private static double percentileMillis(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0.0;
+            }
+            int index = (int) Math.ceil(percentile * sorted.length) - 1;
+            return sorted[Math.max(0, index)] / 1_000_000.0;
+        }
+    }
+
+    public record LatencySummary(String name, int count, int errors, double throughputPerSecond,
+                                 double p50Millis, double p95Millis, double p99Millis, double maxMillis) {
+
+        public double errorRate() {
+            return count == 0 ? 0.0 : (double) errors / count;
+        }
+    }
+}
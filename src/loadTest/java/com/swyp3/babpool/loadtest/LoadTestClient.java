@@ -0,0 +1,74 @@
+package com.swyp3.babpool.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 부하 테스트용 HTTP 클라이언트. 요청마다 응답 시간을 기록하며, 2xx 가 아니면 오류로 기록하고 예외를 던진다.
+ */
+public class LoadTestClient {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private final String baseUrl;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final LatencyRecorder recorder = new LatencyRecorder();
+
+    public LoadTestClient(String baseUrl, ObjectMapper objectMapper) {
+        this.baseUrl = baseUrl;
+        this.objectMapper = objectMapper;
+        this.httpClient = HttpClient.newBuilder().connectTimeout(TIMEOUT).build();
+    }
+
+    /**
+     * @return 응답 본문의 data 필드
+     */
+    public JsonNode get(String name, String pathAndQuery, String accessToken) throws IOException, InterruptedException {
+        return send(name, request(pathAndQuery, accessToken).GET().build());
+    }
+
+    public JsonNode post(String name, String path, String accessToken, Map<String, ?> body) throws IOException, InterruptedException {
+        return send(name, request(path, accessToken)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                .build());
+    }
+
+    public LatencyRecorder getRecorder() {
+        return recorder;
+    }
+
+    private HttpRequest.Builder request(String pathAndQuery, String accessToken) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + pathAndQuery)).timeout(TIMEOUT);
+        if (accessToken != null) {
+            builder.header("Authorization", "Bearer " + accessToken);
+        }
+        return builder;
+    }
+
+    private JsonNode send(String name, HttpRequest request) throws IOException, InterruptedException {
+        long startNanos = System.nanoTime();
+        HttpResponse<byte[]> response;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            recorder.record(name, System.nanoTime() - startNanos, true);
+            throw e;
+        }
+        boolean error = response.statusCode() / 100 != 2;
+        recorder.record(name, System.nanoTime() - startNanos, error);
+        if (error) {
+            throw new IllegalStateException(name + " 요청 실패. status : " + response.statusCode() + ", body : " + new String(response.body()));
+        }
+        return objectMapper.readTree(response.body()).path("data");
+    }
+}
@@ -0,0 +1,52 @@
+package com.swyp3.babpool.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 요청 이름별 처리량, p50/p95/p99, 오류율을 출력하고 build/reports/loadTest/{name}.json 에 저장한다.
+ */
+public class LoadTestReport {
+
+    private final String name;
+    private final double durationSeconds;
+    private final Map<String, LatencyRecorder.LatencySummary> summaries;
+
+    public LoadTestReport(String name, double durationSeconds, Map<String, LatencyRecorder.LatencySummary> summaries) {
+        this.name = name;
+        this.durationSeconds = durationSeconds;
+        this.summaries = summaries;
+    }
+
+    public Map<String, LatencyRecorder.LatencySummary> getSummaries() {
+        return summaries;
+    }
+
+    public String toTable() {
+        StringBuilder table = new StringBuilder();
+        table.append(String.format("%n[%s] %.1fs%n", name, durationSeconds));
+        table.append(String.format("%-36s %8s %7s %9s %9s %9s %9s %9s%n", "request", "count", "errors", "rps", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)"));
+        for (LatencyRecorder.LatencySummary summary : summaries.values()) {
+            table.append(String.format("%-36s %8d %7d %9.1f %9.1f %9.1f %9.1f %9.1f%n", summary.name(), summary.count(), summary.errors(),
+                    summary.throughputPerSecond(), summary.p50Millis(), summary.p95Millis(), summary.p99Millis(), summary.maxMillis()));
+        }
+        return table.toString();
+    }
+
+    public Path writeJson(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("name", name);
+        report.put("durationSeconds", durationSeconds);
+        report.put("requests", summaries);
+        Path file = directory.resolve(name + ".json");
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), report);
+        return file;
+    }
+}
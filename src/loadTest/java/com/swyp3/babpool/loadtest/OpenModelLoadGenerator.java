@@ -0,0 +1,57 @@
+package com.swyp3.babpool.loadtest;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 시나리오를 동시에 실행한다.
+ * 도착 시각마다 작업을 제한 없는 스레드 풀에 넘기므로, 서버가 느려져도 요청 도착률은 줄지 않는다. (coordinated omission 방지)
+ * 작업 안에서 던져진 예외는 "{시나리오}.unhandled" 오류로 기록된다.
+ */
+public class OpenModelLoadGenerator {
+
+    private final LoadTestClient client;
+
+    public OpenModelLoadGenerator(LoadTestClient client) {
+        this.client = client;
+    }
+
+    /**
+     * @return 실제 실행 시간(초)
+     */
+    public double run(List<ArrivalRateScenario> scenarios) throws InterruptedException {
+        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(scenarios.size());
+        ExecutorService workers = Executors.newCachedThreadPool();
+        long startNanos = System.nanoTime();
+        long longestNanos = 0;
+        for (ArrivalRateScenario scenario : scenarios) {
+            long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / scenario.getRatePerSecond());
+            long scenarioNanos = scenario.getDuration().toNanos();
+            longestNanos = Math.max(longestNanos, scenarioNanos);
+            scheduler.scheduleAtFixedRate(() -> {
+                if (System.nanoTime() - startNanos >= scenarioNanos) {
+                    return;
+                }
+                ArrivalRateScenario.Action action = scenario.pick();
+                workers.execute(() -> {
+                    long actionStart = System.nanoTime();
+                    try {
+                        action.run(client);
+                    } catch (Exception e) {
+                        client.getRecorder().record(scenario.getName() + ".unhandled", System.nanoTime() - actionStart, true);
+                    }
+                });
+            }, 0, intervalNanos, TimeUnit.NANOSECONDS);
+        }
+        TimeUnit.NANOSECONDS.sleep(longestNanos);
+        scheduler.shutdownNow();
+        workers.shutdown();
+        if (!workers.awaitTermination(30, TimeUnit.SECONDS)) {
+            workers.shutdownNow();
+        }
+        return (System.nanoTime() - startNanos) / 1_000_000_000.0;
+    }
+}
@@ -0,0 +1,35 @@
+package com.swyp3.babpool.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 요청별 응답 시간, 오류율 목표. 기본값은 시스템 속성으로 바꿀 수 있다.
+ * - loadTest.slo.p95-ms (300), loadTest.slo.p99-ms (1000), loadTest.slo.error-rate (0.01)
+ * 하나라도 넘기면 위반 목록을 반환하고, 테스트는 실패한다.
+ */
+public record ServiceLevelObjective(double p95Millis, double p99Millis, double errorRate) {
+
+    public static ServiceLevelObjective fromSystemProperties() {
+        return new ServiceLevelObjective(
+                Double.parseDouble(System.getProperty("loadTest.slo.p95-ms", "300")),
+                Double.parseDouble(System.getProperty("loadTest.slo.p99-ms", "1000")),
+                Double.parseDouble(System.getProperty("loadTest.slo.error-rate", "0.01")));
+    }
+
+    public List<String> violations(LoadTestReport report) {
+        List<String> violations = new ArrayList<>();
+        for (LatencyRecorder.LatencySummary summary : report.getSummaries().values()) {
+            if (summary.p95Millis() > p95Millis) {
+                violations.add(String.format("%s p95 %.1fms > %.1fms", summary.name(), summary.p95Millis(), p95Millis));
+            }
+            if (summary.p99Millis() > p99Millis) {
+                violations.add(String.format("%s p99 %.1fms > %.1fms", summary.name(), summary.p99Millis(), p99Millis));
+            }
+            if (summary.errorRate() > errorRate) {
+                violations.add(String.format("%s error rate %.3f > %.3f", summary.name(), summary.errorRate(), errorRate));
+            }
+        }
+        return violations;
+    }
+}
@@ -8,6 +8,7 @@ import com.swyp3.babpool.domain.appointment.application.response.*;
 import com.swyp3.babpool.domain.appointment.application.response.appointmentdetail.AppointmentDetailResponse;
 import com.swyp3.babpool.domain.facade.ProfilePossibleDateTimeFacade;
 import com.swyp3.babpool.global.common.response.ApiResponse;
+import com.swyp3.babpool.global.mybatis.StatementBudget;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
@@ -102,6 +103,7 @@ public class AppointmentApi {
      * 밥약 상세조회 API
      */
     @GetMapping("/api/appointment/detail/{appointmentId}")
+    @StatementBudget(4)
     public ApiResponse<AppointmentDetailResponse> getAppointmentDetail(@RequestAttribute(value="userId", required = false) Long userId,
                                                                        @PathVariable("appointmentId") Long appointmentId){
         return ApiResponse.ok(appointmentService.getAppointmentDetail(userId,appointmentId));
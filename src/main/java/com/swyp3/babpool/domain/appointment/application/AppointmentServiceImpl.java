@@ -12,6 +12,7 @@ import com.swyp3.babpool.domain.appointment.dao.AppointmentRepository;
 import com.swyp3.babpool.domain.appointment.domain.*;
 import com.swyp3.babpool.domain.appointment.exception.AppointmentException;
 import com.swyp3.babpool.domain.appointment.exception.errorcode.AppointmentErrorCode;
+import com.swyp3.babpool.domain.keyword.application.KeywordCatalog;
 import com.swyp3.babpool.domain.possibledatetime.application.PossibleDateTimeService;
 import com.swyp3.babpool.domain.possibledatetime.domain.PossibleDateTime;
 import com.swyp3.babpool.domain.possibledatetime.domain.PossibleDateTimeStatusType;
@@ -38,6 +39,7 @@ public class AppointmentServiceImpl implements AppointmentService{
 
     private final SimpleMessagingPublisher simpleMessagingPublisher;
     private final TsidKeyGenerator tsidKeyGenerator;
+    private final KeywordCatalog keywordCatalog;
 
     private final PossibleDateTimeService possibleDateTimeService;
     private final RejectService rejectService;
@@ -115,6 +117,7 @@ public class AppointmentServiceImpl implements AppointmentService{
         }
     }
 
+    @Transactional(readOnly = true)
     @Override
     public List<AppointmentSendResponse> getSendAppointmentList(Long userId) {
         List<AppointmentSendResponse> sendResponseList = appointmentRepository.findAppointmentListByRequesterId(userId);
@@ -124,6 +127,7 @@ public class AppointmentServiceImpl implements AppointmentService{
         return sendResponseList;
     }
 
+    @Transactional(readOnly = true)
     @Override
     public List<AppointmentReceiveResponse> getReceiveAppointmentList(Long userId) {
         List<AppointmentReceiveResponse> receiveResponseList = appointmentRepository.findAppointmentListByReceiverId(userId);
@@ -133,6 +137,7 @@ public class AppointmentServiceImpl implements AppointmentService{
         return receiveResponseList;
     }
 
+    @Transactional(readOnly = true)
     @Override
     public List<AppointmentHistoryDoneResponse> getDoneAppointmentList(Long userId) {
         List<AppointmentHistoryDoneResponse> historyDoneResponseList = appointmentRepository.findDoneAppointmentListByRequesterId(userId);
@@ -142,6 +147,7 @@ public class AppointmentServiceImpl implements AppointmentService{
         return historyDoneResponseList;
     }
 
+    @Transactional(readOnly = true)
     @Override
     public List<AppointmentHistoryRefuseResponse> getRefusedAppointmentList(Long requesterUserId) {
         List<AppointmentHistoryRefuseResponse> historyRefuseResponseList = appointmentRepository.findRefuseAppointmentListByRequesterId(requesterUserId);
@@ -206,6 +212,7 @@ public class AppointmentServiceImpl implements AppointmentService{
      * @param appointmentId
      * @return
      */
+    @Transactional(readOnly = true)
     @Override
     public AppointmentDetailResponse getAppointmentDetail(Long userId, Long appointmentId) {
         Appointment appointment = appointmentRepository.findByAppointmentId(appointmentId)
@@ -213,6 +220,8 @@ public class AppointmentServiceImpl implements AppointmentService{
 
         MyPageUserDto requesterData = userRepository.findMyProfile(appointment.getAppointmentSenderId());
         MyPageUserDto receiverData = userRepository.findMyProfile(appointment.getAppointmentReceiverId());
+        requesterData.setKeywords(keywordCatalog.getKeywordNames(requesterData.getKeywordIds()));
+        receiverData.setKeywords(keywordCatalog.getKeywordNames(receiverData.getKeywordIds()));
 
         // 해당 약속의 설정된 일정 정보 조회
         LocalDateTime appointmentDateTimeValue = possibleDateTimeService.getPossibleDateTimeByDateTimeId(appointment.getPossibleDateTimeId());
@@ -266,6 +275,7 @@ public class AppointmentServiceImpl implements AppointmentService{
                 .build();
     }
 
+    @Transactional(readOnly = true)
     @Override
     public AppointmentRefuseDetailResponse getRefuseAppointmentDetail(Long userId, Long appointmentId) {
         Appointment targetAppointment = appointmentRepository.findByAppointmentId(appointmentId)
@@ -273,12 +283,14 @@ public class AppointmentServiceImpl implements AppointmentService{
 
         throwExceptionIfRequesterIsNotAppointmentSender(userId, targetAppointment.getAppointmentSenderId());
 
-        return switch (targetAppointment.getAppointmentStatus()) {
+        AppointmentRefuseDetailResponse refuseDetail = switch (targetAppointment.getAppointmentStatus()) {
             case REJECTED -> appointmentRepository.findRejectAppointmentDetail(appointmentId);
             case EXPIRED -> appointmentRepository.findExpireAppointmentDetail(appointmentId);
             default -> throw new AppointmentException(AppointmentErrorCode.APPOINTMENT_STATUS_IS_NOT_REFUSED,
                     "거절되었거나 수락 시간이 만료된 약속이 아닙니다.");
         };
+        refuseDetail.setKeywords(keywordCatalog.getKeywordNames(refuseDetail.getKeywordIds()));
+        return refuseDetail;
     }
 
 
@@ -1,34 +1,25 @@
 package com.swyp3.babpool.domain.appointment.application.response;
 
-import lombok.Builder;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
 
 @Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class AppointmentRefuseDetailResponse {
     private String receiverNickName;
     private String receiverProfileImage;
     private String receiverGrade;
     private String receiverProfileIntro;
+    @JsonIgnore
+    private List<Long> keywordIds;
     private String[] keywords;
     private String message;
 
-    public AppointmentRefuseDetailResponse(String receiverNickName, String receiverProfileImage, String receiverGrade,
-                                           String receiverProfileIntro, String keywords, String message) {
-        this.receiverNickName = receiverNickName;
-        this.receiverProfileImage = receiverProfileImage;
-        this.receiverGrade = receiverGrade;
-        this.receiverProfileIntro = receiverProfileIntro;
-        this.message = message;
-        this.keywords = keywords.split(",");
+    public void setKeywords(String[] keywords) {
+        this.keywords = keywords;
     }
-
-//    @Builder
-//    public AppointmentRefuseDetailResponse(String receiverNickName, String receiverProfileImage, String receiverGrade, String receiverProfileIntro, String[] keywords, String message) {
-//        this.receiverNickName = receiverNickName;
-//        this.receiverProfileImage = receiverProfileImage;
-//        this.receiverGrade = receiverGrade;
-//        this.receiverProfileIntro = receiverProfileIntro;
-//        this.keywords = keywords;
-//        this.message = message;
-//    }
 }
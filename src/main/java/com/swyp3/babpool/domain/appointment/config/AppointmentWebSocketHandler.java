@@ -3,6 +3,7 @@ package com.swyp3.babpool.domain.appointment.config;
 import com.swyp3.babpool.global.jwt.JwtAuthenticator;
 import com.swyp3.babpool.global.jwt.exception.BadCredentialsException;
 import com.swyp3.babpool.global.jwt.exception.errorcode.JwtExceptionErrorCode;
+import com.swyp3.babpool.global.jwt.revocation.AccessTokenRevocationList;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
@@ -30,6 +31,7 @@ import java.util.List;
 public class AppointmentWebSocketHandler implements ChannelInterceptor {
 
     private final JwtAuthenticator jwtAuthenticator;
+    private final AccessTokenRevocationList accessTokenRevocationList;
     public static final String AUTHORIZATION = "Authorization";
     public static final String BEARER = "Bearer";
 
@@ -42,9 +44,10 @@ public class AppointmentWebSocketHandler implements ChannelInterceptor {
         String authorization = accessor.getFirstNativeHeader(AUTHORIZATION);
         String accessToken = getAccessTokenFrom(authorization);
 
+        Claims authenticatedClaims = null;
         try {
             if (StringUtils.hasText(accessToken)) {
-                jwtAuthenticator.authenticate(accessToken);
+                authenticatedClaims = jwtAuthenticator.authenticate(accessToken);
             }
         } catch (NullPointerException | IllegalStateException e) {
             log.error("Not found Token // token : {}", accessToken);
@@ -69,10 +72,14 @@ public class AppointmentWebSocketHandler implements ChannelInterceptor {
             log.error("====================================================");
             throw new BadCredentialsException(JwtExceptionErrorCode.NOT_FOUND_TOKEN, "throw new exception");
         }
+        if (authenticatedClaims != null && accessTokenRevocationList.isRevoked(authenticatedClaims.getId())) {
+            log.error("Revoked Token // token : {}", accessToken);
+            throw new BadCredentialsException(JwtExceptionErrorCode.REVOKED_TOKEN, "throw new revoked token exception");
+        }
         return message;
     }
 
-    private String getAccessTokenFrom(String authorization) {
+    static String getAccessTokenFrom(String authorization) {
         if (StringUtils.hasText(authorization) && authorization.startsWith(BEARER)) {
             return authorization.split(" ")[1];
         }
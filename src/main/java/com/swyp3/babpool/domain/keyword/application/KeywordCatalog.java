@@ -0,0 +1,196 @@
+package com.swyp3.babpool.domain.keyword.application;
+
+import com.swyp3.babpool.domain.keyword.dao.KeywordRepository;
+import com.swyp3.babpool.domain.keyword.domain.Keyword;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * t_keyword 테이블은 운영 중 거의 변경되지 않으므로, 애플리케이션 기동 시 한 번 메모리에 적재해두고
+ * 키워드 식별 값으로 키워드 이름과 주제를 조회한다.
+ * 조회 쿼리에서는 t_m_user_keyword 의 keyword_id 만 가져오고, 이름 변환과 주제별 그룹핑은 이 클래스에서 처리한다.
+ * 애플리케이션에는 t_keyword 를 변경하는 경로가 없으므로(운영 중 DB 에서 직접 변경), 주기적으로 다시 조회하여
+ * 재기동 없이 변경 내용을 반영한다. 기본 10분, property.keyword.catalog.refresh-interval-ms 로 조정한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KeywordCatalog {
+
+    private static final String[] EMPTY_NAMES = new String[0];
+
+    private final KeywordRepository keywordRepository;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    @PostConstruct
+    public void init() {
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${property.keyword.catalog.refresh-interval-ms:600000}",
+            initialDelayString = "${property.keyword.catalog.refresh-interval-ms:600000}")
+    public void scheduleRefresh() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            log.error("KeywordCatalog.scheduleRefresh, 키워드 재적재 실패. 이전 스냅샷을 유지합니다. {}", e.getMessage());
+        }
+    }
+
+    /**
+     * t_keyword 테이블을 다시 조회하여 불변 스냅샷을 새로 만들고, 내용이 달라진 경우에만 교체한다.
+     * 조회 중인 요청은 이전 스냅샷을 그대로 사용한다.
+     * @return 스냅샷 교체 여부
+     */
+    public boolean refresh() {
+        List<Keyword> keywords = keywordRepository.findAll();
+        Snapshot refreshed = Snapshot.of(keywords);
+        if (refreshed.sameAs(snapshot)) {
+            return false;
+        }
+        this.snapshot = refreshed;
+        log.info("KeywordCatalog.refresh, 키워드 {}건 적재 완료", keywords.size());
+        return true;
+    }
+
+    public int size() {
+        return snapshot.keywordIds.length;
+    }
+
+    /**
+     * @param keywordId 키워드 식별 값
+     * @return 키워드 이름, 존재하지 않는 식별 값이면 null
+     */
+    public String getKeywordName(long keywordId) {
+        Snapshot current = snapshot;
+        int index = Arrays.binarySearch(current.keywordIds, keywordId);
+        return index < 0 ? null : current.keywordNames[index];
+    }
+
+    /**
+     * @param keywordId 키워드 식별 값
+     * @return 키워드 주제, 존재하지 않는 식별 값이면 null
+     */
+    public String getKeywordSubject(long keywordId) {
+        Snapshot current = snapshot;
+        int index = Arrays.binarySearch(current.keywordIds, keywordId);
+        return index < 0 ? null : current.subjects[current.subjectIndexes[index]];
+    }
+
+    /**
+     * 키워드 식별 값 리스트를 키워드 이름 배열로 변환한다. 카탈로그에 없는 식별 값은 제외한다.
+     */
+    public String[] getKeywordNames(List<Long> keywordIds) {
+        if (keywordIds == null || keywordIds.isEmpty()) {
+            return EMPTY_NAMES;
+        }
+        Snapshot current = snapshot;
+        String[] names = new String[keywordIds.size()];
+        int count = 0;
+        for (Long keywordId : keywordIds) {
+            int index = current.indexOf(keywordId);
+            if (index >= 0) {
+                names[count++] = current.keywordNames[index];
+            }
+        }
+        return count == names.length ? names : Arrays.copyOf(names, count);
+    }
+
+    /**
+     * 키워드 식별 값 리스트를 주제별 키워드 이름 배열로 그룹핑한다. 주제 순서는 t_keyword 조회 순서를 따른다.
+     * ex) {"전공": ["경영", "컴퓨터공학"], "관심사": ["운동"]}
+     */
+    public Map<String, String[]> groupBySubject(List<Long> keywordIds) {
+        if (keywordIds == null || keywordIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Snapshot current = snapshot;
+        int[] indexes = new int[keywordIds.size()];
+        int[] countsPerSubject = new int[current.subjects.length];
+        int count = 0;
+        for (Long keywordId : keywordIds) {
+            int index = current.indexOf(keywordId);
+            if (index >= 0) {
+                indexes[count++] = index;
+                countsPerSubject[current.subjectIndexes[index]]++;
+            }
+        }
+
+        String[][] namesPerSubject = new String[current.subjects.length][];
+        int[] filled = new int[current.subjects.length];
+        for (int i = 0; i < count; i++) {
+            int subjectIndex = current.subjectIndexes[indexes[i]];
+            if (namesPerSubject[subjectIndex] == null) {
+                namesPerSubject[subjectIndex] = new String[countsPerSubject[subjectIndex]];
+            }
+            namesPerSubject[subjectIndex][filled[subjectIndex]++] = current.keywordNames[indexes[i]];
+        }
+
+        Map<String, String[]> grouped = new LinkedHashMap<>();
+        for (int subjectIndex = 0; subjectIndex < current.subjects.length; subjectIndex++) {
+            if (namesPerSubject[subjectIndex] != null) {
+                grouped.put(current.subjects[subjectIndex], namesPerSubject[subjectIndex]);
+            }
+        }
+        return grouped;
+    }
+
+    /**
+     * keywordIds 오름차순으로 정렬된 배열과, 같은 인덱스의 키워드 이름/주제 인덱스를 담는 불변 스냅샷.
+     */
+    private static final class Snapshot {
+
+        private static final Snapshot EMPTY = new Snapshot(new long[0], new String[0], new int[0], new String[0]);
+
+        private final long[] keywordIds;
+        private final String[] keywordNames;
+        private final int[] subjectIndexes;
+        private final String[] subjects;
+
+        private Snapshot(long[] keywordIds, String[] keywordNames, int[] subjectIndexes, String[] subjects) {
+            this.keywordIds = keywordIds;
+            this.keywordNames = keywordNames;
+            this.subjectIndexes = subjectIndexes;
+            this.subjects = subjects;
+        }
+
+        private static Snapshot of(List<Keyword> keywords) {
+            Map<String, Integer> subjectIndexMap = new LinkedHashMap<>();
+            for (Keyword keyword : keywords) {
+                subjectIndexMap.putIfAbsent(keyword.getKeywordSubject(), subjectIndexMap.size());
+            }
+
+            List<Keyword> sorted = new ArrayList<>(keywords);
+            sorted.sort(Comparator.comparing(Keyword::getKeywordId));
+
+            int size = sorted.size();
+            long[] keywordIds = new long[size];
+            String[] keywordNames = new String[size];
+            int[] subjectIndexes = new int[size];
+            for (int i = 0; i < size; i++) {
+                Keyword keyword = sorted.get(i);
+                keywordIds[i] = keyword.getKeywordId();
+                keywordNames[i] = keyword.getKeywordName();
+                subjectIndexes[i] = subjectIndexMap.get(keyword.getKeywordSubject());
+            }
+            return new Snapshot(keywordIds, keywordNames, subjectIndexes, subjectIndexMap.keySet().toArray(new String[0]));
+        }
+
+        private boolean sameAs(Snapshot other) {
+            return Arrays.equals(keywordIds, other.keywordIds)
+                    && Arrays.equals(keywordNames, other.keywordNames)
+                    && Arrays.equals(subjectIndexes, other.subjectIndexes)
+                    && Arrays.equals(subjects, other.subjects);
+        }
+
+        private int indexOf(Long keywordId) {
+            return keywordId == null ? -1 : Arrays.binarySearch(keywordIds, keywordId);
+        }
+    }
+}
@@ -3,11 +3,16 @@ package com.swyp3.babpool.domain.keyword.application;
 import com.swyp3.babpool.domain.profile.application.response.ProfileKeywordsResponse;
 
 import java.util.List;
+import java.util.Map;
 
 public interface KeywordService {
     void saveUserAndKeywordMapping(Long userId, List<Long> keywordList);
 
     ProfileKeywordsResponse getKeywordsAndSubjectsByUserId(Long userId);
 
+    Map<Long, List<Long>> getKeywordIdsByUserIds(List<Long> userIds);
+
     void deleteAllKeywordsOf(Long userId);
+
+    boolean updateUserAndKeywordMapping(Long userId, List<Long> keywordList);
 }
@@ -1,6 +1,7 @@
 package com.swyp3.babpool.domain.keyword.application;
 
 import com.swyp3.babpool.domain.keyword.dao.KeywordRepository;
+import com.swyp3.babpool.domain.keyword.dao.response.KeywordAndUserResponseDto;
 import com.swyp3.babpool.domain.keyword.domain.MappingUserKeyword;
 import com.swyp3.babpool.domain.keyword.exception.KeywordErrorCode;
 import com.swyp3.babpool.domain.keyword.exception.KeywordException;
@@ -12,7 +13,8 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.util.*;
+import java.util.stream.IntStream;
 
 @RequiredArgsConstructor
 @Service
@@ -20,6 +22,7 @@ public class KeywordServiceImpl implements KeywordService{
 
     private static final Logger log = LoggerFactory.getLogger(KeywordServiceImpl.class);
     private final KeywordRepository keywordRepository;
+    private final KeywordCatalog keywordCatalog;
     private final TsidKeyGenerator tsidKeyGenerator;
 
     @Transactional
@@ -27,17 +30,32 @@ public class KeywordServiceImpl implements KeywordService{
     public void saveUserAndKeywordMapping(Long userId, List<Long> keywordList) {
         log.info("KeywordServiceImpl: saveUserAndKeywordMapping: userId: {}, keywordList: {}", userId, keywordList);
         log.info("KeywordServiceImpl: saveUserAndKeywordMapping: keywordList.get(0): {}", keywordList.get(0));
-        List<MappingUserKeyword> mappingList = keywordList.stream()
-                        .map(keywordId -> new MappingUserKeyword(tsidKeyGenerator.generateTsid(), userId, keywordId))
+        long[] mappingIds = tsidKeyGenerator.generateTsids(keywordList.size());
+        List<MappingUserKeyword> mappingList = IntStream.range(0, keywordList.size())
+                        .mapToObj(i -> new MappingUserKeyword(mappingIds[i], userId, keywordList.get(i)))
                         .toList();
         keywordRepository.saveUserAndKeywordMappingForEach(mappingList);
     }
 
     @Override
     public ProfileKeywordsResponse getKeywordsAndSubjectsByUserId(Long userId) {
-        return keywordRepository.findKeywordsByUserId(userId).orElseThrow(
-                () -> new KeywordException(KeywordErrorCode.KEYWORD_NOT_FOUND, "해당 사용자의 키워드 정보가 존재하지 않습니다.")
-        );
+        List<Long> keywordIds = keywordRepository.findKeywordIdsByUserId(userId);
+        if (keywordIds.isEmpty()) {
+            throw new KeywordException(KeywordErrorCode.KEYWORD_NOT_FOUND, "해당 사용자의 키워드 정보가 존재하지 않습니다.");
+        }
+        return new ProfileKeywordsResponse(keywordCatalog.groupBySubject(keywordIds));
+    }
+
+    @Override
+    public Map<Long, List<Long>> getKeywordIdsByUserIds(List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, List<Long>> keywordIdsByUserId = new HashMap<>();
+        for (MappingUserKeyword mapping : keywordRepository.findMappingsByUserIds(userIds)) {
+            keywordIdsByUserId.computeIfAbsent(mapping.getUserId(), userId -> new ArrayList<>()).add(mapping.getKeywordId());
+        }
+        return keywordIdsByUserId;
     }
 
     @Transactional
@@ -45,4 +63,38 @@ public class KeywordServiceImpl implements KeywordService{
     public void deleteAllKeywordsOf(Long userId) {
         keywordRepository.deleteAllKeywordMappingByUserId(userId);
     }
+
+    /**
+     * 기존 키워드 매핑과 요청된 키워드를 비교하여, 제거된 키워드만 삭제하고 추가된 키워드만 저장한다.
+     * 변경 사항이 없으면 쿼리를 실행하지 않는다.
+     * @param userId 사용자 식별 값
+     * @param keywordList 사용자가 새로 선택한 키워드 식별 값 리스트
+     * @return 키워드 매핑 변경 여부
+     */
+    @Transactional
+    @Override
+    public boolean updateUserAndKeywordMapping(Long userId, List<Long> keywordList) {
+        Set<Long> requestKeywordIds = new LinkedHashSet<>(keywordList);
+        List<KeywordAndUserResponseDto> existMappings = keywordRepository.findAllByUserId(userId);
+
+        List<Long> removedMappingIds = new ArrayList<>();
+        for (KeywordAndUserResponseDto existMapping : existMappings) {
+            // 기존 매핑 중 요청에 포함된 키워드는 유지하고, requestKeywordIds 에는 추가 대상만 남긴다.
+            if (!requestKeywordIds.remove(existMapping.getKeywordId())) {
+                removedMappingIds.add(existMapping.getMappingId());
+            }
+        }
+        List<Long> addedKeywordIds = new ArrayList<>(requestKeywordIds);
+
+        if (removedMappingIds.isEmpty() && addedKeywordIds.isEmpty()) {
+            return false;
+        }
+        if (!removedMappingIds.isEmpty()) {
+            keywordRepository.deleteKeywordMappingByMappingIds(removedMappingIds);
+        }
+        if (!addedKeywordIds.isEmpty()) {
+            saveUserAndKeywordMapping(userId, addedKeywordIds);
+        }
+        return true;
+    }
 }
@@ -3,25 +3,41 @@ package com.swyp3.babpool.domain.keyword.dao;
 import com.swyp3.babpool.domain.keyword.dao.response.KeywordAndUserResponseDto;
 import com.swyp3.babpool.domain.keyword.domain.Keyword;
 import com.swyp3.babpool.domain.keyword.domain.MappingUserKeyword;
-import com.swyp3.babpool.domain.profile.application.response.ProfileKeywordsResponse;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
 import java.util.List;
-import java.util.Optional;
 
 @Mapper
 public interface KeywordRepository {
 
     // 테스트 코드 작성 완료
-    Optional<ProfileKeywordsResponse> findKeywordsByUserId(Long userId);
+    /**
+     * t_keyword 테이블 전체 조회. {@code KeywordCatalog} 적재에 사용한다.
+     */
+    List<Keyword> findAll();
+
+    // 테스트 코드 작성 완료
+    /**
+     * 특정 사용자가 선택한 키워드 식별 값 리스트 조회. 이름과 주제는 {@code KeywordCatalog} 에서 변환한다.
+     */
+    List<Long> findKeywordIdsByUserId(Long userId);
 
     // 테스트 코드 작성 완료
     List<KeywordAndUserResponseDto> findAllByUserId(Long userId);
 
+    // 테스트 코드 작성 완료
+    /**
+     * 여러 사용자의 키워드 매핑을 한 번에 조회. 프로필 목록의 한 페이지에 필요한 키워드 식별 값을 가져온다.
+     */
+    List<MappingUserKeyword> findMappingsByUserIds(@Param("userIds") List<Long> userIds);
+
     // 테스트 코드 작성 완료
     void saveUserAndKeywordMappingForEach(@Param("mappingList") List<MappingUserKeyword> mappingList);
 
     // 테스트 코드 작성 완료
     void deleteAllKeywordMappingByUserId(Long userId);
+
+    // 테스트 코드 작성 완료
+    int deleteKeywordMappingByMappingIds(@Param("mappingIds") List<Long> mappingIds);
 }
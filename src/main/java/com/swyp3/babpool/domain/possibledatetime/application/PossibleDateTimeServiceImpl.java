@@ -17,6 +17,7 @@ import org.springframework.stereotype.Service;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.IntStream;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -58,10 +59,12 @@ public class PossibleDateTimeServiceImpl implements PossibleDateTimeService{
         }
         // 일정 추가
         if(!possibleDateTimeUpdateRequest.getPossibleDateTimeAddList().isEmpty()) {
-            possibleDateTimeRepository.savePossibleDateTimeListWhereNotExist(possibleDateTimeUpdateRequest.getPossibleDateTimeAddList().stream()
-                    .map(datetime -> PossibleDateTime.builder().possibleDateTimeId(tsidKeyGenerator.generateTsid())
+            List<LocalDateTime> possibleDateTimeAddList = possibleDateTimeUpdateRequest.getPossibleDateTimeAddList();
+            long[] possibleDateTimeIds = tsidKeyGenerator.generateTsids(possibleDateTimeAddList.size());
+            possibleDateTimeRepository.savePossibleDateTimeListWhereNotExist(IntStream.range(0, possibleDateTimeAddList.size())
+                    .mapToObj(i -> PossibleDateTime.builder().possibleDateTimeId(possibleDateTimeIds[i])
                             .userId(userId)
-                            .possibleDateTime(datetime)
+                            .possibleDateTime(possibleDateTimeAddList.get(i))
                             .possibleDateTimeStatus(PossibleDateTimeStatusType.AVAILABLE)
                             .build())
                     .toList());
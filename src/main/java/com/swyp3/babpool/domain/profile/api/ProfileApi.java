@@ -1,13 +1,20 @@
 package com.swyp3.babpool.domain.profile.api;
 
 import com.swyp3.babpool.domain.facade.UserProfileFacade;
+import com.swyp3.babpool.domain.profile.api.request.ProfileImageUploadConfirmRequest;
+import com.swyp3.babpool.domain.profile.api.request.ProfileImageUploadUrlRequest;
 import com.swyp3.babpool.domain.profile.api.request.ProfileUpdateRequest;
 import com.swyp3.babpool.domain.profile.application.ProfileService;
 import com.swyp3.babpool.domain.profile.application.response.ProfileDefaultResponse;
 import com.swyp3.babpool.domain.profile.application.response.ProfileDetailResponse;
+import com.swyp3.babpool.domain.profile.application.response.ProfileImageUploadUrlResponse;
 import com.swyp3.babpool.domain.profile.application.response.ProfileRegistrationResponse;
 import com.swyp3.babpool.domain.profile.application.response.ProfileUpdateResponse;
 import com.swyp3.babpool.global.common.response.ApiResponse;
+import com.swyp3.babpool.global.concurrency.Bulkhead;
+import com.swyp3.babpool.global.concurrency.EndpointClass;
+import com.swyp3.babpool.global.mybatis.StatementBudget;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
@@ -28,6 +35,7 @@ public class ProfileApi {
      * @return
      */
     @PostMapping("/update")
+    @Bulkhead(EndpointClass.IMAGE_UPLOAD)
     public ApiResponse<ProfileUpdateResponse> updateProfileInfo(@RequestAttribute(value = "userId") Long userId,
                                                                 @RequestPart(value = "profileImageFile", required = false) MultipartFile multipartFile,
                                                                 @RequestPart(value="profileInfo") ProfileUpdateRequest profileUpdateRequest) {
@@ -38,6 +46,30 @@ public class ProfileApi {
                 .build());
     }
 
+    /**
+     * 프로필 이미지 직접 업로드 URL 발급 API
+     * 클라이언트는 발급받은 URL 로 S3 에 이미지를 PUT 한 뒤, 업로드 확인 API 를 호출한다.
+     */
+    @PostMapping("/image/upload-url")
+    public ApiResponse<ProfileImageUploadUrlResponse> createProfileImageUploadUrl(@RequestAttribute(value = "userId") Long userId,
+                                                                                 @RequestBody @Valid ProfileImageUploadUrlRequest profileImageUploadUrlRequest) {
+        return ApiResponse.ok(profileService.createProfileImageUploadUrl(userId, profileImageUploadUrlRequest));
+    }
+
+    /**
+     * 프로필 이미지 직접 업로드 확인 API
+     */
+    @PostMapping("/image/confirm")
+    @Bulkhead(EndpointClass.IMAGE_UPLOAD)
+    public ApiResponse<ProfileUpdateResponse> confirmProfileImageUpload(@RequestAttribute(value = "userId") Long userId,
+                                                                        @RequestBody @Valid ProfileImageUploadConfirmRequest profileImageUploadConfirmRequest) {
+        String profileImageUrl = profileService.confirmProfileImageUpload(userId, profileImageUploadConfirmRequest);
+        return ApiResponse.ok(ProfileUpdateResponse.builder()
+                .profileId(profileService.getByUserId(userId).getProfileId())
+                .profileImageUrl(profileImageUrl)
+                .build());
+    }
+
     @GetMapping("/default")
     public ApiResponse<ProfileDefaultResponse> getProfileDefault(@RequestAttribute(value = "userId") Long userId){
         ProfileDefaultResponse response = profileService.getProfileDefault(userId);
@@ -45,6 +77,7 @@ public class ProfileApi {
     }
 
     @GetMapping("/detail/{targetProfileId}")
+    @StatementBudget(5)
     public ApiResponse<ProfileDetailResponse> getProfileDetail(@RequestAttribute(value = "userId") Long userId, @PathVariable(name="targetProfileId") Long targetProfileId){
         ProfileDetailResponse profileDetailResponse = profileService.getProfileDetail(userId, targetProfileId);
         return ApiResponse.ok(profileDetailResponse);
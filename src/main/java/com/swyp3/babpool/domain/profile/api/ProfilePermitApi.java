@@ -5,6 +5,8 @@ import com.swyp3.babpool.domain.profile.application.ProfileService;
 import com.swyp3.babpool.domain.profile.application.response.ProfilePagingDto;
 import com.swyp3.babpool.domain.profile.application.response.ProfilePagingResponse;
 import com.swyp3.babpool.global.common.response.ApiResponse;
+import com.swyp3.babpool.global.concurrency.Bulkhead;
+import com.swyp3.babpool.global.concurrency.EndpointClass;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -24,6 +26,7 @@ public class ProfilePermitApi {
     private final ProfileService profileService;
 
     @GetMapping("/api/profile/list")
+    @Bulkhead(EndpointClass.SEARCH)
     public ApiResponse<Page<ProfilePagingResponse>> getProfileListWithPageable(
             @RequestParam(required = false) String searchTerm,
             @RequestParam List<String> userGrades,
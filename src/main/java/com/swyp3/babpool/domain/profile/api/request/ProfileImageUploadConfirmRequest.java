@@ -0,0 +1,19 @@
+package com.swyp3.babpool.domain.profile.api.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class ProfileImageUploadConfirmRequest {
+
+    @NotEmpty(message = "objectKey는 필수 값입니다.")
+    private String objectKey;
+
+    @Builder
+    public ProfileImageUploadConfirmRequest(String objectKey) {
+        this.objectKey = objectKey;
+    }
+}
@@ -0,0 +1,25 @@
+package com.swyp3.babpool.domain.profile.api.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class ProfileImageUploadUrlRequest {
+
+    @NotEmpty(message = "contentType은 필수 값입니다.")
+    private String contentType;
+    @NotNull(message = "contentLength는 필수 값입니다.")
+    @Positive
+    private Long contentLength;
+
+    @Builder
+    public ProfileImageUploadUrlRequest(String contentType, Long contentLength) {
+        this.contentType = contentType;
+        this.contentLength = contentLength;
+    }
+}
@@ -1,5 +1,7 @@
 package com.swyp3.babpool.domain.profile.application;
 
+import com.swyp3.babpool.domain.profile.api.request.ProfileImageUploadConfirmRequest;
+import com.swyp3.babpool.domain.profile.api.request.ProfileImageUploadUrlRequest;
 import com.swyp3.babpool.domain.profile.api.request.ProfilePagingConditions;
 import com.swyp3.babpool.domain.profile.api.request.ProfileUpdateRequest;
 import com.swyp3.babpool.domain.profile.application.response.ProfilePagingResponse;
@@ -19,6 +21,10 @@ public interface ProfileService {
 
     String updateProfileImage(Long userId, MultipartFile multipartFile);
 
+    ProfileImageUploadUrlResponse createProfileImageUploadUrl(Long userId, ProfileImageUploadUrlRequest profileImageUploadUrlRequest);
+
+    String confirmProfileImageUpload(Long userId, ProfileImageUploadConfirmRequest profileImageUploadConfirmRequest);
+
     Long updateProfileInfo(Long userId, ProfileUpdateRequest profileUpdateRequest);
 
     Page<ProfilePagingResponse> getProfileListWithPageable(ProfilePagingConditions profilePagingConditions, Pageable pageable);
@@ -34,4 +40,6 @@ public interface ProfileService {
     Profile getProfileByProfileId(Long profileId);
 
     void updateProfileImageFromSocialProfileImage(Long userId, String profileImage);
+
+    void updateProfileImageFromSocialProfileImage(Long userId, String currentProfileImageUrl, String profileImage);
 }
@@ -1,6 +1,9 @@
 package com.swyp3.babpool.domain.profile.application;
 
+import com.swyp3.babpool.domain.keyword.application.KeywordCatalog;
 import com.swyp3.babpool.domain.keyword.application.KeywordService;
+import com.swyp3.babpool.domain.profile.api.request.ProfileImageUploadConfirmRequest;
+import com.swyp3.babpool.domain.profile.api.request.ProfileImageUploadUrlRequest;
 import com.swyp3.babpool.domain.profile.api.request.ProfilePagingConditions;
 import com.swyp3.babpool.domain.profile.api.request.ProfileUpdateRequest;
 import com.swyp3.babpool.domain.profile.application.response.*;
@@ -14,7 +17,10 @@ import com.swyp3.babpool.domain.review.application.ReviewService;
 import com.swyp3.babpool.domain.review.application.response.ReviewCountByTypeResponse;
 import com.swyp3.babpool.domain.review.application.response.ReviewPagingResponse;
 import com.swyp3.babpool.global.common.request.PagingRequestList;
+import com.swyp3.babpool.infra.image.application.ImageVariantUrls;
+import com.swyp3.babpool.infra.image.domain.ImageVariant;
 import com.swyp3.babpool.infra.s3.application.AwsS3Provider;
+import com.swyp3.babpool.infra.s3.deletion.S3DeletionOutboxRelay;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -34,35 +40,41 @@ import java.util.*;
 public class ProfileServiceImpl implements ProfileService{
 
     private final AwsS3Provider awsS3Provider;
+    private final S3DeletionOutboxRelay s3DeletionOutboxRelay;
 
     private final ReviewService reviewService;
     private final KeywordService keywordService;
+    private final KeywordCatalog keywordCatalog;
 
     private final ProfileRepository profileRepository;
 
     @Override
+    @Transactional(readOnly = true)
     public Page<ProfilePagingResponse> getProfileListWithPageable(ProfilePagingConditions profilePagingConditions, Pageable pageable) {
         PagingRequestList<?> pagingRequest = PagingRequestList.builder()
                 .condition(profilePagingConditions)
                 .pageable(pageable)
                 .build();
-        List<ProfilePagingDto> profilePagingDtoList = null;
-        int counts = 0;
+        List<ProfilePagingDto> profilePagingDtoList;
+        Map<Long, List<Long>> keywordIdsByUserId;
+        int counts;
         try {
             profilePagingDtoList = profileRepository.findAllByPageable(pagingRequest);
+            keywordIdsByUserId = keywordService.getKeywordIdsByUserIds(profilePagingDtoList.stream().map(ProfilePagingDto::getUserId).toList());
             counts = profileRepository.countByPageable(profilePagingConditions);
         } catch (Exception e) {
             log.error("프로필 리스트 조회 중 오류 발생. {}", e.getMessage());
             throw new ProfileException(ProfileErrorCode.PROFILE_LIST_ERROR, "프로필 리스트 조회 중 오류가 발생했습니다.");
         }
         List<ProfilePagingResponse> profilePagingResponse = profilePagingDtoList.stream()
-                .map(ProfilePagingResponse::of)
+                .map(dto -> ProfilePagingResponse.of(dto, keywordCatalog.getKeywordNames(keywordIdsByUserId.getOrDefault(dto.getUserId(), List.of()))))
                 .toList();
 
         return new PageImpl<>(profilePagingResponse, pagingRequest.getPageable(), counts);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public ProfileDetailResponse getProfileDetail(Long userId, Long targetProfileId) {
         if(!isExistProfile(targetProfileId)){
             throw new ProfileException(ProfileErrorCode.PROFILE_TARGET_PROFILE_ERROR,"존재하지 않는 프로필을 조회하였습니다.");
@@ -70,7 +82,8 @@ public class ProfileServiceImpl implements ProfileService{
         ProfileDetail profileDetail = profileRepository.findProfileDetail(targetProfileId);
         ReviewCountByTypeResponse reviewCountByType = reviewService.getReviewCountByType(targetProfileId);
         List<ReviewPagingResponse> reviewListForProfileDetail = reviewService.getReviewListForProfileDetail(targetProfileId, 3);
-        ProfileDetailResponse profileDetailResponse = new ProfileDetailResponse(profileDetail, reviewCountByType,reviewListForProfileDetail);
+        ProfileDetailResponse profileDetailResponse = new ProfileDetailResponse(profileDetail,
+                keywordCatalog.getKeywordNames(profileDetail.getKeywordIds()), reviewCountByType, reviewListForProfileDetail);
 
         if(userId.equals(profileRepository.findUserIdByProfileId(targetProfileId))){
             profileDetailResponse.setApiRequesterSameAsProfileOwner(true);
@@ -79,6 +92,7 @@ public class ProfileServiceImpl implements ProfileService{
     }
 
     @Override
+    @Transactional(readOnly = true)
     public ProfileDefaultResponse getProfileDefault(Long userId) {
         Profile profile = profileRepository.findByUserId(userId);
         ProfileDefault daoResponse= profileRepository.findProfileDefault(profile.getProfileId());
@@ -101,7 +115,9 @@ public class ProfileServiceImpl implements ProfileService{
      * 사용자가 직접 업로드한(소셜서비스로 부터 제공받은 이미지가 아닌) 이미지로 프로필 이미지를 수정합니다.
      * @param userId : 사용자 식별 값
      * @param multipartFile : 사용자가 업로드한 이미지 파일
-     * @return : AWS S3 Bucket 에 업로드된 이미지 URL
+     * 목록 카드용 작은 이미지도 함께 업로드하여 profile_image_card_url 에 저장한다.
+     * 기존에 업로드한 이미지는 커밋 이후 삭제 대기열에 등록되어 백그라운드에서 삭제된다.
+     * @return : AWS S3 Bucket 에 업로드된 상세 이미지 URL
      */
     @Override
     public String updateProfileImage(Long userId, MultipartFile multipartFile) {
@@ -109,25 +125,56 @@ public class ProfileServiceImpl implements ProfileService{
             return null;
         }
 
-        deleteExistImageIfUserSelfUploaded(userId);
-        String uploadedImageUrl = awsS3Provider.uploadImage(multipartFile);
+        deleteExistImageAfterCommitIfUserSelfUploaded(userId);
+        ImageVariantUrls uploadedImageUrls = awsS3Provider.uploadImageVariants(multipartFile);
+        String uploadedImageUrl = uploadedImageUrls.urlOf(ImageVariant.DETAIL);
 
-        profileRepository.updateProfileImageUrl(userId, uploadedImageUrl);
+        profileRepository.updateProfileImageUrls(userId, uploadedImageUrl, uploadedImageUrls.urlOf(ImageVariant.CARD));
         return uploadedImageUrl;
     }
 
-    private void deleteExistImageIfUserSelfUploaded(Long userId) {
-        Profile targetProfile = profileRepository.findByUserId(userId);
-        // 만약 프로필 이미지가 없다면 삭제할 필요가 없다.
-        if(StringUtils.hasText(targetProfile.getProfileImageUrl())){
-            return;
+    /**
+     * 이미지 파일이 애플리케이션 서버를 거치지 않도록, 클라이언트가 S3 에 직접 업로드할 URL 을 발급한다.
+     */
+    @Override
+    public ProfileImageUploadUrlResponse createProfileImageUploadUrl(Long userId, ProfileImageUploadUrlRequest profileImageUploadUrlRequest) {
+        return ProfileImageUploadUrlResponse.from(awsS3Provider.issueImageUploadUrl(userId,
+                profileImageUploadUrlRequest.getContentType(), profileImageUploadUrlRequest.getContentLength()));
+    }
+
+    /**
+     * 직접 업로드한 이미지를 HEAD 로 확인한 뒤, 크기별 이미지로 다시 만들어 프로필 이미지로 수정한다.
+     * 비공개 경로에 올라온 원본은 같은 트랜잭션에서 S3 삭제 아웃박스에 저장하고, 커밋 이후 삭제 대기열로 옮긴다.
+     * @return : 상세 이미지 URL
+     */
+    @Override
+    public String confirmProfileImageUpload(Long userId, ProfileImageUploadConfirmRequest profileImageUploadConfirmRequest) {
+        String stagedObjectKey = profileImageUploadConfirmRequest.getObjectKey();
+        ImageVariantUrls uploadedImageUrls = awsS3Provider.confirmUploadedImage(userId, stagedObjectKey);
+
+        deleteExistImageAfterCommitIfUserSelfUploaded(userId);
+        String uploadedImageUrl = uploadedImageUrls.urlOf(ImageVariant.DETAIL);
+        int updatedRow = profileRepository.updateProfileImageUrls(userId, uploadedImageUrl, uploadedImageUrls.urlOf(ImageVariant.CARD));
+        if(updatedRow!=1) {
+            throw new ProfileException(ProfileErrorCode.PROFILE_IMAGE_UPDATE_ERROR, "프로필 이미지 업데이트에 실패하였습니다.");
         }
-        // 만약 프로필 이미지 URL 이 S3에 저장된 이미지 URL이 아니라면(카카오,구글 CDN) 삭제할 필요가 없다.
-        if(!targetProfile.getProfileImageUrl().startsWith(awsS3Provider.getAmazonS3ClientUrlPrefix())){
-            log.info("ProfileService.deleteExistImageIfUserSelfUploaded, S3에 저장된 이미지가 아닙니다. URL: {}",targetProfile.getProfileImageUrl());
+        s3DeletionOutboxRelay.saveAndRelayAfterCommit(List.of(stagedObjectKey));
+        return uploadedImageUrl;
+    }
+
+    /**
+     * 기존 이미지를 요청 중에 삭제하지 않고, 같은 트랜잭션에서 S3 삭제 아웃박스에 저장한 뒤 커밋 이후 삭제 대기열로 옮긴다.
+     * 대기열 등록에 실패한 키는 S3DeletionOutboxRelay 가, 삭제에 실패한 키는 S3ObjectDeletionWorker 가 재시도한다.
+     */
+    private void deleteExistImageAfterCommitIfUserSelfUploaded(Long userId) {
+        Profile targetProfile = profileRepository.findByUserId(userId);
+        // 프로필 이미지가 없거나, S3에 저장된 이미지 URL이 아니라면(카카오,구글 CDN) 삭제할 필요가 없다.
+        List<String> objectKeys = awsS3Provider.selfUploadedObjectKeysOf(targetProfile.getProfileImageUrl());
+        if(objectKeys.isEmpty()){
+            log.info("ProfileService.deleteExistImageAfterCommitIfUserSelfUploaded, S3에 저장된 이미지가 아닙니다. URL: {}",targetProfile.getProfileImageUrl());
             return;
         }
-        awsS3Provider.deleteImage(targetProfile.getProfileImageUrl());
+        s3DeletionOutboxRelay.saveAndRelayAfterCommit(objectKeys);
     }
 
     private boolean verifyNoImageFile(MultipartFile multipartFile) {
@@ -140,9 +187,19 @@ public class ProfileServiceImpl implements ProfileService{
 
     @Override
     public void updateProfileImageFromSocialProfileImage(Long userId, String profileImage) {
+        updateProfileImageFromSocialProfileImage(userId, profileRepository.findByUserId(userId).getProfileImageUrl(), profileImage);
+    }
+
+    /**
+     * 로그인 쿼리에서 이미 조회한 현재 프로필 이미지로 판단하여, 프로필을 다시 조회하지 않는다.
+     */
+    @Override
+    public void updateProfileImageFromSocialProfileImage(Long userId, String currentProfileImageUrl, String profileImage) {
         // 사용자가 직접 업로드한 이미지를 프로필 이미지로 사용하고 있다면, 업데이트 하지 않는다.
-        String profileImageUrl = profileRepository.findByUserId(userId).getProfileImageUrl();
-        if(StringUtils.hasText(profileImageUrl) && profileImageUrl.startsWith(awsS3Provider.getAmazonS3ClientUrlPrefix())){
+        if(StringUtils.hasText(currentProfileImageUrl) && currentProfileImageUrl.startsWith(awsS3Provider.getAmazonS3ClientUrlPrefix())){
+            return;
+        }else if(Objects.equals(currentProfileImageUrl, profileImage)){
+            // 소셜 프로필 이미지가 바뀌지 않았다면 UPDATE 하지 않는다.
             return;
         }else {
             int updatedRow = profileRepository.updateProfileImageUrl(userId, profileImage);
@@ -170,9 +227,8 @@ public class ProfileServiceImpl implements ProfileService{
         // 프로필 정보 수정
         profileRepository.updateProfileByProfileIdAndUpdateRequestDto(targetProfileId,profileUpdateRequest);
 
-        // 사용자가 설정해둔 키워드 일괄 삭제 후, 새로운 키워드로 저장
-        keywordService.deleteAllKeywordsOf(userId);
-        keywordService.saveUserAndKeywordMapping(userId, profileUpdateRequest.getKeywords());
+        // 기존 키워드와 비교하여 제거된 키워드만 삭제하고, 추가된 키워드만 저장
+        keywordService.updateUserAndKeywordMapping(userId, profileUpdateRequest.getKeywords());
 
         return targetProfileId;
     }
@@ -22,14 +22,14 @@ public class ProfileDetailResponse {
     private List<ReviewPagingResponse> reviews;
     private Boolean isApiRequesterSameAsProfileOwner = false;
 
-    public ProfileDetailResponse(ProfileDetail profileDetail, ReviewCountByTypeResponse reviewCount, List<ReviewPagingResponse> reviews) {
+    public ProfileDetailResponse(ProfileDetail profileDetail, String[] keywords, ReviewCountByTypeResponse reviewCount, List<ReviewPagingResponse> reviews) {
         this.profileId= profileDetail.getProfileId();
         this.name= profileDetail.getName();
         this.profileImg= profileDetail.getProfileImg();
         this.grade= profileDetail.getGrade();
         this.intro= profileDetail.getIntro();
         this.contents= profileDetail.getContents();
-        this.keywords = profileDetail.getKeywords().split(",");
+        this.keywords = keywords;
 
         Map<String, Integer> reviewCountMap = new HashMap<>();
         reviewCountMap.put("best", reviewCount.getBestCount());
@@ -0,0 +1,39 @@
+package com.swyp3.babpool.domain.profile.application.response;
+
+import com.swyp3.babpool.infra.s3.application.PresignedUpload;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * 클라이언트는 uploadUrl 로 requiredHeaders 를 포함하여 이미지를 PUT 한 뒤, objectKey 로 업로드 확인을 요청한다.
+ */
+@ToString
+@Getter
+public class ProfileImageUploadUrlResponse {
+
+    private String objectKey;
+    private String uploadUrl;
+    private Map<String, String> requiredHeaders;
+    private Instant expiresAt;
+
+    @Builder
+    public ProfileImageUploadUrlResponse(String objectKey, String uploadUrl, Map<String, String> requiredHeaders, Instant expiresAt) {
+        this.objectKey = objectKey;
+        this.uploadUrl = uploadUrl;
+        this.requiredHeaders = requiredHeaders;
+        this.expiresAt = expiresAt;
+    }
+
+    public static ProfileImageUploadUrlResponse from(PresignedUpload presignedUpload) {
+        return ProfileImageUploadUrlResponse.builder()
+                .objectKey(presignedUpload.key())
+                .uploadUrl(presignedUpload.url())
+                .requiredHeaders(presignedUpload.requiredHeaders())
+                .expiresAt(presignedUpload.expiresAt())
+                .build();
+    }
+}
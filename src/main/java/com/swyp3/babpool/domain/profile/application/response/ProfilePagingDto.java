@@ -1,7 +1,9 @@
 package com.swyp3.babpool.domain.profile.application.response;
 
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 
@@ -10,27 +12,28 @@ import java.time.LocalDateTime;
 @Slf4j
 @ToString
 @Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ProfilePagingDto {
 
     private Long profileId;
     private Long userId;
     private String profileImageUrl;
+    private String profileImageCardUrl; // 목록 카드 이미지, 사용자가 직접 업로드한 이미지가 아니면 null
     private String profileIntro;
     private String profileContents;
     private LocalDateTime profileModifyDate; // t_profile 테이블의 profile_modify_date
-    private String keywordNamesConcat; // t_keyword 테이블의 keyword_name (콤마로 구분된 문자열)
     private String userGrade; // t_user_account 테이블의 user_grade
     private String userNickname; // t_user_account 테이블의 user_nickname
 
     @Builder
-    public ProfilePagingDto(Long profileId, Long userId, String profileImageUrl, String profileIntro, String profileContents, LocalDateTime profileModifyDate, String keywordNamesConcat, String userGrade, String userNickname) {
+    public ProfilePagingDto(Long profileId, Long userId, String profileImageUrl, String profileImageCardUrl, String profileIntro, String profileContents, LocalDateTime profileModifyDate, String userGrade, String userNickname) {
         this.profileId = profileId;
         this.userId = userId;
         this.profileImageUrl = profileImageUrl;
+        this.profileImageCardUrl = profileImageCardUrl;
         this.profileIntro = profileIntro;
         this.profileContents = profileContents;
         this.profileModifyDate = profileModifyDate;
-        this.keywordNamesConcat = keywordNamesConcat;
         this.userGrade = userGrade;
         this.userNickname = userNickname;
     }
@@ -6,7 +6,6 @@ import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.LocalDateTime;
-import java.util.Arrays;
 import java.util.List;
 
 @ToString
@@ -34,14 +33,15 @@ public class ProfilePagingResponse {
         this.userNickname = userNickname;
     }
 
-    public static ProfilePagingResponse of(ProfilePagingDto profilePagingDto) {
+    public static ProfilePagingResponse of(ProfilePagingDto profilePagingDto, String[] keywordNames) {
         return ProfilePagingResponse.builder()
                 .profileId(profilePagingDto.getProfileId())
-                .profileImageUrl(profilePagingDto.getProfileImageUrl())
+                .profileImageUrl(profilePagingDto.getProfileImageCardUrl() != null
+                        ? profilePagingDto.getProfileImageCardUrl() : profilePagingDto.getProfileImageUrl())
                 .profileIntro(profilePagingDto.getProfileIntro())
                 .profileContents(profilePagingDto.getProfileContents())
                 .profileModifyDate(profilePagingDto.getProfileModifyDate())
-                .keywordNameList(Arrays.stream(profilePagingDto.getKeywordNamesConcat().split(",")).toList())
+                .keywordNameList(List.of(keywordNames))
                 .userGrade(profilePagingDto.getUserGrade())
                 .userNickname(profilePagingDto.getUserNickname())
                 .build();
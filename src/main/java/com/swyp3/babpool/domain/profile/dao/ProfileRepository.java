@@ -19,6 +19,14 @@ public interface ProfileRepository {
     // 테스트 코드 작성 완료
     int updateProfileImageUrl(Long userId, String profileImageUrl);
 
+    /**
+     * 사용자가 업로드한 이미지의 상세 이미지 URL 과 목록 카드 이미지 URL 을 함께 수정한다.
+     * @param profileImageUrl 상세 이미지 URL
+     * @param profileImageCardUrl 목록 카드 이미지 URL
+     */
+    int updateProfileImageUrls(@Param("userId") Long userId, @Param("profileImageUrl") String profileImageUrl,
+                               @Param("profileImageCardUrl") String profileImageCardUrl);
+
     /**
      * 프로필 리스트 조회
      * @param pagingRequestList
@@ -62,6 +70,14 @@ public interface ProfileRepository {
     // 테스트 코드 작성 완료
     Profile findByUserId(Long userId);
 
+    /**
+     * 이미지 URL 중 프로필 이미지(profile_image_url) 또는 목록 카드 이미지(profile_image_card_url)로 사용 중인 URL 을 조회한다.
+     * S3 고아 객체 정리에서 사용한다.
+     * @param imageUrls 확인할 이미지 URL, 최대 1000개
+     * @return 사용 중인 이미지 URL
+     */
+    List<String> findReferencedImageUrls(@Param("imageUrls") List<String> imageUrls);
+
     ProfileDetail findProfileDetail(Long profileId);
 
     ProfileDefault findProfileDefault(Long profileId);
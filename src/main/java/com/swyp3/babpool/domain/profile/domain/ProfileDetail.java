@@ -2,6 +2,8 @@ package com.swyp3.babpool.domain.profile.domain;
 
 import lombok.Getter;
 
+import java.util.List;
+
 @Getter
 public class ProfileDetail {
     // 후기 제외한 프로필 상세 조회 데이터
@@ -12,5 +14,5 @@ public class ProfileDetail {
     private String intro;
     private String contents;
 
-    private String keywords;
+    private List<Long> keywordIds;
 }
\ No newline at end of file
@@ -16,6 +16,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -28,6 +29,7 @@ public class ReviewServiceImpl implements ReviewService{
     private final ReviewRepository reviewRepository;
 
     @Override
+    @Transactional(readOnly = true)
     public ReviewCountByTypeResponse getReviewCountByType(Long profileId) {
         return reviewRepository.countByTypeAndProfileId(profileId)
                 .orElseThrow(() -> new ReviewException(ReviewErrorCode.NOT_FOUND_REVIEW,"요청된 프로필에 리뷰가 존재하지 않습니다."));
@@ -81,6 +83,7 @@ public class ReviewServiceImpl implements ReviewService{
 
 
     @Override
+    @Transactional(readOnly = true)
     public ReviewInfoResponse getReviewInfo(Long appointmentId) {
         return reviewRepository.findByAppointmentId(appointmentId)
                 .map(ReviewInfoResponse::of)
@@ -88,6 +91,7 @@ public class ReviewServiceImpl implements ReviewService{
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<ReviewPagingResponse> getReviewList(Long profileId, Pageable pageable) {
         PagingRequestList<?> pagingRequest = PagingRequestList.builder()
                 .condition(profileId)
@@ -108,6 +112,7 @@ public class ReviewServiceImpl implements ReviewService{
 
 
     @Override
+    @Transactional(readOnly = true)
     public List<ReviewPagingResponse> getReviewListForProfileDetail(Long profileId, Integer limit) {
         return reviewRepository.findAllByProfileIdWithLimit(profileId, limit);
     }
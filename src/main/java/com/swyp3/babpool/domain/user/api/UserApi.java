@@ -9,12 +9,16 @@ import com.swyp3.babpool.domain.user.api.requset.SignUpRequestDTO;
 import com.swyp3.babpool.domain.user.application.response.LoginResponse;
 import com.swyp3.babpool.domain.user.application.response.LoginResponseWithRefreshToken;
 import com.swyp3.babpool.global.common.response.CookieProvider;
+import com.swyp3.babpool.global.concurrency.Bulkhead;
+import com.swyp3.babpool.global.concurrency.EndpointClass;
+import com.swyp3.babpool.global.jwt.JwtTokenInterceptor;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Map;
@@ -30,6 +34,7 @@ public class UserApi {
      * 로그인 요청 api
      */
     @PostMapping("/sign/in")
+    @Bulkhead(EndpointClass.EXTERNAL_AUTH)
     public ResponseEntity<ApiResponse<LoginResponse>> login(@RequestBody @Valid LoginRequestDTO loginRequest,
                                                             @RequestAttribute(value = "localhostFlag", required = false) String localhostFlag){
         LoginResponseWithRefreshToken loginResponseData = userService.login(loginRequest, localhostFlag);
@@ -85,8 +90,13 @@ public class UserApi {
     @PostMapping("/sign/down")
     public ResponseEntity<ApiResponse> signDown(@RequestAttribute(value = "userId") Long userId,
                                                 @CookieValue(value = "refreshToken", required = false) String refreshTokenFromCookie,
+                                                @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
                                                 @RequestBody Map<String, Object> data){
-        userService.signDown(userId, data.get("exitReason").toString(), refreshTokenFromCookie);
+        String accessToken = null;
+        if(StringUtils.hasText(authorization) && authorization.startsWith(JwtTokenInterceptor.BEARER + " ")){
+            accessToken = authorization.substring(JwtTokenInterceptor.BEARER.length() + 1);
+        }
+        userService.signDown(userId, data.get("exitReason").toString(), refreshTokenFromCookie, accessToken);
         return ResponseEntity.status(HttpStatus.OK)
                 .header(HttpHeaders.SET_COOKIE, CookieProvider.ofRefreshToken("", 0).toString())
                 .body(ApiResponse.ok("sign down success"));
@@ -3,6 +3,7 @@ package com.swyp3.babpool.domain.user.api;
 import com.swyp3.babpool.global.common.response.ApiResponse;
 import com.swyp3.babpool.global.common.response.CookieProvider;
 import com.swyp3.babpool.global.jwt.JwtAuthenticator;
+import com.swyp3.babpool.global.jwt.JwtTokenInterceptor;
 import com.swyp3.babpool.global.jwt.application.JwtServiceImpl;
 import com.swyp3.babpool.infra.auth.service.AuthService;
 import lombok.RequiredArgsConstructor;
@@ -13,6 +14,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.CookieValue;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 
 @Slf4j
@@ -25,13 +27,17 @@ public class UserSignOutApi {
     private final JwtAuthenticator jwtAuthenticator;
 
     @PostMapping("/api/user/sign/out")
-    public ResponseEntity<ApiResponse<String>> signOut(@CookieValue(value = "refreshToken", required = false) String refreshTokenFromCookie){
+    public ResponseEntity<ApiResponse<String>> signOut(@CookieValue(value = "refreshToken", required = false) String refreshTokenFromCookie,
+                                                       @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization){
         log.info("로그아웃 API 호출되었습니다. refreshToken = {}", refreshTokenFromCookie);
         if(StringUtils.hasText(refreshTokenFromCookie)){
             Long userId = jwtAuthenticator.jwtRefreshTokenToUserIdResolver(refreshTokenFromCookie);
             authService.socialServiceSignOut(userId, authService.getAuthPlatformByUserId(userId));
             jwtService.logout(refreshTokenFromCookie);
         }
+        if(StringUtils.hasText(authorization) && authorization.startsWith(JwtTokenInterceptor.BEARER + " ")){
+            jwtService.revokeAccessToken(authorization.substring(JwtTokenInterceptor.BEARER.length() + 1));
+        }
         return ResponseEntity.status(HttpStatus.OK)
                 .header(HttpHeaders.SET_COOKIE, CookieProvider.ofRefreshToken("", 0).toString())
                 .body(ApiResponse.ok("sign out success"));
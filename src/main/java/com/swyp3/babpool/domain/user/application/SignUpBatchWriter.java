@@ -0,0 +1,130 @@
+package com.swyp3.babpool.domain.user.application;
+
+import com.swyp3.babpool.domain.profile.domain.Profile;
+import com.swyp3.babpool.domain.user.dao.SignUpRepository;
+import com.swyp3.babpool.domain.user.domain.User;
+import com.swyp3.babpool.infra.auth.domain.Auth;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 동시에 들어온 신규 가입자의 사용자/소셜 로그인/프로필 행을 모아서 저장한다. (group commit)
+ * - 먼저 writer 잠금을 잡은 요청이 writer 가 되어, 대기 중인 요청을 최대 maxBatchSize 명까지 꺼내 테이블별 multi-row INSERT 3개를 하나의 트랜잭션으로 실행한다.
+ * - 나머지 요청은 writer 잠금에서 블로킹으로 기다리며(폴링하지 않는다), 잠금을 얻었을 때 자신의 요청이 아직 남아있다면 writer 가 된다.
+ * - 묶음 저장이 실패하면 한 명씩 다시 저장하여, 한 요청의 실패가 다른 가입자에게 전파되지 않도록 한다.
+ * 가입자가 한 명뿐이면 기존과 같이 INSERT 3개를 실행한다.
+ * 호출하는 쪽이 DB 커넥션을 잡은 채 기다리지 않도록, 트랜잭션 밖에서 호출한다.
+ */
+@Slf4j
+@Component
+public class SignUpBatchWriter {
+
+    private final SignUpRepository signUpRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxBatchSize;
+
+    private final BlockingQueue<PendingSignUp> pendingSignUps = new LinkedBlockingQueue<>();
+    private final ReentrantLock writerLock = new ReentrantLock();
+
+    public SignUpBatchWriter(SignUpRepository signUpRepository, PlatformTransactionManager transactionManager,
+                             @Value("${property.signup.batch.max-size:50}") int maxBatchSize) {
+        this.signUpRepository = signUpRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * @return 저장된 사용자 행 수, 성공하면 1
+     */
+    public int write(SignUpEntry signUpEntry) {
+        PendingSignUp pending = new PendingSignUp(signUpEntry);
+        pendingSignUps.add(pending);
+        // 앞선 writer 가 저장하는 동안 잠금에서 기다린다. 그 사이 자신의 요청이 앞선 묶음에 포함되어 저장될 수 있다.
+        writerLock.lock();
+        try {
+            while (!pending.result.isDone()) {
+                flush();
+            }
+        } finally {
+            writerLock.unlock();
+        }
+        try {
+            return pending.result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("신규 사용자 저장 대기 중 인터럽트가 발생했습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private void flush() {
+        List<PendingSignUp> batch = new ArrayList<>();
+        pendingSignUps.drainTo(batch, maxBatchSize);
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            int insertedUserRows = insertAll(batch);
+            boolean allInserted = insertedUserRows == batch.size();
+            batch.forEach(pending -> pending.result.complete(allInserted ? 1 : 0));
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                batch.get(0).result.completeExceptionally(e);
+                return;
+            }
+            log.warn("SignUpBatchWriter.flush, {}명 묶음 저장 실패, 한 명씩 다시 저장합니다. {}", batch.size(), e.getMessage());
+            for (PendingSignUp pending : batch) {
+                try {
+                    pending.result.complete(insertAll(List.of(pending)));
+                } catch (RuntimeException individualException) {
+                    pending.result.completeExceptionally(individualException);
+                }
+            }
+        }
+    }
+
+    private int insertAll(List<PendingSignUp> batch) {
+        List<User> users = new ArrayList<>(batch.size());
+        List<Auth> auths = new ArrayList<>(batch.size());
+        List<Profile> profiles = new ArrayList<>(batch.size());
+        for (PendingSignUp pending : batch) {
+            users.add(pending.signUpEntry.getUser());
+            auths.add(pending.signUpEntry.getAuth());
+            profiles.add(pending.signUpEntry.getProfile());
+        }
+        Integer insertedUserRows = transactionTemplate.execute(status -> {
+            int insertedRows = signUpRepository.saveUsers(users);
+            signUpRepository.saveAuths(auths);
+            signUpRepository.saveProfiles(profiles);
+            return insertedRows;
+        });
+        return insertedUserRows == null ? 0 : insertedUserRows;
+    }
+
+    private static final class PendingSignUp {
+
+        private final SignUpEntry signUpEntry;
+        private final CompletableFuture<Integer> result = new CompletableFuture<>();
+
+        private PendingSignUp(SignUpEntry signUpEntry) {
+            this.signUpEntry = signUpEntry;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.swyp3.babpool.domain.user.application;
+
+import com.swyp3.babpool.domain.profile.domain.Profile;
+import com.swyp3.babpool.domain.user.domain.User;
+import com.swyp3.babpool.infra.auth.domain.Auth;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 신규 사용자 한 명을 위해 저장할 사용자, 소셜 로그인, 프로필 행. 식별 값은 저장 전에 미리 생성한다.
+ */
+@Getter
+@ToString
+public class SignUpEntry {
+
+    private final User user;
+    private final Auth auth;
+    private final Profile profile;
+
+    @Builder
+    public SignUpEntry(User user, Auth auth, Profile profile) {
+        this.user = user;
+        this.auth = auth;
+        this.profile = profile;
+    }
+}
@@ -0,0 +1,54 @@
+package com.swyp3.babpool.domain.user.application;
+
+import com.swyp3.babpool.infra.auth.AuthPlatform;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 소셜 플랫폼 식별 값 -> 사용자 식별 값 매핑을 메모리에 보관한다.
+ * 캐시된 값은 조회 힌트로만 사용하며, 로그인 쿼리에서 t_oauth 의 플랫폼 식별 값을 함께 확인하므로
+ * 회원탈퇴 등으로 매핑이 바뀌어도 잘못된 사용자로 로그인되지 않는다.
+ * 최대 크기에 도달하면 전체를 비운다.
+ */
+@Slf4j
+@Component
+public class UserIdentityCache {
+
+    private final int maxSize;
+    private final Map<String, Long> userIds = new ConcurrentHashMap<>();
+
+    public UserIdentityCache(@Value("${property.user.identity-cache.max-size:10000}") int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * @return 캐시된 사용자 식별 값, 없으면 null
+     */
+    public Long get(AuthPlatform authPlatform, String platformId) {
+        return userIds.get(keyOf(authPlatform, platformId));
+    }
+
+    public void put(AuthPlatform authPlatform, String platformId, Long userId) {
+        if (userIds.size() >= maxSize) {
+            log.info("UserIdentityCache.put, 최대 크기({}) 초과로 캐시를 비웁니다.", maxSize);
+            userIds.clear();
+        }
+        userIds.put(keyOf(authPlatform, platformId), userId);
+    }
+
+    public void evict(AuthPlatform authPlatform, String platformId) {
+        userIds.remove(keyOf(authPlatform, platformId));
+    }
+
+    public int size() {
+        return userIds.size();
+    }
+
+    private static String keyOf(AuthPlatform authPlatform, String platformId) {
+        return authPlatform.name() + ":" + platformId;
+    }
+}
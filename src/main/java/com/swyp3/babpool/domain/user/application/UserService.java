@@ -10,7 +10,7 @@ public interface UserService {
     LoginResponseWithRefreshToken login(LoginRequestDTO loginRequest, String localhostFlag);
     LoginResponseWithRefreshToken signUp(SignUpRequestDTO signUpRequest);
 
-    void signDown(Long userId, String exitReason, String refreshTokenFromCookie);
+    void signDown(Long userId, String exitReason, String refreshTokenFromCookie, String accessToken);
 
     MyPageResponse getMyPage(Long userId);
 
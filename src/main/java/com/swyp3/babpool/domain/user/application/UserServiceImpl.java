@@ -2,6 +2,7 @@ package com.swyp3.babpool.domain.user.application;
 
 import com.swyp3.babpool.domain.appointment.application.response.AppointmentHistoryDoneResponse;
 import com.swyp3.babpool.domain.appointment.dao.AppointmentRepository;
+import com.swyp3.babpool.domain.keyword.application.KeywordCatalog;
 import com.swyp3.babpool.domain.keyword.application.KeywordService;
 import com.swyp3.babpool.domain.profile.application.ProfileService;
 import com.swyp3.babpool.domain.profile.domain.Profile;
@@ -29,6 +30,7 @@ import com.swyp3.babpool.infra.auth.service.AuthService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
@@ -47,12 +49,20 @@ public class UserServiceImpl implements UserService{
     private final ProfileService profileService;
     private final ReviewService reviewService;
     private final KeywordService keywordService;
+    private final KeywordCatalog keywordCatalog;
+    private final UserIdentityCache userIdentityCache;
+    private final SignUpBatchWriter signUpBatchWriter;
 
     private final UserRepository userRepository;
     private final AppointmentRepository appointmentRepository;
     private final ExitInfoRepository exitInfoRepository;
 
+    /**
+     * 신규 사용자 저장은 {@link SignUpBatchWriter} 가 별도 트랜잭션으로 처리하므로,
+     * 가입이 몰릴 때 대기 중인 요청이 DB 커넥션을 잡고 있지 않도록 트랜잭션 없이 실행한다.
+     */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public LoginResponseWithRefreshToken login(LoginRequestDTO loginRequest, String localhostFlag) {
         AuthMemberResponse kakaoPlatformMember = authService.getUserDataByCode(loginRequest.getCode(), localhostFlag);
         return generateLoginResponse(AuthPlatform.KAKAO, kakaoPlatformMember);
@@ -60,18 +70,19 @@ public class UserServiceImpl implements UserService{
 
     @Override
     public LoginResponseWithRefreshToken signUp(SignUpRequestDTO signUpRequest) {
-        if(getUserStatus(signUpRequest.getUserId()).equals(UserStatus.ACTIVE))
+        User preActiveUser = userRepository.findById(signUpRequest.getUserId());
+        if(preActiveUser.getUserStatus().equals(UserStatus.ACTIVE))
             throw new SignUpException(SignUpExceptionErrorCode.IS_ALREADY_REGISTERED,
                     "이미 데이터베이스에 등록된 사용자이므로 새로운 회원가입을 진행할 수 없습니다.");
 
-        User user = insertUserExtraInfo(signUpRequest);
+        User user = insertUserExtraInfo(preActiveUser, signUpRequest);
         return getLoginResponse(user);
     }
 
     @Override
-    public void signDown(Long userId, String exitReason, String refreshTokenFromCookie) {
-        AuthPlatform authPlatformName = authService.getAuthPlatformByUserId(userId);
-        authService.socialServiceDisconnect(userId, authPlatformName);
+    public void signDown(Long userId, String exitReason, String refreshTokenFromCookie, String accessToken) {
+        // 소셜 연결 끊기는 원격 호출이므로 탈퇴 트랜잭션 커밋 이후 작업 큐에서 비동기로 처리한다.
+        authService.requestSocialServiceDisconnect(userId);
         authService.updateOAuthPlatformId(userId);
 
         profileService.updateProfileActiveFlag(userId, false);
@@ -82,11 +93,15 @@ public class UserServiceImpl implements UserService{
         }
         exitInfoRepository.saveExitInfo(tsidKeyGenerator.generateTsid(), userId, exitReason);
         jwtService.logout(refreshTokenFromCookie);
+        jwtService.logoutAllDevices(userId);
+        jwtService.revokeAccessToken(accessToken);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public MyPageResponse getMyPage(Long userId) {
         MyPageUserDto myPageUserDto = userRepository.findMyProfile(userId);
+        myPageUserDto.setKeywords(keywordCatalog.getKeywordNames(myPageUserDto.getKeywordIds()));
         Profile profile = profileService.getByUserId(userId);
         ReviewCountByTypeResponse reviewCountByType = reviewService.getReviewCountByType(profile.getProfileId());
 
@@ -105,6 +120,7 @@ public class UserServiceImpl implements UserService{
     }
 
     @Override
+    @Transactional(readOnly = true)
     public UserGradeResponse getUserGrade(Long userId) {
         String userGrade = userRepository.findUserGradeById(userId);
         return new UserGradeResponse(userGrade);
@@ -119,42 +135,77 @@ public class UserServiceImpl implements UserService{
 
     }
 
-    private UserStatus getUserStatus(Long userId) {
-        return userRepository.findById(userId).getUserStatus();
-    }
-
-    public User insertUserExtraInfo(SignUpRequestDTO signUpRequest) {
-        Long userId = signUpRequest.getUserId();
+    /**
+     * 추가 정보를 저장하고, 다시 조회하지 않고 가입 전 사용자 정보에 변경 사항을 반영하여 반환한다.
+     */
+    public User insertUserExtraInfo(User preActiveUser, SignUpRequestDTO signUpRequest) {
+        Long userId = preActiveUser.getUserId();
         userRepository.updateSignUpInfo(userId, signUpRequest.getUserGrade());
 
         keywordService.saveUserAndKeywordMapping(userId, signUpRequest.getKeywords());
 
-        return userRepository.findById(userId);
+        return User.allArgsBuilder()
+                .userId(userId)
+                .userEmail(preActiveUser.getUserEmail())
+                .userStatus(UserStatus.ACTIVE)
+                .userRole(preActiveUser.getUserRole())
+                .userGrade(signUpRequest.getUserGrade())
+                .userNickName(preActiveUser.getUserNickName())
+                .userCreateDate(preActiveUser.getUserCreateDate())
+                .allArgsBuild();
     }
 
     private LoginResponseWithRefreshToken generateLoginResponse(AuthPlatform authPlatform, AuthMemberResponse authMemberResponse) {
-        Long findUserId = userRepository.findUserIdByPlatformAndPlatformId(authPlatform, authMemberResponse.getPlatformId());
+        String platformId = authMemberResponse.getPlatformId();
+        LoginUserDto loginUser = findLoginUser(authPlatform, platformId);
 
-        if(findUserId == null){ // 회원테이블에 id Token 정보가 저장되어있지 않은 경우
-            return getLoginResponseNeedSignUp(createUser(authPlatform, authMemberResponse)); // PreActive 상태로 유저 생성
+        if(loginUser == null){ // 회원테이블에 id Token 정보가 저장되어있지 않은 경우
+            return getLoginResponseNeedSignUp(createUserAndCacheIdentity(authPlatform, authMemberResponse)); // PreActive 상태로 유저 생성
         }else {
-            User findUser = userRepository.findById(findUserId);
+            User findUser = loginUser.toUser();
             switch (findUser.getUserStatus()){
                 case PREACTIVE -> { // 회원가입이 완료되었지만, 추가정보 입력이 필요한 경우
                     return getLoginResponseNeedSignUp(findUser);
                 }
                 case EXIT -> { // 회원탈퇴된 사용자인 경우, 사용자 신규 생성
-                    User createdUser = createUser(authPlatform, authMemberResponse);
+                    User createdUser = createUserAndCacheIdentity(authPlatform, authMemberResponse);
                     return getLoginResponseNeedSignUp(createdUser);
                 }
                 default -> {
-                    profileService.updateProfileImageFromSocialProfileImage(findUser.getUserId(), authMemberResponse.getProfile_image());
+                    profileService.updateProfileImageFromSocialProfileImage(findUser.getUserId(),
+                            loginUser.getProfileImageUrl(), authMemberResponse.getProfile_image());
                     return getLoginResponse(findUser);
                 }
             }
         }
     }
 
+    /**
+     * 캐시된 사용자 식별 값이 있으면 기본 키로 조회하고, 없거나 매핑이 바뀐 경우 소셜 플랫폼 식별 값으로 조회한다.
+     * 두 쿼리 모두 사용자 정보와 현재 프로필 이미지를 한 번에 가져온다.
+     */
+    private LoginUserDto findLoginUser(AuthPlatform authPlatform, String platformId) {
+        Long cachedUserId = userIdentityCache.get(authPlatform, platformId);
+        if (cachedUserId != null) {
+            LoginUserDto loginUser = userRepository.findLoginUserByUserIdAndPlatformId(cachedUserId, authPlatform, platformId);
+            if (loginUser != null) {
+                return loginUser;
+            }
+            userIdentityCache.evict(authPlatform, platformId);
+        }
+        LoginUserDto loginUser = userRepository.findLoginUserByPlatformAndPlatformId(authPlatform, platformId);
+        if (loginUser != null) {
+            userIdentityCache.put(authPlatform, platformId, loginUser.getUserId());
+        }
+        return loginUser;
+    }
+
+    private User createUserAndCacheIdentity(AuthPlatform authPlatform, AuthMemberResponse authMemberResponse) {
+        User createdUser = createUser(authPlatform, authMemberResponse);
+        userIdentityCache.put(authPlatform, authMemberResponse.getPlatformId(), createdUser.getUserId());
+        return createdUser;
+    }
+
     private LoginResponseWithRefreshToken getLoginResponseNeedSignUp(User user) {
         LoginResponse loginResponse = new LoginResponse(user.getUserId(), null,null,false);
         return new LoginResponseWithRefreshToken(loginResponse,null);
@@ -171,8 +222,12 @@ public class UserServiceImpl implements UserService{
         return new LoginResponseWithRefreshToken(loginResponse,refreshToken);
     }
 
+    /**
+     * 사용자, 소셜 로그인, 프로필 식별 값을 미리 생성하고, 세 행을 {@link SignUpBatchWriter} 로 함께 저장한다.
+     * 저장한 값으로 사용자 정보를 만들어 반환하므로 다시 조회하지 않는다.
+     */
     public User createUser(AuthPlatform authPlatform, AuthMemberResponse authMemberResponse) {
-        // 신규 사용자 정보 저장
+        // 신규 사용자 정보
         Long targetUserId = tsidKeyGenerator.generateTsid();
         User targetUser = User.allArgsBuilder()
                             .userId(targetUserId)
@@ -182,26 +237,31 @@ public class UserServiceImpl implements UserService{
                             .userRole(UserRole.USER)
                             .userGrade("none")
                             .allArgsBuild();
-        Integer insertedRows = userRepository.save(targetUser);
-        if (insertedRows != 1) {
-            throw new SignUpException(SignUpExceptionErrorCode.SIGNUP_CREATE_FAILED, "신규 사용자 DB 삽입 실패.");
-        }
 
-        // 신규 사용자의 Auth 정보 저장
-        authService.createAuth(Auth.builder()
+        // 신규 사용자의 Auth 정보
+        Auth targetAuth = Auth.builder()
                         .oauthId(tsidKeyGenerator.generateTsid())
                         .userId(targetUserId)
                         .oauthPlatformName(authPlatform)
                         .oauthPlatformId(authMemberResponse.getPlatformId())
-                        .build());
+                        .build();
 
-        // 신규 사용자의 프로필 정보 저장
-        profileService.createInitProfile(Profile.builder()
+        // 신규 사용자의 프로필 정보
+        Profile targetProfile = Profile.builder()
                                         .profileId(tsidKeyGenerator.generateTsid())
                                         .userId(targetUserId)
                                         .profileImageUrl(authMemberResponse.getProfile_image())
                                         .profileActiveFlag(false)
-                                        .build());
+                                        .build();
+
+        int insertedRows = signUpBatchWriter.write(SignUpEntry.builder()
+                .user(targetUser)
+                .auth(targetAuth)
+                .profile(targetProfile)
+                .build());
+        if (insertedRows != 1) {
+            throw new SignUpException(SignUpExceptionErrorCode.SIGNUP_CREATE_FAILED, "신규 사용자 DB 삽입 실패.");
+        }
 
         return targetUser;
     }
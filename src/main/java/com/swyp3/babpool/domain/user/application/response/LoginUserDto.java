@@ -0,0 +1,37 @@
+package com.swyp3.babpool.domain.user.application.response;
+
+import com.swyp3.babpool.domain.user.domain.User;
+import com.swyp3.babpool.domain.user.domain.UserRole;
+import com.swyp3.babpool.domain.user.domain.UserStatus;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 로그인 시 소셜 플랫폼 식별 값으로 조회한 사용자 정보와 현재 프로필 이미지
+ */
+@Getter
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class LoginUserDto {
+
+    private Long userId;
+    private String userEmail;
+    private UserStatus userStatus;
+    private UserRole userRole;
+    private String userGrade;
+    private String userNickName;
+    private String profileImageUrl;
+
+    public User toUser() {
+        return User.allArgsBuilder()
+                .userId(userId)
+                .userEmail(userEmail)
+                .userStatus(userStatus)
+                .userRole(userRole)
+                .userGrade(userGrade)
+                .userNickName(userNickName)
+                .allArgsBuild();
+    }
+}
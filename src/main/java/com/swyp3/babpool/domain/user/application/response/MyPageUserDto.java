@@ -1,8 +1,13 @@
 package com.swyp3.babpool.domain.user.application.response;
 
+import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
 
 @Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class MyPageUserDto {
     //마이페이지 조회 데이터 중 밥약 히스토리와 후기 개수 제외한 DTO
     private Long profileId;
@@ -10,19 +15,13 @@ public class MyPageUserDto {
     private String profileImg;
     private String grade;
     private String intro;
+    private List<Long> keywordIds;
     private String[] keywords;
     private String contactPhone;
     private String contactChat;
 
-    public MyPageUserDto(Long profileId, String name, String profileImg, String grade, String intro, String keywords, String contactChat, String contactPhone) {
-        this.profileId = profileId;
-        this.name = name;
-        this.profileImg = profileImg;
-        this.grade = grade;
-        this.intro = intro;
-        this.keywords = keywords.split(",");
-        this.contactPhone=contactPhone;
-        this.contactChat=contactChat;
+    public void setKeywords(String[] keywords) {
+        this.keywords = keywords;
     }
 
     public void setContactPhone(String contactPhone) {
@@ -0,0 +1,25 @@
+package com.swyp3.babpool.domain.user.dao;
+
+import com.swyp3.babpool.domain.profile.domain.Profile;
+import com.swyp3.babpool.domain.user.domain.User;
+import com.swyp3.babpool.infra.auth.domain.Auth;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/**
+ * 신규 사용자의 t_user_account, t_oauth, t_profile 행을 여러 명씩 한 번에 저장한다.
+ */
+@Mapper
+public interface SignUpRepository {
+
+    // 테스트 코드 작성 완료
+    int saveUsers(@Param("users") List<User> users);
+
+    // 테스트 코드 작성 완료
+    int saveAuths(@Param("auths") List<Auth> auths);
+
+    // 테스트 코드 작성 완료
+    int saveProfiles(@Param("profiles") List<Profile> profiles);
+}
@@ -1,5 +1,6 @@
 package com.swyp3.babpool.domain.user.dao;
 
+import com.swyp3.babpool.domain.user.application.response.LoginUserDto;
 import com.swyp3.babpool.domain.user.application.response.MyPageUserDto;
 import com.swyp3.babpool.domain.user.domain.User;
 import com.swyp3.babpool.domain.user.domain.UserStatus;
@@ -16,6 +17,12 @@ public interface UserRepository {
     // 테스트 코드 작성 완료
     Long findUserIdByPlatformAndPlatformId(@Param("platformName") AuthPlatform authPlatform,@Param("platformId") String platformId);
 
+    // 테스트 코드 작성 완료
+    LoginUserDto findLoginUserByPlatformAndPlatformId(@Param("platformName") AuthPlatform authPlatform, @Param("platformId") String platformId);
+
+    // 테스트 코드 작성 완료
+    LoginUserDto findLoginUserByUserIdAndPlatformId(@Param("userId") Long userId, @Param("platformName") AuthPlatform authPlatform, @Param("platformId") String platformId);
+
     // 테스트 코드 작성 완료
     User findById(Long userId);
 
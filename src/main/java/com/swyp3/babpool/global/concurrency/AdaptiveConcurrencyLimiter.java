@@ -0,0 +1,133 @@
+package com.swyp3.babpool.global.concurrency;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * 응답 시간의 변화로 동시 처리 한도를 조절하는 limiter (gradient 방식).
+ * - 장기 평균 응답 시간(longRtt)과 최근 응답 시간(shortRtt)의 비율(gradient, 0.5 ~ 1.0)만큼 한도를 줄이고,
+ *   큐 여유분(sqrt(limit))만큼 늘린다. 지연이 늘지 않으면 한도가 커지고, 지연이 늘면 한도가 줄어든다.
+ * - 처리 중인 요청이 한도의 절반보다 적으면 부하로 인한 지연이 아니므로 한도를 늘리지 않는다.
+ * - 요청이 실패하거나(5xx, 예외) 중단되면 지연 표본으로 쓰지 않고, 한도를 일정 비율(backoff-ratio)로 줄인다 (AIMD).
+ * 한도는 [minLimit, maxLimit] 사이에서 움직이며, maxLimit 이 분류별 bulkhead 크기이다.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double SHORT_WINDOW_SMOOTHING = 0.5;
+    // 최근 약 600 개 표본의 지수 이동 평균
+    private static final double LONG_WINDOW_SMOOTHING = 2.0 / (600 + 1);
+    private static final double LIMIT_SMOOTHING = 0.2;
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final LongSupplier nanoClock;
+    private final AtomicInteger inflight = new AtomicInteger();
+
+    private volatile double limit;
+    private double shortRttNanos = -1;
+    private double longRttNanos = -1;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, LongSupplier nanoClock) {
+        if (minLimit < 1 || minLimit > maxLimit) {
+            throw new IllegalArgumentException("1 <= minLimit <= maxLimit 이어야 합니다. minLimit : " + minLimit + ", maxLimit : " + maxLimit);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.nanoClock = nanoClock;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /**
+     * 한도 안이면 처리 권한을 얻는다. 한도를 넘으면 null 을 반환하며, 호출자는 요청을 바로 거절한다.
+     */
+    public Permit tryAcquire() {
+        while (true) {
+            int current = inflight.get();
+            if (current >= getLimit()) {
+                return null;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return new Permit(current + 1, nanoClock.getAsLong());
+            }
+        }
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    private synchronized void onSample(long rttNanos, int inflightAtStart) {
+        shortRttNanos = shortRttNanos < 0 ? rttNanos : smooth(shortRttNanos, rttNanos, SHORT_WINDOW_SMOOTHING);
+        longRttNanos = longRttNanos < 0 ? rttNanos : smooth(longRttNanos, rttNanos, LONG_WINDOW_SMOOTHING);
+        // 장기 평균이 지연 증가를 따라가 기준이 흐려지지 않도록, 지연이 줄어들 때는 장기 평균도 빠르게 낮춘다.
+        if (longRttNanos > shortRttNanos * 2) {
+            longRttNanos = shortRttNanos * 2;
+        }
+        double gradient = Math.max(0.5, Math.min(1.0, longRttNanos / shortRttNanos));
+        double newLimit = limit * gradient + Math.sqrt(limit);
+        if (newLimit > limit && inflightAtStart < limit / 2) {
+            return;
+        }
+        update(smooth(limit, newLimit, LIMIT_SMOOTHING));
+    }
+
+    private synchronized void onFailure() {
+        update(limit * BACKOFF_RATIO);
+    }
+
+    private void update(double newLimit) {
+        limit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+    }
+
+    private static double smooth(double previous, double sample, double smoothing) {
+        return previous * (1 - smoothing) + sample * smoothing;
+    }
+
+    /**
+     * 처리 권한. 요청이 끝나면 결과에 맞는 메서드를 한 번만 호출한다.
+     */
+    public class Permit {
+
+        private final int inflightAtStart;
+        private final long startNanos;
+        private boolean released;
+
+        private Permit(int inflightAtStart, long startNanos) {
+            this.inflightAtStart = inflightAtStart;
+            this.startNanos = startNanos;
+        }
+
+        /** 정상 처리된 요청. 응답 시간을 한도 조절에 사용한다. */
+        public void onSuccess() {
+            if (release()) {
+                onSample(nanoClock.getAsLong() - startNanos, inflightAtStart);
+            }
+        }
+
+        /** 서버 오류나 시간 초과로 실패한 요청. 한도를 줄인다. */
+        public void onFailure() {
+            if (release()) {
+                AdaptiveConcurrencyLimiter.this.onFailure();
+            }
+        }
+
+        /** 클라이언트 오류 등 부하와 관계없는 요청. 한도를 바꾸지 않는다. */
+        public void onIgnore() {
+            release();
+        }
+
+        private boolean release() {
+            if (released) {
+                return false;
+            }
+            released = true;
+            inflight.decrementAndGet();
+            return true;
+        }
+    }
+}
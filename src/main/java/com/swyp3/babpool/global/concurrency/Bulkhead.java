@@ -0,0 +1,17 @@
+package com.swyp3.babpool.global.concurrency;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * API 가 속한 동시 처리 제한 분류. 지정하지 않으면 {@link EndpointClass#DEFAULT} 로 제한한다.
+ * 한도를 넘으면 {@link ConcurrencyLimitInterceptor} 가 요청을 처리하지 않고 바로 503 으로 응답한다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Bulkhead {
+
+    EndpointClass value();
+}
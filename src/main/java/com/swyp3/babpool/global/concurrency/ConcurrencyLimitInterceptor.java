@@ -0,0 +1,109 @@
+package com.swyp3.babpool.global.concurrency;
+
+import com.swyp3.babpool.global.concurrency.exception.ConcurrencyLimitException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.web.cors.CorsUtils;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * {@link EndpointClass} 별로 동시에 처리 중인 API 요청 수를 {@link AdaptiveConcurrencyLimiter} 로 제한한다.
+ * - 한도를 넘은 요청은 컨트롤러와 JWT 검증을 거치지 않고 바로 503 (Retry-After) 으로 응답한다.
+ * - 응답이 5xx 이거나 예외로 끝난 요청은 한도를 줄이고, 4xx 응답은 한도 조절에 쓰지 않는다.
+ * - http.server.concurrency.limit / inflight 게이지와 http.server.concurrency.rejected 카운터를 endpoint_class 태그로 기록한다.
+ * property.concurrency-limit.enabled=false 이면 제한하지 않는다.
+ */
+@Component
+public class ConcurrencyLimitInterceptor implements HandlerInterceptor {
+
+    private static final String PERMIT_ATTRIBUTE = ConcurrencyLimitInterceptor.class.getName() + ".permit";
+
+    private final boolean enabled;
+    private final Map<EndpointClass, AdaptiveConcurrencyLimiter> limiterByClass = new EnumMap<>(EndpointClass.class);
+    private final Map<EndpointClass, Counter> rejectedCounterByClass = new EnumMap<>(EndpointClass.class);
+
+    @Autowired
+    public ConcurrencyLimitInterceptor(MeterRegistry meterRegistry, Environment environment) {
+        this(meterRegistry,
+                environment.getProperty("property.concurrency-limit.enabled", Boolean.class, true),
+                endpointClass -> new AdaptiveConcurrencyLimiter(
+                        limitProperty(environment, endpointClass, "initial-limit", endpointClass.getInitialLimit()),
+                        limitProperty(environment, endpointClass, "min-limit", endpointClass.getMinLimit()),
+                        limitProperty(environment, endpointClass, "max-limit", endpointClass.getMaxLimit()),
+                        System::nanoTime));
+    }
+
+    ConcurrencyLimitInterceptor(MeterRegistry meterRegistry, boolean enabled, Function<EndpointClass, AdaptiveConcurrencyLimiter> limiterFactory) {
+        this.enabled = enabled;
+        for (EndpointClass endpointClass : EndpointClass.values()) {
+            AdaptiveConcurrencyLimiter limiter = limiterFactory.apply(endpointClass);
+            limiterByClass.put(endpointClass, limiter);
+            Gauge.builder("http.server.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                    .description("엔드포인트 분류별 동시 처리 한도")
+                    .tag("endpoint_class", endpointClass.getKey())
+                    .register(meterRegistry);
+            Gauge.builder("http.server.concurrency.inflight", limiter, AdaptiveConcurrencyLimiter::getInflight)
+                    .description("엔드포인트 분류별 처리 중인 요청 수")
+                    .tag("endpoint_class", endpointClass.getKey())
+                    .register(meterRegistry);
+            rejectedCounterByClass.put(endpointClass, Counter.builder("http.server.concurrency.rejected")
+                    .description("동시 처리 한도를 넘어 거절된 요청 수")
+                    .tag("endpoint_class", endpointClass.getKey())
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!enabled || !(handler instanceof HandlerMethod handlerMethod) || CorsUtils.isPreFlightRequest(request)) {
+            return true;
+        }
+        EndpointClass endpointClass = endpointClassOf(handlerMethod);
+        AdaptiveConcurrencyLimiter.Permit permit = limiterByClass.get(endpointClass).tryAcquire();
+        if (permit == null) {
+            rejectedCounterByClass.get(endpointClass).increment();
+            throw new ConcurrencyLimitException(endpointClass, "동시 처리 한도 초과. endpointClass : " + endpointClass.getKey());
+        }
+        request.setAttribute(PERMIT_ATTRIBUTE, permit);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!(request.getAttribute(PERMIT_ATTRIBUTE) instanceof AdaptiveConcurrencyLimiter.Permit permit)) {
+            return;
+        }
+        request.removeAttribute(PERMIT_ATTRIBUTE);
+        if (ex != null || response.getStatus() >= 500) {
+            permit.onFailure();
+        } else if (response.getStatus() >= 400) {
+            permit.onIgnore();
+        } else {
+            permit.onSuccess();
+        }
+    }
+
+    AdaptiveConcurrencyLimiter limiterOf(EndpointClass endpointClass) {
+        return limiterByClass.get(endpointClass);
+    }
+
+    private static EndpointClass endpointClassOf(HandlerMethod handlerMethod) {
+        Bulkhead bulkhead = handlerMethod.getMethodAnnotation(Bulkhead.class);
+        return bulkhead != null ? bulkhead.value() : EndpointClass.DEFAULT;
+    }
+
+    private static int limitProperty(Environment environment, EndpointClass endpointClass, String name, int defaultValue) {
+        return environment.getProperty("property.concurrency-limit." + endpointClass.getKey() + "." + name, Integer.class, defaultValue);
+    }
+}
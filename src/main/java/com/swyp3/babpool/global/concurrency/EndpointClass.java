@@ -0,0 +1,47 @@
+package com.swyp3.babpool.global.concurrency;
+
+/**
+ * 동시 처리 수를 따로 제한하는 엔드포인트 분류(bulkhead).
+ * 느린 외부 의존성을 가진 엔드포인트가 Tomcat 요청 처리 스레드를 모두 점유하지 않도록, 분류마다 별도의 상한을 둔다.
+ * 각 분류의 한도는 property.concurrency-limit.{key}.initial-limit / min-limit / max-limit 으로 바꿀 수 있다.
+ */
+public enum EndpointClass {
+
+    /** 카카오 OAuth 등 외부 인증 서버를 호출하는 엔드포인트 */
+    EXTERNAL_AUTH("external-auth", 10, 2, 20),
+    /** S3 로 이미지를 업로드하는 엔드포인트 */
+    IMAGE_UPLOAD("image-upload", 5, 1, 10),
+    /** 조건 검색과 페이징이 포함된 목록 조회 엔드포인트 */
+    SEARCH("search", 20, 4, 40),
+    /** 그 밖의 엔드포인트 */
+    DEFAULT("default", 50, 10, 150),
+    ;
+
+    private final String key;
+    private final int initialLimit;
+    private final int minLimit;
+    private final int maxLimit;
+
+    EndpointClass(String key, int initialLimit, int minLimit, int maxLimit) {
+        this.key = key;
+        this.initialLimit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public int getInitialLimit() {
+        return initialLimit;
+    }
+
+    public int getMinLimit() {
+        return minLimit;
+    }
+
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+}
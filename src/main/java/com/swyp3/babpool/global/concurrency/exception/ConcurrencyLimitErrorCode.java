@@ -0,0 +1,17 @@
+package com.swyp3.babpool.global.concurrency.exception;
+
+import com.swyp3.babpool.global.common.exception.errorcode.CustomErrorCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+
+@Getter
+@RequiredArgsConstructor
+public enum ConcurrencyLimitErrorCode implements CustomErrorCode {
+
+    CONCURRENCY_LIMIT_EXCEEDED(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    ;
+
+    private final HttpStatus httpStatus;
+    private final String message;
+}
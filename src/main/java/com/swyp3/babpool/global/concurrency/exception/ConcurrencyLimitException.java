@@ -0,0 +1,20 @@
+package com.swyp3.babpool.global.concurrency.exception;
+
+import com.swyp3.babpool.global.concurrency.EndpointClass;
+import lombok.Getter;
+
+/**
+ * 동시 처리 한도를 넘어 거절된 요청. 과부하 상황에서 자주 발생하므로 스택 트레이스를 만들지 않는다.
+ */
+@Getter
+public class ConcurrencyLimitException extends RuntimeException {
+
+    private final ConcurrencyLimitErrorCode concurrencyLimitErrorCode;
+    private final EndpointClass endpointClass;
+
+    public ConcurrencyLimitException(EndpointClass endpointClass, String message) {
+        super(message, null, false, false);
+        this.concurrencyLimitErrorCode = ConcurrencyLimitErrorCode.CONCURRENCY_LIMIT_EXCEEDED;
+        this.endpointClass = endpointClass;
+    }
+}
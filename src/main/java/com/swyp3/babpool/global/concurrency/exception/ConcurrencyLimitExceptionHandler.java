@@ -0,0 +1,29 @@
+package com.swyp3.babpool.global.concurrency.exception;
+
+import com.swyp3.babpool.global.common.response.ApiErrorResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+@Slf4j
+@RestControllerAdvice
+public class ConcurrencyLimitExceptionHandler {
+
+    private final String retryAfterSeconds;
+
+    public ConcurrencyLimitExceptionHandler(@Value("${property.concurrency-limit.retry-after-seconds:1}") int retryAfterSeconds) {
+        this.retryAfterSeconds = String.valueOf(retryAfterSeconds);
+    }
+
+    @ExceptionHandler
+    protected ResponseEntity<ApiErrorResponse> handleConcurrencyLimitException(ConcurrencyLimitException exception) {
+        log.debug("ConcurrencyLimitException endpointClass >> {}, message >> {}", exception.getEndpointClass(), exception.getMessage());
+        ConcurrencyLimitErrorCode errorCode = exception.getConcurrencyLimitErrorCode();
+        return ResponseEntity.status(errorCode.getHttpStatus())
+                .header(HttpHeaders.RETRY_AFTER, retryAfterSeconds)
+                .body(ApiErrorResponse.of(errorCode));
+    }
+}
@@ -0,0 +1,32 @@
+package com.swyp3.babpool.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.server.Compression;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.boot.web.servlet.server.ConfigurableServletWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * min-response-size-bytes 보다 큰 JSON 응답을 gzip 으로 압축한다. (Accept-Encoding: gzip 인 요청만, Vary 헤더는 Tomcat 이 추가한다)
+ * 프로필 목록, 밥약 목록처럼 반복되는 필드 이름과 URL 이 많은 응답은 크기가 크게 줄고, 작은 응답은 압축하지 않아 CPU 를 아낀다.
+ * Tomcat 은 brotli 를 지원하지 않으므로, brotli 는 앞단(CDN, 로드밸런서)에서 처리한다.
+ */
+@Configuration
+public class CompressionConfig {
+
+    @Bean
+    public WebServerFactoryCustomizer<ConfigurableServletWebServerFactory> responseCompressionCustomizer(
+            @Value("${property.compression.enabled:true}") boolean enabled,
+            @Value("${property.compression.min-response-size-bytes:2048}") long minResponseSizeBytes,
+            @Value("${property.compression.mime-types:application/json,application/problem+json,text/html,text/plain,text/css,application/javascript}") String[] mimeTypes) {
+        return factory -> {
+            Compression compression = new Compression();
+            compression.setEnabled(enabled);
+            compression.setMinResponseSize(DataSize.ofBytes(minResponseSizeBytes));
+            compression.setMimeTypes(mimeTypes);
+            factory.setCompression(compression);
+        };
+    }
+}
@@ -0,0 +1,23 @@
+package com.swyp3.babpool.global.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 응답 직렬화 설정. Spring Boot 는 Module 빈을 자동 구성된 ObjectMapper 에 등록한다.
+ * Blackbird 는 getter/setter/생성자 호출을 리플렉션 대신 LambdaMetafactory 로 만든 접근자로 바꾼다.
+ * 접근자를 만들 수 없는 타입(non-public 클래스 등)은 기존 리플렉션 방식으로 직렬화한다.
+ * Long 식별 값의 문자열 직렬화는 {@link ObjectMapperResolver.JsonResponseLongToString} 에서 한다.
+ */
+@Configuration
+public class JacksonConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "property.jackson.blackbird.enabled", havingValue = "true", matchIfMissing = true)
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+}
@@ -0,0 +1,42 @@
+package com.swyp3.babpool.global.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * property.datasource.log4jdbc.enabled=false 인 경우, 데이터소스 설정에서 log4jdbc 프록시 드라이버를 걷어낸다.
+ * - driver-class-name 이 DriverSpy 이면 URL 로부터 원래 드라이버를 찾도록 비운다.
+ * - jdbc:log4jdbc:mysql://... 형식의 URL 은 jdbc:mysql://... 로 바꾼다.
+ * SQL 실행 정보는 {@link com.swyp3.babpool.global.mybatis.StatementTimingInterceptor} 로 수집한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "property.datasource.log4jdbc.enabled", havingValue = "false")
+public class Log4jdbcDisablingPostProcessor implements BeanPostProcessor {
+
+    static final String LOG4JDBC_DRIVER = "net.sf.log4jdbc.sql.jdbcapi.DriverSpy";
+    static final String LOG4JDBC_URL_PREFIX = "jdbc:log4jdbc:";
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+        if (bean instanceof DataSourceProperties dataSourceProperties) {
+            unwrap(dataSourceProperties);
+        }
+        return bean;
+    }
+
+    static void unwrap(DataSourceProperties dataSourceProperties) {
+        if (LOG4JDBC_DRIVER.equals(dataSourceProperties.getDriverClassName())) {
+            dataSourceProperties.setDriverClassName(null);
+        }
+        String url = dataSourceProperties.getUrl();
+        if (url != null && url.startsWith(LOG4JDBC_URL_PREFIX)) {
+            dataSourceProperties.setUrl("jdbc:" + url.substring(LOG4JDBC_URL_PREFIX.length()));
+            log.info("Log4jdbcDisablingPostProcessor, log4jdbc 프록시 드라이버를 사용하지 않습니다.");
+        }
+    }
+}
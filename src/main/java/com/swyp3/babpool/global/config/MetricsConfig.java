@@ -0,0 +1,63 @@
+package com.swyp3.babpool.global.config;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.metrics.MeterRegistryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * 용량 산정을 위한 Micrometer 분포 설정.
+ * - http.server.requests : URI 템플릿별 percentile histogram 과 SLO 구간(property.metrics.http.slo-ms)
+ * - hikaricp.connections.acquire, mybatis.statement : 커넥션 대기와 SQL 실행 시간 histogram
+ * Hikari(hikaricp.connections.active/pending)와 Lettuce(lettuce.command.completion) 지표는 Spring Boot 가 등록하며,
+ * Tomcat 스레드와 STOMP 브로커 채널 지표는 {@link SaturationMetrics} 에서 등록한다.
+ */
+@Configuration
+public class MetricsConfig {
+
+    private static final Set<String> HISTOGRAM_METERS = Set.of("hikaricp.connections.acquire", "mybatis.statement");
+
+    /**
+     * Grafana 대시보드(monitoring/grafana)는 application 태그로 서비스를 구분한다.
+     */
+    @Bean
+    public MeterRegistryCustomizer<MeterRegistry> applicationTagCustomizer(@Value("${spring.application.name:babpool}") String applicationName) {
+        return registry -> registry.config().commonTags("application", applicationName);
+    }
+
+    @Bean
+    public MeterFilter latencyHistogramMeterFilter(@Value("${property.metrics.http.slo-ms:50,100,200,300,500,1000,2000}") long[] httpSloMillis) {
+        double[] httpSloNanos = Arrays.stream(httpSloMillis)
+                .mapToDouble(millis -> Duration.ofMillis(millis).toNanos())
+                .toArray();
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if ("http.server.requests".equals(id.getName())) {
+                    return DistributionStatisticConfig.builder()
+                            .percentilesHistogram(true)
+                            .serviceLevelObjectives(httpSloNanos)
+                            .minimumExpectedValue((double) Duration.ofMillis(5).toNanos())
+                            .maximumExpectedValue((double) Duration.ofSeconds(10).toNanos())
+                            .build()
+                            .merge(config);
+                }
+                if (HISTOGRAM_METERS.contains(id.getName())) {
+                    return DistributionStatisticConfig.builder()
+                            .percentilesHistogram(true)
+                            .build()
+                            .merge(config);
+                }
+                return config;
+            }
+        };
+    }
+}
@@ -0,0 +1,23 @@
+package com.swyp3.babpool.global.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.multipart.support.StandardServletMultipartResolver;
+import org.springframework.web.servlet.DispatcherServlet;
+
+/**
+ * multipart 요청 본문을 인터셉터 이후, 컨트롤러의 @RequestPart 인자를 만들 때 파싱한다.
+ * 기본 설정은 DispatcherServlet 이 인터셉터보다 먼저 업로드 파일을 모두 읽어서, IMAGE_UPLOAD 동시 처리 한도
+ * ({@link com.swyp3.babpool.global.concurrency.ConcurrencyLimitInterceptor})를 넘어 거절될 요청도 업로드를 끝까지 받고 임시 파일을 만든다.
+ * 크기 제한(spring.servlet.multipart.*)은 그대로 적용된다.
+ */
+@Configuration
+public class MultipartConfig {
+
+    @Bean(name = DispatcherServlet.MULTIPART_RESOLVER_BEAN_NAME)
+    public StandardServletMultipartResolver multipartResolver() {
+        StandardServletMultipartResolver multipartResolver = new StandardServletMultipartResolver();
+        multipartResolver.setResolveLazily(true);
+        return multipartResolver;
+    }
+}
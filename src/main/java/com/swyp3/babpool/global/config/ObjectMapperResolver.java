@@ -3,6 +3,7 @@ package com.swyp3.babpool.global.config;
 import com.fasterxml.jackson.core.JacksonException;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.io.NumberOutput;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonSerializer;
@@ -25,10 +26,22 @@ public class ObjectMapperResolver{
         }
     }
 
+    /**
+     * Long 식별 값을 JavaScript 에서 정밀도를 잃지 않도록 문자열로 내려준다.
+     * String 을 만들지 않고, 스레드별로 재사용하는 char 배열에 숫자를 바로 쓴 뒤 writeString 으로 출력한다.
+     * writeString 은 배열을 복사하므로 재사용해도 안전하고, raw 출력과 달리 convertValue(TokenBuffer)에서도 문자열 토큰으로 남는다.
+     */
     public static class JsonResponseLongToString extends JsonSerializer<Long> {
+
+        // 앞의 1칸은 비워두고(NumberOutput 의 offset), 부호 1 + 최대 19자리
+        private static final int MAX_LONG_LENGTH = 21;
+        private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[MAX_LONG_LENGTH]);
+
         @Override
         public void serialize(Long idLong, JsonGenerator jsonGenerator, SerializerProvider serializerProvider) throws IOException {
-            jsonGenerator.writeString(String.valueOf(idLong));
+            char[] buffer = BUFFER.get();
+            int end = NumberOutput.outputLong(idLong, buffer, 1);
+            jsonGenerator.writeString(buffer, 1, end - 1);
         }
     }
 }
@@ -0,0 +1,77 @@
+package com.swyp3.babpool.global.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.tomcat.util.threads.ThreadPoolExecutor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerInitializedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executor;
+
+/**
+ * CPU 포화와 풀 고갈을 구분하기 위한 게이지.
+ * - tomcat.executor.busy / current / max / queue : Tomcat 요청 처리 스레드 풀
+ * - websocket.broker.channel.active / queue : STOMP 클라이언트 inbound, outbound 채널 스레드 풀 (SimpleBroker)
+ * Tomcat 의 JMX 지표(tomcat.threads.*)는 mbeanregistry 설정이 필요하므로, 실행기에서 직접 값을 읽는다.
+ */
+@Slf4j
+@Component
+public class SaturationMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public SaturationMetrics(MeterRegistry meterRegistry,
+                             @Qualifier("clientInboundChannelExecutor") ObjectProvider<ThreadPoolTaskExecutor> clientInboundChannelExecutor,
+                             @Qualifier("clientOutboundChannelExecutor") ObjectProvider<ThreadPoolTaskExecutor> clientOutboundChannelExecutor) {
+        this(meterRegistry);
+        clientInboundChannelExecutor.ifAvailable(executor -> bindBrokerChannel("inbound", executor));
+        clientOutboundChannelExecutor.ifAvailable(executor -> bindBrokerChannel("outbound", executor));
+    }
+
+    SaturationMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @EventListener
+    public void bindTomcatExecutor(ServletWebServerInitializedEvent event) {
+        if (!(event.getWebServer() instanceof TomcatWebServer tomcatWebServer)) {
+            return;
+        }
+        Executor executor = tomcatWebServer.getTomcat().getConnector().getProtocolHandler().getExecutor();
+        if (!(executor instanceof ThreadPoolExecutor threadPoolExecutor)) {
+            log.info("SaturationMetrics.bindTomcatExecutor, 지원하지 않는 Tomcat 실행기 : {}", executor);
+            return;
+        }
+        Gauge.builder("tomcat.executor.busy", threadPoolExecutor, ThreadPoolExecutor::getActiveCount)
+                .description("요청을 처리 중인 Tomcat 스레드 수")
+                .register(meterRegistry);
+        Gauge.builder("tomcat.executor.current", threadPoolExecutor, ThreadPoolExecutor::getPoolSize)
+                .description("생성된 Tomcat 스레드 수")
+                .register(meterRegistry);
+        Gauge.builder("tomcat.executor.max", threadPoolExecutor, ThreadPoolExecutor::getMaximumPoolSize)
+                .description("Tomcat 최대 스레드 수")
+                .register(meterRegistry);
+        Gauge.builder("tomcat.executor.queue", threadPoolExecutor, pool -> pool.getQueue().size())
+                .description("스레드를 기다리는 요청 수")
+                .register(meterRegistry);
+    }
+
+    void bindBrokerChannel(String channel, ThreadPoolTaskExecutor executor) {
+        Gauge.builder("websocket.broker.channel.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("STOMP 채널 메시지를 처리 중인 스레드 수")
+                .tag("channel", channel)
+                .register(meterRegistry);
+        Gauge.builder("websocket.broker.channel.queue", executor, ThreadPoolTaskExecutor::getQueueSize)
+                .description("STOMP 채널에서 처리를 기다리는 메시지 수")
+                .tag("channel", channel)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,49 @@
+package com.swyp3.babpool.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * @Scheduled 작업을 성격별 스케줄러로 나눈다. 스프링 기본 스케줄러는 스레드가 1개라서, 오래 걸리는 작업이 다른 작업을 지연시킨다.
+ * - taskScheduler : scheduler 를 지정하지 않은 작업 (밥약 만료, 토큰 폐기 목록 동기화, 소셜 연결 끊기 등)
+ * - heartbeatTaskScheduler : 제때 실행되지 않으면 식별 값 충돌이나 오래된 replica 조회로 이어지는 짧은 작업 (TSID node 임대 연장, replica 지연 확인)
+ * - s3DeletionTaskScheduler : 외부 API 호출로 오래 걸릴 수 있는 S3 객체 삭제와 고아 객체 정리
+ */
+@Configuration
+public class SchedulingConfig {
+
+    public static final String HEARTBEAT_SCHEDULER = "heartbeatTaskScheduler";
+    public static final String S3_DELETION_SCHEDULER = "s3DeletionTaskScheduler";
+
+    /**
+     * ScheduledAnnotationBeanPostProcessor 는 TaskScheduler 빈이 여러 개이면 이름이 taskScheduler 인 빈을 기본으로 사용한다.
+     */
+    @Bean(name = "taskScheduler")
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${property.scheduling.pool-size:4}") int poolSize) {
+        return scheduler("scheduling-", poolSize);
+    }
+
+    @Bean(name = HEARTBEAT_SCHEDULER)
+    public ThreadPoolTaskScheduler heartbeatTaskScheduler() {
+        return scheduler("heartbeat-scheduling-", 1);
+    }
+
+    /**
+     * 고아 객체 정리가 오래 걸려도 삭제 대기열 처리가 멈추지 않도록 스레드를 2개 둔다.
+     */
+    @Bean(name = S3_DELETION_SCHEDULER)
+    public ThreadPoolTaskScheduler s3DeletionTaskScheduler() {
+        return scheduler("s3-deletion-scheduling-", 2);
+    }
+
+    private static ThreadPoolTaskScheduler scheduler(String threadNamePrefix, int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix(threadNamePrefix);
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(10);
+        return scheduler;
+    }
+}
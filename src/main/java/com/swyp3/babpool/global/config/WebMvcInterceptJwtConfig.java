@@ -1,8 +1,12 @@
 package com.swyp3.babpool.global.config;
 
+import com.swyp3.babpool.global.concurrency.ConcurrencyLimitInterceptor;
+import com.swyp3.babpool.global.datasource.ReadYourWritesInterceptor;
+import com.swyp3.babpool.global.mybatis.StatementBudgetInterceptor;
 import com.swyp3.babpool.global.swagger.SwaggerAccessInterceptor;
 import com.swyp3.babpool.global.jwt.JwtTokenInterceptor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
@@ -11,8 +15,11 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 @RequiredArgsConstructor
 public class WebMvcInterceptJwtConfig implements WebMvcConfigurer {
 
+    private final ConcurrencyLimitInterceptor concurrencyLimitInterceptor;
     private final JwtTokenInterceptor jwtTokenInterceptor;
     private final SwaggerAccessInterceptor swaggerAccessInterceptor;
+    private final StatementBudgetInterceptor statementBudgetInterceptor;
+    private final ObjectProvider<ReadYourWritesInterceptor> readYourWritesInterceptor;
     private static final String[] EXCLUDE_PATHS = {
         "/api/user/sign/in", "/api/user/sign/up", "/api/user/sign/out", "/api/token/access/refresh",
         "/api/profile/list"
@@ -28,12 +35,21 @@ public class WebMvcInterceptJwtConfig implements WebMvcConfigurer {
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(concurrencyLimitInterceptor)
+                .addPathPatterns("/api/**")
+                .excludePathPatterns(MONITORING);
         registry.addInterceptor(jwtTokenInterceptor)
                 .addPathPatterns("/api/**")
                 .excludePathPatterns(EXCLUDE_PATHS)
                 .excludePathPatterns(MONITORING)
                 .excludePathPatterns(TESTING);
+        readYourWritesInterceptor.ifAvailable(interceptor -> registry.addInterceptor(interceptor)
+                .addPathPatterns("/api/**")
+                .excludePathPatterns(MONITORING));
         registry.addInterceptor(swaggerAccessInterceptor)
                 .addPathPatterns("/swagger-ui.html", "/swagger-ui/**", "/v3/api-docs/**", "/docs/**");
+        registry.addInterceptor(statementBudgetInterceptor)
+                .addPathPatterns("/api/**")
+                .excludePathPatterns(MONITORING);
     }
 }
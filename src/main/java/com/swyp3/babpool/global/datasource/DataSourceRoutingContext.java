@@ -0,0 +1,25 @@
+package com.swyp3.babpool.global.datasource;
+
+/**
+ * 현재 스레드(요청)의 조회를 읽기 전용 트랜잭션이라도 primary 로 보내야 하는지를 담는다.
+ * 사용자가 방금 쓴 데이터를 복제 지연 없이 다시 읽도록(read-your-writes) {@link ReadYourWritesInterceptor} 가 설정한다.
+ */
+public final class DataSourceRoutingContext {
+
+    private static final ThreadLocal<Boolean> PINNED_TO_PRIMARY = new ThreadLocal<>();
+
+    private DataSourceRoutingContext() {
+    }
+
+    public static void pinToPrimary() {
+        PINNED_TO_PRIMARY.set(Boolean.TRUE);
+    }
+
+    public static boolean isPinnedToPrimary() {
+        return Boolean.TRUE.equals(PINNED_TO_PRIMARY.get());
+    }
+
+    public static void clear() {
+        PINNED_TO_PRIMARY.remove();
+    }
+}
@@ -0,0 +1,6 @@
+package com.swyp3.babpool.global.datasource;
+
+public enum DataSourceType {
+    PRIMARY,
+    REPLICA
+}
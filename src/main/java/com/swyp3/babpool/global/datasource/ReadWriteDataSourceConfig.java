@@ -0,0 +1,79 @@
+package com.swyp3.babpool.global.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * property.datasource.replica.enabled=true 일 때 primary, replica 두 개의 Hikari 풀을 만들고
+ * 읽기 전용 트랜잭션을 replica 로 보내는 {@link ReadWriteRoutingDataSource} 를 기본 DataSource 로 등록한다.
+ * 풀 이름(primary, replica)이 hikaricp.connections.* 지표의 pool 태그가 되어 두 풀을 따로 관찰할 수 있다.
+ * 설정이 없으면 기존처럼 spring.datasource 의 단일 풀을 사용한다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "property.datasource.replica.enabled", havingValue = "true")
+public class ReadWriteDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("property.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties dataSourceProperties,
+                                              @Value("${property.datasource.replica.url}") String url,
+                                              @Value("${property.datasource.replica.username:${spring.datasource.username:}}") String username,
+                                              @Value("${property.datasource.replica.password:${spring.datasource.password:}}") String password) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setDriverClassName(dataSourceProperties.determineDriverClassName());
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        dataSource.setReadOnly(true);
+        dataSource.setPoolName("replica");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                               @Value("${property.datasource.replica.max-lag-seconds:3}") long maxLagSeconds,
+                                               @Value("${property.datasource.replica.lag-check-interval-ms:5000}") long checkIntervalMillis,
+                                               MeterRegistry meterRegistry) {
+        return new ReplicaLagMonitor(replicaDataSource, Duration.ofSeconds(maxLagSeconds), Duration.ofMillis(checkIntervalMillis), meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReplicaLagMonitor replicaLagMonitor) {
+        return new ReadWriteRoutingDataSource(primaryDataSource, replicaDataSource, replicaLagMonitor::isReplicaAvailable).lazy();
+    }
+
+    @Bean
+    public RecentWriteRegistry recentWriteRegistry(@Value("${property.datasource.replica.read-your-writes-window-ms:5000}") long windowMillis) {
+        return new RecentWriteRegistry(Duration.ofMillis(windowMillis), Clock.systemUTC());
+    }
+
+    @Bean
+    public ReadYourWritesInterceptor readYourWritesInterceptor(RecentWriteRegistry recentWriteRegistry) {
+        return new ReadYourWritesInterceptor(recentWriteRegistry);
+    }
+}
@@ -0,0 +1,50 @@
+package com.swyp3.babpool.global.datasource;
+
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+/**
+ * {@code @Transactional(readOnly = true)} 트랜잭션의 조회를 replica 로, 나머지는 primary 로 보낸다.
+ * 다음의 경우에는 읽기 전용 트랜잭션이라도 primary 를 사용한다.
+ * - 트랜잭션 밖의 조회 (읽기 전용 여부를 알 수 없다)
+ * - 사용자가 방금 데이터를 변경하여 {@link DataSourceRoutingContext} 가 primary 로 고정된 요청
+ * - replica 의 복제 지연이 허용 범위를 넘었거나 확인할 수 없을 때 ({@link ReplicaLagMonitor})
+ * 트랜잭션 시작 시점에는 읽기 전용 여부가 아직 동기화되지 않으므로, 반드시 {@link #lazy()} 로 감싸서 사용한다.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final BooleanSupplier replicaAvailable;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, BooleanSupplier replicaAvailable) {
+        this.replicaAvailable = replicaAvailable;
+        setTargetDataSources(Map.of(DataSourceType.PRIMARY, primary, DataSourceType.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    /**
+     * 첫 SQL 을 실행할 때 커넥션을 얻도록 감싼다.
+     */
+    public DataSource lazy() {
+        return new LazyConnectionDataSourceProxy(this);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return currentType();
+    }
+
+    DataSourceType currentType() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && !DataSourceRoutingContext.isPinnedToPrimary()
+                && replicaAvailable.getAsBoolean()) {
+            return DataSourceType.REPLICA;
+        }
+        return DataSourceType.PRIMARY;
+    }
+}
@@ -0,0 +1,50 @@
+package com.swyp3.babpool.global.datasource;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.Set;
+
+/**
+ * 데이터를 변경하는 요청(POST, PUT, PATCH, DELETE)을 보낸 사용자를 {@link RecentWriteRegistry} 에 기록하고,
+ * 기록이 남아있는 동안 그 사용자의 요청은 {@link DataSourceRoutingContext} 로 primary 에 고정한다.
+ * 응답이 afterCompletion 보다 먼저 전달될 수 있으므로, 요청 시작과 완료 시점에 모두 기록한다.
+ * 사용자 식별 값은 JwtTokenInterceptor 가 넣은 userId 요청 속성을 사용하므로, 그 뒤에 등록한다.
+ */
+public class ReadYourWritesInterceptor implements HandlerInterceptor {
+
+    private static final Set<String> WRITE_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+
+    private final RecentWriteRegistry recentWriteRegistry;
+
+    public ReadYourWritesInterceptor(RecentWriteRegistry recentWriteRegistry) {
+        this.recentWriteRegistry = recentWriteRegistry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(request.getAttribute("userId") instanceof Long userId)) {
+            return true;
+        }
+        if (isWrite(request)) {
+            recentWriteRegistry.markWritten(userId);
+        }
+        if (recentWriteRegistry.wroteRecently(userId)) {
+            DataSourceRoutingContext.pinToPrimary();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        DataSourceRoutingContext.clear();
+        if (isWrite(request) && request.getAttribute("userId") instanceof Long userId) {
+            recentWriteRegistry.markWritten(userId);
+        }
+    }
+
+    private static boolean isWrite(HttpServletRequest request) {
+        return WRITE_METHODS.contains(request.getMethod());
+    }
+}
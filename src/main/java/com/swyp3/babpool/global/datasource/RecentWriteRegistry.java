@@ -0,0 +1,44 @@
+package com.swyp3.babpool.global.datasource;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 데이터를 변경한 사용자를 일정 시간(window) 동안 기억한다. 그동안 그 사용자의 조회는 primary 로 보낸다.
+ * window 는 replica 의 허용 복제 지연보다 길게 설정한다.
+ */
+public class RecentWriteRegistry {
+
+    private static final int CLEANUP_THRESHOLD = 10_000;
+
+    private final long windowMillis;
+    private final Clock clock;
+    private final Map<Long, Long> expiresAtByUserId = new ConcurrentHashMap<>();
+
+    public RecentWriteRegistry(Duration window, Clock clock) {
+        this.windowMillis = window.toMillis();
+        this.clock = clock;
+    }
+
+    public void markWritten(Long userId) {
+        long now = clock.millis();
+        expiresAtByUserId.put(userId, now + windowMillis);
+        if (expiresAtByUserId.size() > CLEANUP_THRESHOLD) {
+            expiresAtByUserId.values().removeIf(expiresAt -> expiresAt <= now);
+        }
+    }
+
+    public boolean wroteRecently(Long userId) {
+        Long expiresAt = expiresAtByUserId.get(userId);
+        if (expiresAt == null) {
+            return false;
+        }
+        if (expiresAt <= clock.millis()) {
+            expiresAtByUserId.remove(userId, expiresAt);
+            return false;
+        }
+        return true;
+    }
+}
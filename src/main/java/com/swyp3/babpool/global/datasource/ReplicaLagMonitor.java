@@ -0,0 +1,99 @@
+package com.swyp3.babpool.global.datasource;
+
+import com.swyp3.babpool.global.config.SchedulingConfig;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * replica 의 복제 지연을 주기적으로 확인하여, 허용 범위(maxLag)를 넘으면 읽기 전용 조회를 primary 로 돌린다.
+ * - SHOW REPLICA STATUS 결과가 없으면 복제 설정이 없는 것으로 보고 지연을 0 으로 본다.
+ * - 복제가 멈춰 지연 값이 NULL 이거나 조회에 실패하면 replica 를 사용하지 않는다.
+ * - 첫 확인 전이나, 스케줄러가 밀려 마지막 확인이 확인 주기의 2배보다 오래되었으면 replica 를 사용하지 않는다.
+ * - datasource.replica.lag (초), datasource.replica.available (0/1) 게이지를 등록한다.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final DataSource replica;
+    private final long maxLagSeconds;
+    private final long staleAfterMillis;
+    private final Clock clock;
+    private volatile long lagSeconds = -1L;
+    private volatile boolean replicaAvailable = false;
+    private volatile long lastCheckedAtMillis = 0L;
+
+    public ReplicaLagMonitor(DataSource replica, Duration maxLag, Duration checkInterval, MeterRegistry meterRegistry) {
+        this(replica, maxLag, checkInterval, meterRegistry, Clock.systemUTC());
+    }
+
+    ReplicaLagMonitor(DataSource replica, Duration maxLag, Duration checkInterval, MeterRegistry meterRegistry, Clock clock) {
+        this.replica = replica;
+        this.maxLagSeconds = maxLag.toSeconds();
+        this.staleAfterMillis = checkInterval.multipliedBy(2).toMillis();
+        this.clock = clock;
+        Gauge.builder("datasource.replica.lag", this, monitor -> monitor.lagSeconds)
+                .description("replica 복제 지연 (초)")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("datasource.replica.available", this, monitor -> monitor.isReplicaAvailable() ? 1 : 0)
+                .description("읽기 전용 조회를 replica 로 보내는지 여부")
+                .register(meterRegistry);
+    }
+
+    public boolean isReplicaAvailable() {
+        return replicaAvailable && clock.millis() - lastCheckedAtMillis <= staleAfterMillis;
+    }
+
+    @Scheduled(fixedDelayString = "${property.datasource.replica.lag-check-interval-ms:5000}", scheduler = SchedulingConfig.HEARTBEAT_SCHEDULER)
+    public void refresh() {
+        Long lag;
+        try {
+            lag = readLagSeconds();
+        } catch (SQLException e) {
+            log.warn("ReplicaLagMonitor.refresh, replica 상태 조회 실패 : {}", e.getMessage());
+            lag = null;
+        }
+        update(lag);
+    }
+
+    void update(Long lag) {
+        boolean available = lag != null && lag <= maxLagSeconds;
+        if (available != replicaAvailable) {
+            log.info("ReplicaLagMonitor.update, replica 사용 여부 변경 : {} (lag : {}s, max : {}s)", available, lag, maxLagSeconds);
+        }
+        lagSeconds = lag == null ? -1L : lag;
+        replicaAvailable = available;
+        lastCheckedAtMillis = clock.millis();
+    }
+
+    private Long readLagSeconds() throws SQLException {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SHOW REPLICA STATUS")) {
+            if (!resultSet.next()) {
+                return 0L;
+            }
+            long lag = resultSet.getLong(lagColumn(resultSet));
+            return resultSet.wasNull() ? null : lag;
+        }
+    }
+
+    private static String lagColumn(ResultSet resultSet) throws SQLException {
+        for (int column = 1; column <= resultSet.getMetaData().getColumnCount(); column++) {
+            if ("Seconds_Behind_Source".equalsIgnoreCase(resultSet.getMetaData().getColumnLabel(column))) {
+                return "Seconds_Behind_Source";
+            }
+        }
+        return "Seconds_Behind_Master";
+    }
+}
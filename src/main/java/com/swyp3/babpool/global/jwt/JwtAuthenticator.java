@@ -1,26 +1,42 @@
 package com.swyp3.babpool.global.jwt;
 
 import io.jsonwebtoken.Claims;
-import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
 /**
  * JWT Tokenizer를 통해 토큰을 파싱하고, 클레임을 반환한다.
  * [240719] UUID를 사용하지 않게 되어, 관련 메서드 주석 처리.
+ * 검증을 통과한 Access Token 은 {@link VerifiedTokenCache} 에 보관하여, 만료 전까지 재검증하지 않는다.
  */
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticator {
 
     private final JwtTokenizer jwtTokenizer;
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    public JwtAuthenticator(JwtTokenizer jwtTokenizer, VerifiedTokenCache verifiedTokenCache) {
+        this.jwtTokenizer = jwtTokenizer;
+        this.verifiedTokenCache = verifiedTokenCache;
+    }
 
     /**
      * Access Token을 검증하고, 클레임을 반환한다.
+     * 캐시에 없거나 만료된 토큰은 서명을 검증하며, 검증 실패 시 jjwt 예외가 그대로 전파된다.
      * @param accessToken
      * @return
      */
     public Claims authenticate(String accessToken) {
-        return jwtTokenizer.parseAccessToken(accessToken);
+        if (!StringUtils.hasText(accessToken)) {
+            return jwtTokenizer.parseAccessToken(accessToken);
+        }
+        Claims cachedClaims = verifiedTokenCache.get(accessToken);
+        if (cachedClaims != null) {
+            return cachedClaims;
+        }
+        Claims claims = jwtTokenizer.parseAccessToken(accessToken);
+        verifiedTokenCache.put(accessToken, claims);
+        return claims;
     }
 
 //    public Long jwtTokenUserUuidToUserIdResolver(String userUuid) {
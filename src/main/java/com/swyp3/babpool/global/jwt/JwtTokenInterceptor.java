@@ -2,6 +2,7 @@ package com.swyp3.babpool.global.jwt;
 
 import com.swyp3.babpool.global.jwt.exception.BadCredentialsException;
 import com.swyp3.babpool.global.jwt.exception.errorcode.JwtExceptionErrorCode;
+import com.swyp3.babpool.global.jwt.revocation.AccessTokenRevocationList;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
@@ -27,6 +28,7 @@ import org.springframework.web.servlet.HandlerInterceptor;
 public class JwtTokenInterceptor implements HandlerInterceptor {
 
     private final JwtAuthenticator jwtAuthenticator;
+    private final AccessTokenRevocationList accessTokenRevocationList;
     public static final String AUTHORIZATION = "Authorization";
     public static final String BEARER = "Bearer";
 
@@ -72,6 +74,10 @@ public class JwtTokenInterceptor implements HandlerInterceptor {
             log.error("====================================================");
             throw new BadCredentialsException(JwtExceptionErrorCode.NOT_FOUND_TOKEN, "throw new exception");
         }
+        if (authenticatedClaims != null && accessTokenRevocationList.isRevoked(authenticatedClaims.getId())) {
+            log.error("Revoked Token // token : {}", accessToken);
+            throw new BadCredentialsException(JwtExceptionErrorCode.REVOKED_TOKEN, "throw new revoked token exception");
+        }
         return true;
     }
 
@@ -1,6 +1,7 @@
 package com.swyp3.babpool.global.jwt;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
@@ -10,6 +11,7 @@ import org.springframework.stereotype.Component;
 import java.security.Key;
 import java.util.Date;
 import java.util.List;
+import java.util.UUID;
 
 /**@apiNote JwtTokenizer is a class that provides a token for the user.
  * This class is used to create, validate, and (extract information) from the JWT token.
@@ -18,53 +20,63 @@ import java.util.List;
 @Component
 public class JwtTokenizer {
 
-    private final byte[] accessSecret;
-    private final byte[] refreshSecret;
+    private final Key accessKey;
+    private final Key refreshKey;
+    // JwtParser 는 불변이고 thread-safe 하므로, 요청마다 생성하지 않고 기동 시 한 번만 만든다.
+    private final JwtParser accessParser;
+    private final JwtParser refreshParser;
 
     public final static Long ACCESS_TOKEN_EXPIRE_COUNT = 15 * 60 * 1000L; // 15 minutes
     public final static Long ACCESS_TOKEN_EXPIRE_COUNT_ADMIN = 7 * 24 * 60 * 60 * 1000L; // 7 day
     public final static Long REFRESH_TOKEN_EXPIRE_COUNT = 7 * 24 * 60 * 60 * 1000L; // 7 days
 
     public JwtTokenizer(@Value("${property.jwt.secretKey}") String accessSecret, @Value("${property.jwt.refreshKey}") String refreshSecret) {
-        this.accessSecret = accessSecret.getBytes();
-        this.refreshSecret = refreshSecret.getBytes();
+        this.accessKey = getSigningKey(accessSecret.getBytes());
+        this.refreshKey = getSigningKey(refreshSecret.getBytes());
+        this.accessParser = Jwts.parserBuilder().setSigningKey(accessKey).build();
+        this.refreshParser = Jwts.parserBuilder().setSigningKey(refreshKey).build();
     }
 
 
     public String createAccessToken(Long userId, List<String> roles) {
-        return createToken(userId, roles, ACCESS_TOKEN_EXPIRE_COUNT, accessSecret);
+        return createToken(userId, roles, ACCESS_TOKEN_EXPIRE_COUNT, accessKey);
     }
 
     public String createAccessTokenAdmin(Long userId, List<String> roles) {
-        return createToken(userId, roles, ACCESS_TOKEN_EXPIRE_COUNT_ADMIN, accessSecret);
+        return createToken(userId, roles, ACCESS_TOKEN_EXPIRE_COUNT_ADMIN, accessKey);
     }
 
 
     public String createRefreshToken(Long userId, List<String> roles) {
-        return createToken(userId, roles, REFRESH_TOKEN_EXPIRE_COUNT, refreshSecret);
+        return createToken(userId, roles, REFRESH_TOKEN_EXPIRE_COUNT, refreshKey);
     }
 
 
-    private String createToken(Long userId, List<String> roles, Long expire, byte[] secretKey) {
+    private String createToken(Long userId, List<String> roles, Long expire, Key signingKey) {
         Claims claims = Jwts.claims().setSubject(String.valueOf(userId));
         claims.put("roles", roles);
 
         return Jwts.builder()
                 .setClaims(claims)
+                .setId(UUID.randomUUID().toString())
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(new Date().getTime() + expire))
-                .signWith(getSigningKey(secretKey))
+                .signWith(signingKey)
                 .compact();
     }
 
     public Claims parseAccessToken(String accessToken) {
-        return parseToken(accessToken, accessSecret);
+        return accessParser.parseClaimsJws(accessToken).getBody();
     }
 
     public Claims parseRefreshToken(String refreshToken) {
-        return parseToken(refreshToken, refreshSecret);
+        return refreshParser.parseClaimsJws(refreshToken).getBody();
     }
 
+    /**
+     * 임의의 Secret 으로 토큰을 파싱한다. 호출마다 Key 와 JwtParser 를 새로 만들기 때문에,
+     * Access/Refresh Token 검증에는 {@link #parseAccessToken(String)}, {@link #parseRefreshToken(String)} 을 사용한다.
+     */
     public Claims parseToken(String token, byte[] secretKey) {
         return Jwts.parserBuilder()
                 .setSigningKey(getSigningKey(secretKey))
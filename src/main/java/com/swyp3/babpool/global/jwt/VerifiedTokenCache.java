@@ -0,0 +1,128 @@
+package com.swyp3.babpool.global.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 서명 검증을 통과한 Access Token 의 jti, subject, roles, 만료 시각을 보관한다.
+ * 같은 토큰으로 여러 API 를 호출하는 경우, 만료 전까지는 HMAC 검증과 JSON 파싱을 다시 하지 않는다.
+ * - 키는 토큰 원문이 아닌 SHA-256 digest 를 사용한다.
+ * - 만료된 항목은 조회 시 제거하고, 원래의 파싱 경로로 넘겨 ExpiredJwtException 이 발생하도록 한다.
+ * - 최대 크기에 도달하면 만료된 항목을 먼저 정리하고, 그래도 가득 차 있으면 전체를 비운다.
+ */
+@Slf4j
+@Component
+public class VerifiedTokenCache {
+
+    public static final int DEFAULT_MAX_SIZE = 10_000;
+
+    private final int maxSize;
+    private final Clock clock;
+    private final Map<String, VerifiedToken> verifiedTokens = new ConcurrentHashMap<>();
+
+    @Autowired
+    public VerifiedTokenCache(@Value("${property.jwt.verified-cache.max-size:10000}") int maxSize) {
+        this(maxSize, Clock.systemUTC());
+    }
+
+    VerifiedTokenCache(int maxSize, Clock clock) {
+        this.maxSize = maxSize;
+        this.clock = clock;
+    }
+
+    /**
+     * @param token Access Token 원문
+     * @return 검증된 토큰의 클레임, 캐시에 없거나 만료된 경우 null
+     */
+    public Claims get(String token) {
+        String digest = digestOf(token);
+        VerifiedToken verifiedToken = verifiedTokens.get(digest);
+        if (verifiedToken == null) {
+            return null;
+        }
+        if (verifiedToken.isExpiredAt(clock.millis())) {
+            verifiedTokens.remove(digest, verifiedToken);
+            return null;
+        }
+        return verifiedToken.toClaims();
+    }
+
+    /**
+     * 서명 검증을 통과한 토큰을 저장한다. 만료 시각이 없는 토큰은 저장하지 않는다.
+     */
+    public void put(String token, Claims claims) {
+        Date expiration = claims.getExpiration();
+        if (expiration == null) {
+            return;
+        }
+        if (verifiedTokens.size() >= maxSize) {
+            evict();
+        }
+        verifiedTokens.put(digestOf(token), new VerifiedToken(claims.getId(), claims.getSubject(),
+                claims.get("roles", List.class), expiration.getTime()));
+    }
+
+    public int size() {
+        return verifiedTokens.size();
+    }
+
+    private void evict() {
+        long now = clock.millis();
+        verifiedTokens.values().removeIf(verifiedToken -> verifiedToken.isExpiredAt(now));
+        if (verifiedTokens.size() >= maxSize) {
+            log.info("VerifiedTokenCache.evict, 최대 크기({}) 초과로 캐시를 비웁니다.", maxSize);
+            verifiedTokens.clear();
+        }
+    }
+
+    private static String digestOf(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private static final class VerifiedToken {
+
+        private final String id;
+        private final String subject;
+        private final List<?> roles;
+        private final long expiresAtMillis;
+
+        private VerifiedToken(String id, String subject, List<?> roles, long expiresAtMillis) {
+            this.id = id;
+            this.subject = subject;
+            this.roles = roles == null ? null : List.copyOf(roles);
+            this.expiresAtMillis = expiresAtMillis;
+        }
+
+        private boolean isExpiredAt(long nowMillis) {
+            return nowMillis >= expiresAtMillis;
+        }
+
+        private Claims toClaims() {
+            Claims claims = Jwts.claims()
+                    .setId(id)
+                    .setSubject(subject)
+                    .setExpiration(new Date(expiresAtMillis));
+            claims.put("roles", roles);
+            return claims;
+        }
+    }
+}
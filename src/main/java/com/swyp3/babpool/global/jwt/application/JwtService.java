@@ -13,4 +13,8 @@ public interface JwtService {
     String extendLoginState(String refreshToken);
 
     void logout(String refreshToken);
+
+    void logoutAllDevices(Long userId);
+
+    void revokeAccessToken(String accessToken);
 }
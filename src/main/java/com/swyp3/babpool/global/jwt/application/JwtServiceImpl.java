@@ -5,24 +5,28 @@ import com.swyp3.babpool.global.jwt.JwtTokenizer;
 import com.swyp3.babpool.global.jwt.application.response.JwtPairDto;
 import com.swyp3.babpool.global.jwt.exception.BabpoolJwtException;
 import com.swyp3.babpool.global.jwt.exception.errorcode.JwtExceptionErrorCode;
-import com.swyp3.babpool.infra.redis.dao.TokenRedisRepository;
-import com.swyp3.babpool.infra.redis.domain.TokenForRedis;
+import com.swyp3.babpool.global.jwt.revocation.AccessTokenRevocationList;
+import com.swyp3.babpool.infra.redis.dao.RefreshTokenStore;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 
+import java.time.Duration;
 import java.util.List;
-import java.util.Optional;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class JwtServiceImpl implements JwtService{
 
-    private final TokenRedisRepository tokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
     private final JwtTokenizer jwtTokenizer;
+    private final AccessTokenRevocationList accessTokenRevocationList;
 
     @Value("${property.jwt.refreshTokenExpireDays}")
     private Integer refreshExpire;
@@ -36,11 +40,7 @@ public class JwtServiceImpl implements JwtService{
                 .accessToken(jwtTokenizer.createAccessToken(userId, roles))
                 .refreshToken(jwtTokenizer.createRefreshToken(userId, roles))
                 .build();
-        tokenRepository.save(TokenForRedis.builder()
-                .refreshToken(jwtPairDto.getRefreshToken())
-                .refreshExpire(refreshExpire)
-                .userId(userId)
-                .build());
+        refreshTokenStore.save(jwtPairDto.getRefreshToken(), userId, Duration.ofDays(refreshExpire));
         return jwtPairDto;
     }
 
@@ -50,24 +50,20 @@ public class JwtServiceImpl implements JwtService{
                 .accessToken(jwtTokenizer.createAccessTokenAdmin(userId, roles))
                 .refreshToken(jwtTokenizer.createRefreshToken(userId, roles))
                 .build();
-        tokenRepository.save(TokenForRedis.builder()
-                .refreshToken(jwtPairDto.getRefreshToken())
-                .refreshExpire(refreshExpire)
-                .userId(userId)
-                .build());
+        refreshTokenStore.save(jwtPairDto.getRefreshToken(), userId, Duration.ofDays(refreshExpire));
         return jwtPairDto;
     }
 
     @Override
     public String extendLoginState(String refreshToken) {
-        TokenForRedis tokenObject = tokenRepository.findById(refreshToken)
+        Long savedUserId = refreshTokenStore.findUserId(refreshToken)
                 .orElseThrow(() -> new BabpoolJwtException(JwtExceptionErrorCode.REFRESH_TOKEN_NOT_FOUND,
                         "refresh token not found in redis, while extending login state."));
 
         Claims claims = jwtTokenizer.parseRefreshToken(refreshToken);
         Long userId = Long.valueOf(claims.getSubject());
 
-        if (!tokenObject.getUserId().equals(userId)) {
+        if (!savedUserId.equals(userId)) {
             throw new BabpoolJwtException(JwtExceptionErrorCode.REFRESH_TOKEN_NOT_SAME_USER,
                     "user uuid in request refresh token and redis refresh token are not same, while extending login state.");
         }
@@ -77,11 +73,33 @@ public class JwtServiceImpl implements JwtService{
 
     @Override
     public void logout(String refreshTokenFromCookie) {
-        Optional<TokenForRedis> tokenForRedisOptional = tokenRepository.findById(refreshTokenFromCookie);
-        if (tokenForRedisOptional.isPresent()) {
-            tokenRepository.deleteById(refreshTokenFromCookie);
-        }else{
+        if (!refreshTokenStore.delete(refreshTokenFromCookie)) {
             log.error("refresh token not found in redis, while logout. token : {}", refreshTokenFromCookie);
         }
     }
+
+    @Override
+    public void logoutAllDevices(Long userId) {
+        int deletedCount = refreshTokenStore.deleteAllByUserId(userId);
+        log.info("logout all devices. userId : {}, deleted refresh token count : {}", userId, deletedCount);
+    }
+
+    /**
+     * Access Token 을 남은 유효 시간 동안 폐기 목록에 등록한다.
+     * 이미 만료되었거나 검증할 수 없는 토큰은 인증에 사용될 수 없으므로 등록하지 않는다.
+     */
+    @Override
+    public void revokeAccessToken(String accessToken) {
+        if (!StringUtils.hasText(accessToken)) {
+            return;
+        }
+        try {
+            Claims claims = jwtTokenizer.parseAccessToken(accessToken);
+            accessTokenRevocationList.revoke(claims.getId(), claims.getExpiration());
+        } catch (ExpiredJwtException e) {
+            log.debug("access token already expired, while revoking access token.");
+        } catch (JwtException | IllegalArgumentException e) {
+            log.error("invalid access token, while revoking access token. message : {}", e.getMessage());
+        }
+    }
 }
@@ -16,7 +16,8 @@ public enum JwtExceptionErrorCode implements CustomErrorCode {
     NOT_FOUND_TOKEN(HttpStatus.UNAUTHORIZED, "Headers에서 토큰 형식의 값을 찾을 수 없음"),
     INVALID_TOKEN(HttpStatus.UNAUTHORIZED, "유효하지 않은 토큰"),
     EXPIRED_TOKEN(HttpStatus.UNAUTHORIZED, "기간이 만료된 토큰"),
-    UNSUPPORTED_TOKEN(HttpStatus.UNAUTHORIZED, "지원하지 않는 토큰");
+    UNSUPPORTED_TOKEN(HttpStatus.UNAUTHORIZED, "지원하지 않는 토큰"),
+    REVOKED_TOKEN(HttpStatus.UNAUTHORIZED, "로그아웃 등으로 폐기된 토큰");
 
     private final HttpStatus httpStatus;
     private final String message;
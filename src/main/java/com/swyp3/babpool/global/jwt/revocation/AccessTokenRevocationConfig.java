@@ -0,0 +1,23 @@
+package com.swyp3.babpool.global.jwt.revocation;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * 다른 서버에서 발행한 Access Token 폐기 이벤트를 구독한다.
+ */
+@Configuration
+public class AccessTokenRevocationConfig {
+
+    @Bean
+    public RedisMessageListenerContainer accessTokenRevocationListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                               AccessTokenRevocationList accessTokenRevocationList) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(accessTokenRevocationList, new ChannelTopic(AccessTokenRevocationList.CHANNEL));
+        return container;
+    }
+}
@@ -0,0 +1,162 @@
+package com.swyp3.babpool.global.jwt.revocation;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 로그아웃 등으로 폐기된 Access Token 의 식별 값(jti)을 관리한다.
+ * - Redis : revoked-access-token:{jti} 키를 토큰의 남은 유효 시간만큼 TTL 로 저장한다.
+ * - 각 서버 : Bloom filter 와 jti -> 만료 시각 집합을 메모리에 유지하고, 폐기 이벤트를 pub/sub 으로 전달받아 갱신한다.
+ * 요청마다 Redis 를 조회하지 않고 메모리에서만 폐기 여부를 확인한다.
+ * pub/sub 메시지가 유실되는 경우를 대비해, 주기적으로 Redis 의 키를 다시 읽어 메모리 상태를 맞춘다.
+ */
+@Slf4j
+@Component
+public class AccessTokenRevocationList implements MessageListener {
+
+    public static final String CHANNEL = "revoked-access-token";
+    static final String KEY_PREFIX = "revoked-access-token:";
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final int expectedTokens;
+    private final Clock clock;
+
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+    private volatile RevokedTokenBloomFilter bloomFilter;
+
+    @Autowired
+    public AccessTokenRevocationList(StringRedisTemplate stringRedisTemplate,
+                                     @Value("${property.jwt.revocation.expected-tokens:100000}") int expectedTokens) {
+        this(stringRedisTemplate, expectedTokens, Clock.systemUTC());
+    }
+
+    AccessTokenRevocationList(StringRedisTemplate stringRedisTemplate, int expectedTokens, Clock clock) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.expectedTokens = expectedTokens;
+        this.clock = clock;
+        this.bloomFilter = new RevokedTokenBloomFilter(expectedTokens, FALSE_POSITIVE_RATE);
+    }
+
+    @PostConstruct
+    public void init() {
+        try {
+            synchronize();
+        } catch (Exception e) {
+            log.error("AccessTokenRevocationList.init, 폐기된 토큰 목록을 불러오지 못했습니다. {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 토큰을 폐기한다. 이미 만료된 토큰은 기록하지 않는다.
+     * @param tokenId 토큰 식별 값(jti)
+     * @param expiration 토큰 만료 시각
+     */
+    public void revoke(String tokenId, Date expiration) {
+        if (tokenId == null || expiration == null) {
+            return;
+        }
+        long expiresAtMillis = expiration.getTime();
+        long remainingMillis = expiresAtMillis - clock.millis();
+        if (remainingMillis <= 0) {
+            return;
+        }
+        stringRedisTemplate.opsForValue().set(KEY_PREFIX + tokenId, "1", Duration.ofMillis(remainingMillis));
+        stringRedisTemplate.convertAndSend(CHANNEL, tokenId + ":" + expiresAtMillis);
+        add(tokenId, expiresAtMillis);
+    }
+
+    /**
+     * 메모리에서만 폐기 여부를 확인한다.
+     * @param tokenId 토큰 식별 값(jti), jti 가 없는 이전 토큰은 null
+     */
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null || !bloomFilter.mightContain(tokenId)) {
+            return false;
+        }
+        Long expiresAtMillis = revokedTokens.get(tokenId);
+        return expiresAtMillis != null && expiresAtMillis > clock.millis();
+    }
+
+    public int size() {
+        return revokedTokens.size();
+    }
+
+    /**
+     * 다른 서버에서 발행한 폐기 이벤트를 반영한다. 메시지 형식 : {jti}:{만료 시각 epoch millis}
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf(':');
+        if (separator <= 0) {
+            log.warn("AccessTokenRevocationList.onMessage, 잘못된 메시지 형식입니다. message : {}", body);
+            return;
+        }
+        try {
+            add(body.substring(0, separator), Long.parseLong(body.substring(separator + 1)));
+        } catch (NumberFormatException e) {
+            log.warn("AccessTokenRevocationList.onMessage, 잘못된 메시지 형식입니다. message : {}", body);
+        }
+    }
+
+    /**
+     * Redis 에 저장된 폐기 목록을 다시 읽어 메모리 상태에 합치고, 만료된 항목을 제외한 Bloom filter 로 교체한다.
+     */
+    @Scheduled(fixedDelayString = "${property.jwt.revocation.sync-interval-ms:60000}", initialDelay = 1000 * 60)
+    public void synchronize() {
+        List<String> keys = new ArrayList<>();
+        ScanOptions scanOptions = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build();
+        try (Cursor<String> cursor = stringRedisTemplate.scan(scanOptions)) {
+            cursor.forEachRemaining(keys::add);
+        }
+        List<Object> remainingMillisList = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String key : keys) {
+                connection.keyCommands().pTtl(key.getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        });
+
+        long now = clock.millis();
+        for (int i = 0; i < keys.size(); i++) {
+            Object remainingMillis = remainingMillisList.get(i);
+            if (remainingMillis instanceof Long millis && millis > 0) {
+                revokedTokens.merge(keys.get(i).substring(KEY_PREFIX.length()), now + millis, Math::max);
+            }
+        }
+        rebuild();
+    }
+
+    private synchronized void add(String tokenId, long expiresAtMillis) {
+        revokedTokens.merge(tokenId, expiresAtMillis, Math::max);
+        bloomFilter.put(tokenId);
+    }
+
+    private synchronized void rebuild() {
+        long now = clock.millis();
+        revokedTokens.values().removeIf(expiresAtMillis -> expiresAtMillis <= now);
+        RevokedTokenBloomFilter rebuilt = new RevokedTokenBloomFilter(
+                Math.max(expectedTokens, revokedTokens.size() * 2), FALSE_POSITIVE_RATE);
+        revokedTokens.keySet().forEach(rebuilt::put);
+        this.bloomFilter = rebuilt;
+    }
+}
@@ -0,0 +1,61 @@
+package com.swyp3.babpool.global.logging;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 응답 상태 코드 구간(2xx, 3xx, 4xx, 5xx)별로 접근 로그를 표본 추출한다.
+ * 요청 처리 전에 난수를 한 번 뽑아두고, 상태 코드가 정해진 뒤 같은 난수로 기록 여부를 판단한다.
+ * 뽑은 난수가 모든 구간의 비율보다 크면 상태 코드와 관계없이 기록되지 않으므로, 본문 캡처 자체를 생략할 수 있다.
+ */
+public class AccessLogSampler {
+
+    static final AccessLogSampler ALWAYS = new AccessLogSampler(1.0, 1.0, 1.0, 1.0);
+
+    private final double[] rateByStatusClass = new double[6];
+    private final double maxRate;
+
+    /**
+     * @param rate2xx 2xx 응답 기록 비율 (0.0 ~ 1.0)
+     * @param rate3xx 3xx 응답 기록 비율
+     * @param rate4xx 4xx 응답 기록 비율
+     * @param rate5xx 5xx 응답 기록 비율
+     */
+    public AccessLogSampler(double rate2xx, double rate3xx, double rate4xx, double rate5xx) {
+        rateByStatusClass[1] = 1.0;
+        rateByStatusClass[2] = clamp(rate2xx);
+        rateByStatusClass[3] = clamp(rate3xx);
+        rateByStatusClass[4] = clamp(rate4xx);
+        rateByStatusClass[5] = clamp(rate5xx);
+        double max = 0.0;
+        for (int statusClass = 2; statusClass <= 5; statusClass++) {
+            max = Math.max(max, rateByStatusClass[statusClass]);
+        }
+        this.maxRate = max;
+    }
+
+    /**
+     * @return 요청마다 한 번 뽑는 [0, 1) 범위의 난수
+     */
+    public double draw() {
+        return ThreadLocalRandom.current().nextDouble();
+    }
+
+    /**
+     * 상태 코드를 알기 전에, 이 요청이 기록될 가능성이 있는지 판단한다.
+     */
+    public boolean mayLog(double draw) {
+        return draw < maxRate;
+    }
+
+    public boolean shouldLog(double draw, int status) {
+        int statusClass = status / 100;
+        if (statusClass < 1 || statusClass > 5) {
+            return true;
+        }
+        return draw < rateByStatusClass[statusClass];
+    }
+
+    private static double clamp(double rate) {
+        return Math.max(0.0, Math.min(1.0, rate));
+    }
+}
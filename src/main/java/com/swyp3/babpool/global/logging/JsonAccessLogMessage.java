@@ -0,0 +1,120 @@
+package com.swyp3.babpool.global.logging;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.web.util.ContentCachingRequestWrapper;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+/**
+ * 한 줄 JSON 형식의 접근 로그 메시지.
+ * 헤더 맵이나 본문 문자열을 미리 만들지 않고, 기록할 때 하나의 StringBuilder 에 바로 작성한다.
+ * 본문은 요청/응답이 ContentCaching*Wrapper 로 감싸진 경우(본문 캡처를 켠 경우)에만, 최대 maxBodyBytes 바이트까지 기록한다.
+ */
+@Getter
+public class JsonAccessLogMessage {
+
+    private final long timestampMillis;
+    private final String requestId;
+    private final String httpMethod;
+    private final String requestURI;
+    private final String queryString;
+    private final int status;
+    private final long responseTimeMillis;
+    private final String clientIP;
+    private final String userAgent;
+    private final byte[] requestBody;
+    private final int requestBodyLength;
+    private final byte[] responseBody;
+    private final int responseBodyLength;
+    private final int maxBodyBytes;
+
+    @Builder
+    public JsonAccessLogMessage(long timestampMillis, String requestId, HttpServletRequest request, int status,
+                                long responseTimeMillis, String clientIP, ContentCachingResponseWrapper responseWrapper,
+                                int maxBodyBytes) {
+        this.timestampMillis = timestampMillis;
+        this.requestId = requestId;
+        this.httpMethod = request.getMethod();
+        this.requestURI = request.getRequestURI();
+        this.queryString = request.getQueryString();
+        this.status = status;
+        this.responseTimeMillis = responseTimeMillis;
+        this.clientIP = clientIP;
+        this.userAgent = request.getHeader("User-Agent");
+        this.maxBodyBytes = maxBodyBytes;
+        if (request instanceof ContentCachingRequestWrapper requestWrapper) {
+            this.requestBody = requestWrapper.getContentAsByteArray();
+            this.requestBodyLength = requestWrapper.getContentLength();
+        } else {
+            this.requestBody = null;
+            this.requestBodyLength = -1;
+        }
+        if (responseWrapper != null) {
+            this.responseBody = responseWrapper.getContentAsByteArray();
+            this.responseBodyLength = responseWrapper.getContentSize();
+        } else {
+            this.responseBody = null;
+            this.responseBodyLength = -1;
+        }
+    }
+
+    public String toJson() {
+        StringBuilder json = new StringBuilder(256);
+        json.append("{\"ts\":\"").append(Instant.ofEpochMilli(timestampMillis)).append('"');
+        appendField(json, "requestId", requestId);
+        appendField(json, "method", httpMethod);
+        appendField(json, "uri", requestURI);
+        appendField(json, "query", queryString);
+        json.append(",\"status\":").append(status);
+        json.append(",\"durationMs\":").append(responseTimeMillis);
+        appendField(json, "clientIp", clientIP);
+        appendField(json, "userAgent", userAgent);
+        appendBody(json, "requestBody", requestBody, requestBodyLength);
+        appendBody(json, "responseBody", responseBody, responseBodyLength);
+        return json.append('}').toString();
+    }
+
+    private void appendBody(StringBuilder json, String name, byte[] body, int declaredLength) {
+        if (body == null) {
+            return;
+        }
+        int length = Math.min(body.length, maxBodyBytes);
+        appendField(json, name, new String(body, 0, length, StandardCharsets.UTF_8));
+        if (Math.max(body.length, declaredLength) > length) {
+            json.append(",\"").append(name).append("Truncated\":true");
+        }
+    }
+
+    private static void appendField(StringBuilder json, String name, String value) {
+        if (value == null) {
+            return;
+        }
+        json.append(",\"").append(name).append("\":\"");
+        appendEscaped(json, value);
+        json.append('"');
+    }
+
+    static void appendEscaped(StringBuilder json, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -5,6 +5,8 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.Ordered;
@@ -33,11 +35,43 @@ public class MdcLoggingFilter extends OncePerRequestFilter{
             "34.168.207.216"
     ));
 
+    private static final Logger ACCESS_LOG = LoggerFactory.getLogger("ACCESS_LOG");
+
     @Value("${property.header.x-babpool-local-front}")
     private String X_BABPOOL_LOCAL_FRONT_VALUE;
 
+    /**
+     * pretty : 요청마다 여러 줄의 HTTP 로그를 기록한다. (기존 방식)
+     * json : ACCESS_LOG 로거(비동기 appender)에 한 줄 JSON 으로 기록한다.
+     */
+    @Value("${property.access-log.format:pretty}")
+    private String accessLogFormat = "pretty";
+    @Value("${property.access-log.body.enabled:false}")
+    private boolean bodyCaptureEnabled;
+    @Value("${property.access-log.body.max-bytes:1024}")
+    private int maxBodyBytes = 1024;
+    @Value("${property.access-log.sample-rate.2xx:1.0}")
+    private double sampleRate2xx = 1.0;
+    @Value("${property.access-log.sample-rate.3xx:1.0}")
+    private double sampleRate3xx = 1.0;
+    @Value("${property.access-log.sample-rate.4xx:1.0}")
+    private double sampleRate4xx = 1.0;
+    @Value("${property.access-log.sample-rate.5xx:1.0}")
+    private double sampleRate5xx = 1.0;
+
+    private AccessLogSampler accessLogSampler = AccessLogSampler.ALWAYS;
+
+    @Override
+    protected void initFilterBean() {
+        this.accessLogSampler = new AccessLogSampler(sampleRate2xx, sampleRate3xx, sampleRate4xx, sampleRate5xx);
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        if ("json".equalsIgnoreCase(accessLogFormat)) {
+            doFilterWithJsonAccessLog(request, response, filterChain);
+            return;
+        }
         ContentCachingRequestWrapper requestWrapper = new ContentCachingRequestWrapper(request);
         ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
 
@@ -64,11 +98,65 @@ public class MdcLoggingFilter extends OncePerRequestFilter{
         MDC.clear();
     }
 
+    /**
+     * 표본으로 뽑힐 가능성이 있는 요청만, 본문 캡처를 켠 경우에 한해 ContentCaching*Wrapper 로 감싼다.
+     * 요청 본문은 애플리케이션이 읽은 만큼만, 최대 maxBodyBytes 바이트까지 캐싱된다.
+     */
+    void doFilterWithJsonAccessLog(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        String requestId = UUID.randomUUID().toString().substring(0, 8);
+        MDC.put("request_uuid", requestId);
+
+        double draw = accessLogSampler.draw();
+        boolean captureBody = bodyCaptureEnabled && accessLogSampler.mayLog(draw) && ACCESS_LOG.isInfoEnabled();
+        HttpServletRequest loggingRequest = captureBody ? new ContentCachingRequestWrapper(request, maxBodyBytes) : request;
+        ContentCachingResponseWrapper responseWrapper = captureBody ? new ContentCachingResponseWrapper(response) : null;
+
+        long startMillis = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
+        boolean completed = false;
+        try {
+            setOriginAttributeAtRequest(loggingRequest);
+            filterChain.doFilter(loggingRequest, responseWrapper != null ? responseWrapper : response);
+            completed = true;
+        } finally {
+            long responseTimeMillis = (System.nanoTime() - startNanos) / 1_000_000;
+            int status = statusOf(completed, responseWrapper != null ? responseWrapper : response);
+            if (ACCESS_LOG.isInfoEnabled() && accessLogSampler.shouldLog(draw, status)) {
+                ACCESS_LOG.info(JsonAccessLogMessage.builder()
+                        .timestampMillis(startMillis)
+                        .requestId(requestId)
+                        .request(loggingRequest)
+                        .status(status)
+                        .responseTimeMillis(responseTimeMillis)
+                        .clientIP(ClientIPResolver.getClientIP(loggingRequest))
+                        .responseWrapper(responseWrapper)
+                        .maxBodyBytes(maxBodyBytes)
+                        .build()
+                        .toJson());
+            }
+            if (responseWrapper != null) {
+                responseWrapper.copyBodyToResponse();
+            }
+            MDC.clear();
+        }
+    }
+
+    /**
+     * 필터 체인에서 예외가 전파되면 응답 상태가 아직 기본값(200)이므로, 컨테이너가 응답할 500 으로 기록한다.
+     * 예외 이전에 응답이 이미 커밋되었다면 실제로 전송된 상태를 기록한다.
+     */
+    static int statusOf(boolean completed, HttpServletResponse response) {
+        if (!completed && !response.isCommitted()) {
+            return HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+        }
+        return response.getStatus();
+    }
+
     /**
      * 클라이언트 Origin 이 LOCAL_HOST_5173 인 경우 request 에 localhostFlag 속성을 추가한다.
      * @param requestWrapper
      */
-    void setOriginAttributeAtRequest(ContentCachingRequestWrapper requestWrapper) {
+    void setOriginAttributeAtRequest(HttpServletRequest requestWrapper) {
         String requestOrigin = requestWrapper.getHeader("x-babpool-local-front");
         if (StringUtils.hasText(requestOrigin) && requestOrigin.equals(X_BABPOOL_LOCAL_FRONT_VALUE)) {
             requestWrapper.setAttribute("localhostFlag", "true");
@@ -0,0 +1,76 @@
+package com.swyp3.babpool.global.mybatis;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 임계 시간을 넘긴 SQL 을 최근 capacity 건까지만 보관하는 원형 버퍼.
+ * 가득 차면 가장 오래된 항목을 덮어쓴다.
+ */
+@Component
+public class SlowQueryLog {
+
+    public static final int DEFAULT_CAPACITY = 100;
+
+    private final SlowQuery[] buffer;
+    private long writeCount = 0;
+
+    public SlowQueryLog(@Value("${property.mybatis.slow-query.capacity:100}") int capacity) {
+        this.buffer = new SlowQuery[Math.max(1, capacity)];
+    }
+
+    public synchronized void add(SlowQuery slowQuery) {
+        buffer[(int) (writeCount % buffer.length)] = slowQuery;
+        writeCount++;
+    }
+
+    /**
+     * @return 최근 항목부터 정렬된 목록
+     */
+    public synchronized List<SlowQuery> findAll() {
+        int size = (int) Math.min(writeCount, buffer.length);
+        List<SlowQuery> slowQueries = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            slowQueries.add(buffer[(int) ((writeCount - i) % buffer.length)]);
+        }
+        return slowQueries;
+    }
+
+    public synchronized void clear() {
+        Arrays.fill(buffer, null);
+        writeCount = 0;
+    }
+
+    public int capacity() {
+        return buffer.length;
+    }
+
+    @Getter
+    public static class SlowQuery {
+
+        private final Instant capturedAt;
+        private final String statementId;
+        private final String sql;
+        private final long elapsedMillis;
+        private final int rows;
+        private final List<Map<String, Object>> explain;
+
+        @Builder
+        public SlowQuery(Instant capturedAt, String statementId, String sql, long elapsedMillis, int rows, List<Map<String, Object>> explain) {
+            this.capturedAt = capturedAt;
+            this.statementId = statementId;
+            this.sql = sql;
+            this.elapsedMillis = elapsedMillis;
+            this.rows = rows;
+            this.explain = explain;
+        }
+    }
+}
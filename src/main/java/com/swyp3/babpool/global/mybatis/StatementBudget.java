@@ -0,0 +1,17 @@
+package com.swyp3.babpool.global.mybatis;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * API 한 번에 실행될 수 있는 SQL 문 수의 상한. 지정하지 않으면 property.mybatis.statement-budget.default 값을 사용한다.
+ * 상한을 넘기면 {@link StatementBudgetInterceptor} 가 경고 로그를 남긴다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface StatementBudget {
+
+    int value();
+}
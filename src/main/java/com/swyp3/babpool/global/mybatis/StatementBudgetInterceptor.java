@@ -0,0 +1,94 @@
+package com.swyp3.babpool.global.mybatis;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * API 요청마다 실행된 SQL 문 수를 세어 엔드포인트별 분포(http.server.requests.statements)로 기록한다.
+ * - 실행된 SQL 문 수가 엔드포인트의 상한({@link StatementBudget} 또는 기본값)을 넘기면 경고 로그를 남긴다.
+ * - 같은 SQL 문이 n-plus-one-threshold 번 이상 반복되면 N+1 조회로 의심하고 경고 로그를 남긴다.
+ * 로그에는 MdcLoggingFilter 가 넣은 request_uuid 를 함께 남긴다.
+ */
+@Slf4j
+@Component
+public class StatementBudgetInterceptor implements HandlerInterceptor {
+
+    private static final String SCOPE_ATTRIBUTE = StatementBudgetInterceptor.class.getName() + ".scope";
+
+    private final MeterRegistry meterRegistry;
+    private final int defaultBudget;
+    private final int nPlusOneThreshold;
+    private final Map<String, DistributionSummary> summaryByEndpoint = new ConcurrentHashMap<>();
+
+    public StatementBudgetInterceptor(MeterRegistry meterRegistry,
+                                      @Value("${property.mybatis.statement-budget.default:10}") int defaultBudget,
+                                      @Value("${property.mybatis.statement-budget.n-plus-one-threshold:5}") int nPlusOneThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.defaultBudget = defaultBudget;
+        this.nPlusOneThreshold = nPlusOneThreshold;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod) {
+            request.setAttribute(SCOPE_ATTRIBUTE, StatementCounter.open());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!(request.getAttribute(SCOPE_ATTRIBUTE) instanceof StatementCounter.Scope scope)) {
+            return;
+        }
+        scope.close();
+        request.removeAttribute(SCOPE_ATTRIBUTE);
+
+        String endpoint = request.getMethod() + " " + endpointPattern(request);
+        int statementCount = scope.getCount();
+        summaryByEndpoint.computeIfAbsent(endpoint, key -> DistributionSummary.builder("http.server.requests.statements")
+                        .description("API 요청 한 번에 실행된 SQL 문 수")
+                        .tag("method", request.getMethod())
+                        .tag("uri", endpointPattern(request))
+                        .serviceLevelObjectives(1, 2, 3, 5, 8, 13, 21)
+                        .register(meterRegistry))
+                .record(statementCount);
+
+        int budget = budgetOf(handler);
+        if (statementCount > budget) {
+            log.warn("StatementBudgetInterceptor, SQL 문 수 상한 초과. request_uuid : {}, endpoint : {}, statements : {}, budget : {}, detail : {}",
+                    MDC.get("request_uuid"), endpoint, statementCount, budget, scope.getCountByStatementId());
+        }
+        if (scope.getMaxRepeatCount() >= nPlusOneThreshold) {
+            log.warn("StatementBudgetInterceptor, N+1 조회 의심. request_uuid : {}, endpoint : {}, detail : {}",
+                    MDC.get("request_uuid"), endpoint, scope.getCountByStatementId());
+        }
+    }
+
+    private int budgetOf(Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            StatementBudget statementBudget = handlerMethod.getMethodAnnotation(StatementBudget.class);
+            if (statementBudget != null) {
+                return statementBudget.value();
+            }
+        }
+        return defaultBudget;
+    }
+
+    private static String endpointPattern(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+}
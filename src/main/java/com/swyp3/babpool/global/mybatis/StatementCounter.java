@@ -0,0 +1,88 @@
+package com.swyp3.babpool.global.mybatis;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 현재 스레드에서 실행된 SQL 문 수를 센다.
+ * 범위(Scope)는 중첩될 수 있으며, SQL 이 실행되면 열려있는 모든 범위의 수가 증가한다.
+ * 예를 들어 테스트가 연 범위 안에서 요청 범위가 열리고 닫혀도, 테스트 범위에는 요청에서 실행된 SQL 수가 남는다.
+ * 범위가 열려있지 않으면 아무것도 하지 않는다.
+ */
+public final class StatementCounter {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private StatementCounter() {
+    }
+
+    public static Scope open() {
+        Scope scope = new Scope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    static void increment(String statementId) {
+        for (Scope scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            scope.count++;
+            scope.countByStatementId.merge(statementId, 1, Integer::sum);
+        }
+    }
+
+    public static final class Scope implements AutoCloseable {
+
+        private final Scope parent;
+        private final Map<String, Integer> countByStatementId = new HashMap<>();
+        private int count;
+        private boolean closed;
+
+        private Scope(Scope parent) {
+            this.parent = parent;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        /**
+         * @return statement id 별 실행 횟수
+         */
+        public Map<String, Integer> getCountByStatementId() {
+            return Map.copyOf(countByStatementId);
+        }
+
+        /**
+         * @return 가장 많이 반복 실행된 statement id 의 실행 횟수
+         */
+        public int getMaxRepeatCount() {
+            int max = 0;
+            for (int repeatCount : countByStatementId.values()) {
+                max = Math.max(max, repeatCount);
+            }
+            return max;
+        }
+
+        public void reset() {
+            count = 0;
+            countByStatementId.clear();
+        }
+
+        /**
+         * 이 범위를 닫고 바깥 범위를 현재 범위로 되돌린다. 두 번 닫아도 안전하다.
+         */
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (CURRENT.get() == this) {
+                if (parent == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(parent);
+                }
+            }
+        }
+    }
+}
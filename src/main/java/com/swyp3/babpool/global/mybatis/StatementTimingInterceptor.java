@@ -0,0 +1,198 @@
+package com.swyp3.babpool.global.mybatis;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 매핑된 SQL 문(statement id) 별로 실행 시간과 결과 행 수를 Micrometer 에 기록한다.
+ * - mybatis.statement (Timer) : statement, type 태그
+ * - mybatis.statement.rows (DistributionSummary) : 조회 결과 행 수 또는 변경된 행 수
+ * 실행 시간이 임계 시간을 넘긴 SQL 은 바인딩된 SQL 과 EXPLAIN 결과를 {@link SlowQueryLog} 에 보관한다.
+ * 같은 SQL 의 EXPLAIN 은 explain-interval-ms 에 한 번만 실행하여, 느린 SQL 이 몰릴 때 DB 부하를 키우지 않는다.
+ */
+@Slf4j
+@Component
+@Intercepts({
+        @Signature(type = Executor.class, method = "query", args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+        @Signature(type = Executor.class, method = "query", args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class}),
+        @Signature(type = Executor.class, method = "update", args = {MappedStatement.class, Object.class})
+})
+public class StatementTimingInterceptor implements Interceptor {
+
+    private static final int MAX_EXPLAIN_ROWS = 20;
+
+    private final MeterRegistry meterRegistry;
+    private final SlowQueryLog slowQueryLog;
+    private final long slowThresholdNanos;
+    private final long explainIntervalMillis;
+    private final Clock clock;
+
+    private final Map<String, StatementMeters> metersByStatementId = new ConcurrentHashMap<>();
+    private final Map<String, Long> lastExplainedAtByStatementId = new ConcurrentHashMap<>();
+
+    @Autowired
+    public StatementTimingInterceptor(MeterRegistry meterRegistry, SlowQueryLog slowQueryLog,
+                                      @Value("${property.mybatis.slow-query.threshold-ms:500}") long slowThresholdMillis,
+                                      @Value("${property.mybatis.slow-query.explain-interval-ms:60000}") long explainIntervalMillis) {
+        this(meterRegistry, slowQueryLog, slowThresholdMillis, explainIntervalMillis, Clock.systemUTC());
+    }
+
+    StatementTimingInterceptor(MeterRegistry meterRegistry, SlowQueryLog slowQueryLog, long slowThresholdMillis,
+                               long explainIntervalMillis, Clock clock) {
+        this.meterRegistry = meterRegistry;
+        this.slowQueryLog = slowQueryLog;
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMillis);
+        this.explainIntervalMillis = explainIntervalMillis;
+        this.clock = clock;
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        MappedStatement mappedStatement = (MappedStatement) invocation.getArgs()[0];
+        long startNanos = System.nanoTime();
+        Object result = invocation.proceed();
+        long elapsedNanos = System.nanoTime() - startNanos;
+
+        int rows = countRows(result);
+        StatementMeters meters = metersByStatementId.computeIfAbsent(mappedStatement.getId(),
+                id -> new StatementMeters(meterRegistry, shortStatementId(id), mappedStatement.getSqlCommandType()));
+        meters.timer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        meters.rows.record(rows);
+
+        if (elapsedNanos >= slowThresholdNanos) {
+            captureSlowQuery(invocation, mappedStatement, elapsedNanos, rows);
+        }
+        return result;
+    }
+
+    private void captureSlowQuery(Invocation invocation, MappedStatement mappedStatement, long elapsedNanos, int rows) {
+        try {
+            Object parameter = invocation.getArgs()[1];
+            BoundSql boundSql = invocation.getArgs().length == 6
+                    ? (BoundSql) invocation.getArgs()[5]
+                    : mappedStatement.getBoundSql(parameter);
+            List<Map<String, Object>> explain = null;
+            if (mappedStatement.getSqlCommandType() == SqlCommandType.SELECT && shouldExplain(mappedStatement.getId())) {
+                Executor executor = (Executor) invocation.getTarget();
+                explain = explain(executor.getTransaction().getConnection(), mappedStatement, parameter, boundSql);
+            }
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+            slowQueryLog.add(SlowQueryLog.SlowQuery.builder()
+                    .capturedAt(Instant.now(clock))
+                    .statementId(shortStatementId(mappedStatement.getId()))
+                    .sql(boundSql.getSql().replaceAll("\\s+", " ").trim())
+                    .elapsedMillis(elapsedMillis)
+                    .rows(rows)
+                    .explain(explain)
+                    .build());
+            log.warn("StatementTimingInterceptor, 느린 SQL : {} ({}ms, {} rows)", mappedStatement.getId(), elapsedMillis, rows);
+        } catch (Exception e) {
+            log.warn("StatementTimingInterceptor, 느린 SQL 정보 수집 실패 : {} {}", mappedStatement.getId(), e.getMessage());
+        }
+    }
+
+    private boolean shouldExplain(String statementId) {
+        long now = clock.millis();
+        Long lastExplainedAt = lastExplainedAtByStatementId.get(statementId);
+        if (lastExplainedAt != null && now - lastExplainedAt < explainIntervalMillis) {
+            return false;
+        }
+        lastExplainedAtByStatementId.put(statementId, now);
+        return true;
+    }
+
+    /**
+     * 같은 커넥션에서 같은 파라미터로 EXPLAIN 을 실행한다. SELECT 문만 대상으로 한다.
+     */
+    private List<Map<String, Object>> explain(Connection connection, MappedStatement mappedStatement, Object parameter, BoundSql boundSql) throws Exception {
+        List<Map<String, Object>> explainRows = new ArrayList<>();
+        try (PreparedStatement preparedStatement = connection.prepareStatement("EXPLAIN " + boundSql.getSql())) {
+            mappedStatement.getConfiguration()
+                    .newParameterHandler(mappedStatement, parameter, boundSql)
+                    .setParameters(preparedStatement);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                ResultSetMetaData metaData = resultSet.getMetaData();
+                while (resultSet.next() && explainRows.size() < MAX_EXPLAIN_ROWS) {
+                    Map<String, Object> explainRow = new LinkedHashMap<>();
+                    for (int column = 1; column <= metaData.getColumnCount(); column++) {
+                        explainRow.put(metaData.getColumnLabel(column), resultSet.getObject(column));
+                    }
+                    explainRows.add(explainRow);
+                }
+            }
+        }
+        return explainRows;
+    }
+
+    private static int countRows(Object result) {
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Integer updatedRows) {
+            return updatedRows;
+        }
+        return result == null ? 0 : 1;
+    }
+
+    /**
+     * com.swyp3.babpool.domain.profile.dao.ProfileRepository.findAllByPageable -> ProfileRepository.findAllByPageable
+     */
+    static String shortStatementId(String statementId) {
+        int methodDot = statementId.lastIndexOf('.');
+        if (methodDot < 0) {
+            return statementId;
+        }
+        int typeDot = statementId.lastIndexOf('.', methodDot - 1);
+        return statementId.substring(typeDot + 1);
+    }
+
+    private static final class StatementMeters {
+
+        private final Timer timer;
+        private final DistributionSummary rows;
+
+        private StatementMeters(MeterRegistry meterRegistry, String statementId, SqlCommandType sqlCommandType) {
+            String type = sqlCommandType.name().toLowerCase();
+            this.timer = Timer.builder("mybatis.statement")
+                    .description("MyBatis SQL 실행 시간")
+                    .tag("statement", statementId)
+                    .tag("type", type)
+                    .register(meterRegistry);
+            this.rows = DistributionSummary.builder("mybatis.statement.rows")
+                    .description("MyBatis SQL 결과 행 수")
+                    .tag("statement", statementId)
+                    .tag("type", type)
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -2,24 +2,109 @@ package com.swyp3.babpool.global.tsid;
 
 import com.github.f4b6a3.tsid.TsidFactory;
 import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+/**
+ * TSID 생성기. 서버마다 서로 다른 node 값을 사용해야 식별 값이 충돌하지 않는다.
+ * 기동 시 property.tsid.node 값으로 초기화하고, {@link TsidNodeLease} 가 Redis 에서 node 를 임대하면 해당 node 로 교체한다.
+ * node 를 임대해서 사용하는 경우 임대 만료 시각을 함께 보관하고, 만료 시각이 지나면(연장 실패, 임대 상실) 식별 값을 생성하지 않는다.
+ * 만료된 node 는 다른 서버가 임대할 수 있으므로, 계속 생성하면 식별 값이 충돌할 수 있다.
+ */
+@Slf4j
 @Component
 public class TsidKeyGenerator {
 
-    @Value("${property.tsid.node}")
+    public static final int NODE_COUNT = 1024; // TsidFactory 기본 node bit 수(10)
+
+    @Value("${property.tsid.node:0}")
     private int nodeNumber;
 
-    private final TsidFactory tsidFactory = new TsidFactory(nodeNumber);
+    private volatile TsidFactory tsidFactory = new TsidFactory(0);
+    private volatile int currentNode = 0;
+    /**
+     * node 임대 만료 시각(epoch millis). 임대 없이 설정 값의 node 를 사용하는 경우 제한이 없다.
+     */
+    private volatile long leaseExpiresAtMillis = Long.MAX_VALUE;
 
     public long generateTsid() {
+        checkLease();
         return tsidFactory.create().toLong();
     }
 
+    /**
+     * 여러 건을 한 번에 저장하는 경우 사용한다.
+     * @param count 생성할 식별 값 수
+     * @return 생성 순서대로 증가하는 식별 값 배열
+     */
+    public long[] generateTsids(int count) {
+        checkLease();
+        TsidFactory factory = tsidFactory;
+        long[] tsids = new long[count];
+        for (int i = 0; i < count; i++) {
+            tsids[i] = factory.create().toLong();
+        }
+        return tsids;
+    }
+
+    /**
+     * node 를 변경한다. 같은 node 이면 기존 TsidFactory 를 그대로 사용한다.
+     */
+    public synchronized void useNode(int node) {
+        if (node < 0 || node >= NODE_COUNT) {
+            throw new IllegalArgumentException("TSID node 는 0 이상 " + NODE_COUNT + " 미만이어야 합니다. node : " + node);
+        }
+        if (node == currentNode) {
+            return;
+        }
+        this.tsidFactory = new TsidFactory(node);
+        this.currentNode = node;
+        log.info("TsidKeyGenerator.useNode, TSID node 변경 : {}", node);
+    }
+
+    /**
+     * 임대한 node 로 변경하고 임대 만료 시각을 기록한다.
+     */
+    public synchronized void useLeasedNode(int node, long leaseExpiresAtMillis) {
+        useNode(node);
+        this.leaseExpiresAtMillis = leaseExpiresAtMillis;
+    }
+
+    /**
+     * 임대 연장에 성공한 경우 만료 시각을 늦춘다.
+     */
+    public void extendLease(long leaseExpiresAtMillis) {
+        this.leaseExpiresAtMillis = leaseExpiresAtMillis;
+    }
+
+    /**
+     * 임대한 node 가 없으므로 다시 임대할 때까지 식별 값을 생성하지 않는다.
+     */
+    public void revokeLease() {
+        this.leaseExpiresAtMillis = Long.MIN_VALUE;
+    }
+
+    public boolean isLeaseValid() {
+        return System.currentTimeMillis() < leaseExpiresAtMillis;
+    }
+
+    private void checkLease() {
+        if (!isLeaseValid()) {
+            throw new IllegalStateException("TSID node 임대가 없거나 만료되어 식별 값을 생성할 수 없습니다. node : " + currentNode);
+        }
+    }
+
+    public int getCurrentNode() {
+        return currentNode;
+    }
+
     @PostConstruct
     public void init() {
-        System.out.println("TsidKeyGenerator component is created");
+        // 필드 초기화 시점에는 @Value 가 주입되지 않으므로, 주입 이후에 TsidFactory 를 생성한다.
+        this.tsidFactory = new TsidFactory(nodeNumber);
+        this.currentNode = nodeNumber;
+        log.info("TsidKeyGenerator component is created. node : {}", nodeNumber);
     }
 
 }
@@ -0,0 +1,159 @@
+package com.swyp3.babpool.global.tsid;
+
+import com.swyp3.babpool.global.config.SchedulingConfig;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 서버마다 서로 다른 TSID node 를 사용하도록 Redis 에서 node 를 임대한다.
+ * - tsid:node:{node} 키를 SET NX PX 로 선점하고, 값에는 서버 인스턴스 식별 값을 저장한다.
+ * - 임대를 요청하기 직전 시각 + 임대 시간을 만료 시각으로 TsidKeyGenerator 에 전달한다. Redis 의 실제 만료 시각보다 항상 이르다.
+ * - heartbeat 로 임대 시간을 연장하며, 임대를 잃으면(임대 만료 후 다른 서버가 선점) 즉시 생성을 중단하고 새 node 를 임대한다.
+ * - 연장 요청이 실패하면(Redis 장애) 만료 시각까지만 식별 값을 생성하고, 이후에는 연장 또는 재임대에 성공할 때까지 생성을 거부한다.
+ * - 기동 시 임대에 실패해도 설정 값의 node 로 대신 생성하지 않으며, heartbeat 마다 다시 임대를 시도한다.
+ * - 종료 시 생성을 중단한 뒤 자신이 임대한 node 를 반납한다.
+ * 임대 없이 property.tsid.node 설정 값을 사용하려면 property.tsid.node-lease.enabled 를 false 로 설정한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "property.tsid.node-lease.enabled", havingValue = "true", matchIfMissing = true)
+public class TsidNodeLease {
+
+    static final String KEY_PREFIX = "tsid:node:";
+
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+            "  return redis.call('PEXPIRE', KEYS[1], ARGV[2]) " +
+            "end " +
+            "return 0", Long.class);
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+            "  return redis.call('DEL', KEYS[1]) " +
+            "end " +
+            "return 0", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final TsidKeyGenerator tsidKeyGenerator;
+    private final Duration leaseTime;
+    private final String owner;
+
+    private volatile Integer leasedNode;
+
+    @Autowired
+    public TsidNodeLease(StringRedisTemplate stringRedisTemplate, TsidKeyGenerator tsidKeyGenerator,
+                         @Value("${property.tsid.node-lease.ttl-seconds:60}") long leaseSeconds) {
+        this(stringRedisTemplate, tsidKeyGenerator, Duration.ofSeconds(leaseSeconds), hostName() + ":" + UUID.randomUUID());
+    }
+
+    TsidNodeLease(StringRedisTemplate stringRedisTemplate, TsidKeyGenerator tsidKeyGenerator, Duration leaseTime, String owner) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.tsidKeyGenerator = tsidKeyGenerator;
+        this.leaseTime = leaseTime;
+        this.owner = owner;
+    }
+
+    @PostConstruct
+    public void init() {
+        tsidKeyGenerator.revokeLease();
+        tryAcquire();
+    }
+
+    /**
+     * 비어있는 node 를 찾아 임대하고, TsidKeyGenerator 가 해당 node 를 사용하도록 한다.
+     * 서버마다 시작 위치를 다르게 하여 동시에 기동할 때의 경합을 줄인다.
+     * @return 임대한 node
+     */
+    public synchronized int acquire() {
+        int start = Math.floorMod(owner.hashCode(), TsidKeyGenerator.NODE_COUNT);
+        for (int i = 0; i < TsidKeyGenerator.NODE_COUNT; i++) {
+            int node = (start + i) % TsidKeyGenerator.NODE_COUNT;
+            long requestedAt = System.currentTimeMillis();
+            Boolean acquired = stringRedisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + node, owner, leaseTime);
+            if (Boolean.TRUE.equals(acquired)) {
+                leasedNode = node;
+                tsidKeyGenerator.useLeasedNode(node, requestedAt + leaseTime.toMillis());
+                log.info("TsidNodeLease.acquire, TSID node {} 임대 완료. owner : {}", node, owner);
+                return node;
+            }
+        }
+        throw new IllegalStateException("임대 가능한 TSID node 가 없습니다.");
+    }
+
+    @Scheduled(fixedDelayString = "${property.tsid.node-lease.heartbeat-interval-ms:20000}", initialDelay = 1000 * 20, scheduler = SchedulingConfig.HEARTBEAT_SCHEDULER)
+    public void heartbeat() {
+        Integer node = leasedNode;
+        if (node == null) {
+            tryAcquire();
+            return;
+        }
+        long requestedAt = System.currentTimeMillis();
+        Long renewed;
+        try {
+            renewed = stringRedisTemplate.execute(RENEW_SCRIPT, List.of(KEY_PREFIX + node),
+                    owner, String.valueOf(leaseTime.toMillis()));
+        } catch (Exception e) {
+            log.error("TsidNodeLease.heartbeat, TSID node {} 임대 연장 실패. 임대 만료 이후에는 식별 값 생성을 중단합니다. {}", node, e.getMessage());
+            return;
+        }
+        if (renewed != null && renewed == 1L) {
+            tsidKeyGenerator.extendLease(requestedAt + leaseTime.toMillis());
+            return;
+        }
+        log.error("TsidNodeLease.heartbeat, TSID node {} 임대를 잃었습니다. 새 node 를 임대합니다.", node);
+        tsidKeyGenerator.revokeLease();
+        leasedNode = null;
+        tryAcquire();
+    }
+
+    private void tryAcquire() {
+        try {
+            acquire();
+        } catch (Exception e) {
+            log.error("TsidNodeLease.tryAcquire, TSID node 를 임대하지 못했습니다. 임대할 때까지 식별 값을 생성하지 않습니다. {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void release() {
+        Integer node = leasedNode;
+        if (node == null) {
+            return;
+        }
+        // 반납 이후 다른 서버가 같은 node 를 임대할 수 있으므로, 먼저 생성을 중단한다.
+        tsidKeyGenerator.revokeLease();
+        try {
+            stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(KEY_PREFIX + node), owner);
+            leasedNode = null;
+            log.info("TsidNodeLease.release, TSID node {} 반납 완료.", node);
+        } catch (Exception e) {
+            log.warn("TsidNodeLease.release, TSID node {} 반납 실패. 임대 시간이 지나면 만료됩니다. {}", node, e.getMessage());
+        }
+    }
+
+    public Integer getLeasedNode() {
+        return leasedNode;
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "unknown-host";
+        }
+    }
+}
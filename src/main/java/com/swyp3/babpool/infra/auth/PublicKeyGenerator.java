@@ -25,7 +25,7 @@ public class PublicKeyGenerator {
         return generatePublicKeyWithPublicKey(kakaoPublicKey);
     }
 
-    private PublicKey generatePublicKeyWithPublicKey(BabpoolPublicKey publicKey) {
+    public PublicKey generatePublicKeyWithPublicKey(BabpoolPublicKey publicKey) {
         byte[] nBytes = Base64.getUrlDecoder().decode(publicKey.getN());
         byte[] eBytes = Base64.getUrlDecoder().decode(publicKey.getE());
 
@@ -0,0 +1,18 @@
+package com.swyp3.babpool.infra.auth.dao;
+
+import com.swyp3.babpool.infra.auth.unlink.SocialUnlinkJob;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Mapper
+public interface SocialUnlinkOutboxRepository {
+
+    void save(SocialUnlinkJob job);
+
+    List<SocialUnlinkJob> findCreatedBefore(@Param("createdBefore") LocalDateTime createdBefore, @Param("limit") int limit);
+
+    int deleteByJobIds(@Param("jobIds") List<Long> jobIds);
+}
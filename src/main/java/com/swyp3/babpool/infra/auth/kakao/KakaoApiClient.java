@@ -0,0 +1,220 @@
+package com.swyp3.babpool.infra.auth.kakao;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.swyp3.babpool.infra.auth.exception.AuthException;
+import com.swyp3.babpool.infra.auth.exception.errorcode.AuthExceptionErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.ConnectTimeoutException;
+import io.netty.handler.timeout.ReadTimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.util.retry.Retry;
+
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Kakao 토큰, JWKS, 로그아웃, 연결 끊기 API 를 호출하는 공용 HTTP 클라이언트.
+ * 하나의 커넥션 풀을 공유하여 매 요청마다 TLS 핸드셰이크가 발생하지 않도록 하고,
+ * 엔드포인트별 타임아웃과 지터가 적용된 재시도, 요청 지표(kakao.client.requests, kakao.client.retries)를 제공한다.
+ */
+@Slf4j
+@Component
+public class KakaoApiClient implements KakaoClient, DisposableBean {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final double RETRY_JITTER_FACTOR = 0.5;
+
+    private final ConnectionProvider connectionProvider;
+    private final Map<KakaoEndpoint, WebClient> webClients = new EnumMap<>(KakaoEndpoint.class);
+    private final MeterRegistry meterRegistry;
+    private final Duration retryMinBackoff;
+    private final String adminKey;
+
+    @Autowired
+    public KakaoApiClient(@Value("${property.oauth.kakao.auth-base-url:https://kauth.kakao.com}") String authBaseUrl,
+                          @Value("${property.oauth.kakao.api-base-url:https://kapi.kakao.com}") String apiBaseUrl,
+                          @Value("${property.oauth.kakao.admin-key}") String adminKey,
+                          @Value("${property.oauth.kakao.http.max-connections:50}") int maxConnections,
+                          MeterRegistry meterRegistry) {
+        this(authBaseUrl, apiBaseUrl, adminKey, maxConnections, meterRegistry, Duration.ofMillis(200));
+    }
+
+    KakaoApiClient(String authBaseUrl, String apiBaseUrl, String adminKey, int maxConnections,
+                   MeterRegistry meterRegistry, Duration retryMinBackoff) {
+        this.adminKey = adminKey;
+        this.meterRegistry = meterRegistry;
+        this.retryMinBackoff = retryMinBackoff;
+        this.connectionProvider = ConnectionProvider.builder("kakao-api")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(Duration.ofSeconds(2))
+                .maxIdleTime(Duration.ofSeconds(30))
+                .evictInBackground(Duration.ofSeconds(30))
+                .metrics(true)
+                .build();
+
+        for (KakaoEndpoint endpoint : KakaoEndpoint.values()) {
+            HttpClient httpClient = HttpClient.create(connectionProvider)
+                    .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) endpoint.getConnectTimeout().toMillis())
+                    .responseTimeout(endpoint.getResponseTimeout());
+            webClients.put(endpoint, WebClient.builder()
+                    .baseUrl(endpoint.isAuthServer() ? authBaseUrl : apiBaseUrl)
+                    .clientConnector(new ReactorClientHttpConnector(httpClient))
+                    .build());
+        }
+    }
+
+    @Override
+    public KakaoPublicKeys getKakaoOIDCOpenKeys() {
+        KakaoApiResponse response = execute(KakaoEndpoint.JWKS, null, null, AuthExceptionErrorCode.AUTH_PUBLIC_KEY_ERROR);
+        if (!response.isSuccess()) {
+            throw new AuthException(AuthExceptionErrorCode.AUTH_PUBLIC_KEY_ERROR, response.getBody());
+        }
+        try {
+            return objectMapper.readValue(response.getBody(), KakaoPublicKeys.class);
+        } catch (JsonProcessingException e) {
+            throw new AuthException(AuthExceptionErrorCode.AUTH_PUBLIC_KEY_ERROR, "Kakao 공개키 응답을 해석할 수 없습니다.");
+        }
+    }
+
+    /**
+     * 인가 코드로 토큰 발급을 요청한다. 4xx 응답은 호출자가 응답 본문의 에러 메시지를 해석할 수 있도록 그대로 반환한다.
+     */
+    public KakaoApiResponse requestToken(MultiValueMap<String, String> formData) {
+        return execute(KakaoEndpoint.TOKEN, formData, null, AuthExceptionErrorCode.AUTH_ERROR_CONNECT_WITH_KAKAO);
+    }
+
+    public String logout(String oauthId) {
+        return executeWithAdminKey(KakaoEndpoint.LOGOUT, oauthId, AuthExceptionErrorCode.AUTH_SIGN_OUT_KAKAO_FAIL);
+    }
+
+    public String unlink(String oauthId) {
+        return executeWithAdminKey(KakaoEndpoint.UNLINK, oauthId, AuthExceptionErrorCode.AUTH_DISCONNECT_KAKAO_FAIL);
+    }
+
+    private String executeWithAdminKey(KakaoEndpoint endpoint, String oauthId, AuthExceptionErrorCode errorCode) {
+        MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+        params.add("target_id_type", "user_id");
+        params.add("target_id", oauthId);
+
+        KakaoApiResponse response = execute(endpoint, params, "KakaoAK " + adminKey, errorCode);
+        if (!response.isSuccess()) {
+            throw new AuthException(errorCode, response.getBody());
+        }
+        return response.getBody();
+    }
+
+    private KakaoApiResponse execute(KakaoEndpoint endpoint, MultiValueMap<String, String> formData,
+                                     String authorization, AuthExceptionErrorCode errorCode) {
+        WebClient.RequestBodySpec requestSpec = webClients.get(endpoint)
+                .method(endpoint.getMethod())
+                .uri(endpoint.getPath());
+        if (authorization != null) {
+            requestSpec.header(HttpHeaders.AUTHORIZATION, authorization);
+        }
+        WebClient.RequestHeadersSpec<?> request = formData == null ? requestSpec
+                : requestSpec.contentType(MediaType.APPLICATION_FORM_URLENCODED).body(BodyInserters.fromFormData(formData));
+
+        try {
+            return Mono.defer(() -> {
+                        Timer.Sample sample = Timer.start(meterRegistry);
+                        return request.exchangeToMono(response -> response.bodyToMono(String.class)
+                                        .defaultIfEmpty("")
+                                        .map(body -> new KakaoApiResponse(response.statusCode(), body)))
+                                .doOnSuccess(response -> sample.stop(requestTimer(endpoint, outcomeOf(response.getStatusCode()))))
+                                .doOnError(e -> sample.stop(requestTimer(endpoint, outcomeOf(e))))
+                                .flatMap(response -> response.getStatusCode().is5xxServerError()
+                                        ? Mono.error(new KakaoServerErrorException(response))
+                                        : Mono.just(response));
+                    })
+                    .retryWhen(Retry.backoff(endpoint.getMaxRetries(), retryMinBackoff)
+                            .jitter(RETRY_JITTER_FACTOR)
+                            .filter(e -> isRetryable(endpoint, e))
+                            .doBeforeRetry(signal -> retryCounter(endpoint).increment())
+                            .onRetryExhaustedThrow((spec, signal) -> signal.failure()))
+                    .block();
+        } catch (KakaoServerErrorException e) {
+            log.error("KakaoApiClient.execute, {} 서버 오류 응답. status: {}", endpoint, e.response.getStatusCode());
+            throw new AuthException(errorCode, e.response.getBody());
+        } catch (RuntimeException e) {
+            log.error("KakaoApiClient.execute, {} 호출 실패. {}", endpoint, e.getMessage());
+            throw new AuthException(errorCode, "Kakao 서버와 통신 중 오류가 발생했습니다. " + e.getMessage());
+        }
+    }
+
+    /**
+     * 연결 자체에 실패한 경우는 요청이 전달되지 않았으므로 항상 재시도한다.
+     * 응답 지연이나 5xx 응답은 요청이 처리되었을 수 있으므로 idempotent 한 엔드포인트만 재시도한다.
+     */
+    private boolean isRetryable(KakaoEndpoint endpoint, Throwable e) {
+        if (e instanceof WebClientRequestException
+                && (e.getCause() instanceof ConnectException || e.getCause() instanceof ConnectTimeoutException)) {
+            return true;
+        }
+        return endpoint.isIdempotent() && (e instanceof WebClientRequestException || e instanceof KakaoServerErrorException);
+    }
+
+    private String outcomeOf(HttpStatusCode statusCode) {
+        if (statusCode.is2xxSuccessful()) {
+            return "SUCCESS";
+        }
+        return statusCode.is4xxClientError() ? "CLIENT_ERROR" : "SERVER_ERROR";
+    }
+
+    private String outcomeOf(Throwable e) {
+        Throwable cause = e.getCause() != null ? e.getCause() : e;
+        return cause instanceof ReadTimeoutException || cause instanceof TimeoutException ? "TIMEOUT" : "IO_ERROR";
+    }
+
+    private Timer requestTimer(KakaoEndpoint endpoint, String outcome) {
+        return Timer.builder("kakao.client.requests")
+                .description("Kakao API 호출 시간")
+                .tag("endpoint", endpoint.name())
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private Counter retryCounter(KakaoEndpoint endpoint) {
+        return Counter.builder("kakao.client.retries")
+                .description("Kakao API 재시도 횟수")
+                .tag("endpoint", endpoint.name())
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void destroy() {
+        connectionProvider.dispose();
+    }
+
+    private static class KakaoServerErrorException extends RuntimeException {
+        private final KakaoApiResponse response;
+
+        private KakaoServerErrorException(KakaoApiResponse response) {
+            super("Kakao server error : " + response.getStatusCode());
+            this.response = response;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.swyp3.babpool.infra.auth.kakao;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.springframework.http.HttpStatusCode;
+
+@ToString
+@Getter
+@RequiredArgsConstructor
+public class KakaoApiResponse {
+    private final HttpStatusCode statusCode;
+    private final String body;
+
+    public boolean isSuccess() {
+        return statusCode.is2xxSuccessful();
+    }
+}
@@ -0,0 +1,29 @@
+package com.swyp3.babpool.infra.auth.kakao;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpMethod;
+
+import java.time.Duration;
+
+/**
+ * Kakao 서버 호출 엔드포인트별 타임아웃과 재시도 정책.
+ * idempotent 하지 않은 요청(인가 코드로 토큰 발급)은 연결 실패가 아닌 이상 재시도하지 않는다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum KakaoEndpoint {
+    TOKEN(true, HttpMethod.POST, "/oauth/token", Duration.ofSeconds(1), Duration.ofSeconds(3), 1, false),
+    JWKS(true, HttpMethod.GET, "/.well-known/jwks.json", Duration.ofSeconds(1), Duration.ofSeconds(2), 2, true),
+    LOGOUT(false, HttpMethod.POST, "/v1/user/logout", Duration.ofSeconds(1), Duration.ofSeconds(3), 2, true),
+    UNLINK(false, HttpMethod.POST, "/v1/user/unlink", Duration.ofSeconds(1), Duration.ofSeconds(3), 2, true),
+    ;
+
+    private final boolean authServer; // true : kauth.kakao.com, false : kapi.kakao.com
+    private final HttpMethod method;
+    private final String path;
+    private final Duration connectTimeout;
+    private final Duration responseTimeout;
+    private final int maxRetries;
+    private final boolean idempotent;
+}
@@ -0,0 +1,148 @@
+package com.swyp3.babpool.infra.auth.kakao;
+
+import com.swyp3.babpool.infra.auth.BabpoolPublicKey;
+import com.swyp3.babpool.infra.auth.PublicKeyGenerator;
+import com.swyp3.babpool.infra.auth.exception.AuthException;
+import com.swyp3.babpool.infra.auth.exception.errorcode.AuthExceptionErrorCode;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.security.PublicKey;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Kakao OIDC 공개키(JWKS)를 kid 별 {@link PublicKey} 로 변환하여 캐싱한다.
+ * - TTL 이 지나면 기존 키로 바로 응답하고, 갱신은 백그라운드에서 한 번만 실행한다. 로그인 요청이 갱신을 기다리지 않는다.
+ * - 캐시에 없는 kid 가 들어오면(Kakao 의 키 교체) 요청 스레드에서 갱신하되, 최소 갱신 간격으로 호출 횟수를 제한한다.
+ *   아직 한 번도 적재하지 못한 경우도 같은 경로로 처리된다.
+ * - Kakao 서버와 통신할 수 없으면 기존 키를 계속 사용한다.
+ */
+@Slf4j
+@Component
+public class KakaoPublicKeyCache {
+
+    private final KakaoClient kakaoClient;
+    private final PublicKeyGenerator publicKeyGenerator;
+    private final Duration timeToLive;
+    private final Duration minRefreshInterval;
+    private final Clock clock;
+    private final Executor refreshExecutor;
+    private final AtomicBoolean backgroundRefreshing = new AtomicBoolean();
+
+    private volatile Map<String, PublicKey> publicKeys = Collections.emptyMap();
+    private volatile Instant fetchedAt = Instant.EPOCH;
+    private volatile Instant lastRefreshAttemptAt = Instant.EPOCH;
+
+    @Autowired
+    public KakaoPublicKeyCache(KakaoClient kakaoClient, PublicKeyGenerator publicKeyGenerator,
+                               @Value("${property.oauth.kakao.jwks.ttl-seconds:86400}") long ttlSeconds,
+                               @Value("${property.oauth.kakao.jwks.min-refresh-interval-seconds:60}") long minRefreshIntervalSeconds) {
+        this(kakaoClient, publicKeyGenerator, Duration.ofSeconds(ttlSeconds), Duration.ofSeconds(minRefreshIntervalSeconds), Clock.systemUTC(),
+                Executors.newSingleThreadExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "kakao-jwks-refresh");
+                    thread.setDaemon(true);
+                    return thread;
+                }));
+    }
+
+    KakaoPublicKeyCache(KakaoClient kakaoClient, PublicKeyGenerator publicKeyGenerator,
+                        Duration timeToLive, Duration minRefreshInterval, Clock clock, Executor refreshExecutor) {
+        this.kakaoClient = kakaoClient;
+        this.publicKeyGenerator = publicKeyGenerator;
+        this.timeToLive = timeToLive;
+        this.minRefreshInterval = minRefreshInterval;
+        this.clock = clock;
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (refreshExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * @param kid Identity Token 헤더의 kid
+     * @return 서명 검증에 사용할 공개키
+     */
+    public PublicKey getPublicKey(String kid) {
+        if (isExpired() && !publicKeys.isEmpty()) {
+            refreshInBackground();
+        }
+        PublicKey publicKey = publicKeys.get(kid);
+        if (publicKey == null && refresh(true)) {
+            publicKey = publicKeys.get(kid);
+        }
+        if (publicKey == null) {
+            throw new AuthException(AuthExceptionErrorCode.AUTH_JWT_ERROR,
+                    "공개키 리스트 중 Identity Token을 디코딩할 공개키를 찾을 수 없습니다.");
+        }
+        return publicKey;
+    }
+
+    private boolean isExpired() {
+        return clock.instant().isAfter(fetchedAt.plus(timeToLive));
+    }
+
+    /**
+     * 이미 백그라운드 갱신이 실행 중이면 새로 제출하지 않는다.
+     */
+    private void refreshInBackground() {
+        if (!backgroundRefreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    refresh(false);
+                } finally {
+                    backgroundRefreshing.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            backgroundRefreshing.set(false);
+            log.warn("KakaoPublicKeyCache.refreshInBackground, 갱신 작업 제출 실패. {}", e.getMessage());
+        }
+    }
+
+    /**
+     * JWKS 를 다시 조회한다. 최소 갱신 간격 이내에 이미 시도했다면 조회하지 않는다.
+     * @param unknownKid 캐시에 없는 kid 로 인한 갱신인지 여부 (로그 용도)
+     * @return 갱신 성공 여부
+     */
+    private synchronized boolean refresh(boolean unknownKid) {
+        Instant now = clock.instant();
+        if (now.isBefore(lastRefreshAttemptAt.plus(minRefreshInterval))) {
+            return false;
+        }
+        lastRefreshAttemptAt = now;
+        try {
+            KakaoPublicKeys kakaoPublicKeys = kakaoClient.getKakaoOIDCOpenKeys();
+            Map<String, PublicKey> refreshed = new HashMap<>();
+            for (BabpoolPublicKey key : kakaoPublicKeys.getKeys()) {
+                refreshed.put(key.getKid(), publicKeyGenerator.generatePublicKeyWithPublicKey(key));
+            }
+            publicKeys = Collections.unmodifiableMap(refreshed);
+            fetchedAt = now;
+            log.info("KakaoPublicKeyCache.refresh, 공개키 {}개 갱신 완료. unknownKid: {}", refreshed.size(), unknownKid);
+            return true;
+        } catch (Exception e) {
+            log.warn("KakaoPublicKeyCache.refresh, 공개키 갱신 실패. 기존 공개키 {}개를 계속 사용합니다. {}", publicKeys.size(), e.getMessage());
+            return false;
+        }
+    }
+}
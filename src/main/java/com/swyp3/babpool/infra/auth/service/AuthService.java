@@ -10,6 +10,9 @@ import com.swyp3.babpool.infra.auth.kakao.KakaoProvider;
 import com.swyp3.babpool.infra.auth.dao.AuthRepository;
 import com.swyp3.babpool.infra.auth.kakao.KakaoTokenProvider;
 import com.swyp3.babpool.infra.auth.response.AuthMemberResponse;
+import com.swyp3.babpool.infra.auth.unlink.SocialUnlinkJob;
+import com.swyp3.babpool.infra.auth.unlink.SocialUnlinkOutboxRelay;
+import com.swyp3.babpool.global.tsid.TsidKeyGenerator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -23,6 +26,8 @@ public class AuthService {
     private final KakaoProvider kakaoProvider;
     private final KakaoTokenProvider kakaoTokenProvider;
     private final AuthRepository authRepository;
+    private final SocialUnlinkOutboxRelay socialUnlinkOutboxRelay;
+    private final TsidKeyGenerator tsidKeyGenerator;
 
     public AuthMemberResponse getUserDataByCode(String code, String localhostFlag) {
         String idToken = kakaoTokenProvider.getIdTokenFromKakao(code, localhostFlag);
@@ -55,14 +60,10 @@ public class AuthService {
         }
     }
 
-    public void socialServiceDisconnect(Long userId, AuthPlatform authPlatformName) {
-        switch (authPlatformName) {
+    public void disconnectSocialService(AuthPlatform authPlatform, String platformId) {
+        switch (authPlatform) {
             case KAKAO:
-                Auth auth = authRepository.findByUserId(userId).orElseThrow(
-                        () -> new AuthException(AuthExceptionErrorCode.AUTH_INFO_NOT_FOUND,
-                                "해당 사용자의 소셜로그인 정보가 존재하지 않습니다.")
-                );
-                kakaoProvider.kakaoMemberDisconnect(auth.getOauthPlatformId());
+                kakaoProvider.kakaoMemberDisconnect(platformId);
                 break;
             default:
                 throw new AuthException(AuthExceptionErrorCode.NOT_SUPPORTED_AUTH_PLATFORM,
@@ -70,6 +71,28 @@ public class AuthService {
         }
     }
 
+    /**
+     * 소셜 서비스 연결 끊기 작업을 탈퇴 트랜잭션의 아웃박스에 저장하고, 커밋 이후 작업 큐로 옮긴다.
+     * 실제 연결 끊기는 {@code SocialUnlinkWorker} 가 처리한다.
+     * 플랫폼 식별 값이 초기화되기 전에 호출해야 한다.
+     */
+    public void requestSocialServiceDisconnect(Long userId) {
+        Auth auth = authRepository.findByUserId(userId).orElseThrow(
+                () -> new AuthException(AuthExceptionErrorCode.AUTH_INFO_NOT_FOUND,
+                        "해당 사용자의 소셜로그인 정보가 존재하지 않습니다.")
+        );
+        if (auth.getOauthPlatformName() != AuthPlatform.KAKAO) {
+            throw new AuthException(AuthExceptionErrorCode.NOT_SUPPORTED_AUTH_PLATFORM,
+                    "지원하지 않는 소셜로그인 플랫폼입니다.");
+        }
+        socialUnlinkOutboxRelay.saveAndRelayAfterCommit(SocialUnlinkJob.builder()
+                .jobId(tsidKeyGenerator.generateTsid())
+                .userId(userId)
+                .authPlatform(auth.getOauthPlatformName())
+                .platformId(auth.getOauthPlatformId())
+                .build());
+    }
+
     public void updateOAuthPlatformId(Long userId) {
         int updatedRows = authRepository.updateOauthPlatformId(userId);
         if (updatedRows == 0) {
@@ -0,0 +1,37 @@
+package com.swyp3.babpool.infra.auth.unlink;
+
+import com.swyp3.babpool.infra.auth.AuthPlatform;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 회원 탈퇴 이후 비동기로 처리되는 소셜 서비스 연결 끊기 작업.
+ * 탈퇴 시 t_oauth 의 플랫폼 식별 값이 초기화되므로, 작업 생성 시점의 플랫폼 식별 값을 함께 보관한다.
+ */
+@ToString
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SocialUnlinkJob {
+
+    private Long jobId;
+    private Long userId;
+    private AuthPlatform authPlatform;
+    private String platformId;
+    private int attempt;
+
+    @Builder
+    public SocialUnlinkJob(Long jobId, Long userId, AuthPlatform authPlatform, String platformId, int attempt) {
+        this.jobId = jobId;
+        this.userId = userId;
+        this.authPlatform = authPlatform;
+        this.platformId = platformId;
+        this.attempt = attempt;
+    }
+
+    public SocialUnlinkJob nextAttempt() {
+        return new SocialUnlinkJob(jobId, userId, authPlatform, platformId, attempt + 1);
+    }
+}
@@ -0,0 +1,127 @@
+package com.swyp3.babpool.infra.auth.unlink;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.swyp3.babpool.infra.redis.RedisRetryQueue;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Redis 에 저장되는 소셜 연결 끊기 작업 큐.
+ * - social-unlink:queue (ZSET) : 작업 식별 값, score 는 다음 실행 가능 시각(epoch millis)
+ * - social-unlink:jobs (HASH) : 작업 식별 값 -> 작업 JSON
+ * - social-unlink:dead-letter (LIST) : 최대 재시도 횟수를 넘긴 작업 JSON
+ * 대기열과 dead-letter 는 {@link RedisRetryQueue} 로 관리한다.
+ */
+@Slf4j
+@Component
+public class SocialUnlinkJobQueue {
+
+    static final String QUEUE_KEY = "social-unlink:queue";
+    static final String JOB_KEY = "social-unlink:jobs";
+    static final String DEAD_LETTER_KEY = "social-unlink:dead-letter";
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisRetryQueue retryQueue;
+    private final Counter enqueuedCounter;
+
+    public SocialUnlinkJobQueue(StringRedisTemplate stringRedisTemplate, MeterRegistry meterRegistry) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.retryQueue = new RedisRetryQueue(stringRedisTemplate, QUEUE_KEY, DEAD_LETTER_KEY);
+        this.enqueuedCounter = Counter.builder("social.unlink.jobs.enqueued")
+                .description("등록된 소셜 연결 끊기 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("social.unlink.queue.size", this, SocialUnlinkJobQueue::size)
+                .description("대기 중인 소셜 연결 끊기 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("social.unlink.dead-letter.size", this, SocialUnlinkJobQueue::deadLetterSize)
+                .description("재시도 한도를 넘겨 보관된 소셜 연결 끊기 작업 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 작업을 등록한다. 이미 대기 중인(재시도 대기, 처리 중 포함) 작업이면 실행 시각과 시도 횟수를 바꾸지 않는다.
+     * 작업은 회원 탈퇴 트랜잭션에서 아웃박스에 먼저 저장되고, {@link SocialUnlinkOutboxRelay} 가 이 메서드로 옮긴다.
+     */
+    public void enqueue(SocialUnlinkJob job) {
+        String jobId = String.valueOf(job.getJobId());
+        stringRedisTemplate.opsForHash().putIfAbsent(JOB_KEY, jobId, serialize(job));
+        if (retryQueue.addIfAbsent(List.of(jobId)) > 0) {
+            enqueuedCounter.increment();
+        }
+    }
+
+    /**
+     * 임대한 작업의 JSON 을 읽는다. 작업 JSON 이 없는 식별 값은 대기열에서 제거한다.
+     */
+    public List<SocialUnlinkJob> claimDueJobs(int limit, Duration lease) {
+        List<String> jobIds = retryQueue.claimDue(limit, lease);
+        List<SocialUnlinkJob> jobs = new ArrayList<>();
+        if (jobIds.isEmpty()) {
+            return jobs;
+        }
+        List<Object> payloads = stringRedisTemplate.opsForHash().multiGet(JOB_KEY, new ArrayList<>(jobIds));
+        List<String> missingJobIds = new ArrayList<>();
+        for (int index = 0; index < jobIds.size(); index++) {
+            Object payload = payloads.get(index);
+            if (payload == null) {
+                missingJobIds.add(jobIds.get(index));
+                continue;
+            }
+            try {
+                jobs.add(objectMapper.readValue(String.valueOf(payload), SocialUnlinkJob.class));
+            } catch (JsonProcessingException e) {
+                log.error("SocialUnlinkJobQueue.claimDueJobs, 작업을 해석할 수 없습니다. payload: {}", payload);
+            }
+        }
+        retryQueue.remove(missingJobIds);
+        return jobs;
+    }
+
+    public void complete(SocialUnlinkJob job) {
+        String jobId = String.valueOf(job.getJobId());
+        retryQueue.remove(List.of(jobId));
+        stringRedisTemplate.opsForHash().delete(JOB_KEY, jobId);
+    }
+
+    public void retryLater(SocialUnlinkJob job, Duration delay) {
+        schedule(job, delay);
+    }
+
+    public void deadLetter(SocialUnlinkJob job) {
+        retryQueue.deadLetter(serialize(job));
+        complete(job);
+    }
+
+    public long size() {
+        return retryQueue.size();
+    }
+
+    public long deadLetterSize() {
+        return retryQueue.deadLetterSize();
+    }
+
+    private void schedule(SocialUnlinkJob job, Duration delay) {
+        String jobId = String.valueOf(job.getJobId());
+        stringRedisTemplate.opsForHash().put(JOB_KEY, jobId, serialize(job));
+        retryQueue.retryLater(jobId, delay);
+    }
+
+    private String serialize(SocialUnlinkJob job) {
+        try {
+            return objectMapper.writeValueAsString(job);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("소셜 연결 끊기 작업 직렬화 실패. job: " + job, e);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.swyp3.babpool.infra.auth.unlink;
+
+import com.swyp3.babpool.infra.auth.dao.SocialUnlinkOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 회원 탈퇴 트랜잭션 안에서 소셜 연결 끊기 작업을 t_social_unlink_outbox 에 저장하고, 커밋 이후 Redis 작업 큐로 옮긴다.
+ * - 커밋 직후 바로 옮기고, 옮긴 작업은 아웃박스에서 삭제한다.
+ * - Redis 장애 등으로 옮기지 못한 작업은 아웃박스에 남아 있으므로, 주기적으로 RELAY_DELAY 보다 오래된 작업을 다시 옮긴다.
+ * 큐 등록은 작업 식별 값 기준으로 멱등이므로, 여러 서버가 같은 작업을 옮겨도 한 번만 처리된다.
+ */
+@Slf4j
+@Component
+public class SocialUnlinkOutboxRelay {
+
+    static final int BATCH_SIZE = 100;
+    /**
+     * 커밋 직후 옮기는 중인 작업을 주기 작업이 중복해서 옮기지 않도록 두는 여유 시간
+     */
+    static final Duration RELAY_DELAY = Duration.ofMinutes(1);
+
+    private final SocialUnlinkOutboxRepository socialUnlinkOutboxRepository;
+    private final SocialUnlinkJobQueue socialUnlinkJobQueue;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final Counter relayFailedCounter;
+
+    @Autowired
+    public SocialUnlinkOutboxRelay(SocialUnlinkOutboxRepository socialUnlinkOutboxRepository, SocialUnlinkJobQueue socialUnlinkJobQueue,
+                                   PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this(socialUnlinkOutboxRepository, socialUnlinkJobQueue, transactionManager, meterRegistry, Clock.systemDefaultZone());
+    }
+
+    SocialUnlinkOutboxRelay(SocialUnlinkOutboxRepository socialUnlinkOutboxRepository, SocialUnlinkJobQueue socialUnlinkJobQueue,
+                            PlatformTransactionManager transactionManager, MeterRegistry meterRegistry, Clock clock) {
+        this.socialUnlinkOutboxRepository = socialUnlinkOutboxRepository;
+        this.socialUnlinkJobQueue = socialUnlinkJobQueue;
+        // 커밋 이후(afterCommit) 호출되어도 탈퇴 트랜잭션과 별개로 삭제가 커밋되도록 새 트랜잭션을 사용한다.
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.clock = clock;
+        this.relayFailedCounter = Counter.builder("social.unlink.outbox.relay.failed")
+                .description("Redis 작업 큐로 옮기지 못한 소셜 연결 끊기 작업 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 현재 트랜잭션에 작업을 저장하고, 커밋 이후 작업 큐로 옮긴다. 탈퇴 트랜잭션이 롤백되면 작업도 함께 롤백된다.
+     */
+    public void saveAndRelayAfterCommit(SocialUnlinkJob job) {
+        socialUnlinkOutboxRepository.save(job);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            relay(List.of(job));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                relay(List.of(job));
+            }
+        });
+    }
+
+    // 1분 마다 실행
+    @Scheduled(fixedDelayString = "${property.social-unlink.outbox.relay-interval-ms:60000}", initialDelay = 1000 * 30)
+    public void relayPendingJobs() {
+        try {
+            List<SocialUnlinkJob> jobs = socialUnlinkOutboxRepository.findCreatedBefore(LocalDateTime.now(clock).minus(RELAY_DELAY), BATCH_SIZE);
+            if (jobs.isEmpty()) {
+                return;
+            }
+            log.warn("SocialUnlinkOutboxRelay.relayPendingJobs, 작업 큐에 등록되지 않은 작업 {}개를 다시 등록합니다.", jobs.size());
+            relay(jobs);
+        } catch (Exception e) {
+            log.error("SocialUnlinkOutboxRelay.relayPendingJobs, 아웃박스 조회 실패. {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 작업을 큐에 등록하고, 등록된 작업만 아웃박스에서 삭제한다.
+     * @return 큐로 옮긴 작업 수
+     */
+    int relay(List<SocialUnlinkJob> jobs) {
+        List<Long> relayedJobIds = new ArrayList<>();
+        for (SocialUnlinkJob job : jobs) {
+            try {
+                socialUnlinkJobQueue.enqueue(job);
+                relayedJobIds.add(job.getJobId());
+            } catch (Exception e) {
+                relayFailedCounter.increment();
+                log.error("SocialUnlinkOutboxRelay.relay, 작업 등록 실패. 아웃박스에 남겨두고 다시 시도합니다. job: {}, {}", job, e.getMessage());
+            }
+        }
+        if (relayedJobIds.isEmpty()) {
+            return 0;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> socialUnlinkOutboxRepository.deleteByJobIds(relayedJobIds));
+        } catch (Exception e) {
+            // 삭제하지 못한 작업은 다시 옮겨지지만, 큐 등록이 멱등이므로 대기 중인 작업이 중복되지 않는다.
+            log.error("SocialUnlinkOutboxRelay.relay, 아웃박스 삭제 실패. jobIds: {}, {}", relayedJobIds, e.getMessage());
+        }
+        return relayedJobIds.size();
+    }
+}
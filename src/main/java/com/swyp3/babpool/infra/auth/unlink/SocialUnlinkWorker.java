@@ -0,0 +1,84 @@
+package com.swyp3.babpool.infra.auth.unlink;
+
+import com.swyp3.babpool.infra.auth.AuthPlatform;
+import com.swyp3.babpool.infra.auth.service.AuthService;
+import com.swyp3.babpool.infra.redis.RedisRetryQueue;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 소셜 연결 끊기 작업 큐를 주기적으로 확인하여 작업을 처리한다.
+ * 실패한 작업은 지수 백오프(지터 포함)로 재시도하고, 최대 시도 횟수를 넘기면 dead-letter 로 옮긴다.
+ */
+@Slf4j
+@Component
+public class SocialUnlinkWorker {
+
+    private static final int BATCH_SIZE = 20;
+    private static final Duration LEASE = Duration.ofMinutes(1);
+
+    private final SocialUnlinkJobQueue socialUnlinkJobQueue;
+    private final AuthService authService;
+    private final Counter succeededCounter;
+    private final Counter retriedCounter;
+    private final Counter deadLetteredCounter;
+
+    public SocialUnlinkWorker(SocialUnlinkJobQueue socialUnlinkJobQueue, AuthService authService, MeterRegistry meterRegistry) {
+        this.socialUnlinkJobQueue = socialUnlinkJobQueue;
+        this.authService = authService;
+        this.succeededCounter = jobCounter(meterRegistry, "succeeded");
+        this.retriedCounter = jobCounter(meterRegistry, "retried");
+        this.deadLetteredCounter = jobCounter(meterRegistry, "dead_lettered");
+    }
+
+    @Scheduled(fixedDelayString = "${property.social-unlink.poll-interval-ms:5000}", initialDelay = 1000 * 10)
+    public void processDueJobs() {
+        List<SocialUnlinkJob> jobs;
+        try {
+            jobs = socialUnlinkJobQueue.claimDueJobs(BATCH_SIZE, LEASE);
+        } catch (Exception e) {
+            log.error("SocialUnlinkWorker.processDueJobs, 작업 조회 실패. {}", e.getMessage());
+            return;
+        }
+        jobs.forEach(this::process);
+    }
+
+    void process(SocialUnlinkJob job) {
+        if (job.getAuthPlatform() != AuthPlatform.KAKAO) {
+            log.error("SocialUnlinkWorker.process, 지원하지 않는 소셜로그인 플랫폼입니다. job: {}", job);
+            socialUnlinkJobQueue.deadLetter(job);
+            deadLetteredCounter.increment();
+            return;
+        }
+        try {
+            authService.disconnectSocialService(job.getAuthPlatform(), job.getPlatformId());
+            socialUnlinkJobQueue.complete(job);
+            succeededCounter.increment();
+        } catch (Exception e) {
+            SocialUnlinkJob nextJob = job.nextAttempt();
+            if (nextJob.getAttempt() >= RedisRetryQueue.MAX_ATTEMPTS) {
+                log.error("SocialUnlinkWorker.process, 최대 재시도 횟수 초과로 dead-letter 로 이동합니다. job: {}, {}", nextJob, e.getMessage());
+                socialUnlinkJobQueue.deadLetter(nextJob);
+                deadLetteredCounter.increment();
+                return;
+            }
+            Duration backoff = RedisRetryQueue.backoffOf(nextJob.getAttempt());
+            log.warn("SocialUnlinkWorker.process, 연결 끊기 실패. {} 후 재시도합니다. job: {}, {}", backoff, nextJob, e.getMessage());
+            socialUnlinkJobQueue.retryLater(nextJob, backoff);
+            retriedCounter.increment();
+        }
+    }
+
+    private static Counter jobCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("social.unlink.jobs")
+                .description("처리된 소셜 연결 끊기 작업 수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,142 @@
+package com.swyp3.babpool.infra.image.application;
+
+import java.awt.Graphics2D;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+
+/**
+ * JPEG 의 EXIF Orientation(0x0112) 값을 읽어, 카메라가 기록한 방향대로 이미지를 돌리거나 뒤집는다.
+ * 휴대폰 사진은 픽셀을 센서 방향 그대로 저장하고 Orientation 으로 표시 방향을 알려주므로,
+ * 메타데이터를 지운 결과 이미지에는 방향을 픽셀에 반영해 두어야 한다.
+ * - APP1(Exif) 세그먼트의 첫 번째 IFD 만 읽고, 값이 없거나 형식이 맞지 않으면 1(그대로)로 본다.
+ * - PNG, GIF 등 JPEG 이 아닌 이미지는 1 로 본다.
+ */
+final class ExifOrientation {
+
+    static final int NORMAL = 1;
+
+    private static final int ORIENTATION_TAG = 0x0112;
+    private static final int MARKER_APP1 = 0xE1;
+    private static final int MARKER_SOS = 0xDA;
+    private static final int MARKER_EOI = 0xD9;
+    private static final byte[] EXIF_HEADER = {'E', 'x', 'i', 'f', 0, 0};
+
+    private ExifOrientation() {
+    }
+
+    static int of(byte[] source) {
+        if (source.length < 4 || (source[0] & 0xFF) != 0xFF || (source[1] & 0xFF) != 0xD8) {
+            return NORMAL;
+        }
+        int position = 2;
+        while (position + 4 <= source.length) {
+            if ((source[position] & 0xFF) != 0xFF) {
+                return NORMAL;
+            }
+            int marker = source[position + 1] & 0xFF;
+            if (marker == 0xFF) {
+                position++;
+                continue;
+            }
+            if (marker == MARKER_SOS || marker == MARKER_EOI) {
+                return NORMAL;
+            }
+            int length = readUnsignedShort(source, position + 2, true);
+            int segmentStart = position + 4;
+            int segmentEnd = position + 2 + length;
+            if (length < 2 || segmentEnd > source.length) {
+                return NORMAL;
+            }
+            if (marker == MARKER_APP1 && startsWith(source, segmentStart, segmentEnd, EXIF_HEADER)) {
+                return fromTiff(source, segmentStart + EXIF_HEADER.length, segmentEnd);
+            }
+            position = segmentEnd;
+        }
+        return NORMAL;
+    }
+
+    private static int fromTiff(byte[] source, int tiffStart, int tiffEnd) {
+        if (tiffStart + 8 > tiffEnd) {
+            return NORMAL;
+        }
+        boolean bigEndian;
+        if (source[tiffStart] == 'M' && source[tiffStart + 1] == 'M') {
+            bigEndian = true;
+        } else if (source[tiffStart] == 'I' && source[tiffStart + 1] == 'I') {
+            bigEndian = false;
+        } else {
+            return NORMAL;
+        }
+        long ifdOffset = readUnsignedInt(source, tiffStart + 4, bigEndian);
+        if (ifdOffset < 8 || tiffStart + ifdOffset + 2 > tiffEnd) {
+            return NORMAL;
+        }
+        int ifdStart = tiffStart + (int) ifdOffset;
+        int entryCount = readUnsignedShort(source, ifdStart, bigEndian);
+        for (int index = 0; index < entryCount; index++) {
+            int entry = ifdStart + 2 + index * 12;
+            if (entry + 12 > tiffEnd) {
+                return NORMAL;
+            }
+            if (readUnsignedShort(source, entry, bigEndian) == ORIENTATION_TAG) {
+                int orientation = readUnsignedShort(source, entry + 8, bigEndian);
+                return orientation >= 1 && orientation <= 8 ? orientation : NORMAL;
+            }
+        }
+        return NORMAL;
+    }
+
+    /**
+     * Orientation 2 ~ 8 의 좌우/상하 뒤집기와 회전을 적용한다. 5 ~ 8 은 가로, 세로 크기가 바뀐다.
+     */
+    static BufferedImage apply(BufferedImage image, int orientation) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        AffineTransform transform = switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, width, 0);       // 좌우 뒤집기
+            case 3 -> new AffineTransform(-1, 0, 0, -1, width, height); // 180도 회전
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, height);      // 상하 뒤집기
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);            // 왼쪽 위 - 오른쪽 아래 대각선 기준 뒤집기
+            case 6 -> new AffineTransform(0, 1, -1, 0, height, 0);      // 시계 방향 90도 회전
+            case 7 -> new AffineTransform(0, -1, -1, 0, height, width); // 오른쪽 위 - 왼쪽 아래 대각선 기준 뒤집기
+            case 8 -> new AffineTransform(0, -1, 1, 0, 0, width);       // 반시계 방향 90도 회전
+            default -> null;
+        };
+        if (transform == null) {
+            return image;
+        }
+        boolean swapEdges = orientation >= 5;
+        BufferedImage oriented = new BufferedImage(swapEdges ? height : width, swapEdges ? width : height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = oriented.createGraphics();
+        try {
+            graphics.drawImage(image, transform, null);
+        } finally {
+            graphics.dispose();
+        }
+        return oriented;
+    }
+
+    private static boolean startsWith(byte[] source, int start, int end, byte[] prefix) {
+        if (start + prefix.length > end) {
+            return false;
+        }
+        for (int index = 0; index < prefix.length; index++) {
+            if (source[start + index] != prefix[index]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int readUnsignedShort(byte[] source, int offset, boolean bigEndian) {
+        int first = source[offset] & 0xFF;
+        int second = source[offset + 1] & 0xFF;
+        return bigEndian ? (first << 8) | second : (second << 8) | first;
+    }
+
+    private static long readUnsignedInt(byte[] source, int offset, boolean bigEndian) {
+        long high = readUnsignedShort(source, bigEndian ? offset : offset + 2, bigEndian);
+        long low = readUnsignedShort(source, bigEndian ? offset + 2 : offset, bigEndian);
+        return (high << 16) | low;
+    }
+}
@@ -0,0 +1,154 @@
+package com.swyp3.babpool.infra.image.application;
+
+import com.swyp3.babpool.infra.image.domain.ImageVariant;
+import com.swyp3.babpool.infra.s3.exception.AwsS3ErrorCode;
+import com.swyp3.babpool.infra.s3.exception.AwsS3Exception;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 업로드한 이미지를 한 번만 디코딩하여 {@link ImageVariant} 별 JPEG 이미지를 만든다.
+ * - EXIF Orientation 대로 돌리거나 뒤집은 뒤 크기를 줄이고, 원본의 EXIF(촬영 위치 등), ICC 등 메타데이터는 옮기지 않는다.
+ * - 투명 배경(PNG, GIF)은 흰색으로 채우고, 움직이는 GIF 는 첫 프레임만 사용한다.
+ * - 디코딩 전에 이미지 크기를 읽어, 픽셀 수가 max-pixels 를 넘는 이미지(압축 폭탄)는 거절한다.
+ */
+@Slf4j
+@Component
+public class ImageVariantProcessor {
+
+    private static final String CONTENT_TYPE = "image/jpeg";
+    private static final String EXTENSION = "jpg";
+
+    private final float jpegQuality;
+    private final long maxPixels;
+
+    public ImageVariantProcessor(@Value("${property.image.jpeg-quality:0.82}") float jpegQuality,
+                                 @Value("${property.image.max-pixels:40000000}") long maxPixels) {
+        this.jpegQuality = jpegQuality;
+        this.maxPixels = maxPixels;
+    }
+
+    public List<ProcessedImage> process(byte[] source) {
+        BufferedImage current = ExifOrientation.apply(toRgb(decode(source)), ExifOrientation.of(source));
+        List<ProcessedImage> processedImages = new ArrayList<>();
+        for (ImageVariant variant : ImageVariant.values()) {
+            current = scaleToFit(current, variant.getMaxEdge());
+            processedImages.add(new ProcessedImage(variant, encodeJpeg(current), CONTENT_TYPE, EXTENSION,
+                    current.getWidth(), current.getHeight()));
+        }
+        return processedImages;
+    }
+
+    private BufferedImage decode(byte[] source) {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(source))) {
+            Iterator<ImageReader> readers = input == null ? null : ImageIO.getImageReaders(input);
+            if (readers == null || !readers.hasNext()) {
+                throw new AwsS3Exception(AwsS3ErrorCode.AWS_S3_IMAGE_PROCESS_FAIL, "Unsupported image format.");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > maxPixels) {
+                    throw new AwsS3Exception(AwsS3ErrorCode.AWS_S3_IMAGE_PROCESS_FAIL, "Image resolution is too large. pixels : " + pixels);
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException e) {
+            log.error("ImageVariantProcessor.decode, 이미지 디코딩에 실패했습니다. {}", e.getMessage());
+            throw new AwsS3Exception(AwsS3ErrorCode.AWS_S3_IMAGE_PROCESS_FAIL, "Image decode fail.");
+        }
+    }
+
+    private static BufferedImage toRgb(BufferedImage image) {
+        if (image.getType() == BufferedImage.TYPE_INT_RGB) {
+            return image;
+        }
+        BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = rgb.createGraphics();
+        try {
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, image.getWidth(), image.getHeight());
+            graphics.drawImage(image, 0, 0, null);
+        } finally {
+            graphics.dispose();
+        }
+        return rgb;
+    }
+
+    /**
+     * 한 번에 크게 줄이면 계단 현상이 생기므로, 목표 크기에 가까워질 때까지 절반씩 줄인 뒤 마지막에 맞춘다.
+     */
+    static BufferedImage scaleToFit(BufferedImage image, int maxEdge) {
+        int longEdge = Math.max(image.getWidth(), image.getHeight());
+        if (longEdge <= maxEdge) {
+            return image;
+        }
+        double scale = (double) maxEdge / longEdge;
+        int targetWidth = Math.max(1, (int) Math.round(image.getWidth() * scale));
+        int targetHeight = Math.max(1, (int) Math.round(image.getHeight() * scale));
+
+        BufferedImage current = image;
+        while (current.getWidth() / 2 >= targetWidth && current.getHeight() / 2 >= targetHeight) {
+            current = resize(current, current.getWidth() / 2, current.getHeight() / 2);
+        }
+        if (current.getWidth() != targetWidth || current.getHeight() != targetHeight) {
+            current = resize(current, targetWidth, targetHeight);
+        }
+        return current;
+    }
+
+    private static BufferedImage resize(BufferedImage image, int width, int height) {
+        BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return resized;
+    }
+
+    private byte[] encodeJpeg(BufferedImage image) {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutput = ImageIO.createImageOutputStream(output)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+            writer.setOutput(imageOutput);
+            // 원본 메타데이터를 넘기지 않으므로 EXIF 등은 기록되지 않는다. 방향은 process 에서 픽셀에 반영했다.
+            writer.write(null, new IIOImage(image, null, null), param);
+        } catch (IOException e) {
+            log.error("ImageVariantProcessor.encodeJpeg, 이미지 인코딩에 실패했습니다. {}", e.getMessage());
+            throw new AwsS3Exception(AwsS3ErrorCode.AWS_S3_IMAGE_PROCESS_FAIL, "Image encode fail.");
+        } finally {
+            writer.dispose();
+        }
+        return output.toByteArray();
+    }
+}
@@ -0,0 +1,15 @@
+package com.swyp3.babpool.infra.image.application;
+
+import com.swyp3.babpool.infra.image.domain.ImageVariant;
+
+import java.util.Map;
+
+/**
+ * 업로드한 {@link ImageVariant} 별 이미지 URL.
+ */
+public record ImageVariantUrls(Map<ImageVariant, String> urls) {
+
+    public String urlOf(ImageVariant variant) {
+        return urls.get(variant);
+    }
+}
@@ -0,0 +1,9 @@
+package com.swyp3.babpool.infra.image.application;
+
+import com.swyp3.babpool.infra.image.domain.ImageVariant;
+
+/**
+ * 크기를 줄이고 메타데이터를 제거하여 다시 인코딩한 이미지.
+ */
+public record ProcessedImage(ImageVariant variant, byte[] content, String contentType, String extension, int width, int height) {
+}
@@ -0,0 +1,30 @@
+package com.swyp3.babpool.infra.image.domain;
+
+/**
+ * 업로드한 프로필 이미지에서 만드는 크기별 이미지. 긴 변이 maxEdge 보다 크면 비율을 유지하여 줄인다.
+ * - DETAIL : 프로필 상세, 마이페이지, 밥약 상세 등 profile_image_url 로 사용하는 이미지
+ * - CARD : 프로필 목록 카드에 사용하는 작은 이미지 (profile_image_card_url)
+ * 큰 이미지부터 선언하여, 작은 이미지는 바로 앞의 큰 이미지를 줄여서 만든다.
+ */
+public enum ImageVariant {
+
+    DETAIL("detail", 1080),
+    CARD("card", 320),
+    ;
+
+    private final String key;
+    private final int maxEdge;
+
+    ImageVariant(String key, int maxEdge) {
+        this.key = key;
+        this.maxEdge = maxEdge;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public int getMaxEdge() {
+        return maxEdge;
+    }
+}
@@ -1,6 +1,8 @@
 package com.swyp3.babpool.infra.redis;
 
+import io.lettuce.core.resource.ClientResources;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -9,6 +11,7 @@ import org.springframework.context.annotation.Profile;
 import org.springframework.core.env.Environment;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
@@ -34,6 +37,7 @@ public class RedisRepositoryConfig {
 //    private String redisPassword;
 
     private final Environment environment;
+    private final ObjectProvider<ClientResources> clientResources;
 
     @Bean
     public RedisConnectionFactory redisConnectionFactory() {
@@ -46,7 +50,10 @@ public class RedisRepositoryConfig {
 //                redisStandaloneConfiguration.setPassword(redisPassword);
 //            }
 //        });
-        return new LettuceConnectionFactory(redisStandaloneConfiguration);
+        // Spring Boot 가 만든 ClientResources 를 사용해야 Lettuce 명령 지연 시간(lettuce.command.*)이 Micrometer 에 기록된다.
+        LettuceClientConfiguration.LettuceClientConfigurationBuilder clientConfiguration = LettuceClientConfiguration.builder();
+        clientResources.ifAvailable(clientConfiguration::clientResources);
+        return new LettuceConnectionFactory(redisStandaloneConfiguration, clientConfiguration.build());
     }
 
     @Bean
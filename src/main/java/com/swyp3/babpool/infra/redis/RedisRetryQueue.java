@@ -0,0 +1,113 @@
+package com.swyp3.babpool.infra.redis;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * 작업을 임대(lease) 방식으로 가져가는 Redis 재시도 대기열. S3 객체 삭제, 소셜 연결 끊기 작업 큐가 함께 사용한다.
+ * - queueKey (ZSET) : 작업 식별 값, score 는 다음 실행 가능 시각(epoch millis)
+ * - deadLetterKey (LIST) : 최대 재시도 횟수를 넘긴 작업
+ * 작업을 가져갈 때 score 를 임대 만료 시각으로 미뤄두므로, 처리 중 서버가 종료되어도 임대가 끝나면 다시 처리된다.
+ * 실패한 작업은 {@link #backoffOf} 만큼 미뤄 재시도하고, {@link #MAX_ATTEMPTS} 번 실패하면 dead-letter 로 옮긴다.
+ */
+public class RedisRetryQueue {
+
+    public static final int MAX_ATTEMPTS = 8;
+    private static final Duration BASE_BACKOFF = Duration.ofSeconds(30);
+    private static final Duration MAX_BACKOFF = Duration.ofHours(1);
+
+    /**
+     * 실행 시각이 된 작업을 limit 개 만큼 가져오면서, 다른 서버가 가져가지 못하도록 score 를 임대 만료 시각으로 갱신한다.
+     */
+    private static final RedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>(
+            "local ids = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, tonumber(ARGV[3])) " +
+            "for _, id in ipairs(ids) do " +
+            "  redis.call('ZADD', KEYS[1], 'XX', ARGV[2], id) " +
+            "end " +
+            "return ids", List.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final String queueKey;
+    private final String deadLetterKey;
+
+    public RedisRetryQueue(StringRedisTemplate stringRedisTemplate, String queueKey, String deadLetterKey) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.queueKey = queueKey;
+        this.deadLetterKey = deadLetterKey;
+    }
+
+    /**
+     * 작업을 바로 실행할 수 있도록 등록한다. 이미 대기 중인(재시도 대기, 처리 중 포함) 작업의 실행 시각은 바꾸지 않는다.
+     * @return 새로 등록된 작업 수
+     */
+    public long addIfAbsent(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        double now = System.currentTimeMillis();
+        Set<TypedTuple<String>> tuples = ids.stream()
+                .map(id -> TypedTuple.of(id, now))
+                .collect(Collectors.toSet());
+        Long added = stringRedisTemplate.opsForZSet().addIfAbsent(queueKey, tuples);
+        return added == null ? 0 : added;
+    }
+
+    public List<String> claimDue(int limit, Duration lease) {
+        long now = System.currentTimeMillis();
+        List<?> claimed = stringRedisTemplate.execute(CLAIM_SCRIPT, List.of(queueKey),
+                String.valueOf(now), String.valueOf(now + lease.toMillis()), String.valueOf(limit));
+        List<String> ids = new ArrayList<>();
+        if (claimed != null) {
+            claimed.forEach(id -> ids.add(String.valueOf(id)));
+        }
+        return ids;
+    }
+
+    public void retryLater(String id, Duration delay) {
+        stringRedisTemplate.opsForZSet().add(queueKey, id, System.currentTimeMillis() + delay.toMillis());
+    }
+
+    public void remove(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        stringRedisTemplate.opsForZSet().remove(queueKey, ids.toArray());
+    }
+
+    /**
+     * dead-letter 에 보관한다. 대기열에서 제거하는 것은 호출한 쪽에서 작업 데이터와 함께 처리한다.
+     */
+    public void deadLetter(String payload) {
+        stringRedisTemplate.opsForList().rightPush(deadLetterKey, payload);
+    }
+
+    public long size() {
+        Long size = stringRedisTemplate.opsForZSet().zCard(queueKey);
+        return size == null ? 0 : size;
+    }
+
+    public long deadLetterSize() {
+        Long size = stringRedisTemplate.opsForList().size(deadLetterKey);
+        return size == null ? 0 : size;
+    }
+
+    /**
+     * 30초 * 2^(attempt-1), 최대 1시간. 동시에 실패한 작업이 한꺼번에 재시도되지 않도록 ±20% 지터를 적용한다.
+     */
+    public static Duration backoffOf(int attempt) {
+        long exponential = BASE_BACKOFF.toMillis() << Math.min(attempt - 1, 20);
+        long capped = Math.min(exponential, MAX_BACKOFF.toMillis());
+        double jitter = ThreadLocalRandom.current().nextDouble(0.8, 1.2);
+        return Duration.ofMillis((long) (capped * jitter));
+    }
+}
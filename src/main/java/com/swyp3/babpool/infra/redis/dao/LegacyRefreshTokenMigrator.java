@@ -0,0 +1,58 @@
+package com.swyp3.babpool.infra.redis.dao;
+
+import com.swyp3.babpool.infra.redis.domain.TokenForRedis;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기존 token:{refreshToken} 해시(@RedisHash, {@link TokenRedisRepository})로 저장된 Refresh Token 을 읽고 지운다.
+ * deprecated 된 저장소는 이 클래스에서만 사용하며, {@link RefreshTokenStore} 가 조회에 실패했을 때만 호출한다.
+ *
+ * 제거 조건 : RefreshTokenStore 배포 이후 Refresh Token 최대 유효 기간이 지나 token:* 키가 남아 있지 않으면,
+ * property.jwt.refresh-token.legacy-fallback 을 false 로 설정하고 이 클래스와 TokenRedisRepository, TokenForRedis 를 삭제한다.
+ */
+@SuppressWarnings("deprecation")
+@Component
+public class LegacyRefreshTokenMigrator {
+
+    private static final String LEGACY_KEY_PREFIX = "token:";
+
+    private final TokenRedisRepository tokenRedisRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final boolean enabled;
+
+    public LegacyRefreshTokenMigrator(TokenRedisRepository tokenRedisRepository, StringRedisTemplate stringRedisTemplate,
+                                      @Value("${property.jwt.refresh-token.legacy-fallback:true}") boolean enabled) {
+        this.tokenRedisRepository = tokenRedisRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return 기존 형식으로 저장된 토큰의 사용자 식별 값과 남은 유효 기간, 없거나 비활성화된 경우 empty
+     */
+    public Optional<LegacyRefreshToken> find(String refreshToken) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        Optional<TokenForRedis> legacyToken = tokenRedisRepository.findById(refreshToken);
+        if (legacyToken.isEmpty()) {
+            return Optional.empty();
+        }
+        Long remainingSeconds = stringRedisTemplate.getExpire(LEGACY_KEY_PREFIX + refreshToken, TimeUnit.SECONDS);
+        Duration remainingTimeToLive = remainingSeconds == null || remainingSeconds <= 0 ? Duration.ZERO : Duration.ofSeconds(remainingSeconds);
+        return Optional.of(new LegacyRefreshToken(legacyToken.get().getUserId(), remainingTimeToLive));
+    }
+
+    public void delete(String refreshToken) {
+        tokenRedisRepository.deleteById(refreshToken);
+    }
+
+    public record LegacyRefreshToken(Long userId, Duration remainingTimeToLive) {
+    }
+}
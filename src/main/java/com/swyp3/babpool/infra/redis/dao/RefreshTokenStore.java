@@ -0,0 +1,147 @@
+package com.swyp3.babpool.infra.redis.dao;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Refresh Token 저장소. 기존 @RedisHash 저장소(TokenRedisRepository)를 대체한다.
+ * - refresh-token:{토큰 SHA-256 digest} (STRING) : 8byte big-endian userId, TTL = Refresh Token 유효 기간
+ * - refresh-token:user:{userId} (SET) : 사용자의 토큰 digest 목록, 모든 기기 로그아웃에 사용
+ * 여러 명령이 필요한 저장/삭제는 파이프라인으로 한 번에 전송한다.
+ *
+ * 기존 token:{refreshToken} 해시로 저장된 토큰은 조회 시 {@link LegacyRefreshTokenMigrator} 로 새 형식으로 옮긴 뒤 삭제한다.
+ */
+@Slf4j
+@Component
+public class RefreshTokenStore {
+
+    static final String TOKEN_KEY_PREFIX = "refresh-token:";
+    static final String USER_KEY_PREFIX = "refresh-token:user:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final LegacyRefreshTokenMigrator legacyRefreshTokenMigrator;
+
+    public RefreshTokenStore(StringRedisTemplate stringRedisTemplate, LegacyRefreshTokenMigrator legacyRefreshTokenMigrator) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.legacyRefreshTokenMigrator = legacyRefreshTokenMigrator;
+    }
+
+    public void save(String refreshToken, Long userId, Duration timeToLive) {
+        byte[] digest = digestOf(refreshToken);
+        byte[] tokenKey = tokenKeyOf(digest);
+        byte[] userKey = userKeyOf(userId);
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.stringCommands().set(tokenKey, encodeUserId(userId),
+                    Expiration.from(timeToLive), RedisStringCommands.SetOption.upsert());
+            connection.setCommands().sAdd(userKey, digest);
+            connection.keyCommands().expire(userKey, timeToLive.getSeconds());
+            return null;
+        });
+    }
+
+    /**
+     * @return Refresh Token 을 발급받은 사용자 식별 값, 저장되어 있지 않으면 empty
+     */
+    public Optional<Long> findUserId(String refreshToken) {
+        byte[] tokenKey = tokenKeyOf(digestOf(refreshToken));
+        byte[] value = stringRedisTemplate.execute((RedisCallback<byte[]>) connection -> connection.stringCommands().get(tokenKey));
+        if (value != null) {
+            return Optional.of(decodeUserId(value));
+        }
+        return migrateLegacyToken(refreshToken);
+    }
+
+    /**
+     * @return 삭제 여부
+     */
+    public boolean delete(String refreshToken) {
+        Optional<Long> userId = findUserId(refreshToken);
+        if (userId.isEmpty()) {
+            return false;
+        }
+        byte[] digest = digestOf(refreshToken);
+        byte[] tokenKey = tokenKeyOf(digest);
+        byte[] userKey = userKeyOf(userId.get());
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.keyCommands().del(tokenKey);
+            connection.setCommands().sRem(userKey, digest);
+            return null;
+        });
+        return true;
+    }
+
+    /**
+     * 사용자의 모든 Refresh Token 을 삭제한다. (모든 기기 로그아웃)
+     * @return 삭제 요청한 토큰 수, 이미 만료된 토큰도 포함된다.
+     */
+    public int deleteAllByUserId(Long userId) {
+        byte[] userKey = userKeyOf(userId);
+        Set<byte[]> digests = stringRedisTemplate.execute((RedisCallback<Set<byte[]>>) connection -> connection.setCommands().sMembers(userKey));
+        if (digests == null || digests.isEmpty()) {
+            return 0;
+        }
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (byte[] digest : digests) {
+                connection.keyCommands().del(tokenKeyOf(digest));
+            }
+            connection.keyCommands().del(userKey);
+            return null;
+        });
+        return digests.size();
+    }
+
+    /**
+     * 기존 @RedisHash 형식으로 저장된 토큰을 새 형식으로 옮긴다. 남은 TTL 은 그대로 유지한다.
+     */
+    private Optional<Long> migrateLegacyToken(String refreshToken) {
+        Optional<LegacyRefreshTokenMigrator.LegacyRefreshToken> legacyToken = legacyRefreshTokenMigrator.find(refreshToken);
+        if (legacyToken.isEmpty()) {
+            return Optional.empty();
+        }
+        Long userId = legacyToken.get().userId();
+        Duration remainingTimeToLive = legacyToken.get().remainingTimeToLive();
+        if (!remainingTimeToLive.isZero()) {
+            save(refreshToken, userId, remainingTimeToLive);
+        }
+        legacyRefreshTokenMigrator.delete(refreshToken);
+        log.info("RefreshTokenStore.migrateLegacyToken, 기존 형식의 Refresh Token 을 옮겼습니다. userId : {}", userId);
+        return Optional.of(userId);
+    }
+
+    private static byte[] tokenKeyOf(byte[] digest) {
+        return (TOKEN_KEY_PREFIX + Base64.getUrlEncoder().withoutPadding().encodeToString(digest)).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] userKeyOf(Long userId) {
+        return (USER_KEY_PREFIX + userId).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] encodeUserId(Long userId) {
+        return ByteBuffer.allocate(Long.BYTES).putLong(userId).array();
+    }
+
+    private static Long decodeUserId(byte[] value) {
+        return ByteBuffer.wrap(value).getLong();
+    }
+
+    private static byte[] digestOf(String refreshToken) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(refreshToken.getBytes(StandardCharsets.US_ASCII));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
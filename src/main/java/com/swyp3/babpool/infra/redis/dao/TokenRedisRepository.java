@@ -3,5 +3,9 @@ package com.swyp3.babpool.infra.redis.dao;
 import com.swyp3.babpool.infra.redis.domain.TokenForRedis;
 import org.springframework.data.repository.CrudRepository;
 
+/**
+ * @deprecated {@link RefreshTokenStore} 로 대체되었다. 기존 형식으로 저장된 토큰을 옮기는 용도로만 사용한다.
+ */
+@Deprecated
 public interface TokenRedisRepository extends CrudRepository<TokenForRedis, String> {
 }
@@ -6,6 +6,10 @@ import com.amazonaws.services.s3.model.DeleteObjectsRequest;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
 import com.fasterxml.uuid.Generators;
+import com.swyp3.babpool.infra.image.application.ImageVariantProcessor;
+import com.swyp3.babpool.infra.image.application.ImageVariantUrls;
+import com.swyp3.babpool.infra.image.application.ProcessedImage;
+import com.swyp3.babpool.infra.image.domain.ImageVariant;
 import com.swyp3.babpool.infra.s3.exception.AwsS3ErrorCode;
 import com.swyp3.babpool.infra.s3.exception.AwsS3Exception;
 import jakarta.validation.constraints.NotNull;
@@ -18,22 +22,44 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class AwsS3Provider {
     private static final String S3_BUCKET_DIRECTORY_NAME = "static";
+    public static final String S3_IMAGE_KEY_PREFIX = S3_BUCKET_DIRECTORY_NAME + "/";
+    // 직접 업로드한 원본을 확인 전까지 두는 비공개 경로. 공개 ACL 없이 올라가며, 확인 후 삭제한다.
+    private static final String S3_STAGING_DIRECTORY_NAME = "upload";
+    public static final String S3_STAGING_KEY_PREFIX = S3_STAGING_DIRECTORY_NAME + "/";
     private static final Map<String, Boolean> S3_ALLOWED_IMAGE_FILE_TYPES = Map.of(
             "image/jpeg", true,
             "image/png", true,
             "image/gif", true
     );
+    private static final Map<String, String> S3_IMAGE_FILE_EXTENSIONS = Map.of(
+            "image/jpeg", "jpg",
+            "image/png", "png",
+            "image/gif", "gif"
+    );
     private static final Integer S3_MAX_IMAGE_FILE_SIZE = 5_000_000; // 5MB
+    private static final String UPLOADER_METADATA_KEY = "uploader-id";
+    private static final Pattern IMAGE_VARIANT_KEY = Pattern.compile("^(" + S3_BUCKET_DIRECTORY_NAME + "/[0-9a-f-]{36})_[a-z]+\\.jpg$");
+    private static final Pattern DIRECT_UPLOAD_KEY = Pattern.compile("^" + S3_STAGING_DIRECTORY_NAME + "/[0-9a-f-]{36}\\.(jpg|png|gif)$");
     private final AmazonS3 amazonS3Client;
+    private final ObjectStore objectStore;
+    private final ImageVariantProcessor imageVariantProcessor;
     @Value("${cloud.aws.s3.bucket}")
     private String bucket;
+    @Value("${property.s3.presigned-upload.ttl-seconds:300}")
+    private long presignedUploadTtlSeconds = 300;
 
 
     public String uploadImage(@NotNull MultipartFile multipartFile) {
@@ -48,6 +74,85 @@ public class AwsS3Provider {
         return imageUrl;
     }
 
+    /**
+     * 업로드한 이미지를 한 번만 디코딩하여 {@link ImageVariant} 별 이미지를 만들고, 병렬로 업로드한다.
+     * 원본 파일은 메타데이터(EXIF 등)를 포함하므로 올리지 않는다.
+     * @return static/{uuid}_{variant}.jpg 형식으로 업로드된 이미지 URL
+     */
+    public ImageVariantUrls uploadImageVariants(@NotNull MultipartFile multipartFile) {
+        validateImageFileType(multipartFile.getContentType());
+        validateImageFileSize(multipartFile.getSize());
+
+        byte[] source;
+        try {
+            source = multipartFile.getBytes();
+        } catch (IOException e) {
+            log.error("S3 업로드할 이미지를 읽지 못했습니다. {}", e.getMessage());
+            throw new AwsS3Exception(AwsS3ErrorCode.AWS_S3_IMAGE_UPLOAD_FAIL,
+                    "Aws s3 image upload fail, in AwsS3Uploader.uploadImageVariants() method.");
+        }
+        return uploadVariantsOf(source);
+    }
+
+    /**
+     * 클라이언트가 이미지를 S3 에 직접 올릴 수 있는 PUT URL 을 발급한다. 이미지 파일은 애플리케이션 서버를 거치지 않는다.
+     * 원본은 EXIF(촬영 위치 등)를 포함할 수 있으므로 공개되지 않는 upload/ 경로에 올리고, 확인할 때 크기별 이미지로 다시 만든다.
+     * 업로드한 사용자를 확인할 수 있도록 사용자 식별 값을 메타데이터(x-amz-meta-uploader-id)로 서명에 포함한다.
+     * @param contentType 허용된 이미지 타입 (S3_ALLOWED_IMAGE_FILE_TYPES)
+     * @param contentLength 파일 크기, 최대 S3_MAX_IMAGE_FILE_SIZE
+     */
+    public PresignedUpload issueImageUploadUrl(@NotNull Long userId, String contentType, long contentLength) {
+        validateImageFileType(contentType);
+        validateImageFileSize(contentLength);
+
+        String fileName = S3_STAGING_KEY_PREFIX + Generators.timeBasedEpochGenerator().generate() + "." + S3_IMAGE_FILE_EXTENSIONS.get(contentType);
+        return objectStore.presignPut(fileName, contentType, contentLength,
+                Map.of(UPLOADER_METADATA_KEY, String.valueOf(userId)), Instant.now().plusSeconds(presignedUploadTtlSeconds));
+    }
+
+    /**
+     * 발급한 URL 로 업로드된 이미지를 HEAD 로 확인한다. 업로드한 사용자, 이미지 타입과 크기가 모두 맞아야 한다.
+     * 확인한 원본을 읽어 {@link ImageVariant} 별 이미지로 다시 만들어 공개 경로(static/)에 올린다.
+     * 원본(upload/{uuid}.{ext})은 공개하지 않으며, 호출한 쪽에서 삭제 대기열에 등록해야 한다.
+     * @return static/{uuid}_{variant}.jpg 형식으로 업로드된 이미지 URL
+     */
+    public ImageVariantUrls confirmUploadedImage(@NotNull Long userId, String fileName) {
+        if (fileName == null || !DIRECT_UPLOAD_KEY.matcher(fileName).matches()) {
+            throw new AwsS3Exception(AwsS3ErrorCode.AWS_S3_UPLOADED_IMAGE_INVALID, "Invalid uploaded image key.");
+        }
+        StoredObject storedObject = objectStore.head(fileName)
+                .orElseThrow(() -> new AwsS3Exception(AwsS3ErrorCode.AWS_S3_UPLOADED_IMAGE_NOT_FOUND,
+                        "Uploaded image not found. key : " + fileName));
+        if (!String.valueOf(userId).equals(storedObject.userMetadata().get(UPLOADER_METADATA_KEY))) {
+            log.warn("S3 업로드 확인 실패, 업로드한 사용자가 다릅니다. userId : {}, key : {}", userId, fileName);
+            throw new AwsS3Exception(AwsS3ErrorCode.AWS_S3_UPLOADED_IMAGE_INVALID, "Uploaded image does not belong to the user.");
+        }
+        validateImageFileType(storedObject.contentType());
+        validateImageFileSize(storedObject.contentLength());
+
+        log.info("S3 직접 업로드 확인. key: {}", fileName);
+        return uploadVariantsOf(objectStore.read(fileName));
+    }
+
+    private ImageVariantUrls uploadVariantsOf(byte[] source) {
+        List<ProcessedImage> processedImages = imageVariantProcessor.process(source);
+
+        String baseName = S3_BUCKET_DIRECTORY_NAME + "/" + Generators.timeBasedEpochGenerator().generate();
+        List<ObjectContent> objects = new ArrayList<>();
+        Map<ImageVariant, String> keyByVariant = new EnumMap<>(ImageVariant.class);
+        for (ProcessedImage processedImage : processedImages) {
+            String key = baseName + "_" + processedImage.variant().getKey() + "." + processedImage.extension();
+            objects.add(new ObjectContent(key, processedImage.content(), processedImage.contentType()));
+            keyByVariant.put(processedImage.variant(), key);
+        }
+        objectStore.putAll(objects);
+
+        Map<ImageVariant, String> urlByVariant = new EnumMap<>(ImageVariant.class);
+        keyByVariant.forEach((variant, key) -> urlByVariant.put(variant, objectStore.urlOf(key)));
+        log.info("S3 파일 업로드에 성공. URL: {}", urlByVariant);
+        return new ImageVariantUrls(urlByVariant);
+    }
+
     private void uploadToS3Bucket(MultipartFile multipartFile, String fileName) {
         ObjectMetadata objectMetadata = new ObjectMetadata();
         objectMetadata.setContentType(multipartFile.getContentType());
@@ -81,16 +186,24 @@ public class AwsS3Provider {
         }
     }
 
-    public boolean deleteImage(String imageUrlFromProfileRepository) {
-        String fileName = S3_BUCKET_DIRECTORY_NAME + imageUrlFromProfileRepository.substring(imageUrlFromProfileRepository.lastIndexOf("/"));
-        try {
-            amazonS3Client.deleteObject(bucket, fileName);
-        } catch (Exception e) {
-            log.error("S3 파일 삭제에 실패했습니다. {}", e.getMessage());
-            throw new AwsS3Exception(AwsS3ErrorCode.AWS_S3_IMAGE_DELETE_FAIL,
-                    "Aws s3 image delete fail, in AwsS3Uploader.deleteImage() method.");
+    /**
+     * 사용자가 업로드한 이미지 URL 의 S3 객체 키. 크기별 이미지(static/{uuid}_{variant}.jpg)라면 함께 만든 모든 크기의 키를 반환한다.
+     * @return S3 에 저장된 이미지가 아니라면(카카오, 구글 CDN) 빈 리스트
+     */
+    public List<String> selfUploadedObjectKeysOf(String imageUrl) {
+        if (!StringUtils.hasText(imageUrl) || !imageUrl.startsWith(getAmazonS3ClientUrlPrefix())) {
+            return List.of();
+        }
+        String fileName = S3_BUCKET_DIRECTORY_NAME + imageUrl.substring(imageUrl.lastIndexOf("/"));
+        Matcher variantKey = IMAGE_VARIANT_KEY.matcher(fileName);
+        if (!variantKey.matches()) {
+            return List.of(fileName);
+        }
+        List<String> fileNames = new ArrayList<>();
+        for (ImageVariant variant : ImageVariant.values()) {
+            fileNames.add(variantKey.group(1) + "_" + variant.getKey() + ".jpg");
         }
-        return true;
+        return fileNames;
     }
 
     public String getAmazonS3ClientUrlPrefix() {
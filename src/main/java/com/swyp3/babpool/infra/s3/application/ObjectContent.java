@@ -0,0 +1,7 @@
+package com.swyp3.babpool.infra.s3.application;
+
+/**
+ * {@link ObjectStore} 에 저장할 객체.
+ */
+public record ObjectContent(String key, byte[] content, String contentType) {
+}
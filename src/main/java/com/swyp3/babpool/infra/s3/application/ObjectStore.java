@@ -0,0 +1,56 @@
+package com.swyp3.babpool.infra.s3.application;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * 이미지 등 정적 파일 저장소. 운영에서는 {@link S3ObjectStore} 를 사용한다.
+ */
+public interface ObjectStore {
+
+    /**
+     * S3 DeleteObjects 한 번에 삭제할 수 있는 최대 키 수
+     */
+    int MAX_DELETE_BATCH_SIZE = 1000;
+
+    /**
+     * 객체들을 병렬로 저장하고, 모두 저장될 때까지 기다린다. 하나라도 실패하면 AwsS3Exception 을 던진다.
+     */
+    void putAll(List<ObjectContent> objects);
+
+    /**
+     * 저장한 객체의 공개 URL
+     */
+    String urlOf(String key);
+
+    /**
+     * 클라이언트가 객체를 직접 업로드할 PUT URL 을 발급한다. 콘텐츠 타입, 크기, 사용자 메타데이터가 서명에 포함된다.
+     * 업로드된 객체는 공개되지 않는다.
+     */
+    PresignedUpload presignPut(String key, String contentType, long contentLength, Map<String, String> userMetadata, Instant expiresAt);
+
+    /**
+     * 객체의 메타데이터를 조회한다. 객체가 없으면 빈 값을 반환한다.
+     */
+    Optional<StoredObject> head(String key);
+
+    /**
+     * 객체의 내용을 읽는다. 객체가 없거나 읽지 못하면 AwsS3Exception 을 던진다.
+     */
+    byte[] read(String key);
+
+    /**
+     * 객체들을 한 번의 요청(S3 DeleteObjects)으로 삭제한다. 한 번에 최대 {@link #MAX_DELETE_BATCH_SIZE} 개.
+     * 요청 자체가 실패하면 AwsS3Exception 을 던진다.
+     * @return 삭제하지 못한 키. 이미 없는 키는 삭제된 것으로 본다.
+     */
+    List<String> deleteAll(List<String> keys);
+
+    /**
+     * prefix 아래에서 modifiedBefore 이전에 저장된 객체의 키를 페이지(최대 1000개) 단위로 전달한다.
+     */
+    void listKeys(String prefix, Instant modifiedBefore, Consumer<List<String>> pageConsumer);
+}
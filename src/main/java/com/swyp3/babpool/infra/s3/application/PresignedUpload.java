@@ -0,0 +1,12 @@
+package com.swyp3.babpool.infra.s3.application;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * 클라이언트가 저장소에 직접 PUT 으로 업로드할 수 있는 서명된 URL.
+ * requiredHeaders 는 서명에 포함되어 있으므로 값을 바꾸지 않고 그대로 보내야 한다.
+ * Content-Length 도 서명에 포함되므로, 발급받을 때 알린 크기와 같은 파일만 올릴 수 있다.
+ */
+public record PresignedUpload(String key, String url, Map<String, String> requiredHeaders, Instant expiresAt) {
+}
@@ -0,0 +1,216 @@
+package com.swyp3.babpool.infra.s3.application;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.HttpMethod;
+import com.amazonaws.services.s3.Headers;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.ListObjectsV2Request;
+import com.amazonaws.services.s3.model.ListObjectsV2Result;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.model.S3ObjectInputStream;
+import com.amazonaws.services.s3.model.S3ObjectSummary;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
+import com.amazonaws.services.s3.transfer.Upload;
+import com.swyp3.babpool.infra.s3.exception.AwsS3ErrorCode;
+import com.swyp3.babpool.infra.s3.exception.AwsS3Exception;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * S3 TransferManager 로 객체를 업로드한다.
+ * - 업로드 스레드 수(property.s3.upload.threads)와 대기열(property.s3.upload.queue-capacity)을 제한하며,
+ *   대기열이 가득 차면 요청 스레드에서 직접 업로드하여 요청 속도를 늦춘다.
+ * - multipart-threshold-bytes 보다 큰 객체는 multipart upload 로 나누어 병렬로 올린다.
+ * - 키가 매번 새로 만들어지므로 Cache-Control 을 immutable 로 지정한다.
+ * - 직접 업로드용 PUT URL 은 Content-Type, Content-Length, 사용자 메타데이터를 서명에 포함한다.
+ *   공개 ACL 을 서명하지 않으므로 직접 업로드한 원본은 버킷 기본 설정대로 비공개로 저장된다.
+ * - 삭제는 DeleteObjects(quiet) 로 여러 객체를 한 번에 요청하고, 실패한 키만 돌려준다.
+ */
+@Slf4j
+@Component
+public class S3ObjectStore implements ObjectStore {
+
+    private static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+    private static final long MINIMUM_PART_SIZE = 5L * 1024 * 1024; // S3 multipart 최소 크기
+
+    private final AmazonS3 amazonS3Client;
+    private final String bucket;
+    private final TransferManager transferManager;
+
+    public S3ObjectStore(AmazonS3 amazonS3Client,
+                         @Value("${cloud.aws.s3.bucket}") String bucket,
+                         @Value("${property.s3.upload.threads:4}") int threads,
+                         @Value("${property.s3.upload.queue-capacity:64}") int queueCapacity,
+                         @Value("${property.s3.upload.multipart-threshold-bytes:8388608}") long multipartThresholdBytes) {
+        this.amazonS3Client = amazonS3Client;
+        this.bucket = bucket;
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("s3-upload-"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        this.transferManager = TransferManagerBuilder.standard()
+                .withS3Client(amazonS3Client)
+                .withExecutorFactory(() -> executor)
+                .withShutDownThreadPools(true)
+                .withMultipartUploadThreshold(Math.max(multipartThresholdBytes, MINIMUM_PART_SIZE))
+                .withMinimumUploadPartSize(MINIMUM_PART_SIZE)
+                .build();
+    }
+
+    @Override
+    public void putAll(List<ObjectContent> objects) {
+        List<Upload> uploads = new ArrayList<>();
+        try {
+            for (ObjectContent object : objects) {
+                uploads.add(transferManager.upload(putObjectRequest(object)));
+            }
+            for (Upload upload : uploads) {
+                upload.waitForCompletion();
+            }
+        } catch (AmazonClientException | InterruptedException e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            uploads.forEach(upload -> upload.abort());
+            log.error("S3 파일 업로드에 실패했습니다. {}", e.getMessage());
+            throw new AwsS3Exception(AwsS3ErrorCode.AWS_S3_IMAGE_UPLOAD_FAIL,
+                    "Aws s3 image upload fail, in S3ObjectStore.putAll() method.");
+        }
+    }
+
+    @Override
+    public String urlOf(String key) {
+        return amazonS3Client.getUrl(bucket, key).toString();
+    }
+
+    @Override
+    public PresignedUpload presignPut(String key, String contentType, long contentLength, Map<String, String> userMetadata, Instant expiresAt) {
+        Map<String, String> requiredHeaders = new LinkedHashMap<>();
+        requiredHeaders.put(Headers.CONTENT_TYPE, contentType);
+        userMetadata.forEach((name, value) -> requiredHeaders.put(Headers.S3_USER_METADATA_PREFIX + name, value));
+
+        GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucket, key, HttpMethod.PUT)
+                .withExpiration(Date.from(expiresAt))
+                .withContentType(contentType);
+        // 브라우저가 파일 크기로 채우는 Content-Length 까지 서명하여, 발급받을 때 알린 크기와 다른 파일은 S3 가 거절한다.
+        request.putCustomRequestHeader(Headers.CONTENT_LENGTH, String.valueOf(contentLength));
+        requiredHeaders.forEach((name, value) -> {
+            if (!Headers.CONTENT_TYPE.equals(name)) {
+                request.putCustomRequestHeader(name, value);
+            }
+        });
+        return new PresignedUpload(key, amazonS3Client.generatePresignedUrl(request).toString(), requiredHeaders, expiresAt);
+    }
+
+    @Override
+    public Optional<StoredObject> head(String key) {
+        try {
+            ObjectMetadata objectMetadata = amazonS3Client.getObjectMetadata(bucket, key);
+            return Optional.of(new StoredObject(key, objectMetadata.getContentType(), objectMetadata.getContentLength(),
+                    objectMetadata.getUserMetadata()));
+        } catch (AmazonS3Exception e) {
+            if (e.getStatusCode() == 404) {
+                return Optional.empty();
+            }
+            log.error("S3 파일 조회에 실패했습니다. {}", e.getMessage());
+            throw new AwsS3Exception(AwsS3ErrorCode.AWS_S3_UPLOADED_IMAGE_NOT_FOUND,
+                    "Aws s3 object head fail, in S3ObjectStore.head() method.");
+        }
+    }
+
+    @Override
+    public byte[] read(String key) {
+        try (S3Object s3Object = amazonS3Client.getObject(bucket, key);
+             S3ObjectInputStream content = s3Object.getObjectContent()) {
+            return content.readAllBytes();
+        } catch (AmazonClientException | IOException e) {
+            log.error("S3 파일 읽기에 실패했습니다. {}", e.getMessage());
+            throw new AwsS3Exception(AwsS3ErrorCode.AWS_S3_UPLOADED_IMAGE_NOT_FOUND,
+                    "Aws s3 object read fail, in S3ObjectStore.read() method.");
+        }
+    }
+
+    @Override
+    public List<String> deleteAll(List<String> keys) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+        if (keys.size() > MAX_DELETE_BATCH_SIZE) {
+            throw new IllegalArgumentException("한 번에 삭제할 수 있는 객체는 최대 " + MAX_DELETE_BATCH_SIZE + "개 입니다. size : " + keys.size());
+        }
+        try {
+            amazonS3Client.deleteObjects(new DeleteObjectsRequest(bucket)
+                    .withKeys(keys.toArray(String[]::new))
+                    .withQuiet(true));
+            return List.of();
+        } catch (MultiObjectDeleteException e) {
+            return e.getErrors().stream()
+                    .map(MultiObjectDeleteException.DeleteError::getKey)
+                    .toList();
+        } catch (AmazonClientException e) {
+            log.error("S3 파일 삭제에 실패했습니다. {}", e.getMessage());
+            throw new AwsS3Exception(AwsS3ErrorCode.AWS_S3_IMAGE_DELETE_FAIL,
+                    "Aws s3 image delete fail, in S3ObjectStore.deleteAll() method.");
+        }
+    }
+
+    @Override
+    public void listKeys(String prefix, Instant modifiedBefore, Consumer<List<String>> pageConsumer) {
+        ListObjectsV2Request request = new ListObjectsV2Request()
+                .withBucketName(bucket)
+                .withPrefix(prefix)
+                .withMaxKeys(MAX_DELETE_BATCH_SIZE);
+        ListObjectsV2Result result;
+        do {
+            result = amazonS3Client.listObjectsV2(request);
+            List<String> keys = result.getObjectSummaries().stream()
+                    .filter(summary -> summary.getLastModified().toInstant().isBefore(modifiedBefore))
+                    .map(S3ObjectSummary::getKey)
+                    .toList();
+            if (!keys.isEmpty()) {
+                pageConsumer.accept(keys);
+            }
+            request.setContinuationToken(result.getNextContinuationToken());
+        } while (result.isTruncated());
+    }
+
+    private PutObjectRequest putObjectRequest(ObjectContent object) {
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        objectMetadata.setContentType(object.contentType());
+        objectMetadata.setContentLength(object.content().length);
+        objectMetadata.setCacheControl(CACHE_CONTROL);
+        return new PutObjectRequest(bucket, object.key(), new ByteArrayInputStream(object.content()), objectMetadata)
+                .withCannedAcl(CannedAccessControlList.PublicRead);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // AmazonS3 클라이언트는 다른 빈과 함께 쓰므로 종료하지 않는다.
+        transferManager.shutdownNow(false);
+    }
+}
@@ -0,0 +1,9 @@
+package com.swyp3.babpool.infra.s3.application;
+
+import java.util.Map;
+
+/**
+ * 저장소에 저장된 객체의 메타데이터 (HEAD 결과).
+ */
+public record StoredObject(String key, String contentType, long contentLength, Map<String, String> userMetadata) {
+}
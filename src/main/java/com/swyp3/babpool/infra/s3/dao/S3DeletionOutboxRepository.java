@@ -0,0 +1,21 @@
+package com.swyp3.babpool.infra.s3.dao;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Mapper
+public interface S3DeletionOutboxRepository {
+
+    void saveAll(@Param("objectKeys") Collection<String> objectKeys);
+
+    List<String> findObjectKeysCreatedBefore(@Param("createdBefore") LocalDateTime createdBefore, @Param("limit") int limit);
+
+    /**
+     * 삭제 대기열 등록은 객체 키 기준으로 멱등이므로, 같은 키로 저장된 행은 모두 삭제한다.
+     */
+    int deleteByObjectKeys(@Param("objectKeys") Collection<String> objectKeys);
+}
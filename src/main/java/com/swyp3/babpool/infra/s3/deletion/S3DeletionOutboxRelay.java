@@ -0,0 +1,121 @@
+package com.swyp3.babpool.infra.s3.deletion;
+
+import com.swyp3.babpool.global.config.SchedulingConfig;
+import com.swyp3.babpool.infra.s3.dao.S3DeletionOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 이미지 수정 트랜잭션 안에서 삭제할 S3 객체 키를 t_s3_deletion_outbox 에 저장하고, 커밋 이후 Redis 삭제 대기열로 옮긴다.
+ * - 커밋 직후 바로 옮기고, 옮긴 키는 아웃박스에서 삭제한다.
+ * - Redis 장애 등으로 옮기지 못한 키는 아웃박스에 남아 있으므로, 주기적으로 RELAY_DELAY 보다 오래된 키를 다시 옮긴다.
+ * 대기열 등록은 객체 키 기준으로 멱등이므로, 여러 서버가 같은 키를 옮겨도 한 번만 삭제된다.
+ */
+@Slf4j
+@Component
+public class S3DeletionOutboxRelay {
+
+    static final int BATCH_SIZE = 100;
+    /**
+     * 커밋 직후 옮기는 중인 키를 주기 작업이 중복해서 옮기지 않도록 두는 여유 시간
+     */
+    static final Duration RELAY_DELAY = Duration.ofMinutes(1);
+
+    private final S3DeletionOutboxRepository s3DeletionOutboxRepository;
+    private final S3ObjectDeletionQueue s3ObjectDeletionQueue;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final Counter relayFailedCounter;
+
+    @Autowired
+    public S3DeletionOutboxRelay(S3DeletionOutboxRepository s3DeletionOutboxRepository, S3ObjectDeletionQueue s3ObjectDeletionQueue,
+                                 PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this(s3DeletionOutboxRepository, s3ObjectDeletionQueue, transactionManager, meterRegistry, Clock.systemDefaultZone());
+    }
+
+    S3DeletionOutboxRelay(S3DeletionOutboxRepository s3DeletionOutboxRepository, S3ObjectDeletionQueue s3ObjectDeletionQueue,
+                          PlatformTransactionManager transactionManager, MeterRegistry meterRegistry, Clock clock) {
+        this.s3DeletionOutboxRepository = s3DeletionOutboxRepository;
+        this.s3ObjectDeletionQueue = s3ObjectDeletionQueue;
+        // 커밋 이후(afterCommit) 호출되어도 이미지 수정 트랜잭션과 별개로 삭제가 커밋되도록 새 트랜잭션을 사용한다.
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.clock = clock;
+        this.relayFailedCounter = Counter.builder("s3.deletion.outbox.relay.failed")
+                .description("삭제 대기열로 옮기지 못한 S3 객체 키 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 현재 트랜잭션에 키를 저장하고, 커밋 이후 삭제 대기열로 옮긴다.
+     * 이미지 수정 트랜잭션이 롤백되면 기존 이미지는 계속 사용되므로, 저장한 키도 함께 롤백되어 삭제하지 않는다.
+     */
+    public void saveAndRelayAfterCommit(Collection<String> objectKeys) {
+        if (objectKeys.isEmpty()) {
+            return;
+        }
+        List<String> savedKeys = List.copyOf(objectKeys);
+        s3DeletionOutboxRepository.saveAll(savedKeys);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            relay(savedKeys);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                relay(savedKeys);
+            }
+        });
+    }
+
+    // 1분 마다 실행
+    @Scheduled(fixedDelayString = "${property.s3.deletion.outbox.relay-interval-ms:60000}", initialDelay = 1000 * 30, scheduler = SchedulingConfig.S3_DELETION_SCHEDULER)
+    public void relayPendingKeys() {
+        try {
+            List<String> objectKeys = s3DeletionOutboxRepository.findObjectKeysCreatedBefore(LocalDateTime.now(clock).minus(RELAY_DELAY), BATCH_SIZE);
+            if (objectKeys.isEmpty()) {
+                return;
+            }
+            log.warn("S3DeletionOutboxRelay.relayPendingKeys, 삭제 대기열에 등록되지 않은 키 {}개를 다시 등록합니다.", objectKeys.size());
+            relay(objectKeys);
+        } catch (Exception e) {
+            log.error("S3DeletionOutboxRelay.relayPendingKeys, 아웃박스 조회 실패. {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 키를 삭제 대기열에 등록하고, 등록되면 아웃박스에서 삭제한다.
+     * @return 대기열로 옮긴 키 수
+     */
+    int relay(List<String> objectKeys) {
+        try {
+            s3ObjectDeletionQueue.enqueue(objectKeys);
+        } catch (Exception e) {
+            relayFailedCounter.increment(objectKeys.size());
+            log.error("S3DeletionOutboxRelay.relay, 삭제 등록 실패. 아웃박스에 남겨두고 다시 시도합니다. keys: {}, {}", objectKeys, e.getMessage());
+            return 0;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> s3DeletionOutboxRepository.deleteByObjectKeys(objectKeys));
+        } catch (Exception e) {
+            // 삭제하지 못한 키는 다시 옮겨지지만, 대기열 등록이 멱등이므로 대기 중인 키가 중복되지 않는다.
+            log.error("S3DeletionOutboxRelay.relay, 아웃박스 삭제 실패. keys: {}, {}", objectKeys, e.getMessage());
+        }
+        return objectKeys.size();
+    }
+}
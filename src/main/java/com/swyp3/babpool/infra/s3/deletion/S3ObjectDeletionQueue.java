@@ -0,0 +1,95 @@
+package com.swyp3.babpool.infra.s3.deletion;
+
+import com.swyp3.babpool.infra.redis.RedisRetryQueue;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Redis 에 저장되는 S3 객체 삭제 대기열. 객체 키 자체를 작업 식별 값으로 사용하므로 같은 키는 한 번만 등록된다.
+ * - s3-deletion:queue (ZSET) : 객체 키, score 는 다음 실행 가능 시각(epoch millis)
+ * - s3-deletion:attempts (HASH) : 객체 키 -> 실패한 횟수
+ * - s3-deletion:dead-letter (LIST) : 최대 재시도 횟수를 넘긴 객체 키
+ * 대기열과 dead-letter 는 {@link RedisRetryQueue} 로 관리한다.
+ */
+@Component
+public class S3ObjectDeletionQueue {
+
+    static final String QUEUE_KEY = "s3-deletion:queue";
+    static final String ATTEMPT_KEY = "s3-deletion:attempts";
+    static final String DEAD_LETTER_KEY = "s3-deletion:dead-letter";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisRetryQueue retryQueue;
+    private final Counter enqueuedCounter;
+
+    public S3ObjectDeletionQueue(StringRedisTemplate stringRedisTemplate, MeterRegistry meterRegistry) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.retryQueue = new RedisRetryQueue(stringRedisTemplate, QUEUE_KEY, DEAD_LETTER_KEY);
+        this.enqueuedCounter = Counter.builder("s3.deletion.objects.enqueued")
+                .description("삭제 대기열에 등록된 S3 객체 수")
+                .register(meterRegistry);
+        Gauge.builder("s3.deletion.queue.size", this, S3ObjectDeletionQueue::size)
+                .description("삭제를 기다리는 S3 객체 수")
+                .register(meterRegistry);
+        Gauge.builder("s3.deletion.dead-letter.size", this, S3ObjectDeletionQueue::deadLetterSize)
+                .description("재시도 한도를 넘겨 보관된 S3 객체 키 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 키를 등록한다. 이미지 수정 트랜잭션에서 삭제할 키는 아웃박스에 먼저 저장되고, {@link S3DeletionOutboxRelay} 가 이 메서드로 옮긴다.
+     */
+    public void enqueue(Collection<String> objectKeys) {
+        if (objectKeys.isEmpty()) {
+            return;
+        }
+        // 이미 대기 중인(재시도 대기 포함) 키의 실행 시각은 바꾸지 않는다.
+        retryQueue.addIfAbsent(objectKeys);
+        enqueuedCounter.increment(objectKeys.size());
+    }
+
+    public List<String> claimDueKeys(int limit, Duration lease) {
+        return retryQueue.claimDue(limit, lease);
+    }
+
+    public void complete(Collection<String> objectKeys) {
+        if (objectKeys.isEmpty()) {
+            return;
+        }
+        retryQueue.remove(objectKeys);
+        stringRedisTemplate.opsForHash().delete(ATTEMPT_KEY, objectKeys.toArray());
+    }
+
+    /**
+     * 실패 횟수를 1 증가시킨다.
+     * @return 증가된 실패 횟수
+     */
+    public int recordFailure(String objectKey) {
+        Long attempt = stringRedisTemplate.opsForHash().increment(ATTEMPT_KEY, objectKey, 1);
+        return attempt == null ? 1 : attempt.intValue();
+    }
+
+    public void retryLater(String objectKey, Duration delay) {
+        retryQueue.retryLater(objectKey, delay);
+    }
+
+    public void deadLetter(String objectKey) {
+        retryQueue.deadLetter(objectKey);
+        complete(List.of(objectKey));
+    }
+
+    public long size() {
+        return retryQueue.size();
+    }
+
+    public long deadLetterSize() {
+        return retryQueue.deadLetterSize();
+    }
+}
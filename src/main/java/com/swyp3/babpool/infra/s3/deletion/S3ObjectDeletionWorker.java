@@ -0,0 +1,101 @@
+package com.swyp3.babpool.infra.s3.deletion;
+
+import com.swyp3.babpool.global.config.SchedulingConfig;
+import com.swyp3.babpool.infra.redis.RedisRetryQueue;
+import com.swyp3.babpool.infra.s3.application.ObjectStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * S3 객체 삭제 대기열을 주기적으로 확인하여, 최대 1000개씩 DeleteObjects 한 번으로 삭제한다.
+ * 요청 전체가 실패하면 가져온 키 모두를, 일부만 실패하면 실패한 키만 지수 백오프(지터 포함)로 재시도하고,
+ * 최대 시도 횟수를 넘기면 dead-letter 로 옮긴다.
+ */
+@Slf4j
+@Component
+public class S3ObjectDeletionWorker {
+
+    private static final Duration LEASE = Duration.ofMinutes(2);
+
+    private final S3ObjectDeletionQueue s3ObjectDeletionQueue;
+    private final ObjectStore objectStore;
+    private final Counter deletedCounter;
+    private final Counter retriedCounter;
+    private final Counter deadLetteredCounter;
+    private final Timer batchTimer;
+
+    public S3ObjectDeletionWorker(S3ObjectDeletionQueue s3ObjectDeletionQueue, ObjectStore objectStore, MeterRegistry meterRegistry) {
+        this.s3ObjectDeletionQueue = s3ObjectDeletionQueue;
+        this.objectStore = objectStore;
+        this.deletedCounter = objectCounter(meterRegistry, "deleted");
+        this.retriedCounter = objectCounter(meterRegistry, "retried");
+        this.deadLetteredCounter = objectCounter(meterRegistry, "dead_lettered");
+        this.batchTimer = Timer.builder("s3.deletion.batch")
+                .description("DeleteObjects 요청 한 번에 걸린 시간")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${property.s3.deletion.poll-interval-ms:10000}", initialDelay = 1000 * 30, scheduler = SchedulingConfig.S3_DELETION_SCHEDULER)
+    public void processDueKeys() {
+        List<String> objectKeys;
+        try {
+            objectKeys = s3ObjectDeletionQueue.claimDueKeys(ObjectStore.MAX_DELETE_BATCH_SIZE, LEASE);
+        } catch (Exception e) {
+            log.error("S3ObjectDeletionWorker.processDueKeys, 삭제 대기열 조회 실패. {}", e.getMessage());
+            return;
+        }
+        if (!objectKeys.isEmpty()) {
+            process(objectKeys);
+        }
+    }
+
+    void process(List<String> objectKeys) {
+        List<String> failedKeys;
+        try {
+            failedKeys = batchTimer.record(() -> objectStore.deleteAll(objectKeys));
+        } catch (Exception e) {
+            log.warn("S3ObjectDeletionWorker.process, DeleteObjects 요청 실패. size: {}, {}", objectKeys.size(), e.getMessage());
+            failedKeys = objectKeys;
+        }
+
+        Set<String> failedKeySet = new HashSet<>(failedKeys);
+        List<String> deletedKeys = new ArrayList<>();
+        for (String objectKey : objectKeys) {
+            if (!failedKeySet.contains(objectKey)) {
+                deletedKeys.add(objectKey);
+            }
+        }
+        s3ObjectDeletionQueue.complete(deletedKeys);
+        deletedCounter.increment(deletedKeys.size());
+        failedKeySet.forEach(this::retryOrDeadLetter);
+    }
+
+    private void retryOrDeadLetter(String objectKey) {
+        int attempt = s3ObjectDeletionQueue.recordFailure(objectKey);
+        if (attempt >= RedisRetryQueue.MAX_ATTEMPTS) {
+            log.error("S3ObjectDeletionWorker.retryOrDeadLetter, 최대 재시도 횟수 초과로 dead-letter 로 이동합니다. key: {}", objectKey);
+            s3ObjectDeletionQueue.deadLetter(objectKey);
+            deadLetteredCounter.increment();
+            return;
+        }
+        s3ObjectDeletionQueue.retryLater(objectKey, RedisRetryQueue.backoffOf(attempt));
+        retriedCounter.increment();
+    }
+
+    private static Counter objectCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("s3.deletion.objects")
+                .description("처리된 S3 객체 삭제 수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
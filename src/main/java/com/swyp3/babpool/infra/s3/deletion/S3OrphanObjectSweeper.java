@@ -0,0 +1,134 @@
+package com.swyp3.babpool.infra.s3.deletion;
+
+import com.swyp3.babpool.domain.profile.dao.ProfileRepository;
+import com.swyp3.babpool.global.config.SchedulingConfig;
+import com.swyp3.babpool.infra.s3.application.AwsS3Provider;
+import com.swyp3.babpool.infra.s3.application.ObjectStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 버킷의 static/ 아래 객체 중 어떤 프로필도 사용하지 않는 객체(고아 객체)를 찾아 삭제 대기열에 등록한다.
+ * - 크기별 이미지를 올린 뒤 프로필 수정 트랜잭션이 롤백되어 남은 이미지 등이 대상이다.
+ * - 직접 업로드 원본을 두는 upload/ 아래 객체는 프로필이 사용하지 않으므로, 확인하지 않고 남은 객체를 모두 등록한다.
+ * - 업로드 후 프로필에 저장되기 전의 객체를 지우지 않도록, min-age-hours 보다 오래된 객체만 확인한다.
+ * - 1000개 단위로 객체 URL 을 t_profile 의 profile_image_url, profile_image_card_url 과 비교한다.
+ * - 여러 서버 중 한 곳에서만 실행되도록 Redis 잠금(s3-orphan-sweep:lock)을 잡는다.
+ * 버킷을 다른 환경(DB)과 함께 사용하면 그 환경의 이미지를 고아 객체로 판단하므로, 버킷을 단독으로 사용하는 환경에서만 켠다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "property.s3.orphan-sweep.enabled", havingValue = "true")
+public class S3OrphanObjectSweeper {
+
+    static final String LOCK_KEY = "s3-orphan-sweep:lock";
+
+    private static final Duration LOCK_TIME = Duration.ofHours(1);
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+            "  return redis.call('DEL', KEYS[1]) " +
+            "end " +
+            "return 0", Long.class);
+
+    private final ObjectStore objectStore;
+    private final ProfileRepository profileRepository;
+    private final S3ObjectDeletionQueue s3ObjectDeletionQueue;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Duration minAge;
+    private final Clock clock;
+    private final String owner = UUID.randomUUID().toString();
+    private final Counter scannedCounter;
+    private final Counter orphanCounter;
+
+    @Autowired
+    public S3OrphanObjectSweeper(ObjectStore objectStore, ProfileRepository profileRepository, S3ObjectDeletionQueue s3ObjectDeletionQueue,
+                                 StringRedisTemplate stringRedisTemplate, MeterRegistry meterRegistry,
+                                 @Value("${property.s3.orphan-sweep.min-age-hours:24}") long minAgeHours) {
+        this(objectStore, profileRepository, s3ObjectDeletionQueue, stringRedisTemplate, meterRegistry, Duration.ofHours(minAgeHours), Clock.systemUTC());
+    }
+
+    S3OrphanObjectSweeper(ObjectStore objectStore, ProfileRepository profileRepository, S3ObjectDeletionQueue s3ObjectDeletionQueue,
+                          StringRedisTemplate stringRedisTemplate, MeterRegistry meterRegistry, Duration minAge, Clock clock) {
+        this.objectStore = objectStore;
+        this.profileRepository = profileRepository;
+        this.s3ObjectDeletionQueue = s3ObjectDeletionQueue;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.minAge = minAge;
+        this.clock = clock;
+        this.scannedCounter = sweepCounter(meterRegistry, "scanned");
+        this.orphanCounter = sweepCounter(meterRegistry, "orphan");
+    }
+
+    // 6시간 마다 실행, 초기 10분 딜레이
+    @Scheduled(fixedDelayString = "${property.s3.orphan-sweep.interval-ms:21600000}", initialDelay = 1000 * 60 * 10, scheduler = SchedulingConfig.S3_DELETION_SCHEDULER)
+    public void scheduleSweep() {
+        try {
+            Boolean locked = stringRedisTemplate.opsForValue().setIfAbsent(LOCK_KEY, owner, LOCK_TIME);
+            if (!Boolean.TRUE.equals(locked)) {
+                log.info("S3OrphanObjectSweeper.scheduleSweep, 다른 서버에서 실행 중입니다.");
+                return;
+            }
+            try {
+                long orphans = sweep();
+                log.info("S3OrphanObjectSweeper.scheduleSweep, 고아 객체 {}개를 삭제 대기열에 등록했습니다.", orphans);
+            } finally {
+                stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(LOCK_KEY), owner);
+            }
+        } catch (Exception e) {
+            log.error("S3OrphanObjectSweeper.scheduleSweep, 고아 객체 정리 실패. {}", e.getMessage());
+        }
+    }
+
+    /**
+     * @return 삭제 대기열에 등록한 고아 객체 수
+     */
+    long sweep() {
+        long[] orphans = {0};
+        objectStore.listKeys(AwsS3Provider.S3_IMAGE_KEY_PREFIX, clock.instant().minus(minAge), objectKeys -> {
+            Map<String, String> objectKeyByUrl = new LinkedHashMap<>();
+            objectKeys.forEach(objectKey -> objectKeyByUrl.put(objectStore.urlOf(objectKey), objectKey));
+            Set<String> referencedUrls = new HashSet<>(profileRepository.findReferencedImageUrls(List.copyOf(objectKeyByUrl.keySet())));
+
+            List<String> orphanKeys = objectKeyByUrl.entrySet().stream()
+                    .filter(entry -> !referencedUrls.contains(entry.getKey()))
+                    .map(Map.Entry::getValue)
+                    .toList();
+            s3ObjectDeletionQueue.enqueue(orphanKeys);
+            scannedCounter.increment(objectKeys.size());
+            orphanCounter.increment(orphanKeys.size());
+            orphans[0] += orphanKeys.size();
+        });
+        objectStore.listKeys(AwsS3Provider.S3_STAGING_KEY_PREFIX, clock.instant().minus(minAge), stagedKeys -> {
+            s3ObjectDeletionQueue.enqueue(stagedKeys);
+            scannedCounter.increment(stagedKeys.size());
+            orphanCounter.increment(stagedKeys.size());
+            orphans[0] += stagedKeys.size();
+        });
+        return orphans[0];
+    }
+
+    private static Counter sweepCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("s3.orphan-sweep.objects")
+                .description("고아 객체 정리에서 확인한 S3 객체 수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
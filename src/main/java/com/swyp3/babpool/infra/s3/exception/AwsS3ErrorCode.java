@@ -14,7 +14,10 @@ public enum AwsS3ErrorCode implements CustomErrorCode {
     AWS_S3_IMAGE_UPLOAD_FAIL(HttpStatus.FAILED_DEPENDENCY, "Aws s3 image upload fail."),
     AWS_S3_INVALID_FILE_TYPE(HttpStatus.BAD_REQUEST, "Invalid file type. Only JPEG and PNG are supported."),
     AWS_S3_FILE_TOO_LARGE(HttpStatus.BAD_REQUEST, "File size is too large. Maximum allowed size is 5MB."),
-    AWS_S3_IMAGE_DELETE_FAIL(HttpStatus.BAD_REQUEST, "Aws s3 image delete fail.");
+    AWS_S3_IMAGE_DELETE_FAIL(HttpStatus.BAD_REQUEST, "Aws s3 image delete fail."),
+    AWS_S3_IMAGE_PROCESS_FAIL(HttpStatus.BAD_REQUEST, "Image processing fail."),
+    AWS_S3_UPLOADED_IMAGE_NOT_FOUND(HttpStatus.NOT_FOUND, "Uploaded image not found."),
+    AWS_S3_UPLOADED_IMAGE_INVALID(HttpStatus.BAD_REQUEST, "Uploaded image does not match the issued upload url.");
 
     private final HttpStatus httpStatus;
     private final String message;
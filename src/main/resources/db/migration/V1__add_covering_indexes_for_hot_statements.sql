@@ -0,0 +1,35 @@
+-- 핫 경로 SQL 문(AppointmentMapper, ProfileMapper, ReviewMapper, PossibleDateTimeMapper, UserMapper)을 위한 인덱스.
+-- 기준 스키마는 운영 DB 에 이미 있으므로, 이 디렉터리의 V{버전}__{설명}.sql 을 버전 순서대로 배포 전에 적용한다.
+-- 각 인덱스가 어떤 SQL 문을 위한 것인지는 QueryPlanTest 에서 EXPLAIN 으로 확인한다.
+
+-- 보낸/받은 밥약 목록 : 사용자 조건 + 최신순 정렬을 인덱스 순서로 읽고, 상태 조건은 인덱스 안에서 거른다.
+-- 리뷰 조회의 "받은 사람의 완료된 밥약" 서브쿼리도 appointment_id(PK)까지 인덱스만으로 처리한다.
+CREATE INDEX idx_appointment_sender_create ON t_appointment (appointment_sender_id, appointment_create_date DESC, appointment_status);
+CREATE INDEX idx_appointment_receiver_create ON t_appointment (appointment_receiver_id, appointment_create_date DESC, appointment_status);
+-- 대기 중인 밥약 만료 배치
+CREATE INDEX idx_appointment_status_create ON t_appointment (appointment_status, appointment_create_date);
+
+-- 사용자의 가능 일정 조회(이번 달부터), 상태별 조회, 일정 삭제
+CREATE INDEX idx_possible_datetime_user_datetime ON t_possible_datetime (user_id, possible_datetime, possible_datetime_status);
+
+-- 사용자 기준 프로필 조인과 수정
+CREATE INDEX idx_profile_user ON t_profile (user_id);
+-- 공개 프로필 목록의 기본 정렬(최근 수정순) : 정렬 순서대로 읽다가 한 페이지를 채우면 멈춘다.
+CREATE INDEX idx_profile_active_modify ON t_profile (profile_active_flag, profile_modify_date DESC);
+
+-- 프로필 키워드 조인(user_id)과 키워드 필터(keyword_id)
+CREATE INDEX idx_user_keyword_user ON t_m_user_keyword (user_id, keyword_id);
+CREATE INDEX idx_user_keyword_keyword ON t_m_user_keyword (keyword_id, user_id);
+
+-- 밥약별 리뷰 조회와 유형별 리뷰 수
+CREATE INDEX idx_review_appointment ON t_review (appointment_id, review_delete_flag, review_create_date, review_rate);
+
+-- 밥약별 거절 사유
+CREATE INDEX idx_reject_appointment ON t_reject (appointment_id, reject_create_date);
+
+-- 소셜 로그인 사용자 조회
+CREATE INDEX idx_oauth_platform ON t_oauth (oauth_platform_name, oauth_platform_id, user_id);
+CREATE INDEX idx_oauth_user ON t_oauth (user_id);
+
+-- 이메일로 가입한 사용자 조회
+CREATE INDEX idx_user_account_email_status ON t_user_account (user_email, user_status);
@@ -0,0 +1,3 @@
+-- 프로필 목록 카드에 사용하는 작은 이미지 URL. 사용자가 직접 업로드한 이미지만 값이 있고,
+-- 소셜 프로필 이미지이거나 이전에 업로드한 이미지는 NULL 이므로 profile_image_url 을 대신 사용한다.
+ALTER TABLE t_profile ADD COLUMN profile_image_card_url VARCHAR(255) NULL AFTER profile_image_url;
@@ -0,0 +1,4 @@
+-- S3 고아 객체 정리(S3OrphanObjectSweeper) : 버킷의 키 1000개를 URL 로 바꿔 IN 조건으로 사용 중인지 확인한다.
+-- 인덱스가 없으면 페이지마다 t_profile 을 전체 스캔하게 된다.
+CREATE INDEX idx_profile_image_url ON t_profile (profile_image_url);
+CREATE INDEX idx_profile_image_card_url ON t_profile (profile_image_card_url);
@@ -0,0 +1,11 @@
+-- 소셜 연결 끊기 아웃박스 : 회원 탈퇴 트랜잭션 안에서 작업을 함께 저장하고, 커밋 이후 Redis 작업 큐(social-unlink:queue)로 옮긴다.
+-- 커밋 직후 등록에 실패한 작업은 SocialUnlinkOutboxRelay 가 주기적으로 다시 옮긴다. 옮긴 작업은 삭제한다.
+CREATE TABLE IF NOT EXISTS t_social_unlink_outbox
+(
+    social_unlink_job_id BIGINT       NOT NULL PRIMARY KEY,
+    user_id              BIGINT       NOT NULL,
+    oauth_platform_name  VARCHAR(20)  NOT NULL,
+    oauth_platform_id    VARCHAR(255) NOT NULL,
+    outbox_create_date   DATETIME     NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+CREATE INDEX idx_social_unlink_outbox_create ON t_social_unlink_outbox (outbox_create_date);
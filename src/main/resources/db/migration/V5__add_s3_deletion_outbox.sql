@@ -0,0 +1,10 @@
+-- S3 객체 삭제 아웃박스 : 이미지 수정 트랜잭션 안에서 삭제할 객체 키를 함께 저장하고, 커밋 이후 Redis 삭제 대기열(s3-deletion:queue)로 옮긴다.
+-- 커밋 직후 등록에 실패한 키는 S3DeletionOutboxRelay 가 주기적으로 다시 옮긴다. 옮긴 키는 삭제한다.
+CREATE TABLE IF NOT EXISTS t_s3_deletion_outbox
+(
+    s3_deletion_outbox_id BIGINT       NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    object_key            VARCHAR(255) NOT NULL,
+    outbox_create_date    DATETIME     NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+CREATE INDEX idx_s3_deletion_outbox_create ON t_s3_deletion_outbox (outbox_create_date);
+CREATE INDEX idx_s3_deletion_outbox_object_key ON t_s3_deletion_outbox (object_key);
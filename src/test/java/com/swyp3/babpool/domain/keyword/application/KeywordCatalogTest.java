@@ -0,0 +1,97 @@
+package com.swyp3.babpool.domain.keyword.application;
+
+import com.swyp3.babpool.domain.keyword.dao.KeywordRepository;
+import com.swyp3.babpool.domain.keyword.domain.Keyword;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+class KeywordCatalogTest {
+
+    @InjectMocks
+    private KeywordCatalog keywordCatalog;
+
+    @Mock
+    private KeywordRepository keywordRepository;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(keywordRepository.findAll()).thenReturn(List.of(
+                new Keyword(400000000000000003L, "관심사", "운동"),
+                new Keyword(400000000000000001L, "전공", "경영"),
+                new Keyword(400000000000000002L, "전공", "컴퓨터공학")
+        ));
+        keywordCatalog.refresh();
+    }
+
+    @DisplayName("getKeywordNames 메서드는, 키워드 식별 값 순서대로 이름을 반환하고 존재하지 않는 식별 값은 제외한다.")
+    @Test
+    void getKeywordNames() {
+        // when
+        String[] names = keywordCatalog.getKeywordNames(List.of(400000000000000002L, 999L, 400000000000000003L));
+
+        // then
+        assertThat(names).containsExactly("컴퓨터공학", "운동");
+    }
+
+    @DisplayName("getKeywordNames 메서드는, 키워드가 없으면 빈 배열을 반환한다.")
+    @Test
+    void getKeywordNamesWithEmptyList() {
+        assertThat(keywordCatalog.getKeywordNames(List.of())).isEmpty();
+        assertThat(keywordCatalog.getKeywordNames(null)).isEmpty();
+    }
+
+    @DisplayName("groupBySubject 메서드는, 키워드 이름을 주제별로 그룹핑한다.")
+    @Test
+    void groupBySubject() {
+        // when
+        Map<String, String[]> grouped = keywordCatalog.groupBySubject(
+                List.of(400000000000000001L, 400000000000000003L, 400000000000000002L));
+
+        // then
+        assertThat(grouped).containsOnlyKeys("관심사", "전공");
+        assertThat(grouped.get("전공")).containsExactly("경영", "컴퓨터공학");
+        assertThat(grouped.get("관심사")).containsExactly("운동");
+    }
+
+    @DisplayName("refresh 메서드는, 키워드 테이블을 다시 조회하여 스냅샷을 교체한다.")
+    @Test
+    void refresh() {
+        // given
+        when(keywordRepository.findAll()).thenReturn(List.of(new Keyword(400000000000000001L, "전공", "경영학")));
+
+        // when
+        keywordCatalog.refresh();
+
+        // then
+        assertThat(keywordCatalog.size()).isEqualTo(1);
+        assertThat(keywordCatalog.getKeywordName(400000000000000001L)).isEqualTo("경영학");
+        assertThat(keywordCatalog.getKeywordSubject(400000000000000002L)).isNull();
+    }
+
+    @DisplayName("scheduleRefresh 메서드는, 내용이 같으면 스냅샷을 교체하지 않고 조회에 실패하면 이전 스냅샷을 유지한다.")
+    @Test
+    void scheduleRefresh() {
+        // given
+        boolean unchanged = keywordCatalog.refresh();
+        when(keywordRepository.findAll()).thenThrow(new IllegalStateException("db down"));
+
+        // when
+        keywordCatalog.scheduleRefresh();
+
+        // then
+        assertThat(unchanged).isFalse();
+        assertThat(keywordCatalog.size()).isEqualTo(3);
+        assertThat(keywordCatalog.getKeywordName(400000000000000002L)).isEqualTo("컴퓨터공학");
+    }
+}
@@ -0,0 +1,84 @@
+package com.swyp3.babpool.domain.keyword.application;
+
+import com.swyp3.babpool.domain.keyword.dao.KeywordRepository;
+import com.swyp3.babpool.domain.keyword.dao.response.KeywordAndUserResponseDto;
+import com.swyp3.babpool.domain.keyword.domain.MappingUserKeyword;
+import com.swyp3.babpool.global.tsid.TsidKeyGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class KeywordServiceImplTest {
+
+    private static final Long USER_ID = 100000000000000001L;
+
+    @InjectMocks
+    private KeywordServiceImpl keywordService;
+
+    @Mock
+    private KeywordRepository keywordRepository;
+
+    @Mock
+    private KeywordCatalog keywordCatalog;
+
+    @Mock
+    private TsidKeyGenerator tsidKeyGenerator;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(keywordRepository.findAllByUserId(USER_ID)).thenReturn(List.of(
+                mapping(1L, 400000000000000001L),
+                mapping(2L, 400000000000000002L)
+        ));
+        when(tsidKeyGenerator.generateTsids(anyInt())).thenAnswer(invocation -> {
+            long[] tsids = new long[invocation.<Integer>getArgument(0)];
+            Arrays.fill(tsids, 3L);
+            return tsids;
+        });
+    }
+
+    @DisplayName("updateUserAndKeywordMapping 메서드는, 키워드 구성이 같으면 쿼리를 실행하지 않고 이벤트도 발행하지 않는다.")
+    @Test
+    void updateUserAndKeywordMappingWithoutChange() {
+        // when
+        boolean changed = keywordService.updateUserAndKeywordMapping(USER_ID, List.of(400000000000000002L, 400000000000000001L));
+
+        // then
+        assertThat(changed).isFalse();
+        verify(keywordRepository, never()).deleteKeywordMappingByMappingIds(anyList());
+        verify(keywordRepository, never()).saveUserAndKeywordMappingForEach(anyList());
+    }
+
+    @DisplayName("updateUserAndKeywordMapping 메서드는, 제거된 키워드만 삭제하고 추가된 키워드만 저장한다.")
+    @Test
+    void updateUserAndKeywordMappingWithChange() {
+        // when
+        boolean changed = keywordService.updateUserAndKeywordMapping(USER_ID, List.of(400000000000000002L, 400000000000000003L));
+
+        // then
+        assertThat(changed).isTrue();
+        verify(keywordRepository).deleteKeywordMappingByMappingIds(List.of(1L));
+        verify(keywordRepository).saveUserAndKeywordMappingForEach(argThat((List<MappingUserKeyword> mappings) ->
+                mappings.size() == 1 && mappings.get(0).getKeywordId().equals(400000000000000003L)));
+    }
+
+    private KeywordAndUserResponseDto mapping(Long mappingId, Long keywordId) {
+        return KeywordAndUserResponseDto.builder()
+                .mappingId(mappingId)
+                .userId(USER_ID)
+                .keywordId(keywordId)
+                .build();
+    }
+}
@@ -1,8 +1,8 @@
 package com.swyp3.babpool.domain.keyword.dao;
 
 import com.swyp3.babpool.domain.keyword.dao.response.KeywordAndUserResponseDto;
+import com.swyp3.babpool.domain.keyword.domain.Keyword;
 import com.swyp3.babpool.domain.keyword.domain.MappingUserKeyword;
-import com.swyp3.babpool.domain.profile.application.response.ProfileKeywordsResponse;
 import com.swyp3.babpool.global.tsid.TsidKeyGenerator;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeAll;
@@ -35,10 +35,6 @@ class KeywordRepositoryTest {
     }
 
 
-    /**
-     * H2 데이터베이스는 findKeywordsByUserId 매퍼에서 사용된 함수를 온전히 지원하지 않는다.
-     * 따라서 조회된 세부 정보를 확인할 수 없어 Null 여부만 테스트 한다.
-     */
     @DisplayName("findKeywords 매퍼는, 특정 사용자의 프로필 식별 값으로 키워드 목록을 조회한다.")
     @Test
     void findKeywords(){
@@ -56,6 +52,35 @@ class KeywordRepositoryTest {
         assertNotNull(keywordsResponse);
     }
 
+    @DisplayName("findAll 매퍼는, t_keyword 테이블의 모든 키워드를 식별 값 오름차순으로 조회한다.")
+    @Test
+    void findAll(){
+        //when
+        List<Keyword> keywords = keywordRepository.findAll();
+
+        //then
+        assertThat(keywords).isNotEmpty();
+        assertThat(keywords).extracting("keywordId").isSorted();
+        assertThat(keywords).allSatisfy(keyword -> {
+            assertNotNull(keyword.getKeywordName());
+            assertNotNull(keyword.getKeywordSubject());
+        });
+    }
+
+    @DisplayName("findKeywordIdsByUserId 매퍼는, 특정 사용자의 식별 값으로 키워드 식별 값 리스트를 조회한다.")
+    @Test
+    void findKeywordIdsByUserId(){
+        //given
+        Long userId = 100000000000000001L;
+
+        //when
+        List<Long> keywordIds = keywordRepository.findKeywordIdsByUserId(userId);
+
+        //then
+        assertThat(keywordIds)
+                .containsExactlyInAnyOrder(400000000000000001L, 400000000000000002L, 400000000000000003L);
+    }
+
     @DisplayName("findAllByUserId 매퍼는, 특정 사용자의 식별 값으로 KeywordAndUserResponseDto 목록을 조회한다.")
     @Test
     void findAllByUserId(){
@@ -72,6 +97,22 @@ class KeywordRepositoryTest {
                 .containsExactly(400000000000000001L, 400000000000000002L, 400000000000000003L);
     }
 
+    @DisplayName("findMappingsByUserIds 매퍼는, 여러 사용자의 식별 값으로 키워드 매핑 목록을 조회한다.")
+    @Test
+    void findMappingsByUserIds(){
+        //given
+        Long userId = 100000000000000001L;
+        Long userIdWithoutKeyword = tsidKeyGenerator.generateTsid();
+
+        //when
+        List<MappingUserKeyword> mappings = keywordRepository.findMappingsByUserIds(List.of(userId, userIdWithoutKeyword));
+
+        //then
+        assertThat(mappings).extracting("userId").containsOnly(userId);
+        assertThat(mappings).extracting("keywordId")
+                .containsExactlyInAnyOrder(400000000000000001L, 400000000000000002L, 400000000000000003L);
+    }
+
     @DisplayName("saveUserAndKeywordMappingForEach 매퍼는, t_m_user_keyword 테이블에 매핑 식별 값, 사용자 식별 값, 키워드 식별 값 리스트를 저장한다.")
     @Test
     void saveUserAndKeywordMappingForEach(){
@@ -109,4 +150,23 @@ class KeywordRepositoryTest {
         List<KeywordAndUserResponseDto> keywordsResponse = keywordRepository.findAllByUserId(userId);
         assertThat(keywordsResponse).isEmpty();
     }
-}
\ No newline at end of file
+
+    @DisplayName("deleteKeywordMappingByMappingIds 매퍼는, 전달받은 매핑 식별 값에 해당하는 매핑 정보만 삭제한다.")
+    @Test
+    void deleteKeywordMappingByMappingIds(){
+        //given
+        Long userId = 100000000000000001L;
+        List<KeywordAndUserResponseDto> existMappings = keywordRepository.findAllByUserId(userId);
+        Long removedMappingId = existMappings.get(0).getMappingId();
+
+        //when
+        int deletedRows = keywordRepository.deleteKeywordMappingByMappingIds(List.of(removedMappingId));
+
+        //then
+        assertThat(deletedRows).isEqualTo(1);
+        assertThat(keywordRepository.findAllByUserId(userId))
+                .hasSize(existMappings.size() - 1)
+                .extracting("mappingId")
+                .doesNotContain(removedMappingId);
+    }
+}
@@ -6,14 +6,20 @@ import com.swyp3.babpool.domain.user.dao.UserRepository;
 import com.swyp3.babpool.domain.user.domain.User;
 import com.swyp3.babpool.domain.user.domain.UserRole;
 import com.swyp3.babpool.domain.user.domain.UserStatus;
+import com.swyp3.babpool.global.mybatis.SchemaMigrations;
 import com.swyp3.babpool.global.tsid.TsidKeyGenerator;
 import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 
+import javax.sql.DataSource;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -26,8 +32,15 @@ class ProfileRepositoryTest {
     private ProfileRepository profileRepository;
     @Autowired
     private UserRepository userRepository;
+    @Autowired
+    private DataSource dataSource;
     private TsidKeyGenerator tsidKeyGenerator = new TsidKeyGenerator();
 
+    @BeforeEach
+    void applySchemaMigrations() throws Exception {
+        SchemaMigrations.apply(dataSource);
+    }
+
     @DisplayName("findUserIdByProfileId 매퍼는 프로필 식별 값으로 사용자 식별 값을 조회한다.")
     @Test
     void findUserIdByProfileId() {
@@ -118,6 +131,43 @@ class ProfileRepositoryTest {
         assertThat(profile.getProfileImageUrl()).isEqualTo("https://updatedurl.com");
     }
 
+    @DisplayName("updateProfileImageUrls 매퍼는 상세 이미지와 목록 카드 이미지 URL을 수정하고, updateProfileImageUrl 은 카드 이미지 URL을 비운다.")
+    @Test
+    void updateProfileImageUrls() {
+        // given
+        Long userId = 100000000000000001L;
+        Long profileId = 200000000000000001L;
+        profileRepository.updateProfileImageUrls(userId, "https://updatedurl.com/0_detail.jpg", "https://updatedurl.com/0_card.jpg");
+        String cardUrlAfterUpload = cardUrlOf(profileId);
+
+        // when
+        profileRepository.updateProfileImageUrl(userId, "https://social.com/profile.jpg");
+
+        // then
+        assertThat(cardUrlAfterUpload).isEqualTo("https://updatedurl.com/0_card.jpg");
+        assertThat(profileRepository.findByUserId(userId).getProfileImageUrl()).isEqualTo("https://social.com/profile.jpg");
+        assertThat(cardUrlOf(profileId)).isNull();
+    }
+
+    @DisplayName("findReferencedImageUrls 매퍼는 상세 이미지 또는 목록 카드 이미지로 사용 중인 URL 만 조회한다.")
+    @Test
+    void findReferencedImageUrls() {
+        // given
+        Long userId = 100000000000000001L;
+        profileRepository.updateProfileImageUrls(userId, "https://updatedurl.com/0_detail.jpg", "https://updatedurl.com/0_card.jpg");
+
+        // when
+        List<String> referencedUrls = profileRepository.findReferencedImageUrls(List.of(
+                "https://updatedurl.com/0_detail.jpg", "https://updatedurl.com/0_card.jpg", "https://updatedurl.com/orphan.jpg"));
+
+        // then
+        assertThat(referencedUrls).containsExactlyInAnyOrder("https://updatedurl.com/0_detail.jpg", "https://updatedurl.com/0_card.jpg");
+    }
+
+    private String cardUrlOf(Long profileId) {
+        return new JdbcTemplate(dataSource).queryForObject("SELECT profile_image_card_url FROM t_profile WHERE profile_id = ?", String.class, profileId);
+    }
+
     @DisplayName("saveProfile 매퍼는 프로필을 저장한다.")
     @Test
     void saveProfile() {
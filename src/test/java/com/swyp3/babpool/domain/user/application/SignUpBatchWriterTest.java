@@ -0,0 +1,141 @@
+package com.swyp3.babpool.domain.user.application;
+
+import com.swyp3.babpool.domain.profile.domain.Profile;
+import com.swyp3.babpool.domain.user.dao.SignUpRepository;
+import com.swyp3.babpool.domain.user.domain.User;
+import com.swyp3.babpool.domain.user.domain.UserRole;
+import com.swyp3.babpool.domain.user.domain.UserStatus;
+import com.swyp3.babpool.infra.auth.AuthPlatform;
+import com.swyp3.babpool.infra.auth.domain.Auth;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class SignUpBatchWriterTest {
+
+    private SignUpRepository signUpRepository;
+    private SignUpBatchWriter signUpBatchWriter;
+
+    @BeforeEach
+    void setUp() {
+        signUpRepository = mock(SignUpRepository.class);
+        signUpBatchWriter = new SignUpBatchWriter(signUpRepository, mock(PlatformTransactionManager.class), 50);
+    }
+
+    @DisplayName("한 명만 가입하면 사용자/소셜 로그인/프로필을 각각 한 행씩 저장한다.")
+    @Test
+    void write_single() {
+        // given
+        when(signUpRepository.saveUsers(anyList())).thenAnswer(invocation -> ((List<?>) invocation.getArgument(0)).size());
+        // when
+        int insertedRows = signUpBatchWriter.write(entryOf(1L));
+        // then
+        assertThat(insertedRows).isEqualTo(1);
+        verify(signUpRepository).saveUsers(argThat(users -> users.size() == 1));
+        verify(signUpRepository).saveAuths(argThat(auths -> auths.size() == 1));
+        verify(signUpRepository).saveProfiles(argThat(profiles -> profiles.size() == 1));
+    }
+
+    @DisplayName("동시에 가입하는 사용자는 묶어서 저장하고, 모든 요청이 저장 결과를 받는다.")
+    @Test
+    void write_concurrent() throws Exception {
+        // given
+        int signUpCount = 40;
+        AtomicInteger savedUsers = new AtomicInteger();
+        AtomicInteger saveCalls = new AtomicInteger();
+        when(signUpRepository.saveUsers(anyList())).thenAnswer(invocation -> {
+            Thread.sleep(20);
+            saveCalls.incrementAndGet();
+            int size = ((List<?>) invocation.getArgument(0)).size();
+            savedUsers.addAndGet(size);
+            return size;
+        });
+        ExecutorService executorService = Executors.newFixedThreadPool(signUpCount);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+        // when
+        for (long userId = 1; userId <= signUpCount; userId++) {
+            SignUpEntry entry = entryOf(userId);
+            results.add(executorService.submit(() -> {
+                start.await();
+                return signUpBatchWriter.write(entry);
+            }));
+        }
+        start.countDown();
+        // then
+        for (Future<Integer> result : results) {
+            assertThat(result.get(10, TimeUnit.SECONDS)).isEqualTo(1);
+        }
+        executorService.shutdown();
+        assertThat(savedUsers.get()).isEqualTo(signUpCount);
+        assertThat(saveCalls.get()).isLessThan(signUpCount);
+    }
+
+    @DisplayName("묶음 저장이 실패하면 한 명씩 다시 저장하여, 실패한 가입자만 예외를 받는다.")
+    @Test
+    void write_fallbackToIndividual() throws Exception {
+        // given
+        when(signUpRepository.saveUsers(anyList())).thenAnswer(invocation -> {
+            List<User> users = invocation.getArgument(0);
+            Thread.sleep(20);
+            if (users.stream().anyMatch(user -> user.getUserId() == 2L)) {
+                throw new DuplicateKeyException("duplicate user");
+            }
+            return users.size();
+        });
+        ExecutorService executorService = Executors.newFixedThreadPool(3);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+        // when
+        for (long userId = 1; userId <= 3; userId++) {
+            SignUpEntry entry = entryOf(userId);
+            results.add(executorService.submit(() -> {
+                start.await();
+                return signUpBatchWriter.write(entry);
+            }));
+        }
+        start.countDown();
+        // then
+        assertThat(results.get(0).get(10, TimeUnit.SECONDS)).isEqualTo(1);
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> results.get(1).get(10, TimeUnit.SECONDS));
+        assertThat(exception.getCause()).isInstanceOf(DuplicateKeyException.class);
+        assertThat(results.get(2).get(10, TimeUnit.SECONDS)).isEqualTo(1);
+        executorService.shutdown();
+    }
+
+    private SignUpEntry entryOf(Long userId) {
+        return SignUpEntry.builder()
+                .user(User.allArgsBuilder()
+                        .userId(userId)
+                        .userEmail("user" + userId + "@test.com")
+                        .userStatus(UserStatus.PREACTIVE)
+                        .userRole(UserRole.USER)
+                        .userGrade("none")
+                        .userNickName("user" + userId)
+                        .allArgsBuild())
+                .auth(Auth.builder()
+                        .oauthId(userId + 1000)
+                        .userId(userId)
+                        .oauthPlatformName(AuthPlatform.KAKAO)
+                        .oauthPlatformId("platform-" + userId)
+                        .build())
+                .profile(Profile.builder()
+                        .profileId(userId + 2000)
+                        .userId(userId)
+                        .profileActiveFlag(false)
+                        .build())
+                .build();
+    }
+}
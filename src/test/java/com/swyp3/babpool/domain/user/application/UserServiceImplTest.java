@@ -1,11 +1,18 @@
 package com.swyp3.babpool.domain.user.application;
 
 import com.swyp3.babpool.domain.profile.application.ProfileService;
+import com.swyp3.babpool.domain.user.api.requset.LoginRequestDTO;
+import com.swyp3.babpool.domain.user.application.response.LoginResponseWithRefreshToken;
+import com.swyp3.babpool.domain.user.application.response.LoginUserDto;
+import com.swyp3.babpool.domain.user.dao.ExitInfoRepository;
 import com.swyp3.babpool.domain.user.dao.UserRepository;
 import com.swyp3.babpool.domain.user.domain.User;
+import com.swyp3.babpool.domain.user.domain.UserRole;
 import com.swyp3.babpool.domain.user.domain.UserStatus;
 import com.swyp3.babpool.domain.user.exception.SignUpException;
 import com.swyp3.babpool.domain.user.exception.errorcode.SignUpExceptionErrorCode;
+import com.swyp3.babpool.global.jwt.application.JwtService;
+import com.swyp3.babpool.global.jwt.application.response.JwtPairDto;
 import com.swyp3.babpool.global.tsid.TsidKeyGenerator;
 import com.swyp3.babpool.infra.auth.AuthPlatform;
 import com.swyp3.babpool.infra.auth.response.AuthMemberResponse;
@@ -17,10 +24,16 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -42,6 +55,18 @@ class UserServiceImplTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ExitInfoRepository exitInfoRepository;
+
+    @Mock
+    private JwtService jwtService;
+
+    @Mock
+    private SignUpBatchWriter signUpBatchWriter;
+
+    @Spy
+    private UserIdentityCache userIdentityCache = new UserIdentityCache(100);
+
     @BeforeEach
     public void setup() {
         MockitoAnnotations.openMocks(this);
@@ -56,7 +81,7 @@ class UserServiceImplTest {
 
         Long userId = tsidKeyGenerator.generateTsid();
         when(tsidKeyGenerator.generateTsid()).thenReturn(userId);
-        when(userRepository.save(any(User.class))).thenReturn(1);
+        when(signUpBatchWriter.write(any(SignUpEntry.class))).thenReturn(1);
 
         // When
         User createdUser = userService.createUser(authPlatform, authMemberResponse);
@@ -68,12 +93,16 @@ class UserServiceImplTest {
         assertEquals("TestUser", createdUser.getUserNickName());
         assertEquals(UserStatus.PREACTIVE, createdUser.getUserStatus());
 
-        verify(userRepository).save(argThat(user ->
-                user.getUserId().equals(userId) &&
-                        user.getUserEmail().equals("test@example.com") &&
-                        user.getUserNickName().equals("TestUser") &&
-                        user.getUserStatus() == UserStatus.PREACTIVE
+        verify(signUpBatchWriter).write(argThat(entry ->
+                entry.getUser().getUserId().equals(userId) &&
+                        entry.getUser().getUserEmail().equals("test@example.com") &&
+                        entry.getUser().getUserNickName().equals("TestUser") &&
+                        entry.getUser().getUserStatus() == UserStatus.PREACTIVE &&
+                        entry.getAuth().getUserId().equals(userId) &&
+                        entry.getAuth().getOauthPlatformId().equals("123456") &&
+                        entry.getProfile().getUserId().equals(userId)
         ));
+        verify(userRepository, never()).findById(any());
 
         log.info(createdUser.toString());
     }
@@ -86,11 +115,64 @@ class UserServiceImplTest {
         AuthMemberResponse authMemberResponse = new AuthMemberResponse("123456", "TestUser", "http://example.com/profile.jpg", "test@example.com");
 
         when(tsidKeyGenerator.generateTsid()).thenReturn(1000L);
-        when(userRepository.save(any(User.class))).thenReturn(0);
+        when(signUpBatchWriter.write(any(SignUpEntry.class))).thenReturn(0);
 
         // when & then
         SignUpException throwedException = assertThrows(SignUpException.class, () -> userService.createUser(authPlatform, authMemberResponse));
         assertEquals("신규 사용자 DB 삽입 실패.", throwedException.getMessage());
         assertEquals(SignUpExceptionErrorCode.SIGNUP_CREATE_FAILED, throwedException.getSignUpExceptionErrorCode());
     }
-}
\ No newline at end of file
+
+    @DisplayName("같은 소셜 계정으로 다시 로그인하면, 캐시된 사용자 식별 값으로 조회하고 프로필 이미지가 같으면 갱신하지 않는다.")
+    @Test
+    public void login_cachedIdentity() {
+        // given
+        AuthMemberResponse authMemberResponse = new AuthMemberResponse("123456", "TestUser", "http://example.com/profile.jpg", "test@example.com");
+        LoginUserDto loginUser = loginUserOf(1000L, "http://example.com/profile.jpg");
+        when(authService.getUserDataByCode(any(), any())).thenReturn(authMemberResponse);
+        when(userRepository.findLoginUserByPlatformAndPlatformId(AuthPlatform.KAKAO, "123456")).thenReturn(loginUser);
+        when(userRepository.findLoginUserByUserIdAndPlatformId(1000L, AuthPlatform.KAKAO, "123456")).thenReturn(loginUser);
+        when(jwtService.createJwtPair(eq(1000L), anyList())).thenReturn(JwtPairDto.builder().accessToken("access").refreshToken("refresh").build());
+
+        // when
+        userService.login(mock(LoginRequestDTO.class), null);
+        LoginResponseWithRefreshToken response = userService.login(mock(LoginRequestDTO.class), null);
+
+        // then
+        assertEquals(1000L, response.getLoginResponse().getUserId());
+        verify(userRepository, times(1)).findLoginUserByPlatformAndPlatformId(AuthPlatform.KAKAO, "123456");
+        verify(userRepository, times(1)).findLoginUserByUserIdAndPlatformId(1000L, AuthPlatform.KAKAO, "123456");
+        verify(userRepository, never()).findById(any());
+        verify(profileService, times(2)).updateProfileImageFromSocialProfileImage(1000L, "http://example.com/profile.jpg", "http://example.com/profile.jpg");
+    }
+
+    @DisplayName("회원탈퇴하면 Refresh Token 을 모두 삭제하고, 요청에 사용한 Access Token 도 폐기한다.")
+    @Test
+    public void signDown() {
+        // given
+        when(tsidKeyGenerator.generateTsid()).thenReturn(2000L);
+        when(userRepository.updateUserStateByUserId(1000L, UserStatus.EXIT)).thenReturn(1);
+
+        // when
+        userService.signDown(1000L, "exit reason", "refresh", "access");
+
+        // then
+        verify(exitInfoRepository).saveExitInfo(2000L, 1000L, "exit reason");
+        verify(jwtService).logout("refresh");
+        verify(jwtService).logoutAllDevices(1000L);
+        verify(jwtService).revokeAccessToken("access");
+    }
+
+    private LoginUserDto loginUserOf(Long userId, String profileImageUrl) {
+        LoginUserDto loginUser = mock(LoginUserDto.class);
+        when(loginUser.getUserId()).thenReturn(userId);
+        when(loginUser.getProfileImageUrl()).thenReturn(profileImageUrl);
+        when(loginUser.toUser()).thenReturn(User.allArgsBuilder()
+                .userId(userId)
+                .userStatus(UserStatus.ACTIVE)
+                .userRole(UserRole.USER)
+                .userGrade("FIRST")
+                .allArgsBuild());
+        return loginUser;
+    }
+}
@@ -0,0 +1,86 @@
+package com.swyp3.babpool.domain.user.dao;
+
+import com.swyp3.babpool.domain.profile.dao.ProfileRepository;
+import com.swyp3.babpool.domain.profile.domain.Profile;
+import com.swyp3.babpool.domain.user.domain.User;
+import com.swyp3.babpool.domain.user.domain.UserRole;
+import com.swyp3.babpool.domain.user.domain.UserStatus;
+import com.swyp3.babpool.global.tsid.TsidKeyGenerator;
+import com.swyp3.babpool.infra.auth.AuthPlatform;
+import com.swyp3.babpool.infra.auth.domain.Auth;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@MybatisTest
+class SignUpRepositoryTest {
+
+    @Autowired
+    private SignUpRepository signUpRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ProfileRepository profileRepository;
+
+    private TsidKeyGenerator tsidKeyGenerator;
+
+    @BeforeEach
+    void setUp() {
+        tsidKeyGenerator = new TsidKeyGenerator();
+    }
+
+    @DisplayName("여러 명의 사용자, 소셜 로그인, 프로필 정보를 테이블별 한 번의 INSERT 로 저장한다.")
+    @Test
+    void saveUsersAuthsProfiles() {
+        // given
+        List<User> users = new ArrayList<>();
+        List<Auth> auths = new ArrayList<>();
+        List<Profile> profiles = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Long userId = tsidKeyGenerator.generateTsid();
+            users.add(User.allArgsBuilder()
+                    .userId(userId)
+                    .userEmail("signup" + i + "@test.com")
+                    .userStatus(UserStatus.PREACTIVE)
+                    .userRole(UserRole.USER)
+                    .userGrade("none")
+                    .userNickName("signup" + i)
+                    .allArgsBuild());
+            auths.add(Auth.builder()
+                    .oauthId(tsidKeyGenerator.generateTsid())
+                    .userId(userId)
+                    .oauthPlatformName(AuthPlatform.KAKAO)
+                    .oauthPlatformId("signup-platform-" + i)
+                    .build());
+            profiles.add(Profile.builder()
+                    .profileId(tsidKeyGenerator.generateTsid())
+                    .userId(userId)
+                    .profileImageUrl("http://example.com/" + i + ".jpg")
+                    .profileActiveFlag(false)
+                    .build());
+        }
+
+        // when
+        int insertedUsers = signUpRepository.saveUsers(users);
+        int insertedAuths = signUpRepository.saveAuths(auths);
+        int insertedProfiles = signUpRepository.saveProfiles(profiles);
+
+        // then
+        assertThat(insertedUsers).isEqualTo(3);
+        assertThat(insertedAuths).isEqualTo(3);
+        assertThat(insertedProfiles).isEqualTo(3);
+        assertThat(userRepository.findUserIdByPlatformAndPlatformId(AuthPlatform.KAKAO, "signup-platform-1"))
+                .isEqualTo(users.get(1).getUserId());
+        assertThat(profileRepository.findByUserId(users.get(2).getUserId()).getProfileImageUrl())
+                .isEqualTo("http://example.com/2.jpg");
+    }
+}
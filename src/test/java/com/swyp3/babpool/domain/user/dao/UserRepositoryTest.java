@@ -1,5 +1,6 @@
 package com.swyp3.babpool.domain.user.dao;
 
+import com.swyp3.babpool.domain.user.application.response.LoginUserDto;
 import com.swyp3.babpool.domain.user.domain.User;
 import com.swyp3.babpool.domain.user.domain.UserRole;
 import com.swyp3.babpool.domain.user.domain.UserStatus;
@@ -78,6 +79,38 @@ class UserRepositoryTest {
         Assertions.assertThat(userId).isEqualTo(100000000000000001L);
     }
 
+    @DisplayName("findLoginUserByPlatformAndPlatformId 매퍼는 platform과 platformId 으로 사용자 정보와 프로필 이미지를 함께 조회한다.")
+    @Test
+    void findLoginUserByPlatformAndPlatformId(){
+        // given
+        AuthPlatform authPlatform = AuthPlatform.KAKAO;
+        String platformId = "1000000001";
+
+        // when
+        LoginUserDto loginUser = userRepository.findLoginUserByPlatformAndPlatformId(authPlatform, platformId);
+
+        // then
+        Assertions.assertThat(loginUser.getUserId()).isEqualTo(100000000000000001L);
+        Assertions.assertThat(loginUser.getUserStatus()).isEqualTo(UserStatus.ACTIVE);
+        Assertions.assertThat(loginUser.toUser().getUserGrade()).isEqualTo("FIRST");
+    }
+
+    @DisplayName("findLoginUserByUserIdAndPlatformId 매퍼는 userId 와 platformId 가 일치하지 않으면 조회하지 않는다.")
+    @Test
+    void findLoginUserByUserIdAndPlatformId(){
+        // given
+        Long userId = 100000000000000001L;
+        AuthPlatform authPlatform = AuthPlatform.KAKAO;
+
+        // when
+        LoginUserDto loginUser = userRepository.findLoginUserByUserIdAndPlatformId(userId, authPlatform, "1000000001");
+        LoginUserDto notMatchedUser = userRepository.findLoginUserByUserIdAndPlatformId(userId, authPlatform, "changed-platform-id");
+
+        // then
+        Assertions.assertThat(loginUser.getUserId()).isEqualTo(userId);
+        assertNull(notMatchedUser);
+    }
+
     @DisplayName("findById 매퍼는 t_user 테이블에서 userId로 사용자 정보를 조회한다.")
     @Test
     void findById(){
@@ -0,0 +1,92 @@
+package com.swyp3.babpool.global.concurrency;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    @DisplayName("처리 중인 요청이 한도에 이르면 권한을 주지 않고, 요청이 끝나면 다시 준다.")
+    @Test
+    void tryAcquire_limit() {
+        // given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, nanos::get);
+        AdaptiveConcurrencyLimiter.Permit first = limiter.tryAcquire();
+        limiter.tryAcquire();
+        // when
+        AdaptiveConcurrencyLimiter.Permit rejected = limiter.tryAcquire();
+        first.onIgnore();
+        AdaptiveConcurrencyLimiter.Permit afterRelease = limiter.tryAcquire();
+        // then
+        assertThat(rejected).isNull();
+        assertThat(afterRelease).isNotNull();
+        assertThat(limiter.getInflight()).isEqualTo(2);
+    }
+
+    @DisplayName("응답 시간이 유지되면 한도를 늘리고, 응답 시간이 늘어나면 한도를 줄인다.")
+    @Test
+    void onSuccess_gradient() {
+        // given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 1, 100, nanos::get);
+        // when
+        runRounds(limiter, 20, Duration.ofMillis(10));
+        int limitWhileFast = limiter.getLimit();
+        runRounds(limiter, 3, Duration.ofMillis(100));
+        int limitWhileSlow = limiter.getLimit();
+        // then
+        assertThat(limitWhileFast).isGreaterThan(10);
+        assertThat(limitWhileSlow).isLessThan(limitWhileFast);
+    }
+
+    @DisplayName("처리 중인 요청이 한도의 절반보다 적으면 한도를 늘리지 않는다.")
+    @Test
+    void onSuccess_appLimited() {
+        // given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 1, 100, nanos::get);
+        // when
+        for (int i = 0; i < 20; i++) {
+            AdaptiveConcurrencyLimiter.Permit permit = limiter.tryAcquire();
+            nanos.addAndGet(Duration.ofMillis(10).toNanos());
+            permit.onSuccess();
+        }
+        // then
+        assertThat(limiter.getLimit()).isEqualTo(10);
+    }
+
+    @DisplayName("실패한 요청마다 한도를 줄이되, 최소 한도 아래로는 줄이지 않는다.")
+    @Test
+    void onFailure_backoff() {
+        // given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 3, 100, nanos::get);
+        // when
+        limiter.tryAcquire().onFailure();
+        int afterOneFailure = limiter.getLimit();
+        for (int i = 0; i < 50; i++) {
+            limiter.tryAcquire().onFailure();
+        }
+        // then
+        assertThat(afterOneFailure).isEqualTo(9);
+        assertThat(limiter.getLimit()).isEqualTo(3);
+        assertThat(limiter.getInflight()).isZero();
+    }
+
+    private void runRounds(AdaptiveConcurrencyLimiter limiter, int rounds, Duration rtt) {
+        for (int round = 0; round < rounds; round++) {
+            List<AdaptiveConcurrencyLimiter.Permit> permits = new ArrayList<>();
+            AdaptiveConcurrencyLimiter.Permit permit;
+            while ((permit = limiter.tryAcquire()) != null) {
+                permits.add(permit);
+            }
+            nanos.addAndGet(rtt.toNanos());
+            permits.forEach(AdaptiveConcurrencyLimiter.Permit::onSuccess);
+        }
+    }
+}
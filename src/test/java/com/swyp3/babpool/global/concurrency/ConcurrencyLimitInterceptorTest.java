@@ -0,0 +1,80 @@
+package com.swyp3.babpool.global.concurrency;
+
+import com.swyp3.babpool.global.concurrency.exception.ConcurrencyLimitException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConcurrencyLimitInterceptorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ConcurrencyLimitInterceptor interceptor = new ConcurrencyLimitInterceptor(meterRegistry, true,
+            endpointClass -> new AdaptiveConcurrencyLimiter(1, 1, 1, System::nanoTime));
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @DisplayName("분류의 한도를 넘은 요청은 ConcurrencyLimitException 으로 거절하고, 다른 분류의 요청은 처리한다.")
+    @Test
+    void preHandle_bulkhead() throws Exception {
+        // given
+        HandlerMethod search = handlerMethod("search");
+        interceptor.preHandle(new MockHttpServletRequest(), response, search);
+        // when, then
+        assertThatThrownBy(() -> interceptor.preHandle(new MockHttpServletRequest(), response, search))
+                .isInstanceOf(ConcurrencyLimitException.class);
+        assertThat(interceptor.preHandle(new MockHttpServletRequest(), response, handlerMethod("other"))).isTrue();
+        assertThat(meterRegistry.get("http.server.concurrency.rejected").tag("endpoint_class", "search").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("http.server.concurrency.rejected").tag("endpoint_class", "default").counter().count()).isZero();
+    }
+
+    @DisplayName("요청이 끝나면 처리 권한을 반납하여 처리 중인 요청 수가 줄어든다.")
+    @Test
+    void afterCompletion_release() throws Exception {
+        // given
+        HandlerMethod search = handlerMethod("search");
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        interceptor.preHandle(request, response, search);
+        double inflightBefore = meterRegistry.get("http.server.concurrency.inflight").tag("endpoint_class", "search").gauge().value();
+        // when
+        interceptor.afterCompletion(request, response, search, null);
+        // then
+        assertThat(inflightBefore).isEqualTo(1);
+        assertThat(meterRegistry.get("http.server.concurrency.inflight").tag("endpoint_class", "search").gauge().value()).isZero();
+        assertThat(interceptor.preHandle(new MockHttpServletRequest(), response, search)).isTrue();
+    }
+
+    @DisplayName("예외로 끝난 요청은 한도를 줄인다.")
+    @Test
+    void afterCompletion_failure() throws Exception {
+        // given
+        ConcurrencyLimitInterceptor adaptive = new ConcurrencyLimitInterceptor(new SimpleMeterRegistry(), true,
+                endpointClass -> new AdaptiveConcurrencyLimiter(10, 1, 10, System::nanoTime));
+        HandlerMethod search = handlerMethod("search");
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        adaptive.preHandle(request, response, search);
+        // when
+        adaptive.afterCompletion(request, response, search, new IllegalStateException());
+        // then
+        assertThat(adaptive.limiterOf(EndpointClass.SEARCH).getLimit()).isEqualTo(9);
+        assertThat(adaptive.limiterOf(EndpointClass.DEFAULT).getLimit()).isEqualTo(10);
+    }
+
+    private static HandlerMethod handlerMethod(String name) throws NoSuchMethodException {
+        return new HandlerMethod(new TestApi(), TestApi.class.getMethod(name));
+    }
+
+    static class TestApi {
+
+        @Bulkhead(EndpointClass.SEARCH)
+        public void search() {
+        }
+
+        public void other() {
+        }
+    }
+}
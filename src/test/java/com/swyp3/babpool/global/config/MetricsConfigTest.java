@@ -0,0 +1,54 @@
+package com.swyp3.babpool.global.config;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.CountAtBucket;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MetricsConfigTest {
+
+    @DisplayName("http.server.requests 는 SLO 구간별 누적 요청 수를 기록한다.")
+    @Test
+    void httpServerRequestsSlo() {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        meterRegistry.config().meterFilter(new MetricsConfig().latencyHistogramMeterFilter(new long[]{100, 500}));
+        Timer timer = Timer.builder("http.server.requests").tag("uri", "/api/profile/list").register(meterRegistry);
+
+        // when
+        timer.record(Duration.ofMillis(50));
+        timer.record(Duration.ofMillis(300));
+
+        // then
+        CountAtBucket[] buckets = timer.takeSnapshot().histogramCounts();
+        assertThat(Arrays.stream(buckets).filter(bucket -> bucket.bucket(TimeUnit.MILLISECONDS) == 100.0).findFirst())
+                .hasValueSatisfying(bucket -> assertThat(bucket.count()).isEqualTo(1.0));
+        assertThat(Arrays.stream(buckets).filter(bucket -> bucket.bucket(TimeUnit.MILLISECONDS) == 500.0).findFirst())
+                .hasValueSatisfying(bucket -> assertThat(bucket.count()).isEqualTo(2.0));
+    }
+
+    @DisplayName("STOMP 채널 스레드 풀의 대기 메시지 수를 게이지로 기록한다.")
+    @Test
+    void brokerChannelGauge() {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.initialize();
+
+        // when
+        new SaturationMetrics(meterRegistry).bindBrokerChannel("inbound", executor);
+
+        // then
+        assertThat(meterRegistry.get("websocket.broker.channel.queue").tag("channel", "inbound").gauge().value()).isZero();
+        assertThat(meterRegistry.get("websocket.broker.channel.active").tag("channel", "inbound").gauge().value()).isZero();
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,37 @@
+package com.swyp3.babpool.global.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockPart;
+import org.springframework.web.multipart.MultipartHttpServletRequest;
+import org.springframework.web.multipart.support.StandardServletMultipartResolver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class MultipartConfigTest {
+
+    @DisplayName("multipart 본문은 요청을 감쌀 때가 아니라 파일을 처음 꺼낼 때 파싱한다.")
+    @Test
+    void multipartResolver_resolveLazily() throws Exception {
+        // given
+        StandardServletMultipartResolver multipartResolver = new MultipartConfig().multipartResolver();
+        MockHttpServletRequest request = Mockito.spy(new MockHttpServletRequest("POST", "/api/profile/update"));
+        request.setContentType("multipart/form-data; boundary=boundary");
+        MockPart part = new MockPart("profileImageFile", "profile.jpg", new byte[]{1, 2, 3});
+        part.getHeaders().setContentType(MediaType.IMAGE_JPEG);
+        request.addPart(part);
+
+        // when
+        MultipartHttpServletRequest multipartRequest = multipartResolver.resolveMultipart(request);
+
+        // then
+        verify(request, never()).getParts();
+        assertThat(multipartRequest.getFile("profileImageFile")).isNotNull();
+        verify(request).getParts();
+    }
+}
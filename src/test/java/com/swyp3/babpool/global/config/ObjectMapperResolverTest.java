@@ -0,0 +1,90 @@
+package com.swyp3.babpool.global.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.swyp3.babpool.domain.profile.application.response.ProfilePagingResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ObjectMapperResolverTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new SimpleModule().addSerializer(Long.class, new ObjectMapperResolver.JsonResponseLongToString()));
+
+    @DisplayName("Long 은 배열, 객체 필드, 경계 값 모두 따옴표로 감싼 문자열로 직렬화된다.")
+    @Test
+    void jsonResponseLongToString() throws Exception {
+        // given
+        Map<String, Object> body = new HashMap<>();
+        body.put("ids", Arrays.asList(200000000000000001L, null, Long.MIN_VALUE, Long.MAX_VALUE, 0L));
+        body.put("count", -7L);
+
+        // when
+        String json = objectMapper.writeValueAsString(List.of(body, 1L));
+
+        // then
+        assertThat(objectMapper.readTree(json).get(0).get("ids").toString())
+                .isEqualTo("[\"200000000000000001\",null,\"-9223372036854775808\",\"9223372036854775807\",\"0\"]");
+        assertThat(objectMapper.readTree(json).get(0).get("count").textValue()).isEqualTo("-7");
+        assertThat(objectMapper.readTree(json).get(1).textValue()).isEqualTo("1");
+    }
+
+    @DisplayName("convertValue 로 변환해도 Long 은 문자열 값으로 남는다.")
+    @Test
+    void jsonResponseLongToString_convertValue() {
+        // given
+        Map<String, Object> body = new HashMap<>();
+        body.put("ids", List.of(200000000000000001L, Long.MIN_VALUE));
+        body.put("count", -7L);
+
+        // when
+        JsonNode tree = objectMapper.convertValue(body, JsonNode.class);
+        // 같은 타입으로의 변환은 그대로 반환되므로, 응답 객체를 Map 으로 변환한다.
+        Map<?, ?> map = objectMapper.convertValue(ProfilePagingResponse.builder().profileId(200000000000000001L).build(), Map.class);
+
+        // then
+        assertThat(tree.get("ids").get(0).isTextual()).isTrue();
+        assertThat(tree.get("ids").get(0).textValue()).isEqualTo("200000000000000001");
+        assertThat(tree.get("ids").get(1).textValue()).isEqualTo("-9223372036854775808");
+        assertThat(tree.get("count").textValue()).isEqualTo("-7");
+        assertThat(map.get("profileId")).isEqualTo("200000000000000001");
+    }
+
+    @DisplayName("Blackbird 를 등록해도 프로필 목록 응답의 직렬화 결과는 같다.")
+    @Test
+    void blackbirdModule() throws Exception {
+        // given
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .serializerByType(Long.class, new ObjectMapperResolver.JsonResponseLongToString());
+        ObjectMapper reflection = builder.build();
+        ObjectMapper blackbird = builder.modulesToInstall(new BlackbirdModule()).build();
+        ProfilePagingResponse response = ProfilePagingResponse.builder()
+                .profileId(200000000000000001L)
+                .profileImageUrl("https://bab-pool.com/static/0_card.jpg")
+                .profileIntro("소개")
+                .profileContents("내용")
+                .profileModifyDate(LocalDateTime.of(2024, 3, 1, 12, 0))
+                .keywordNameList(List.of("개발", "디자인"))
+                .userGrade("FIRST_GRADE")
+                .userNickname("밥풀")
+                .build();
+
+        // when
+        String json = blackbird.writeValueAsString(List.of(response));
+
+        // then
+        assertThat(json).isEqualTo(reflection.writeValueAsString(List.of(response)));
+        assertThat(json).contains("\"profileId\":\"200000000000000001\"");
+    }
+}
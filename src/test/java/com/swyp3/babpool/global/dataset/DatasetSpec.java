@@ -0,0 +1,36 @@
+package com.swyp3.babpool.global.dataset;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 합성 데이터 생성 조건.
+ * 같은 seed 와 anchorDate 로 생성하면 항상 같은 행이 만들어진다.
+ */
+@Getter
+@Builder
+public class DatasetSpec {
+
+    /**
+     * 생성할 사용자(= 프로필) 수
+     */
+    @Builder.Default
+    private final int users = 1_000_000;
+
+    @Builder.Default
+    private final long seed = 20240301L;
+
+    /**
+     * 가능 일정과 밥약은 이 날짜의 앞뒤 30일에 분포한다. 지난 일정의 밥약은 완료/만료/거절 상태가 된다.
+     */
+    @Builder.Default
+    private final LocalDate anchorDate = LocalDate.now();
+
+    /**
+     * INSERT 문 하나에 담을 행 수
+     */
+    @Builder.Default
+    private final int rowsPerStatement = 1_000;
+}
@@ -0,0 +1,59 @@
+package com.swyp3.babpool.global.dataset;
+
+import com.swyp3.babpool.domain.appointment.domain.AppointmentStatus;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 생성된 행 수와, 벤치마크/부하 테스트가 대상 id 를 고를 때 쓰는 id 계산식.
+ */
+public class DatasetSummary {
+
+    private final int users;
+    private final Map<DatasetTable, Long> rowsByTable = new EnumMap<>(DatasetTable.class);
+    private final Map<AppointmentStatus, Long> appointmentsByStatus = new EnumMap<>(AppointmentStatus.class);
+
+    DatasetSummary(int users) {
+        this.users = users;
+    }
+
+    void countRow(DatasetTable table) {
+        rowsByTable.merge(table, 1L, Long::sum);
+    }
+
+    void countAppointment(AppointmentStatus status) {
+        appointmentsByStatus.merge(status, 1L, Long::sum);
+    }
+
+    public int getUsers() {
+        return users;
+    }
+
+    public long getRows(DatasetTable table) {
+        return rowsByTable.getOrDefault(table, 0L);
+    }
+
+    public long getAppointments(AppointmentStatus status) {
+        return appointmentsByStatus.getOrDefault(status, 0L);
+    }
+
+    /**
+     * @param index 0 이상 users 미만
+     */
+    public long userId(int index) {
+        return SyntheticDataGenerator.USER_ID_BASE + index;
+    }
+
+    /**
+     * @param index 0 이상 users 미만
+     */
+    public long profileId(int index) {
+        return SyntheticDataGenerator.PROFILE_ID_BASE + index;
+    }
+
+    @Override
+    public String toString() {
+        return "DatasetSummary{users=" + users + ", rows=" + rowsByTable + ", appointments=" + appointmentsByStatus + "}";
+    }
+}
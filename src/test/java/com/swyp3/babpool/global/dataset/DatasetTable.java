@@ -0,0 +1,38 @@
+package com.swyp3.babpool.global.dataset;
+
+import java.util.List;
+
+/**
+ * 합성 데이터가 적재되는 테이블과 컬럼. 외래 키를 고려하여 참조되는 테이블이 먼저 오도록 선언한다.
+ */
+public enum DatasetTable {
+
+    USER_ACCOUNT("t_user_account", "user_id", "user_email", "user_status", "user_role", "user_grade", "user_nick_name",
+            "user_create_date", "user_modify_date"),
+    OAUTH("t_oauth", "oauth_id", "user_id", "oauth_platform_name", "oauth_platform_id"),
+    PROFILE("t_profile", "profile_id", "user_id", "profile_image_url", "profile_intro", "profile_contents",
+            "profile_contact_phone", "profile_contact_chat", "profile_active_flag"),
+    USER_KEYWORD("t_m_user_keyword", "mapping_id", "user_id", "keyword_id"),
+    POSSIBLE_DATETIME("t_possible_datetime", "possible_datetime_id", "possible_datetime", "possible_datetime_status", "user_id"),
+    APPOINTMENT("t_appointment", "appointment_id", "appointment_sender_id", "appointment_receiver_id", "appointment_status",
+            "appointment_content", "appointment_create_date", "appointment_modify_date", "possible_datetime_id"),
+    REJECT("t_reject", "reject_id", "appointment_id", "reject_cause_content"),
+    REVIEW("t_review", "review_id", "appointment_id", "review_rate", "review_comment", "review_delete_flag",
+            "review_create_date", "review_modify_date");
+
+    private final String tableName;
+    private final List<String> columns;
+
+    DatasetTable(String tableName, String... columns) {
+        this.tableName = tableName;
+        this.columns = List.of(columns);
+    }
+
+    public String getTableName() {
+        return tableName;
+    }
+
+    public List<String> getColumns() {
+        return columns;
+    }
+}
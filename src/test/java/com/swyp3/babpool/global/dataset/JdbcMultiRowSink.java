@@ -0,0 +1,95 @@
+package com.swyp3.babpool.global.dataset;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 테이블별로 행을 모아 다중 행 INSERT(INSERT INTO ... VALUES (...), (...), ...)로 적재한다.
+ * 한 테이블의 버퍼가 차면, 외래 키가 깨지지 않도록 {@link DatasetTable} 선언 순서상 앞선 테이블의 버퍼를 먼저 비운다.
+ * commitEachStatement 가 true 이면 INSERT 문마다 커밋한다. (스프링 트랜잭션에 참여 중인 커넥션이면 false)
+ */
+public class JdbcMultiRowSink implements RowSink, AutoCloseable {
+
+    private final Connection connection;
+    private final boolean commitEachStatement;
+    private final int rowsPerStatement;
+    private final Map<DatasetTable, List<Object[]>> buffers = new EnumMap<>(DatasetTable.class);
+    private final Map<DatasetTable, String> fullStatementSql = new EnumMap<>(DatasetTable.class);
+
+    public JdbcMultiRowSink(Connection connection, boolean commitEachStatement, int rowsPerStatement) {
+        if (rowsPerStatement < 1) {
+            throw new IllegalArgumentException("rowsPerStatement must be positive : " + rowsPerStatement);
+        }
+        this.connection = connection;
+        this.commitEachStatement = commitEachStatement;
+        this.rowsPerStatement = rowsPerStatement;
+        for (DatasetTable table : DatasetTable.values()) {
+            buffers.put(table, new ArrayList<>(rowsPerStatement));
+            fullStatementSql.put(table, insertSql(table, rowsPerStatement));
+        }
+    }
+
+    @Override
+    public void accept(DatasetTable table, Object... values) {
+        if (values.length != table.getColumns().size()) {
+            throw new IllegalArgumentException(table + " expects " + table.getColumns().size() + " values, but got " + values.length);
+        }
+        List<Object[]> buffer = buffers.get(table);
+        buffer.add(values);
+        if (buffer.size() >= rowsPerStatement) {
+            flushUpTo(table);
+        }
+    }
+
+    public void flush() {
+        flushUpTo(DatasetTable.values()[DatasetTable.values().length - 1]);
+    }
+
+    @Override
+    public void close() {
+        flush();
+    }
+
+    private void flushUpTo(DatasetTable last) {
+        for (DatasetTable table : DatasetTable.values()) {
+            if (table.ordinal() > last.ordinal()) {
+                return;
+            }
+            List<Object[]> buffer = buffers.get(table);
+            if (!buffer.isEmpty()) {
+                execute(table, buffer);
+                buffer.clear();
+            }
+        }
+    }
+
+    private void execute(DatasetTable table, List<Object[]> rows) {
+        String sql = rows.size() == rowsPerStatement ? fullStatementSql.get(table) : insertSql(table, rows.size());
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            int parameterIndex = 1;
+            for (Object[] row : rows) {
+                for (Object value : row) {
+                    statement.setObject(parameterIndex++, value instanceof Enum<?> constant ? constant.name() : value);
+                }
+            }
+            statement.executeUpdate();
+            if (commitEachStatement) {
+                connection.commit();
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to insert " + rows.size() + " rows into " + table.getTableName(), e);
+        }
+    }
+
+    static String insertSql(DatasetTable table, int rows) {
+        String placeholders = "(" + String.join(", ", Collections.nCopies(table.getColumns().size(), "?")) + ")";
+        return "INSERT INTO " + table.getTableName() + " (" + String.join(", ", table.getColumns()) + ") VALUES "
+                + String.join(", ", Collections.nCopies(rows, placeholders));
+    }
+}
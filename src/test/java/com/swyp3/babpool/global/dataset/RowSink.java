@@ -0,0 +1,10 @@
+package com.swyp3.babpool.global.dataset;
+
+/**
+ * 생성된 행을 받는 곳. 값의 순서는 {@link DatasetTable#getColumns()} 와 같다.
+ */
+@FunctionalInterface
+public interface RowSink {
+
+    void accept(DatasetTable table, Object... values);
+}
@@ -0,0 +1,292 @@
+package com.swyp3.babpool.global.dataset;
+
+import com.swyp3.babpool.domain.appointment.domain.AppointmentStatus;
+import com.swyp3.babpool.domain.possibledatetime.domain.PossibleDateTimeStatusType;
+import com.swyp3.babpool.domain.review.domain.ReviewRateType;
+import com.swyp3.babpool.domain.user.domain.UserRole;
+import com.swyp3.babpool.domain.user.domain.UserStatus;
+import com.swyp3.babpool.infra.auth.AuthPlatform;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 운영 규모의 쿼리 실행 계획을 보기 위한 합성 데이터 생성기.
+ * - 사용자 상태/학년, 프로필 공개 여부는 고정 비율로, 키워드는 인기 키워드에 몰리는 Zipf 분포로 배정한다.
+ * - 인기도(Pareto 분포)가 높은 사용자일수록 가능 일정이 많고 밥약 요청을 많이 받는다.
+ * - 지난 일정의 밥약은 DONE/EXPIRED/REJECTED, 다가올 일정의 밥약은 WAITING/ACCEPTED/REJECTED 가 되며,
+ *   거절된 밥약에는 거절 사유가, 완료된 밥약의 일부에는 리뷰가 남는다.
+ * 사용자별 난수는 seed 와 사용자 순번으로만 정해지므로, 같은 조건이면 항상 같은 행이 생성된다.
+ * id 는 테이블별 구간(USER_ID_BASE 등)을 사용하므로, 테스트에서 TSID 로 생성한 행과 겹치지 않는다.
+ *
+ * 로컬 MySQL(스키마 생성 후)에 적재 :
+ * ./gradlew generateDataset -Pdataset.url=jdbc:mysql://localhost:3306/babpool -Pdataset.username=root -Pdataset.password=... -Pdataset.users=1000000
+ */
+@Slf4j
+public class SyntheticDataGenerator {
+
+    static final long USER_ID_BASE = 1_000_000_000_000L;
+    static final long OAUTH_ID_BASE = 2_000_000_000_000L;
+    static final long PROFILE_ID_BASE = 3_000_000_000_000L;
+    static final long MAPPING_ID_BASE = 4_000_000_000_000L;
+    static final long POSSIBLE_DATETIME_ID_BASE = 5_000_000_000_000L;
+    static final long APPOINTMENT_ID_BASE = 6_000_000_000_000L;
+    static final long REJECT_ID_BASE = 7_000_000_000_000L;
+    static final long REVIEW_ID_BASE = 8_000_000_000_000L;
+
+    static final int MAX_KEYWORDS_PER_USER = 6;
+    static final int MAX_SLOTS_PER_USER = 48;
+
+    private static final long ACCOUNT_SALT = 0x5EEDL;
+    private static final long ACTIVITY_SALT = 0xACL;
+    private static final int CALENDAR_DAYS = 30;
+    private static final int FIRST_HOUR = 11;
+    private static final int HOURS_PER_DAY = 11;
+
+    private static final String[] GRADES = {"FIRST_GRADE", "SECOND_GRADE", "THIRD_GRADE", "FOURTH_GRADE", "GRADUATE", "POST_GRADUATE"};
+    private static final double[] GRADE_CUMULATIVE = cumulative(18, 20, 22, 20, 14, 6);
+    private static final UserStatus[] USER_STATUSES = {UserStatus.ACTIVE, UserStatus.PREACTIVE, UserStatus.EXIT, UserStatus.BAN};
+    private static final double[] USER_STATUS_CUMULATIVE = cumulative(92, 4, 3, 1);
+    private static final AppointmentStatus[] PAST_STATUSES = {AppointmentStatus.DONE, AppointmentStatus.EXPIRED, AppointmentStatus.REJECTED};
+    private static final double[] PAST_STATUS_CUMULATIVE = cumulative(70, 15, 15);
+    private static final AppointmentStatus[] UPCOMING_STATUSES = {AppointmentStatus.WAITING, AppointmentStatus.ACCEPTED, AppointmentStatus.REJECTED};
+    private static final double[] UPCOMING_STATUS_CUMULATIVE = cumulative(45, 35, 20);
+    private static final ReviewRateType[] REVIEW_RATES = {ReviewRateType.BEST, ReviewRateType.GREAT, ReviewRateType.BAD};
+    private static final double[] REVIEW_RATE_CUMULATIVE = cumulative(55, 35, 10);
+
+    private static final String[] INTRO_WORDS = {"개발", "디자인", "취업", "창업", "대학원", "교환학생", "인턴", "기획", "마케팅", "데이터"};
+    private static final String[] REQUEST_MESSAGES = {"진로 고민을 나누고 싶어요.", "포트폴리오 조언을 듣고 싶어요.", "인턴 경험이 궁금해요.", "같이 밥 먹어요!"};
+    private static final String[] REJECT_MESSAGES = {"일정이 맞지 않아요.", "개인 사정이 생겼어요.", "다음에 같이 먹어요."};
+    private static final String[] REVIEW_COMMENTS = {"유익한 시간이었어요.", "친절하게 알려주셨어요.", "대화가 즐거웠어요.", "시간 약속을 지켜주세요."};
+
+    private final DatasetSpec spec;
+    private final long[] keywordIds;
+    private final double[] keywordCumulative;
+    private final LocalDateTime calendarStart;
+
+    /**
+     * @param keywordIds t_keyword 의 id. 앞선 id 일수록 많이 선택된다. 비어 있으면 키워드를 배정하지 않는다.
+     */
+    public SyntheticDataGenerator(DatasetSpec spec, List<Long> keywordIds) {
+        this.spec = spec;
+        this.keywordIds = keywordIds.stream().mapToLong(Long::longValue).toArray();
+        double[] zipfWeights = new double[this.keywordIds.length];
+        for (int rank = 0; rank < zipfWeights.length; rank++) {
+            zipfWeights[rank] = 1.0 / Math.pow(rank + 1, 1.1);
+        }
+        this.keywordCumulative = cumulative(zipfWeights);
+        this.calendarStart = spec.getAnchorDate().minusDays(CALENDAR_DAYS).atStartOfDay();
+    }
+
+    /**
+     * DataSource 에 합성 데이터를 적재한다.
+     * 스프링 트랜잭션 안에서 호출하면 그 트랜잭션에 참여하고(테스트 종료 시 롤백), 아니면 INSERT 문마다 커밋한다.
+     */
+    public static DatasetSummary load(DataSource dataSource, DatasetSpec spec) throws SQLException {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        boolean transactional = DataSourceUtils.isConnectionTransactional(connection, dataSource);
+        boolean autoCommit = connection.getAutoCommit();
+        long startNanos = System.nanoTime();
+        try {
+            if (!transactional) {
+                connection.setAutoCommit(false);
+            }
+            DatasetSummary summary;
+            try (JdbcMultiRowSink sink = new JdbcMultiRowSink(connection, !transactional, spec.getRowsPerStatement())) {
+                summary = new SyntheticDataGenerator(spec, findKeywordIds(connection)).generate(sink);
+            }
+            log.info("SyntheticDataGenerator.load, {} ms, {}", (System.nanoTime() - startNanos) / 1_000_000, summary);
+            return summary;
+        } finally {
+            if (!transactional) {
+                connection.setAutoCommit(autoCommit);
+            }
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    public DatasetSummary generate(RowSink sink) {
+        DatasetSummary summary = new DatasetSummary(spec.getUsers());
+        RowSink countingSink = (table, values) -> {
+            summary.countRow(table);
+            sink.accept(table, values);
+        };
+        // 밥약은 다른 사용자를 참조하므로, 모든 사용자를 먼저 적재한 뒤 일정과 밥약을 적재한다.
+        for (int index = 0; index < spec.getUsers(); index++) {
+            writeAccount(account(index), countingSink);
+        }
+        for (int index = 0; index < spec.getUsers(); index++) {
+            writeActivity(account(index), countingSink, summary);
+        }
+        return summary;
+    }
+
+    private Account account(int index) {
+        SplittableRandom random = randomFor(index, ACCOUNT_SALT);
+        UserStatus status = pick(random, USER_STATUSES, USER_STATUS_CUMULATIVE);
+        String grade = pick(random, GRADES, GRADE_CUMULATIVE);
+        boolean profileActive = status == UserStatus.ACTIVE && random.nextDouble() < 0.85;
+        // Pareto(alpha = 1.16) : 상위 20% 의 사용자가 활동의 80% 를 차지한다.
+        double popularity = Math.min(50.0, Math.pow(1.0 - random.nextDouble(), -1.0 / 1.16));
+        LocalDateTime createDate = calendarStart.minusDays(random.nextInt(365)).plusMinutes(random.nextInt(24 * 60));
+        return new Account(index, status, grade, profileActive, popularity, createDate, random.nextLong());
+    }
+
+    private void writeAccount(Account account, RowSink sink) {
+        SplittableRandom random = new SplittableRandom(account.attributeSeed());
+        long userId = USER_ID_BASE + account.index();
+        sink.accept(DatasetTable.USER_ACCOUNT, userId, "user" + account.index() + "@bab-pool.com", account.status(), UserRole.USER,
+                account.grade(), "밥풀" + account.index(), account.createDate(), account.createDate());
+        AuthPlatform platform = random.nextDouble() < 0.7 ? AuthPlatform.KAKAO : AuthPlatform.GOOGLE;
+        sink.accept(DatasetTable.OAUTH, OAUTH_ID_BASE + account.index(), userId, platform, "synthetic-" + account.index());
+        String firstWord = INTRO_WORDS[random.nextInt(INTRO_WORDS.length)];
+        String secondWord = INTRO_WORDS[random.nextInt(INTRO_WORDS.length)];
+        sink.accept(DatasetTable.PROFILE, PROFILE_ID_BASE + account.index(), userId,
+                "https://bab-pool.com/profile/" + account.index() + ".jpg",
+                firstWord + " 이야기 나눠요",
+                firstWord + "와 " + secondWord + "에 관심이 많아요. 밥 한 끼 같이 해요.",
+                random.nextDouble() < 0.3 ? "010-0000-" + String.format("%04d", account.index() % 10_000) : null,
+                random.nextDouble() < 0.8 ? "https://open.kakao.com/o/" + Long.toString(account.attributeSeed() & 0xFFFFFFFL, 36) : null,
+                account.profileActive());
+        if (keywordIds.length == 0) {
+            return;
+        }
+        int keywordCount = Math.min(keywordIds.length, 1 + random.nextInt(3) + (random.nextDouble() < 0.3 ? 3 : 0));
+        boolean[] chosen = new boolean[keywordIds.length];
+        for (int slot = 0; slot < keywordCount; slot++) {
+            int keyword = pickIndex(random, keywordCumulative);
+            while (chosen[keyword]) {
+                keyword = (keyword + 1) % keywordIds.length;
+            }
+            chosen[keyword] = true;
+            sink.accept(DatasetTable.USER_KEYWORD, MAPPING_ID_BASE + (long) account.index() * MAX_KEYWORDS_PER_USER + slot,
+                    userId, keywordIds[keyword]);
+        }
+    }
+
+    private void writeActivity(Account receiver, RowSink sink, DatasetSummary summary) {
+        if (!receiver.profileActive()) {
+            return;
+        }
+        SplittableRandom random = randomFor(receiver.index(), ACTIVITY_SALT);
+        long receiverId = USER_ID_BASE + receiver.index();
+        int slotCount = Math.min(MAX_SLOTS_PER_USER, (int) Math.round(receiver.popularity() * (1 + random.nextInt(4))));
+        boolean[] usedHours = new boolean[CALENDAR_DAYS * 2 * HOURS_PER_DAY];
+        for (int slot = 0; slot < slotCount; slot++) {
+            int hourIndex = random.nextInt(usedHours.length);
+            while (usedHours[hourIndex]) {
+                hourIndex = (hourIndex + 1) % usedHours.length;
+            }
+            usedHours[hourIndex] = true;
+            LocalDateTime possibleDateTime = calendarStart.plusDays(hourIndex / HOURS_PER_DAY).plusHours(FIRST_HOUR + hourIndex % HOURS_PER_DAY);
+            boolean past = possibleDateTime.isBefore(spec.getAnchorDate().atStartOfDay());
+            long slotKey = (long) receiver.index() * MAX_SLOTS_PER_USER + slot;
+            long possibleDateTimeId = POSSIBLE_DATETIME_ID_BASE + slotKey;
+
+            Integer senderIndex = random.nextDouble() < Math.min(0.9, 0.15 * receiver.popularity())
+                    ? activeSenderIndex(random, receiver.index()) : null;
+            AppointmentStatus status = senderIndex == null ? null
+                    : past ? pick(random, PAST_STATUSES, PAST_STATUS_CUMULATIVE) : pick(random, UPCOMING_STATUSES, UPCOMING_STATUS_CUMULATIVE);
+            boolean reserved = status == AppointmentStatus.ACCEPTED || status == AppointmentStatus.DONE;
+            sink.accept(DatasetTable.POSSIBLE_DATETIME, possibleDateTimeId, possibleDateTime,
+                    reserved ? PossibleDateTimeStatusType.RESERVED : PossibleDateTimeStatusType.AVAILABLE, receiverId);
+            if (status == null) {
+                continue;
+            }
+
+            long appointmentId = APPOINTMENT_ID_BASE + slotKey;
+            LocalDateTime requestDate = possibleDateTime.minusDays(1 + random.nextInt(14)).minusMinutes(random.nextInt(600));
+            LocalDateTime modifyDate = status == AppointmentStatus.WAITING ? requestDate : requestDate.plusHours(1 + random.nextInt(48));
+            sink.accept(DatasetTable.APPOINTMENT, appointmentId, USER_ID_BASE + senderIndex, receiverId, status,
+                    REQUEST_MESSAGES[random.nextInt(REQUEST_MESSAGES.length)], requestDate, modifyDate, possibleDateTimeId);
+            summary.countAppointment(status);
+            if (status == AppointmentStatus.REJECTED) {
+                sink.accept(DatasetTable.REJECT, REJECT_ID_BASE + slotKey, appointmentId, REJECT_MESSAGES[random.nextInt(REJECT_MESSAGES.length)]);
+            }
+            if (status == AppointmentStatus.DONE && random.nextDouble() < 0.7) {
+                LocalDateTime reviewDate = possibleDateTime.plusHours(2 + random.nextInt(72));
+                sink.accept(DatasetTable.REVIEW, REVIEW_ID_BASE + slotKey, appointmentId, pick(random, REVIEW_RATES, REVIEW_RATE_CUMULATIVE),
+                        REVIEW_COMMENTS[random.nextInt(REVIEW_COMMENTS.length)], 0, reviewDate, reviewDate);
+            }
+        }
+    }
+
+    /**
+     * 밥약 요청은 가입을 마친(ACTIVE) 다른 사용자가 보낸다. 몇 번 뽑아도 찾지 못하면 마지막 후보를 그대로 쓴다.
+     */
+    private int activeSenderIndex(SplittableRandom random, int receiverIndex) {
+        int candidate = receiverIndex;
+        for (int attempt = 0; attempt < 8; attempt++) {
+            candidate = random.nextInt(spec.getUsers());
+            if (candidate != receiverIndex && account(candidate).status() == UserStatus.ACTIVE) {
+                return candidate;
+            }
+        }
+        return candidate != receiverIndex ? candidate : (receiverIndex + 1) % spec.getUsers();
+    }
+
+    private SplittableRandom randomFor(int index, long salt) {
+        return new SplittableRandom(spec.getSeed() * 0x9E3779B97F4A7C15L + index * 0xBF58476D1CE4E5B9L + salt);
+    }
+
+    private static <T> T pick(SplittableRandom random, T[] values, double[] cumulative) {
+        return values[pickIndex(random, cumulative)];
+    }
+
+    private static int pickIndex(SplittableRandom random, double[] cumulative) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        return Math.min(index >= 0 ? index + 1 : -index - 1, cumulative.length - 1);
+    }
+
+    private static double[] cumulative(double... weights) {
+        double total = Arrays.stream(weights).sum();
+        double[] cumulative = new double[weights.length];
+        double sum = 0;
+        for (int i = 0; i < weights.length; i++) {
+            sum += weights[i];
+            cumulative[i] = sum / total;
+        }
+        return cumulative;
+    }
+
+    private static List<Long> findKeywordIds(Connection connection) throws SQLException {
+        List<Long> keywordIds = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement("SELECT keyword_id FROM t_keyword ORDER BY keyword_id");
+             ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                keywordIds.add(resultSet.getLong(1));
+            }
+        }
+        return keywordIds;
+    }
+
+    private record Account(int index, UserStatus status, String grade, boolean profileActive, double popularity,
+                           LocalDateTime createDate, long attributeSeed) {
+    }
+
+    public static void main(String[] args) throws SQLException {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                System.getProperty("dataset.url", "jdbc:mysql://localhost:3306/babpool"),
+                System.getProperty("dataset.username", "root"),
+                System.getProperty("dataset.password", ""));
+        DatasetSpec spec = DatasetSpec.builder()
+                .users(Integer.getInteger("dataset.users", 1_000_000))
+                .seed(Long.getLong("dataset.seed", 20240301L))
+                .anchorDate(LocalDate.parse(System.getProperty("dataset.anchor-date", LocalDate.now().toString())))
+                .rowsPerStatement(Integer.getInteger("dataset.rows-per-statement", 1_000))
+                .build();
+        System.out.println(load(dataSource, spec));
+    }
+}
@@ -0,0 +1,107 @@
+package com.swyp3.babpool.global.dataset;
+
+import com.swyp3.babpool.domain.appointment.domain.AppointmentStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@MybatisTest
+class SyntheticDataGeneratorTest {
+
+    private static final DatasetSpec SPEC = DatasetSpec.builder()
+            .users(2_000)
+            .seed(42L)
+            .anchorDate(LocalDate.of(2024, 3, 1))
+            .rowsPerStatement(250)
+            .build();
+
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DisplayName("같은 seed 로 생성하면 같은 행이 같은 순서로 생성된다.")
+    @Test
+    void generate_deterministic() {
+        // given
+        List<String> firstRows = new ArrayList<>();
+        List<String> secondRows = new ArrayList<>();
+        // when
+        new SyntheticDataGenerator(SPEC, List.of(1L, 2L, 3L, 4L, 5L)).generate((table, values) -> firstRows.add(table + Arrays.toString(values)));
+        new SyntheticDataGenerator(SPEC, List.of(1L, 2L, 3L, 4L, 5L)).generate((table, values) -> secondRows.add(table + Arrays.toString(values)));
+        // then
+        assertThat(firstRows).isNotEmpty().isEqualTo(secondRows);
+    }
+
+    @DisplayName("모든 밥약 상태와 거절 사유, 리뷰가 생성되고, 인기 키워드에 매핑이 몰린다.")
+    @Test
+    void generate_distribution() {
+        // given
+        long[] mappingCountByKeyword = new long[6];
+        // when
+        DatasetSummary summary = new SyntheticDataGenerator(SPEC, List.of(1L, 2L, 3L, 4L, 5L)).generate((table, values) -> {
+            if (table == DatasetTable.USER_KEYWORD) {
+                mappingCountByKeyword[((Long) values[2]).intValue()]++;
+            }
+        });
+        // then
+        assertThat(summary.getRows(DatasetTable.USER_ACCOUNT)).isEqualTo(SPEC.getUsers());
+        assertThat(summary.getRows(DatasetTable.PROFILE)).isEqualTo(SPEC.getUsers());
+        for (AppointmentStatus status : AppointmentStatus.values()) {
+            assertThat(summary.getAppointments(status)).as(status.name()).isPositive();
+        }
+        assertThat(summary.getRows(DatasetTable.REJECT)).isEqualTo(summary.getAppointments(AppointmentStatus.REJECTED));
+        assertThat(summary.getRows(DatasetTable.REVIEW)).isPositive().isLessThan(summary.getAppointments(AppointmentStatus.DONE));
+        assertThat(mappingCountByKeyword[1]).isGreaterThan(mappingCountByKeyword[5]);
+    }
+
+    @DisplayName("다중 행 INSERT 로 DB 에 적재하면 생성한 행 수만큼 저장된다.")
+    @Test
+    void load() throws Exception {
+        // given
+        DatasetSpec spec = DatasetSpec.builder()
+                .users(300)
+                .seed(7L)
+                .rowsPerStatement(100)
+                .build();
+        // when
+        DatasetSummary summary = SyntheticDataGenerator.load(dataSource, spec);
+        // then
+        assertThat(countInRange("t_user_account", "user_id", SyntheticDataGenerator.USER_ID_BASE))
+                .isEqualTo(summary.getRows(DatasetTable.USER_ACCOUNT));
+        assertThat(countInRange("t_profile", "profile_id", SyntheticDataGenerator.PROFILE_ID_BASE))
+                .isEqualTo(summary.getRows(DatasetTable.PROFILE));
+        assertThat(countInRange("t_possible_datetime", "possible_datetime_id", SyntheticDataGenerator.POSSIBLE_DATETIME_ID_BASE))
+                .isEqualTo(summary.getRows(DatasetTable.POSSIBLE_DATETIME));
+        assertThat(countInRange("t_appointment", "appointment_id", SyntheticDataGenerator.APPOINTMENT_ID_BASE))
+                .isEqualTo(summary.getRows(DatasetTable.APPOINTMENT));
+        assertThat(countInRange("t_review", "review_id", SyntheticDataGenerator.REVIEW_ID_BASE))
+                .isEqualTo(summary.getRows(DatasetTable.REVIEW));
+    }
+
+    @DisplayName("버퍼가 차지 않은 나머지 행은 행 수에 맞는 INSERT 문으로 적재한다.")
+    @Test
+    void insertSql() {
+        // when
+        String sql = JdbcMultiRowSink.insertSql(DatasetTable.REJECT, 2);
+        // then
+        assertThat(sql).isEqualTo("INSERT INTO t_reject (reject_id, appointment_id, reject_cause_content) VALUES (?, ?, ?), (?, ?, ?)");
+    }
+
+    private long countInRange(String table, String idColumn, long idBase) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE " + idColumn + " >= ? AND " + idColumn + " < ?",
+                Long.class, idBase, idBase + 1_000_000_000_000L);
+    }
+}
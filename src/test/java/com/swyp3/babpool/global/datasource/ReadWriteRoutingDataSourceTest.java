@@ -0,0 +1,119 @@
+package com.swyp3.babpool.global.datasource;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadWriteRoutingDataSourceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicBoolean replicaAvailable = new AtomicBoolean(true);
+    private HikariDataSource primary;
+    private HikariDataSource replica;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWriteTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        primary = pool("primary", "jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1");
+        replica = pool("replica", "jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1");
+        DataSource routing = new ReadWriteRoutingDataSource(primary, replica, replicaAvailable::get).lazy();
+        jdbcTemplate = new JdbcTemplate(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+        readWriteTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        DataSourceRoutingContext.clear();
+        primary.close();
+        replica.close();
+    }
+
+    @DisplayName("읽기 전용 트랜잭션의 조회는 replica 로 보낸다.")
+    @Test
+    void route_readOnlyTransaction() {
+        // when
+        String source = readOnlyTransaction.execute(status -> currentSource());
+        // then
+        assertThat(source).isEqualTo("replica");
+    }
+
+    @DisplayName("읽기/쓰기 트랜잭션과 트랜잭션 밖의 조회는 primary 로 보낸다.")
+    @Test
+    void route_readWriteTransaction() {
+        // when
+        String inTransaction = readWriteTransaction.execute(status -> currentSource());
+        String withoutTransaction = currentSource();
+        // then
+        assertThat(inTransaction).isEqualTo("primary");
+        assertThat(withoutTransaction).isEqualTo("primary");
+    }
+
+    @DisplayName("방금 데이터를 변경한 요청은 읽기 전용 트랜잭션이라도 primary 로 보낸다.")
+    @Test
+    void route_pinnedToPrimary() {
+        // given
+        DataSourceRoutingContext.pinToPrimary();
+        // when
+        String source = readOnlyTransaction.execute(status -> currentSource());
+        // then
+        assertThat(source).isEqualTo("primary");
+    }
+
+    @DisplayName("replica 의 복제 지연이 허용 범위를 넘으면 읽기 전용 트랜잭션도 primary 로 보낸다.")
+    @Test
+    void route_replicaUnavailable() {
+        // given
+        replicaAvailable.set(false);
+        // when
+        String source = readOnlyTransaction.execute(status -> currentSource());
+        // then
+        assertThat(source).isEqualTo("primary");
+    }
+
+    @DisplayName("primary, replica 풀의 지표가 pool 태그로 구분되어 기록된다.")
+    @Test
+    void poolMetrics() {
+        // when
+        readOnlyTransaction.executeWithoutResult(status -> currentSource());
+        readWriteTransaction.executeWithoutResult(status -> currentSource());
+        // then
+        assertThat(meterRegistry.get("hikaricp.connections.usage").tag("pool", "replica").timer().count()).isPositive();
+        assertThat(meterRegistry.get("hikaricp.connections.usage").tag("pool", "primary").timer().count()).isPositive();
+    }
+
+    private String currentSource() {
+        return jdbcTemplate.queryForObject("SELECT source FROM t_routing_marker", String.class);
+    }
+
+    private HikariDataSource pool(String name, String url) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(name);
+        config.setJdbcUrl(url);
+        config.setMaximumPoolSize(2);
+        config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        HikariDataSource dataSource = new HikariDataSource(config);
+        JdbcTemplate setup = new JdbcTemplate(dataSource);
+        setup.execute("CREATE TABLE IF NOT EXISTS t_routing_marker (source VARCHAR(10))");
+        setup.execute("DELETE FROM t_routing_marker");
+        setup.update("INSERT INTO t_routing_marker (source) VALUES (?)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,78 @@
+package com.swyp3.babpool.global.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadYourWritesInterceptorTest {
+
+    private static final Instant NOW = Instant.parse("2024-03-01T00:00:00Z");
+
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @AfterEach
+    void tearDown() {
+        DataSourceRoutingContext.clear();
+    }
+
+    @DisplayName("데이터를 변경한 사용자의 다음 조회 요청은 primary 로 고정된다.")
+    @Test
+    void preHandle_afterWrite() {
+        // given
+        ReadYourWritesInterceptor interceptor = new ReadYourWritesInterceptor(new RecentWriteRegistry(Duration.ofSeconds(5), Clock.fixed(NOW, ZoneOffset.UTC)));
+        MockHttpServletRequest write = request("POST", 1L);
+        interceptor.preHandle(write, response, null);
+        interceptor.afterCompletion(write, response, null, null);
+        // when
+        interceptor.preHandle(request("GET", 1L), response, null);
+        // then
+        assertThat(DataSourceRoutingContext.isPinnedToPrimary()).isTrue();
+    }
+
+    @DisplayName("다른 사용자의 조회와 기록 시간이 지난 조회는 고정하지 않는다.")
+    @Test
+    void preHandle_otherUserOrExpired() {
+        // given
+        RecentWriteRegistry before = new RecentWriteRegistry(Duration.ofSeconds(5), Clock.fixed(NOW, ZoneOffset.UTC));
+        new ReadYourWritesInterceptor(before).preHandle(request("PUT", 1L), response, null);
+        DataSourceRoutingContext.clear();
+        // when
+        new ReadYourWritesInterceptor(before).preHandle(request("GET", 2L), response, null);
+        boolean otherUserPinned = DataSourceRoutingContext.isPinnedToPrimary();
+        RecentWriteRegistry expired = new RecentWriteRegistry(Duration.ZERO, Clock.fixed(NOW, ZoneOffset.UTC));
+        expired.markWritten(1L);
+        new ReadYourWritesInterceptor(expired).preHandle(request("GET", 1L), response, null);
+        boolean expiredPinned = DataSourceRoutingContext.isPinnedToPrimary();
+        // then
+        assertThat(otherUserPinned).isFalse();
+        assertThat(expiredPinned).isFalse();
+    }
+
+    @DisplayName("요청이 끝나면 primary 고정을 해제한다.")
+    @Test
+    void afterCompletion_clear() {
+        // given
+        ReadYourWritesInterceptor interceptor = new ReadYourWritesInterceptor(new RecentWriteRegistry(Duration.ofSeconds(5), Clock.fixed(NOW, ZoneOffset.UTC)));
+        MockHttpServletRequest write = request("DELETE", 1L);
+        interceptor.preHandle(write, response, null);
+        // when
+        interceptor.afterCompletion(write, response, null, null);
+        // then
+        assertThat(DataSourceRoutingContext.isPinnedToPrimary()).isFalse();
+    }
+
+    private MockHttpServletRequest request(String method, Long userId) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/api/appointment");
+        request.setAttribute("userId", userId);
+        return request;
+    }
+}
@@ -0,0 +1,93 @@
+package com.swyp3.babpool.global.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicaLagMonitorTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ReplicaLagMonitor replicaLagMonitor = new ReplicaLagMonitor(Mockito.mock(DataSource.class),
+            Duration.ofSeconds(3), Duration.ofSeconds(5), meterRegistry, clock);
+
+    @DisplayName("첫 지연 확인 전에는 replica 를 사용하지 않는다.")
+    @Test
+    void isReplicaAvailable_beforeFirstCheck() {
+        assertThat(replicaLagMonitor.isReplicaAvailable()).isFalse();
+        assertThat(meterRegistry.get("datasource.replica.available").gauge().value()).isZero();
+    }
+
+    @DisplayName("지연이 허용 범위 안이면 replica 를 사용하고, 넘거나 확인할 수 없으면 사용하지 않는다.")
+    @Test
+    void update() {
+        // when
+        replicaLagMonitor.update(3L);
+        boolean withinMaxLag = replicaLagMonitor.isReplicaAvailable();
+        replicaLagMonitor.update(4L);
+        boolean overMaxLag = replicaLagMonitor.isReplicaAvailable();
+        replicaLagMonitor.update(null);
+        boolean unknownLag = replicaLagMonitor.isReplicaAvailable();
+
+        // then
+        assertThat(withinMaxLag).isTrue();
+        assertThat(overMaxLag).isFalse();
+        assertThat(unknownLag).isFalse();
+    }
+
+    @DisplayName("마지막 확인이 확인 주기의 2배보다 오래되면 replica 를 사용하지 않는다.")
+    @Test
+    void isReplicaAvailable_staleCheck() {
+        // given
+        replicaLagMonitor.update(0L);
+
+        // when
+        clock.plus(Duration.ofSeconds(10));
+        boolean withinTwoIntervals = replicaLagMonitor.isReplicaAvailable();
+        clock.plus(Duration.ofMillis(1));
+        boolean afterTwoIntervals = replicaLagMonitor.isReplicaAvailable();
+
+        // then
+        assertThat(withinTwoIntervals).isTrue();
+        assertThat(afterTwoIntervals).isFalse();
+        assertThat(meterRegistry.get("datasource.replica.available").gauge().value()).isZero();
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void plus(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
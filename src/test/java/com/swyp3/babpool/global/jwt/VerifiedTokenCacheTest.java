@@ -0,0 +1,122 @@
+package com.swyp3.babpool.global.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class VerifiedTokenCacheTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+
+    @DisplayName("검증된 토큰을 저장하면, 만료 전까지 같은 subject 와 roles 를 담은 클레임을 반환한다.")
+    @Test
+    void get_verifiedToken() {
+        // given
+        VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(10, clock);
+        verifiedTokenCache.put("token", claimsOf("100000000000000001", Duration.ofMinutes(15)));
+        // when
+        clock.plus(Duration.ofMinutes(14));
+        Claims claims = verifiedTokenCache.get("token");
+        // then
+        assertThat(claims).isNotNull();
+        assertThat(claims.getSubject()).isEqualTo("100000000000000001");
+        assertThat(claims.get("roles", List.class)).containsExactly("ROLE_USER");
+    }
+
+    @DisplayName("만료 시각이 지난 토큰은 반환하지 않고 캐시에서 제거한다.")
+    @Test
+    void get_expiredToken() {
+        // given
+        VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(10, clock);
+        verifiedTokenCache.put("token", claimsOf("100000000000000001", Duration.ofMinutes(15)));
+        // when
+        clock.plus(Duration.ofMinutes(15));
+        Claims claims = verifiedTokenCache.get("token");
+        // then
+        assertThat(claims).isNull();
+        assertThat(verifiedTokenCache.size()).isZero();
+    }
+
+    @DisplayName("최대 크기에 도달하면 만료된 항목을 먼저 정리하고, 그래도 가득 차 있으면 전체를 비운다.")
+    @Test
+    void put_overMaxSize() {
+        // given
+        VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(2, clock);
+        verifiedTokenCache.put("short", claimsOf("1", Duration.ofMinutes(1)));
+        verifiedTokenCache.put("long", claimsOf("2", Duration.ofMinutes(15)));
+        clock.plus(Duration.ofMinutes(2));
+        // when
+        verifiedTokenCache.put("new", claimsOf("3", Duration.ofMinutes(15)));
+        // then
+        assertThat(verifiedTokenCache.size()).isEqualTo(2);
+        assertThat(verifiedTokenCache.get("long")).isNotNull();
+        // when
+        verifiedTokenCache.put("overflow", claimsOf("4", Duration.ofMinutes(15)));
+        // then
+        assertThat(verifiedTokenCache.size()).isEqualTo(1);
+        assertThat(verifiedTokenCache.get("overflow")).isNotNull();
+    }
+
+    @DisplayName("같은 Access Token 으로 여러 번 인증하면, 서명 검증은 한 번만 수행한다.")
+    @Test
+    void authenticate_verifiesOnce() {
+        // given
+        JwtTokenizer jwtTokenizer = spy(new JwtTokenizer("12345678901234567890123456789012", "12345678901234567890123456789012"));
+        JwtAuthenticator jwtAuthenticator = new JwtAuthenticator(jwtTokenizer, new VerifiedTokenCache(10));
+        String accessToken = jwtTokenizer.createAccessToken(100000000000000001L, List.of("ROLE_USER"));
+        // when
+        for (int i = 0; i < 20; i++) {
+            assertThat(jwtAuthenticator.authenticate(accessToken).getSubject()).isEqualTo("100000000000000001");
+        }
+        // then
+        verify(jwtTokenizer, times(1)).parseAccessToken(accessToken);
+    }
+
+    private Claims claimsOf(String subject, Duration timeToLive) {
+        Claims claims = Jwts.claims()
+                .setSubject(subject)
+                .setExpiration(Date.from(clock.instant().plus(timeToLive)));
+        claims.put("roles", List.of("ROLE_USER"));
+        return claims;
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void plus(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
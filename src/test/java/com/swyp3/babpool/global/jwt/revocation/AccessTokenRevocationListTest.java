@@ -0,0 +1,94 @@
+package com.swyp3.babpool.global.jwt.revocation;
+
+import com.swyp3.babpool.infra.redis.EmbeddedLocalRedisConfig;
+import com.swyp3.babpool.infra.redis.RedisRepositoryConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Import({EmbeddedLocalRedisConfig.class, RedisRepositoryConfig.class})
+@DataRedisTest
+@ActiveProfiles("test")
+class AccessTokenRevocationListTest {
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    private AccessTokenRevocationList accessTokenRevocationList;
+
+    @BeforeEach
+    void setUp() {
+        Set<String> keys = stringRedisTemplate.keys(AccessTokenRevocationList.KEY_PREFIX + "*");
+        if (keys != null && !keys.isEmpty()) {
+            stringRedisTemplate.delete(keys);
+        }
+        accessTokenRevocationList = new AccessTokenRevocationList(stringRedisTemplate, 1000);
+    }
+
+    @DisplayName("토큰을 폐기하면 Redis 에 남은 유효 시간만큼 저장되고, 메모리에서 폐기 여부를 확인할 수 있다.")
+    @Test
+    void revoke() {
+        // given
+        Date expiration = new Date(System.currentTimeMillis() + 15 * 60 * 1000L);
+        // when
+        accessTokenRevocationList.revoke("revoked-jti", expiration);
+        // then
+        assertThat(accessTokenRevocationList.isRevoked("revoked-jti")).isTrue();
+        assertThat(accessTokenRevocationList.isRevoked("other-jti")).isFalse();
+        Long remainingSeconds = stringRedisTemplate.getExpire(AccessTokenRevocationList.KEY_PREFIX + "revoked-jti", TimeUnit.SECONDS);
+        assertThat(remainingSeconds).isBetween(14 * 60L, 15 * 60L);
+    }
+
+    @DisplayName("이미 만료된 토큰은 폐기 목록에 저장하지 않는다.")
+    @Test
+    void revoke_expiredToken() {
+        // given
+        Date expiration = new Date(System.currentTimeMillis() - 1000L);
+        // when
+        accessTokenRevocationList.revoke("expired-jti", expiration);
+        // then
+        assertThat(accessTokenRevocationList.isRevoked("expired-jti")).isFalse();
+        assertThat(stringRedisTemplate.hasKey(AccessTokenRevocationList.KEY_PREFIX + "expired-jti")).isFalse();
+    }
+
+    @DisplayName("다른 서버에서 폐기한 토큰은 Redis 동기화로 반영된다.")
+    @Test
+    void synchronize() {
+        // given
+        AccessTokenRevocationList otherNode = new AccessTokenRevocationList(stringRedisTemplate, 1000);
+        otherNode.revoke("revoked-jti", new Date(System.currentTimeMillis() + 60 * 1000L));
+        assertThat(accessTokenRevocationList.isRevoked("revoked-jti")).isFalse();
+        // when
+        accessTokenRevocationList.synchronize();
+        // then
+        assertThat(accessTokenRevocationList.isRevoked("revoked-jti")).isTrue();
+    }
+
+    @DisplayName("pub/sub 으로 전달된 폐기 이벤트를 메모리에 반영한다.")
+    @Test
+    void onMessage() {
+        // given
+        long expiresAtMillis = System.currentTimeMillis() + 60 * 1000L;
+        DefaultMessage message = new DefaultMessage(
+                AccessTokenRevocationList.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                ("revoked-jti:" + expiresAtMillis).getBytes(StandardCharsets.UTF_8));
+        // when
+        accessTokenRevocationList.onMessage(message, null);
+        // then
+        assertThat(accessTokenRevocationList.isRevoked("revoked-jti")).isTrue();
+        assertThat(accessTokenRevocationList.size()).isEqualTo(1);
+    }
+}
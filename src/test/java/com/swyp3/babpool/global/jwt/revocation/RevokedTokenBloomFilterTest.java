@@ -0,0 +1,47 @@
+package com.swyp3.babpool.global.jwt.revocation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RevokedTokenBloomFilterTest {
+
+    @DisplayName("추가한 항목은 항상 포함된 것으로 판단한다.")
+    @Test
+    void mightContain_putItems() {
+        // given
+        RevokedTokenBloomFilter bloomFilter = new RevokedTokenBloomFilter(1000, 0.01);
+        String[] tokenIds = new String[1000];
+        for (int i = 0; i < tokenIds.length; i++) {
+            tokenIds[i] = UUID.randomUUID().toString();
+            bloomFilter.put(tokenIds[i]);
+        }
+        // when
+        // then
+        for (String tokenId : tokenIds) {
+            assertThat(bloomFilter.mightContain(tokenId)).isTrue();
+        }
+    }
+
+    @DisplayName("추가하지 않은 항목의 오탐률은 설정한 값 근처로 유지된다.")
+    @Test
+    void mightContain_falsePositiveRate() {
+        // given
+        RevokedTokenBloomFilter bloomFilter = new RevokedTokenBloomFilter(1000, 0.01);
+        for (int i = 0; i < 1000; i++) {
+            bloomFilter.put(UUID.randomUUID().toString());
+        }
+        // when
+        int falsePositives = 0;
+        for (int i = 0; i < 10000; i++) {
+            if (bloomFilter.mightContain(UUID.randomUUID().toString())) {
+                falsePositives++;
+            }
+        }
+        // then
+        assertThat(falsePositives).isLessThan(300);
+    }
+}
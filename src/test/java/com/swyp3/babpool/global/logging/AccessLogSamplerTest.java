@@ -0,0 +1,36 @@
+package com.swyp3.babpool.global.logging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AccessLogSamplerTest {
+
+    @DisplayName("상태 코드 구간별 비율에 따라 기록 여부를 판단한다.")
+    @Test
+    void shouldLog() {
+        // given
+        AccessLogSampler sampler = new AccessLogSampler(0.1, 0.0, 1.0, 1.0);
+
+        // when
+        // then
+        assertThat(sampler.shouldLog(0.05, 200)).isTrue();
+        assertThat(sampler.shouldLog(0.5, 200)).isFalse();
+        assertThat(sampler.shouldLog(0.0, 302)).isFalse();
+        assertThat(sampler.shouldLog(0.99, 404)).isTrue();
+        assertThat(sampler.shouldLog(0.99, 500)).isTrue();
+    }
+
+    @DisplayName("뽑은 난수가 모든 구간의 비율보다 크면, 상태 코드를 알기 전에 기록되지 않음을 알 수 있다.")
+    @Test
+    void mayLog() {
+        // given
+        AccessLogSampler sampler = new AccessLogSampler(0.1, 0.0, 0.2, 0.5);
+
+        // when
+        // then
+        assertThat(sampler.mayLog(0.3)).isTrue();
+        assertThat(sampler.mayLog(0.5)).isFalse();
+    }
+}
@@ -0,0 +1,70 @@
+package com.swyp3.babpool.global.logging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.util.ContentCachingRequestWrapper;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonAccessLogMessageTest {
+
+    @DisplayName("본문 캡처를 하지 않은 요청은, 본문 없이 한 줄 JSON 으로 기록된다.")
+    @Test
+    void toJsonWithoutBody() {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/profile/list");
+        request.setQueryString("searchTerm=\"밥\"");
+        request.addHeader("User-Agent", "test-agent");
+
+        // when
+        String json = JsonAccessLogMessage.builder()
+                .timestampMillis(0L)
+                .requestId("abcd1234")
+                .request(request)
+                .status(200)
+                .responseTimeMillis(12L)
+                .clientIP("127.0.0.1")
+                .maxBodyBytes(16)
+                .build()
+                .toJson();
+
+        // then
+        assertThat(json).isEqualTo("{\"ts\":\"1970-01-01T00:00:00Z\",\"requestId\":\"abcd1234\",\"method\":\"GET\"," +
+                "\"uri\":\"/api/profile/list\",\"query\":\"searchTerm=\\\"밥\\\"\",\"status\":200,\"durationMs\":12," +
+                "\"clientIp\":\"127.0.0.1\",\"userAgent\":\"test-agent\"}");
+        assertThat(json).doesNotContain("\n");
+    }
+
+    @DisplayName("본문 캡처를 켠 요청은, 요청/응답 본문을 최대 바이트 수까지만 기록한다.")
+    @Test
+    void toJsonWithTruncatedBody() throws IOException {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/appointment");
+        request.setContent("{\"message\":\"0123456789abcdef\"}".getBytes(StandardCharsets.UTF_8));
+        ContentCachingRequestWrapper requestWrapper = new ContentCachingRequestWrapper(request, 16);
+        requestWrapper.getInputStream().readAllBytes();
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(new MockHttpServletResponse());
+        responseWrapper.getOutputStream().write("{\"code\":200}".getBytes(StandardCharsets.UTF_8));
+
+        // when
+        String json = JsonAccessLogMessage.builder()
+                .timestampMillis(0L)
+                .request(requestWrapper)
+                .status(200)
+                .responseWrapper(responseWrapper)
+                .maxBodyBytes(16)
+                .build()
+                .toJson();
+
+        // then
+        assertThat(json).contains("\"requestBody\":\"{\\\"message\\\":\\\"0123\",\"requestBodyTruncated\":true");
+        assertThat(json).contains("\"responseBody\":\"{\\\"code\\\":200}\"");
+        assertThat(json).doesNotContain("responseBodyTruncated");
+    }
+}
@@ -1,5 +1,8 @@
 package com.swyp3.babpool.global.logging;
 
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
 import jakarta.servlet.ServletException;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeEach;
@@ -8,9 +11,11 @@ import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mockito;
+import org.slf4j.LoggerFactory;
 import org.springframework.boot.test.system.CapturedOutput;
 import org.springframework.boot.test.system.OutputCaptureExtension;
 import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.util.ContentCachingRequestWrapper;
@@ -18,6 +23,7 @@ import org.springframework.web.util.ContentCachingRequestWrapper;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(OutputCaptureExtension.class)
@@ -104,4 +110,42 @@ class MdcLoggingFilterTest {
         mdcLoggingFilter.setOriginAttributeAtRequest(requestWrapper);
         assertThat(requestWrapper.getAttribute("localhostFlag")).isEqualTo("true");
     }
-}
\ No newline at end of file
+
+    @DisplayName("json 접근 로그는, 필터 체인에서 예외가 전파되면 상태를 200 이 아닌 500 으로 기록한다.")
+    @Test
+    void jsonAccessLogRecords500WhenChainThrows() {
+        // given
+        ReflectionTestUtils.setField(mdcLoggingFilter, "accessLogFormat", "json");
+        Logger accessLogger = (Logger) LoggerFactory.getLogger("ACCESS_LOG");
+        ListAppender<ILoggingEvent> appender = new ListAppender<>();
+        appender.start();
+        accessLogger.addAppender(appender);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/something");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        try {
+            // when
+            assertThatThrownBy(() -> mdcLoggingFilter.doFilterInternal(request, response, (req, res) -> {
+                throw new IllegalStateException("handler failure");
+            })).isInstanceOf(IllegalStateException.class);
+
+            // then
+            assertThat(appender.list).hasSize(1);
+            assertThat(appender.list.get(0).getFormattedMessage()).contains("\"status\":500");
+        } finally {
+            accessLogger.detachAppender(appender);
+        }
+    }
+
+    @DisplayName("statusOf 메서드는, 체인이 정상 종료되었거나 응답이 이미 커밋된 경우 실제 응답 상태를 반환한다.")
+    @Test
+    void statusOf() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setStatus(404);
+        assertThat(MdcLoggingFilter.statusOf(true, response)).isEqualTo(404);
+        assertThat(MdcLoggingFilter.statusOf(false, response)).isEqualTo(500);
+
+        response.setCommitted(true);
+        assertThat(MdcLoggingFilter.statusOf(false, response)).isEqualTo(404);
+    }
+}
@@ -0,0 +1,111 @@
+package com.swyp3.babpool.global.mybatis;
+
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 매핑된 SQL 문의 EXPLAIN 결과에서 전체 스캔과 파일 정렬을 찾는다.
+ * - MySQL : type 이 ALL(테이블 전체) 또는 index(인덱스 전체)이면 전체 스캔, Extra 에 Using filesort 가 있으면 파일 정렬
+ * - H2 : 실행 계획에 tableScan 이나 조건 없는 인덱스가 있으면 전체 스캔, ORDER BY 가 "index sorted" 로 처리되지 않으면 파일 정렬
+ */
+public record QueryPlan(String statementId, Set<Violation> violations, String plan) {
+
+    public enum Violation {
+        FULL_SCAN,
+        FILESORT
+    }
+
+    /**
+     * H2 는 조건 없이 읽는 테이블/인덱스를 "PUBLIC.T_APPOINTMENT.tableScan", "PUBLIC.IDX_XXX" 처럼 조건(:) 없이 표기한다.
+     */
+    private static final Pattern H2_FULL_SCAN = Pattern.compile("/\\*\\s*[A-Za-z0-9_\"]+\\.[A-Za-z0-9_\"]+(\\.tableScan)?\\s*\\*/");
+    private static final Pattern H2_ORDER_BY = Pattern.compile("\\bORDER BY\\b");
+    private static final String H2_INDEX_SORTED = "/* index sorted */";
+
+    public static QueryPlan explain(Connection connection, MappedStatement mappedStatement, Object parameter) throws SQLException {
+        BoundSql boundSql = mappedStatement.getBoundSql(parameter);
+        String sql = boundSql.getSql().strip();
+        if (sql.endsWith(";")) {
+            sql = sql.substring(0, sql.length() - 1);
+        }
+        List<Map<String, Object>> rows = new ArrayList<>();
+        try (PreparedStatement preparedStatement = connection.prepareStatement("EXPLAIN " + sql)) {
+            mappedStatement.getConfiguration()
+                    .newParameterHandler(mappedStatement, parameter, boundSql)
+                    .setParameters(preparedStatement);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                ResultSetMetaData metaData = resultSet.getMetaData();
+                while (resultSet.next()) {
+                    Map<String, Object> row = new LinkedHashMap<>();
+                    for (int column = 1; column <= metaData.getColumnCount(); column++) {
+                        row.put(metaData.getColumnLabel(column), resultSet.getObject(column));
+                    }
+                    rows.add(row);
+                }
+            }
+        }
+        boolean h2 = "H2".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName());
+        return h2 ? fromH2(mappedStatement.getId(), rows) : fromMySql(mappedStatement.getId(), rows);
+    }
+
+    static QueryPlan fromMySql(String statementId, List<Map<String, Object>> rows) {
+        Set<Violation> violations = EnumSet.noneOf(Violation.class);
+        for (Map<String, Object> row : rows) {
+            // <derived2>, <subquery2> 등은 이미 걸러진 중간 결과이므로 원본 테이블의 접근 방식만 본다.
+            if (String.valueOf(valueIgnoreCase(row, "table")).startsWith("<")) {
+                continue;
+            }
+            String type = String.valueOf(valueIgnoreCase(row, "type"));
+            String extra = String.valueOf(valueIgnoreCase(row, "Extra"));
+            if ("ALL".equalsIgnoreCase(type) || "index".equalsIgnoreCase(type)) {
+                violations.add(Violation.FULL_SCAN);
+            }
+            if (extra.contains("Using filesort")) {
+                violations.add(Violation.FILESORT);
+            }
+        }
+        return new QueryPlan(statementId, violations, rows.toString());
+    }
+
+    static QueryPlan fromH2(String statementId, List<Map<String, Object>> rows) {
+        String plan = rows.isEmpty() ? "" : String.valueOf(rows.get(0).values().iterator().next());
+        Set<Violation> violations = EnumSet.noneOf(Violation.class);
+        if (H2_FULL_SCAN.matcher(plan).find()) {
+            violations.add(Violation.FULL_SCAN);
+        }
+        if (count(H2_ORDER_BY.matcher(plan)) > count(Pattern.compile(Pattern.quote(H2_INDEX_SORTED)).matcher(plan))) {
+            violations.add(Violation.FILESORT);
+        }
+        return new QueryPlan(statementId, violations, plan);
+    }
+
+    private static Object valueIgnoreCase(Map<String, Object> row, String column) {
+        return row.entrySet().stream()
+                .filter(entry -> entry.getKey().equalsIgnoreCase(column))
+                .map(Map.Entry::getValue)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private static int count(Matcher matcher) {
+        int count = 0;
+        while (matcher.find()) {
+            count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,259 @@
+package com.swyp3.babpool.global.mybatis;
+
+import com.swyp3.babpool.domain.appointment.dao.AppointmentRepository;
+import com.swyp3.babpool.domain.appointment.domain.AppointmentStatus;
+import com.swyp3.babpool.domain.possibledatetime.dao.PossibleDateTimeRepository;
+import com.swyp3.babpool.domain.possibledatetime.domain.PossibleDateTimeStatusType;
+import com.swyp3.babpool.domain.profile.api.request.ProfilePagingConditions;
+import com.swyp3.babpool.domain.profile.dao.ProfileRepository;
+import com.swyp3.babpool.domain.review.dao.ReviewRepository;
+import com.swyp3.babpool.domain.user.dao.UserRepository;
+import com.swyp3.babpool.domain.user.domain.UserStatus;
+import com.swyp3.babpool.global.dataset.DatasetSpec;
+import com.swyp3.babpool.global.dataset.DatasetSummary;
+import com.swyp3.babpool.global.dataset.SyntheticDataGenerator;
+import com.swyp3.babpool.global.mybatis.QueryPlan.Violation;
+import com.swyp3.babpool.infra.auth.AuthPlatform;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 핫 경로 매퍼(Appointment, Profile, Review, PossibleDateTime, User)의 SELECT/UPDATE/DELETE 문을
+ * db/migration 의 인덱스와 합성 데이터 위에서 EXPLAIN 하여, 전체 스캔이나 파일 정렬이 생기면 실패한다.
+ * 매퍼에 SQL 문을 추가하면 parametersFor 에 EXPLAIN 파라미터를 함께 추가해야 한다.
+ * 운영 규모로 확인할 때 : ./gradlew test --tests QueryPlanTest -DqueryPlan.users=1000000 (테스트 DB 를 로컬 MySQL 로 지정)
+ */
+@Slf4j
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@MybatisTest
+class QueryPlanTest {
+
+    private static final List<Class<?>> HOT_REPOSITORIES = List.of(AppointmentRepository.class, ProfileRepository.class,
+            ReviewRepository.class, PossibleDateTimeRepository.class, UserRepository.class);
+
+    /**
+     * 더 이상 사용하지 않는 t_possible_date, t_possible_time 테이블의 SQL 문
+     */
+    private static final Set<String> LEGACY_STATEMENTS = Set.of(
+            "PossibleDateTimeRepository.findAllPossibleDateAndTimeByProfileIdAndNowDateWithoutAcceptOrDone",
+            "PossibleDateTimeRepository.checkReferenceInAppointmentRequestDate",
+            "PossibleDateTimeRepository.checkExistPossibleDate",
+            "PossibleDateTimeRepository.checkExistPossibleTime",
+            "PossibleDateTimeRepository.deletePossibleDate",
+            "PossibleDateTimeRepository.deletePossibleTime");
+
+    /**
+     * 인덱스로 없앨 수 없는 전체 스캔/파일 정렬과 그 이유
+     */
+    private static final Map<String, Allowance> ALLOWANCES = Map.of(
+            "ProfileRepository.findAllByPageable", new Allowance(Set.of(Violation.FULL_SCAN, Violation.FILESORT),
+                    "LIKE '%검색어%' 검색과 학년/키워드 필터는 공개 프로필을 읽으며 거른다. 조건 없는 기본 목록은 UNFILTERED_PARAMETERS 로 따로 확인한다."),
+            "ProfileRepository.countByPageable", new Allowance(Set.of(Violation.FULL_SCAN),
+                    "목록과 같은 조건의 전체 건수를 센다. 조건 없는 기본 목록은 UNFILTERED_PARAMETERS 로 따로 확인한다."),
+            "AppointmentRepository.findRefuseAppointmentListByRequesterId", new Allowance(Set.of(Violation.FILESORT),
+                    "정렬 기준(reject_create_date)이 t_reject 에 있어, 보낸 사람의 거절/만료 밥약 몇 건을 정렬한다."),
+            "ReviewRepository.findAllByPageable", new Allowance(Set.of(Violation.FILESORT),
+                    "받은 사람의 완료된 밥약에서 모은 리뷰를 정렬한다. 프로필당 리뷰 수만큼만 정렬한다."),
+            "ReviewRepository.findAllByProfileIdWithLimit", new Allowance(Set.of(Violation.FILESORT),
+                    "받은 사람의 완료된 밥약에서 모은 리뷰를 정렬한다. 프로필당 리뷰 수만큼만 정렬한다."));
+
+    @Autowired
+    private SqlSessionFactory sqlSessionFactory;
+    @Autowired
+    private DataSource dataSource;
+
+    @DisplayName("핫 경로 SQL 문은 합성 데이터 위에서 전체 스캔이나 파일 정렬 없이 실행된다.")
+    @Test
+    void explainHotStatements() throws Exception {
+        // given
+        SchemaMigrations.apply(dataSource);
+        DatasetSummary dataset = SyntheticDataGenerator.load(dataSource, DatasetSpec.builder()
+                .users(Integer.getInteger("queryPlan.users", 3_000))
+                .seed(1L)
+                .anchorDate(LocalDate.now())
+                .build());
+        Map<String, Object> parameters = parametersFor(dataset);
+        Configuration configuration = sqlSessionFactory.getConfiguration();
+
+        // when
+        List<String> missingParameters = new ArrayList<>();
+        List<String> failures = new ArrayList<>();
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            for (MappedStatement mappedStatement : hotStatements(configuration)) {
+                String statementId = StatementTimingInterceptor.shortStatementId(mappedStatement.getId());
+                if (LEGACY_STATEMENTS.contains(statementId)) {
+                    continue;
+                }
+                if (!parameters.containsKey(statementId)) {
+                    missingParameters.add(statementId);
+                    continue;
+                }
+                QueryPlan queryPlan = QueryPlan.explain(connection, mappedStatement, parameters.get(statementId));
+                Set<Violation> violations = new TreeSet<>(queryPlan.violations());
+                Allowance allowance = ALLOWANCES.get(statementId);
+                if (allowance != null) {
+                    violations.removeAll(allowance.violations());
+                }
+                log.info("QueryPlanTest, {} : {}", statementId, queryPlan.plan());
+                if (!violations.isEmpty()) {
+                    failures.add(statementId + " " + violations + " -> " + queryPlan.plan());
+                }
+            }
+            // 조건 없는 기본 목록은 가장 많이 호출되므로 allowance 없이 확인한다.
+            for (Map.Entry<String, Object> unfiltered : unfilteredParameters().entrySet()) {
+                MappedStatement mappedStatement = configuration.getMappedStatement(ProfileRepository.class.getName() + "." + unfiltered.getKey());
+                QueryPlan queryPlan = QueryPlan.explain(connection, mappedStatement, unfiltered.getValue());
+                log.info("QueryPlanTest, ProfileRepository.{} (조건 없음) : {}", unfiltered.getKey(), queryPlan.plan());
+                if (!queryPlan.violations().isEmpty()) {
+                    failures.add("ProfileRepository." + unfiltered.getKey() + " (조건 없음) " + queryPlan.violations() + " -> " + queryPlan.plan());
+                }
+            }
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+
+        // then
+        assertThat(missingParameters).as("EXPLAIN 파라미터가 없는 SQL 문").isEmpty();
+        assertThat(failures).as("전체 스캔 또는 파일 정렬이 생긴 SQL 문").isEmpty();
+    }
+
+    private static List<MappedStatement> hotStatements(Configuration configuration) {
+        Map<String, MappedStatement> statementById = new HashMap<>();
+        for (Object value : configuration.getMappedStatements()) {
+            // Configuration 은 전체 id 와 짧은 id 로 같은 SQL 문을 두 번 담고 있다.
+            if (value instanceof MappedStatement mappedStatement
+                    && mappedStatement.getSqlCommandType() != SqlCommandType.INSERT
+                    && HOT_REPOSITORIES.stream().anyMatch(repository -> mappedStatement.getId().startsWith(repository.getName() + "."))) {
+                statementById.put(mappedStatement.getId(), mappedStatement);
+            }
+        }
+        return statementById.values().stream()
+                .sorted((left, right) -> left.getId().compareTo(right.getId()))
+                .toList();
+    }
+
+    /**
+     * 검색어와 필터 없이 기본 정렬(profile_modify_date DESC)로 조회하는 프로필 목록
+     */
+    private static Map<String, Object> unfilteredParameters() {
+        return Map.of(
+                "findAllByPageable", Map.of(
+                        "condition", ProfilePagingConditions.builder().build(),
+                        "pageable", PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "profile_modify_date"))),
+                "countByPageable", ProfilePagingConditions.builder().build());
+    }
+
+    private static Map<String, Object> parametersFor(DatasetSummary dataset) {
+        long userId = dataset.userId(0);
+        long otherUserId = dataset.userId(1);
+        long profileId = dataset.profileId(0);
+        long appointmentId = 6_000_000_000_000L;
+        long possibleDateTimeId = 5_000_000_000_000L;
+        LocalDateTime possibleDateTime = LocalDate.now().plusDays(3).atTime(12, 0);
+        PageRequest profilePage = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "profile_modify_date"));
+        PageRequest reviewPage = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "review_create_date"));
+
+        Map<String, Object> parameters = new HashMap<>();
+        // AppointmentMapper
+        parameters.put("AppointmentRepository.findAppointmentListByRequesterId", Map.of("requesterUserId", userId));
+        parameters.put("AppointmentRepository.findAppointmentListByReceiverId", Map.of("receiverUserId", userId));
+        parameters.put("AppointmentRepository.findByAppointmentId", Map.of("appointmentId", appointmentId));
+        parameters.put("AppointmentRepository.findDoneAppointmentListByRequesterId", Map.of("requesterUserId", userId));
+        parameters.put("AppointmentRepository.findRefuseAppointmentListByRequesterId", Map.of("requesterUserId", userId));
+        parameters.put("AppointmentRepository.findAllBySenderUserId", Map.of("senderUserId", userId));
+        parameters.put("AppointmentRepository.findAcceptAppointment", Map.of("appointmentId", appointmentId));
+        parameters.put("AppointmentRepository.findRejectAppointmentDetail", Map.of("appointmentId", appointmentId));
+        parameters.put("AppointmentRepository.findExpireAppointmentDetail", Map.of("appointmentId", appointmentId));
+        parameters.put("AppointmentRepository.updateStatusToExpiredWhereStatusIsWaitingAndAppointmentCreateDatePassedOneDay", Map.of());
+        parameters.put("AppointmentRepository.updateAppointmentStatus", Map.of("targetAppointmentId", appointmentId, "status", AppointmentStatus.ACCEPTED));
+        parameters.put("AppointmentRepository.deleteAppointmentById", Map.of("appointmentId", appointmentId));
+        // ProfileMapper
+        parameters.put("ProfileRepository.findAllByPageable", Map.of(
+                "condition", ProfilePagingConditions.builder().search("개발").userGrades(List.of("FIRST_GRADE")).keywords(List.of("1")).build(),
+                "pageable", profilePage));
+        parameters.put("ProfileRepository.countByPageable", Map.of("search", "개발", "userGrades", List.of("FIRST_GRADE"), "keywords", List.of("1")));
+        parameters.put("ProfileRepository.findUserIdByProfileId", Map.of("profileId", profileId));
+        parameters.put("ProfileRepository.findById", Map.of("profileId", profileId));
+        parameters.put("ProfileRepository.findByUserId", Map.of("userId", userId));
+        parameters.put("ProfileRepository.findProfileDefault", Map.of("profileId", profileId));
+        parameters.put("ProfileRepository.findProfileDetail", Map.of("profileId", profileId));
+        parameters.put("ProfileRepository.findProfileIsRegistered", Map.of("profileId", profileId));
+        parameters.put("ProfileRepository.findReferencedImageUrls", Map.of("imageUrls",
+                List.of("https://bab-pool.com/static/0_detail.jpg", "https://bab-pool.com/static/0_card.jpg")));
+        parameters.put("ProfileRepository.updateProfileImageUrl", Map.of("userId", userId, "profileImageUrl", "https://bab-pool.com/0.jpg"));
+        parameters.put("ProfileRepository.updateProfileImageUrls", Map.of("userId", userId, "profileImageUrl", "https://bab-pool.com/0_detail.jpg",
+                "profileImageCardUrl", "https://bab-pool.com/0_card.jpg"));
+        parameters.put("ProfileRepository.updateUserAccount", Map.of("userId", userId,
+                "dto", Map.of("userNickName", "밥풀", "userGrade", "FIRST_GRADE")));
+        parameters.put("ProfileRepository.updateProfileByProfileIdAndUpdateRequestDto", Map.of("profileId", profileId,
+                "request", Map.of("profileIntro", "소개", "profileContents", "내용", "profileContactPhone", "010-0000-0000", "profileContactChat", "chat")));
+        parameters.put("ProfileRepository.updateProfileActiveFlag", Map.of("userId", userId, "activeFlag", true));
+        // ReviewMapper
+        parameters.put("ReviewRepository.countByTypeAndProfileId", Map.of("profileId", profileId));
+        parameters.put("ReviewRepository.isReviewCreateAvailableTime", Map.of("appointmentId", appointmentId));
+        parameters.put("ReviewRepository.isReviewUpdateAvailableTime", Map.of("reviewId", 8_000_000_000_000L));
+        parameters.put("ReviewRepository.findByReviewId", Map.of("reviewId", 8_000_000_000_000L));
+        parameters.put("ReviewRepository.findAllByPageable", Map.of("condition", profileId, "pageable", reviewPage));
+        parameters.put("ReviewRepository.countByPageable", Map.of("profileId", profileId));
+        parameters.put("ReviewRepository.findAllByProfileIdWithLimit", Map.of("profileId", profileId, "limit", 3));
+        parameters.put("ReviewRepository.findByAppointmentId", Map.of("appointmentId", appointmentId));
+        parameters.put("ReviewRepository.updateReview", Map.of("reviewId", 8_000_000_000_000L, "reviewRate", "BEST", "reviewComment", "좋아요"));
+        // PossibleDateTimeMapper
+        parameters.put("PossibleDateTimeRepository.findAllByUserId", Map.of("userId", userId));
+        parameters.put("PossibleDateTimeRepository.findAllByProfileIdWhereFromThisMonth", Map.of("profileId", profileId));
+        parameters.put("PossibleDateTimeRepository.findByUserIdAndDateTimeForUpdate", Map.of("userId", userId, "possibleDateTimeId", possibleDateTimeId));
+        parameters.put("PossibleDateTimeRepository.findByUserIdAndDateTimeId", Map.of("userId", userId, "possibleDateTimeId", possibleDateTimeId));
+        parameters.put("PossibleDateTimeRepository.findAllByUserIdWhereFromThisMonth", Map.of("userId", userId));
+        parameters.put("PossibleDateTimeRepository.findById", Map.of("possibleDateTimeId", possibleDateTimeId));
+        parameters.put("PossibleDateTimeRepository.findByUserIdAndDateTimeWhereStatus", Map.of("receiverUserId", userId,
+                "possibleDateTime", possibleDateTime, "possibleDateTimeStatus", PossibleDateTimeStatusType.AVAILABLE));
+        parameters.put("PossibleDateTimeRepository.updatePossibleDateTimeStatusFromAvailable", Map.of("possibleDateTimeId", possibleDateTimeId,
+                "status", PossibleDateTimeStatusType.RESERVED));
+        parameters.put("PossibleDateTimeRepository.updatePossibleDateTimeStatus", Map.of("possibleDateTimeId", possibleDateTimeId,
+                "status", PossibleDateTimeStatusType.RESERVED));
+        parameters.put("PossibleDateTimeRepository.deletePossibleDateTimeWhereStatusIsNotReserved", Map.of("userId", userId,
+                "possibleDateTimeDelList", List.of(possibleDateTime)));
+        // UserMapper
+        parameters.put("UserRepository.findById", Map.of("userId", userId));
+        parameters.put("UserRepository.findUserIdByPlatformAndPlatformId", Map.of("platformName", AuthPlatform.KAKAO, "platformId", "synthetic-0"));
+        parameters.put("UserRepository.findLoginUserByPlatformAndPlatformId", Map.of("platformName", AuthPlatform.KAKAO, "platformId", "synthetic-0"));
+        parameters.put("UserRepository.findLoginUserByUserIdAndPlatformId", Map.of("userId", userId, "platformName", AuthPlatform.KAKAO, "platformId", "synthetic-0"));
+        parameters.put("UserRepository.findActiveUserByUserEmail", Map.of("userEmail", "user0@bab-pool.com"));
+        parameters.put("UserRepository.findMyProfile", Map.of("userId", userId));
+        parameters.put("UserRepository.findUserGradeById", Map.of("userId", userId));
+        parameters.put("UserRepository.updateSignUpInfo", Map.of("userId", userId, "userGrade", "FIRST_GRADE"));
+        parameters.put("UserRepository.updateUserStateByUserId", Map.of("userId", otherUserId, "userStatus", UserStatus.ACTIVE));
+        parameters.put("UserRepository.updateUserNickNameAndGrade", Map.of("userId", userId, "userNickName", "밥풀", "userGrade", "FIRST_GRADE"));
+        return parameters;
+    }
+
+    private record Allowance(Set<Violation> violations, String reason) {
+    }
+}
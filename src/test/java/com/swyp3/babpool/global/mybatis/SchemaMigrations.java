@@ -0,0 +1,101 @@
+package com.swyp3.babpool.global.mybatis;
+
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * classpath:db/migration 의 V{버전}__{설명}.sql 을 버전 순서대로 적용한다.
+ * 같은 DB 에 여러 번 적용해도 되도록, 이미 있는 인덱스와 컬럼을 다시 만들 때의 오류는 무시한다.
+ * 스프링 트랜잭션과 별개의 커넥션을 사용하므로, DDL 이 테스트 트랜잭션을 커밋하지 않는다.
+ */
+public final class SchemaMigrations {
+
+    static final String LOCATION = "classpath:db/migration/V*__*.sql";
+    private static final Pattern VERSION = Pattern.compile("^V(\\d+(?:[._]\\d+)*)__.+\\.sql$");
+    private static final int H2_INDEX_ALREADY_EXISTS = 42111;
+    private static final int MYSQL_DUPLICATE_KEY_NAME = 1061;
+    private static final int H2_DUPLICATE_COLUMN_NAME = 42121;
+    private static final int MYSQL_DUPLICATE_COLUMN_NAME = 1060;
+
+    private SchemaMigrations() {
+    }
+
+    public static void apply(DataSource dataSource) throws SQLException, IOException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            for (Resource migration : migrations()) {
+                for (String sql : statementsOf(migration.getContentAsString(StandardCharsets.UTF_8))) {
+                    try {
+                        statement.execute(sql);
+                    } catch (SQLException e) {
+                        if (!isAlreadyApplied(e)) {
+                            throw new SQLException(migration.getFilename() + " 적용 실패 : " + sql, e);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static boolean isAlreadyApplied(SQLException e) {
+        return switch (e.getErrorCode()) {
+            case H2_INDEX_ALREADY_EXISTS, MYSQL_DUPLICATE_KEY_NAME, H2_DUPLICATE_COLUMN_NAME, MYSQL_DUPLICATE_COLUMN_NAME -> true;
+            default -> false;
+        };
+    }
+
+    static List<Resource> migrations() throws IOException {
+        return Arrays.stream(new PathMatchingResourcePatternResolver().getResources(LOCATION))
+                .sorted(Comparator.comparing(SchemaMigrations::versionOf, SchemaMigrations::compareVersion))
+                .toList();
+    }
+
+    /**
+     * 주석(--)을 지우고 세미콜론으로 SQL 문을 나눈다. 마이그레이션에는 문자열 안의 세미콜론을 쓰지 않는다.
+     */
+    static List<String> statementsOf(String script) {
+        StringBuilder withoutComments = new StringBuilder();
+        for (String line : script.split("\\R")) {
+            int commentStart = line.indexOf("--");
+            withoutComments.append(commentStart >= 0 ? line.substring(0, commentStart) : line).append('\n');
+        }
+        List<String> statements = new ArrayList<>();
+        for (String sql : withoutComments.toString().split(";")) {
+            if (!sql.isBlank()) {
+                statements.add(sql.trim());
+            }
+        }
+        return statements;
+    }
+
+    private static int[] versionOf(Resource migration) {
+        Matcher matcher = VERSION.matcher(migration.getFilename());
+        if (!matcher.matches()) {
+            throw new IllegalStateException("마이그레이션 파일 이름이 V{버전}__{설명}.sql 형식이 아닙니다 : " + migration.getFilename());
+        }
+        return Arrays.stream(matcher.group(1).split("[._]")).mapToInt(Integer::parseInt).toArray();
+    }
+
+    private static int compareVersion(int[] left, int[] right) {
+        for (int i = 0; i < Math.max(left.length, right.length); i++) {
+            int compared = Integer.compare(i < left.length ? left[i] : 0, i < right.length ? right[i] : 0);
+            if (compared != 0) {
+                return compared;
+            }
+        }
+        return 0;
+    }
+}
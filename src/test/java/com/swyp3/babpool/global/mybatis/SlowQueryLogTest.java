@@ -0,0 +1,44 @@
+package com.swyp3.babpool.global.mybatis;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlowQueryLogTest {
+
+    @DisplayName("용량을 넘기면 가장 오래된 항목을 덮어쓰고, 최근 항목부터 반환한다.")
+    @Test
+    void overwriteOldest() {
+        // given
+        SlowQueryLog slowQueryLog = new SlowQueryLog(2);
+
+        // when
+        slowQueryLog.add(slowQuery("first"));
+        slowQueryLog.add(slowQuery("second"));
+        slowQueryLog.add(slowQuery("third"));
+
+        // then
+        assertThat(slowQueryLog.findAll())
+                .extracting(SlowQueryLog.SlowQuery::getStatementId)
+                .containsExactly("third", "second");
+    }
+
+    @DisplayName("clear 이후에는 빈 목록을 반환한다.")
+    @Test
+    void clear() {
+        // given
+        SlowQueryLog slowQueryLog = new SlowQueryLog(2);
+        slowQueryLog.add(slowQuery("first"));
+
+        // when
+        slowQueryLog.clear();
+
+        // then
+        assertThat(slowQueryLog.findAll()).isEmpty();
+    }
+
+    private SlowQueryLog.SlowQuery slowQuery(String statementId) {
+        return SlowQueryLog.SlowQuery.builder().statementId(statementId).build();
+    }
+}
@@ -0,0 +1,138 @@
+package com.swyp3.babpool.global.mybatis;
+
+import com.swyp3.babpool.domain.appointment.dao.AppointmentRepository;
+import com.swyp3.babpool.domain.appointment.domain.Appointment;
+import com.swyp3.babpool.domain.appointment.domain.AppointmentStatus;
+import com.swyp3.babpool.domain.possibledatetime.dao.PossibleDateTimeRepository;
+import com.swyp3.babpool.domain.possibledatetime.domain.PossibleDateTime;
+import com.swyp3.babpool.domain.possibledatetime.domain.PossibleDateTimeStatusType;
+import com.swyp3.babpool.domain.profile.dao.ProfileRepository;
+import com.swyp3.babpool.domain.profile.domain.Profile;
+import com.swyp3.babpool.domain.user.dao.UserRepository;
+import com.swyp3.babpool.domain.user.domain.User;
+import com.swyp3.babpool.domain.user.domain.UserRole;
+import com.swyp3.babpool.domain.user.domain.UserStatus;
+import com.swyp3.babpool.global.jwt.JwtTokenInterceptor;
+import com.swyp3.babpool.global.tsid.TsidKeyGenerator;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * @StatementBudget 을 선언한 API 가 선언한 수 만큼의 SQL 문만 실행하는지 확인한다.
+ * 예산을 바꾸는 변경은 이 테스트도 함께 바꿔야 한다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class StatementBudgetMockMvcTest {
+
+    @RegisterExtension
+    StatementCountExtension statements = new StatementCountExtension();
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ProfileRepository profileRepository;
+    @Autowired
+    private PossibleDateTimeRepository possibleDateTimeRepository;
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    @MockBean
+    private JwtTokenInterceptor jwtTokenInterceptor;
+
+    private final TsidKeyGenerator tsidKeyGenerator = new TsidKeyGenerator();
+    private Long senderUserId;
+    private Long receiverProfileId;
+    private Long appointmentId;
+
+    @BeforeEach
+    void setUp() throws ServletException {
+        Mockito.when(jwtTokenInterceptor.preHandle(any(), any(), any())).thenReturn(true);
+
+        senderUserId = tsidKeyGenerator.generateTsid();
+        Long receiverUserId = tsidKeyGenerator.generateTsid();
+        receiverProfileId = tsidKeyGenerator.generateTsid();
+        Long possibleDateTimeId = tsidKeyGenerator.generateTsid();
+        appointmentId = tsidKeyGenerator.generateTsid();
+
+        saveUserWithProfile(senderUserId, tsidKeyGenerator.generateTsid(), "sender");
+        saveUserWithProfile(receiverUserId, receiverProfileId, "receiver");
+        possibleDateTimeRepository.save(PossibleDateTime.builder().possibleDateTimeId(possibleDateTimeId)
+                .userId(receiverUserId).possibleDateTimeStatus(PossibleDateTimeStatusType.AVAILABLE)
+                .possibleDateTime(LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.HOURS)).build());
+        appointmentRepository.saveAppointment(Appointment.builder()
+                .appointmentId(appointmentId)
+                .appointmentSenderId(senderUserId)
+                .appointmentReceiverId(receiverUserId)
+                .possibleDateTimeId(possibleDateTimeId)
+                .appointmentStatus(AppointmentStatus.WAITING)
+                .appointmentContent("test content")
+                .build());
+    }
+
+    @DisplayName("밥약 상세 조회 API 는 4개의 SQL 문을 실행한다.")
+    @Test
+    void getAppointmentDetail() throws Exception {
+        // given
+        statements.reset();
+
+        // when
+        mockMvc.perform(get("/api/appointment/detail/{appointmentId}", appointmentId)
+                        .requestAttr("userId", senderUserId)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+
+        // then
+        statements.assertStatementCount(4);
+    }
+
+    @DisplayName("프로필 상세 조회 API 는 5개의 SQL 문을 실행한다.")
+    @Test
+    void getProfileDetail() throws Exception {
+        // given
+        statements.reset();
+
+        // when
+        mockMvc.perform(get("/api/profile/detail/{targetProfileId}", receiverProfileId)
+                        .requestAttr("userId", senderUserId)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+
+        // then
+        statements.assertStatementCount(5);
+    }
+
+    private void saveUserWithProfile(Long userId, Long profileId, String nickName) {
+        userRepository.save(User.allArgsBuilder().userId(userId).userEmail(nickName + "@gmail.com").userNickName(nickName)
+                .userGrade("FIRST_GRADE").userStatus(UserStatus.ACTIVE).userRole(UserRole.USER).allArgsBuild());
+        profileRepository.saveProfile(Profile.builder()
+                .profileId(profileId)
+                .userId(userId)
+                .profileImageUrl("https://profileimage.com")
+                .profileActiveFlag(true)
+                .build());
+    }
+}
@@ -0,0 +1,53 @@
+package com.swyp3.babpool.global.mybatis;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 테스트 메서드 동안 실행된 SQL 문 수를 센다. {@link StatementCountInterceptor} 가 등록된 컨텍스트에서 사용한다.
+ * MockMvc 는 테스트 스레드에서 요청을 처리하므로, API 호출 전에 reset 하고 호출 후에 assertStatementCount 로 확인한다.
+ * <pre>
+ * &#64;RegisterExtension
+ * StatementCountExtension statements = new StatementCountExtension();
+ * </pre>
+ */
+public class StatementCountExtension implements BeforeEachCallback, AfterEachCallback {
+
+    private StatementCounter.Scope scope;
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        scope = StatementCounter.open();
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        if (scope != null) {
+            scope.close();
+            scope = null;
+        }
+    }
+
+    public void reset() {
+        scope.reset();
+    }
+
+    public int getCount() {
+        return scope.getCount();
+    }
+
+    public Map<String, Integer> getCountByStatementId() {
+        return scope.getCountByStatementId();
+    }
+
+    public void assertStatementCount(int expected) {
+        assertThat(scope.getCount())
+                .as("실행된 SQL 문 : %s", scope.getCountByStatementId())
+                .isEqualTo(expected);
+    }
+}
@@ -0,0 +1,52 @@
+package com.swyp3.babpool.global.mybatis;
+
+import com.swyp3.babpool.domain.user.dao.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@MybatisTest
+@Import(StatementCountInterceptor.class)
+class StatementCountInterceptorTest {
+
+    @RegisterExtension
+    StatementCountExtension statements = new StatementCountExtension();
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @DisplayName("실행된 SQL 문 수와 statement id 별 실행 횟수를 센다.")
+    @Test
+    void countStatements() {
+        // when
+        userRepository.findById(100000000000000001L);
+        userRepository.findById(100000000000000001L);
+
+        // then
+        statements.assertStatementCount(2);
+        assertThat(statements.getCountByStatementId()).isEqualTo(Map.of("UserRepository.findById", 2));
+    }
+
+    @DisplayName("reset 이후에는 새로 실행된 SQL 문만 센다.")
+    @Test
+    void reset() {
+        // given
+        userRepository.findById(100000000000000001L);
+
+        // when
+        statements.reset();
+        userRepository.findById(100000000000000001L);
+
+        // then
+        statements.assertStatementCount(1);
+    }
+}
@@ -0,0 +1,42 @@
+package com.swyp3.babpool.global.mybatis;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StatementCounterTest {
+
+    @DisplayName("중첩된 범위에서는 열려있는 모든 범위의 수가 증가한다.")
+    @Test
+    void nestedScope() {
+        // given
+        try (StatementCounter.Scope outer = StatementCounter.open()) {
+            StatementCounter.increment("ProfileRepository.findById");
+
+            // when
+            try (StatementCounter.Scope inner = StatementCounter.open()) {
+                StatementCounter.increment("ProfileRepository.findById");
+                StatementCounter.increment("UserRepository.findById");
+                assertThat(inner.getCount()).isEqualTo(2);
+            }
+            StatementCounter.increment("UserRepository.findById");
+
+            // then
+            assertThat(outer.getCount()).isEqualTo(4);
+            assertThat(outer.getMaxRepeatCount()).isEqualTo(2);
+        }
+    }
+
+    @DisplayName("범위가 열려있지 않으면 세지 않는다.")
+    @Test
+    void noScope() {
+        // when
+        StatementCounter.increment("UserRepository.findById");
+
+        // then
+        try (StatementCounter.Scope scope = StatementCounter.open()) {
+            assertThat(scope.getCount()).isZero();
+        }
+    }
+}
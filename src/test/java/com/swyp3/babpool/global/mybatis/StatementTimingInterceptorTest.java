@@ -0,0 +1,89 @@
+package com.swyp3.babpool.global.mybatis;
+
+import com.swyp3.babpool.domain.user.dao.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@MybatisTest
+@Import({StatementTimingInterceptor.class, SlowQueryLog.class, StatementTimingInterceptorTest.MeterRegistryConfig.class})
+@TestPropertySource(properties = "property.mybatis.slow-query.threshold-ms=0")
+class StatementTimingInterceptorTest {
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private SlowQueryLog slowQueryLog;
+
+    @BeforeEach
+    void setUp() {
+        slowQueryLog.clear();
+    }
+
+    @DisplayName("매핑된 SQL 문 별로 실행 시간과 결과 행 수를 기록한다.")
+    @Test
+    void recordTimerPerStatement() {
+        // when
+        userRepository.findById(100000000000000001L);
+
+        // then
+        Timer timer = meterRegistry.find("mybatis.statement")
+                .tags("statement", "UserRepository.findById", "type", "select")
+                .timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(1L);
+        assertThat(meterRegistry.find("mybatis.statement.rows")
+                .tags("statement", "UserRepository.findById")
+                .summary()
+                .totalAmount()).isEqualTo(1.0);
+    }
+
+    @DisplayName("임계 시간을 넘긴 SELECT 문은 바인딩된 SQL 과 EXPLAIN 결과가 보관된다.")
+    @Test
+    void captureSlowQuery() {
+        // when
+        userRepository.findById(100000000000000001L);
+
+        // then
+        List<SlowQueryLog.SlowQuery> slowQueries = slowQueryLog.findAll();
+        assertThat(slowQueries).isNotEmpty();
+        SlowQueryLog.SlowQuery slowQuery = slowQueries.get(0);
+        assertThat(slowQuery.getStatementId()).isEqualTo("UserRepository.findById");
+        assertThat(slowQuery.getSql()).containsIgnoringCase("select").doesNotContain("\n");
+        assertThat(slowQuery.getExplain()).isNotEmpty();
+    }
+
+    @DisplayName("statement id 는 Mapper 이름과 메서드 이름만 남긴다.")
+    @Test
+    void shortStatementId() {
+        assertThat(StatementTimingInterceptor.shortStatementId("com.swyp3.babpool.domain.profile.dao.ProfileRepository.findAllByPageable"))
+                .isEqualTo("ProfileRepository.findAllByPageable");
+        assertThat(StatementTimingInterceptor.shortStatementId("findAll")).isEqualTo("findAll");
+    }
+
+    @TestConfiguration
+    static class MeterRegistryConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
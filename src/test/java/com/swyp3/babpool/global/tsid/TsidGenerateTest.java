@@ -1,9 +1,11 @@
 package com.swyp3.babpool.global.tsid;
 
+import com.github.f4b6a3.tsid.Tsid;
 import com.github.f4b6a3.tsid.TsidCreator;
 import com.github.f4b6a3.tsid.TsidFactory;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -11,7 +13,10 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Arrays;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @ExtendWith(MockitoExtension.class)
 @Slf4j
@@ -45,4 +50,45 @@ class TsidGenerateTest {
         assertThat(String.valueOf(l).length()).isGreaterThanOrEqualTo(18);
     }
 
-}
\ No newline at end of file
+    @DisplayName("generateTsids 메서드는, 요청한 개수만큼 중복 없이 증가하는 식별 값을 생성한다.")
+    @Test
+    void generateTsids() {
+        // when
+        long[] tsids = tsidKeyGenerator.generateTsids(1000);
+
+        // then
+        assertThat(tsids).hasSize(1000);
+        assertThat(Arrays.stream(tsids).distinct().count()).isEqualTo(1000);
+        assertThat(tsids).isSorted();
+    }
+
+    @DisplayName("useNode 메서드로 node 를 변경하면, 이후 생성되는 식별 값에 해당 node 가 포함된다.")
+    @Test
+    void useNode() {
+        // when
+        tsidKeyGenerator.useNode(7);
+        long tsid = tsidKeyGenerator.generateTsid();
+
+        // then
+        assertThat(tsidKeyGenerator.getCurrentNode()).isEqualTo(7);
+        assertThat((Tsid.from(tsid).getRandom() >>> 12) & 0x3FF).isEqualTo(7);
+    }
+
+    @DisplayName("임대한 node 의 만료 시각이 지났거나 임대가 취소되면, 식별 값을 생성하지 않는다.")
+    @Test
+    void refuseAfterLeaseExpired() {
+        // given
+        tsidKeyGenerator.useLeasedNode(7, System.currentTimeMillis() + 60_000);
+        long tsid = tsidKeyGenerator.generateTsid();
+
+        // when
+        tsidKeyGenerator.extendLease(System.currentTimeMillis() - 1);
+
+        // then
+        assertThat((Tsid.from(tsid).getRandom() >>> 12) & 0x3FF).isEqualTo(7);
+        assertThat(tsidKeyGenerator.isLeaseValid()).isFalse();
+        assertThatThrownBy(() -> tsidKeyGenerator.generateTsid()).isInstanceOf(IllegalStateException.class);
+        tsidKeyGenerator.revokeLease();
+        assertThatThrownBy(() -> tsidKeyGenerator.generateTsids(10)).isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,117 @@
+package com.swyp3.babpool.global.tsid;
+
+import com.swyp3.babpool.infra.redis.EmbeddedLocalRedisConfig;
+import com.swyp3.babpool.infra.redis.RedisRepositoryConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Import({EmbeddedLocalRedisConfig.class, RedisRepositoryConfig.class})
+@DataRedisTest
+@ActiveProfiles("test")
+class TsidNodeLeaseTest {
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @BeforeEach
+    void setUp() {
+        Set<String> keys = stringRedisTemplate.keys(TsidNodeLease.KEY_PREFIX + "*");
+        if (keys != null && !keys.isEmpty()) {
+            stringRedisTemplate.delete(keys);
+        }
+    }
+
+    @DisplayName("서로 다른 서버는 서로 다른 TSID node 를 임대하고, 각 TsidKeyGenerator 는 임대한 node 를 사용한다.")
+    @Test
+    void acquire() {
+        // given
+        TsidKeyGenerator firstGenerator = new TsidKeyGenerator();
+        TsidKeyGenerator secondGenerator = new TsidKeyGenerator();
+        TsidNodeLease firstLease = new TsidNodeLease(stringRedisTemplate, firstGenerator, Duration.ofMinutes(1), "server-1");
+        TsidNodeLease secondLease = new TsidNodeLease(stringRedisTemplate, secondGenerator, Duration.ofMinutes(1), "server-1");
+
+        // when
+        int firstNode = firstLease.acquire();
+        int secondNode = secondLease.acquire();
+
+        // then
+        assertThat(firstNode).isNotEqualTo(secondNode);
+        assertThat(firstGenerator.getCurrentNode()).isEqualTo(firstNode);
+        assertThat(secondGenerator.getCurrentNode()).isEqualTo(secondNode);
+    }
+
+    @DisplayName("heartbeat 는 임대 시간을 연장하고, 임대를 잃은 경우 새 node 를 임대한다.")
+    @Test
+    void heartbeat() {
+        // given
+        TsidKeyGenerator generator = new TsidKeyGenerator();
+        TsidNodeLease lease = new TsidNodeLease(stringRedisTemplate, generator, Duration.ofMinutes(1), "server-1");
+        int node = lease.acquire();
+
+        // when
+        lease.heartbeat();
+        // then
+        assertThat(stringRedisTemplate.opsForValue().get(TsidNodeLease.KEY_PREFIX + node)).isEqualTo("server-1");
+
+        // when : 임대가 만료되어 다른 서버가 같은 node 를 선점한 경우
+        stringRedisTemplate.opsForValue().set(TsidNodeLease.KEY_PREFIX + node, "server-2");
+        lease.heartbeat();
+        // then
+        assertThat(lease.getLeasedNode()).isNotEqualTo(node);
+        assertThat(generator.getCurrentNode()).isEqualTo(lease.getLeasedNode());
+        assertThat(generator.isLeaseValid()).isTrue();
+        assertThat(stringRedisTemplate.opsForValue().get(TsidNodeLease.KEY_PREFIX + node)).isEqualTo("server-2");
+    }
+
+    @DisplayName("release 는 자신이 임대한 node 만 반납한다.")
+    @Test
+    void release() {
+        // given
+        TsidKeyGenerator generator = new TsidKeyGenerator();
+        TsidNodeLease lease = new TsidNodeLease(stringRedisTemplate, generator, Duration.ofMinutes(1), "server-1");
+        int node = lease.acquire();
+
+        // when
+        lease.release();
+
+        // then
+        assertThat(stringRedisTemplate.hasKey(TsidNodeLease.KEY_PREFIX + node)).isFalse();
+        assertThat(lease.getLeasedNode()).isNull();
+        assertThat(generator.isLeaseValid()).isFalse();
+    }
+
+    @DisplayName("기동 시 임대할 node 가 없으면 설정 값의 node 로 대신 생성하지 않고, heartbeat 에서 다시 임대를 시도한다.")
+    @Test
+    void init_withoutAvailableNode() {
+        // given
+        for (int node = 0; node < TsidKeyGenerator.NODE_COUNT; node++) {
+            stringRedisTemplate.opsForValue().set(TsidNodeLease.KEY_PREFIX + node, "server-2");
+        }
+        TsidKeyGenerator generator = new TsidKeyGenerator();
+        TsidNodeLease lease = new TsidNodeLease(stringRedisTemplate, generator, Duration.ofMinutes(1), "server-1");
+
+        // when
+        lease.init();
+        // then
+        assertThat(lease.getLeasedNode()).isNull();
+        assertThat(generator.isLeaseValid()).isFalse();
+
+        // when : 다른 서버가 node 를 반납한 경우
+        stringRedisTemplate.delete(TsidNodeLease.KEY_PREFIX + 3);
+        lease.heartbeat();
+        // then
+        assertThat(lease.getLeasedNode()).isEqualTo(3);
+        assertThat(generator.isLeaseValid()).isTrue();
+    }
+}
@@ -2,6 +2,7 @@ package com.swyp3.babpool.global.util.jwt;
 
 import com.swyp3.babpool.global.jwt.JwtAuthenticator;
 import com.swyp3.babpool.global.jwt.JwtTokenizer;
+import com.swyp3.babpool.global.jwt.VerifiedTokenCache;
 import com.swyp3.babpool.global.uuid.util.UuidResolver;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
@@ -31,7 +32,7 @@ class JwtAuthenticatorTest {
     @BeforeEach
     void setUp() {
         jwtTokenizer = new JwtTokenizer("12345678901234567890123456789012", "12345678901234567890123456789012");
-        jwtAuthenticator = new JwtAuthenticator(jwtTokenizer);
+        jwtAuthenticator = new JwtAuthenticator(jwtTokenizer, new VerifiedTokenCache(VerifiedTokenCache.DEFAULT_MAX_SIZE));
     }
 
     @DisplayName("토큰을 파싱해 클레임을 반환한다. 올바른 토큰인 경우")
@@ -4,15 +4,21 @@ package com.swyp3.babpool.global.util.jwt.application;
 import com.swyp3.babpool.global.jwt.JwtTokenizer;
 import com.swyp3.babpool.global.jwt.application.JwtServiceImpl;
 import com.swyp3.babpool.global.jwt.application.response.JwtPairDto;
+import com.swyp3.babpool.global.jwt.revocation.AccessTokenRevocationList;
 import com.swyp3.babpool.infra.redis.EmbeddedLocalRedisConfig;
 import com.swyp3.babpool.infra.redis.RedisRepositoryConfig;
+import com.swyp3.babpool.infra.redis.dao.LegacyRefreshTokenMigrator;
+import com.swyp3.babpool.infra.redis.dao.RefreshTokenStore;
 import com.swyp3.babpool.infra.redis.dao.TokenRedisRepository;
 import com.swyp3.babpool.infra.redis.domain.TokenForRedis;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.util.List;
@@ -22,13 +28,16 @@ import static org.junit.jupiter.api.Assertions.*;
 
 @Slf4j
 @ActiveProfiles("test")
-@SpringBootTest(classes = {JwtServiceImpl.class, TokenRedisRepository.class, JwtTokenizer.class, EmbeddedLocalRedisConfig.class, RedisRepositoryConfig.class})
+@SpringBootTest(classes = {JwtServiceImpl.class, RefreshTokenStore.class, LegacyRefreshTokenMigrator.class, TokenRedisRepository.class, JwtTokenizer.class, EmbeddedLocalRedisConfig.class, RedisRepositoryConfig.class})
+@ImportAutoConfiguration(RedisAutoConfiguration.class)
 class JwtServiceImplTest {
 
     @Autowired
     JwtServiceImpl jwtService;
     @Autowired
     TokenRedisRepository tokenRepository;
+    @MockBean
+    AccessTokenRevocationList accessTokenRevocationList;
 
     @DisplayName("jwt token 쌍이 저장된 jwtPairDto 가 반환된다")
     @Test
@@ -1,6 +1,5 @@
 package com.swyp3.babpool.infra.auth;
 
-import com.swyp3.babpool.global.config.FeignClientConfig;
 import com.swyp3.babpool.infra.auth.BabpoolPublicKey;
 import com.swyp3.babpool.infra.auth.kakao.KakaoClient;
 import com.swyp3.babpool.infra.auth.kakao.KakaoPublicKeys;
@@ -0,0 +1,55 @@
+package com.swyp3.babpool.infra.auth.dao;
+
+import com.swyp3.babpool.global.mybatis.SchemaMigrations;
+import com.swyp3.babpool.infra.auth.AuthPlatform;
+import com.swyp3.babpool.infra.auth.unlink.SocialUnlinkJob;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@MybatisTest
+class SocialUnlinkOutboxRepositoryTest {
+
+    @Autowired
+    private SocialUnlinkOutboxRepository socialUnlinkOutboxRepository;
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeEach
+    void applySchemaMigrations() throws Exception {
+        SchemaMigrations.apply(dataSource);
+    }
+
+    @DisplayName("save 매퍼로 저장한 작업은 findCreatedBefore 매퍼로 조회되고, deleteByJobIds 매퍼로 삭제된다.")
+    @Test
+    void saveFindAndDelete() {
+        // given
+        socialUnlinkOutboxRepository.save(SocialUnlinkJob.builder()
+                .jobId(900000000000000001L)
+                .userId(100000000000000001L)
+                .authPlatform(AuthPlatform.KAKAO)
+                .platformId("kakao-1")
+                .build());
+
+        // when
+        List<SocialUnlinkJob> pendingJobs = socialUnlinkOutboxRepository.findCreatedBefore(LocalDateTime.now().plusMinutes(1), 100);
+        int deletedRows = socialUnlinkOutboxRepository.deleteByJobIds(List.of(900000000000000001L));
+
+        // then
+        assertThat(pendingJobs).hasSize(1);
+        assertThat(pendingJobs.get(0).getAuthPlatform()).isEqualTo(AuthPlatform.KAKAO);
+        assertThat(pendingJobs.get(0).getPlatformId()).isEqualTo("kakao-1");
+        assertThat(deletedRows).isEqualTo(1);
+        assertThat(socialUnlinkOutboxRepository.findCreatedBefore(LocalDateTime.now().plusMinutes(1), 100)).isEmpty();
+    }
+}
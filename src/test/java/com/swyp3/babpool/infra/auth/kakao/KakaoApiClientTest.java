@@ -0,0 +1,150 @@
+package com.swyp3.babpool.infra.auth.kakao;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.swyp3.babpool.infra.auth.exception.AuthException;
+import com.swyp3.babpool.infra.auth.exception.errorcode.AuthExceptionErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.LinkedMultiValueMap;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로컬 스텁 HTTP 서버를 Kakao 인증/API 서버 대신 띄워 공용 클라이언트의 재시도와 지표를 검증한다.
+ */
+class KakaoApiClientTest {
+
+    private HttpServer stubKakaoServer;
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final Queue<Integer> responseStatuses = new ConcurrentLinkedQueue<>();
+    private volatile String responseBody = "{}";
+    private volatile String lastAuthorizationHeader;
+    private volatile String lastRequestBody;
+
+    private SimpleMeterRegistry meterRegistry;
+    private KakaoApiClient kakaoApiClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stubKakaoServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stubKakaoServer.createContext("/", this::handle);
+        stubKakaoServer.start();
+
+        String baseUrl = "http://localhost:" + stubKakaoServer.getAddress().getPort();
+        meterRegistry = new SimpleMeterRegistry();
+        kakaoApiClient = new KakaoApiClient(baseUrl, baseUrl, "test-admin-key", 10, meterRegistry, Duration.ofMillis(10));
+    }
+
+    @AfterEach
+    void tearDown() {
+        kakaoApiClient.destroy();
+        stubKakaoServer.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requestCount.incrementAndGet();
+        lastAuthorizationHeader = exchange.getRequestHeaders().getFirst("Authorization");
+        lastRequestBody = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+
+        Integer status = responseStatuses.poll();
+        byte[] body = responseBody.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status == null ? 200 : status, body.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(body);
+        }
+    }
+
+    @DisplayName("unlink 메서드는, 어드민 키와 대상 사용자 식별 값을 폼 데이터로 전송하고 성공 지표를 남긴다.")
+    @Test
+    void unlink() {
+        // given
+        responseBody = "{\"id\":12345}";
+
+        // when
+        String response = kakaoApiClient.unlink("12345");
+
+        // then
+        assertThat(response).isEqualTo("{\"id\":12345}");
+        assertThat(lastAuthorizationHeader).isEqualTo("KakaoAK test-admin-key");
+        assertThat(lastRequestBody).contains("target_id_type=user_id", "target_id=12345");
+        assertThat(meterRegistry.get("kakao.client.requests")
+                .tag("endpoint", "UNLINK").tag("outcome", "SUCCESS").timer().count()).isEqualTo(1);
+    }
+
+    @DisplayName("JWKS 조회는 5xx 응답을 받으면 지터가 적용된 백오프 후 재시도한다.")
+    @Test
+    void retryJwksOnServerError() {
+        // given
+        responseStatuses.add(503);
+        responseBody = "{\"keys\":[{\"kty\":\"RSA\",\"kid\":\"kid-1\",\"use\":\"sig\",\"alg\":\"RS256\",\"n\":\"AQAB\",\"e\":\"AQAB\"}]}";
+
+        // when
+        KakaoPublicKeys kakaoPublicKeys = kakaoApiClient.getKakaoOIDCOpenKeys();
+
+        // then
+        assertThat(kakaoPublicKeys.getKeys()).extracting("kid").containsExactly("kid-1");
+        assertThat(requestCount.get()).isEqualTo(2);
+        assertThat(meterRegistry.get("kakao.client.retries").tag("endpoint", "JWKS").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("kakao.client.requests")
+                .tag("endpoint", "JWKS").tag("outcome", "SERVER_ERROR").timer().count()).isEqualTo(1);
+    }
+
+    @DisplayName("토큰 발급 요청은 idempotent 하지 않으므로 5xx 응답을 받아도 재시도하지 않는다.")
+    @Test
+    void doNotRetryTokenOnServerError() {
+        // given
+        responseStatuses.add(500);
+
+        // when & then
+        assertThatThrownBy(() -> kakaoApiClient.requestToken(new LinkedMultiValueMap<>()))
+                .isInstanceOf(AuthException.class)
+                .extracting("authExceptionErrorCode")
+                .isEqualTo(AuthExceptionErrorCode.AUTH_ERROR_CONNECT_WITH_KAKAO);
+        assertThat(requestCount.get()).isEqualTo(1);
+    }
+
+    @DisplayName("토큰 발급 요청의 4xx 응답은 예외 없이 응답 본문을 그대로 반환한다.")
+    @Test
+    void returnTokenClientErrorResponse() {
+        // given
+        responseStatuses.add(400);
+        responseBody = "{\"error_description\":\"authorization code not found\"}";
+
+        // when
+        KakaoApiResponse response = kakaoApiClient.requestToken(new LinkedMultiValueMap<>());
+
+        // then
+        assertThat(response.isSuccess()).isFalse();
+        assertThat(response.getBody()).contains("authorization code not found");
+        assertThat(requestCount.get()).isEqualTo(1);
+    }
+
+    @DisplayName("로그아웃 요청의 4xx 응답은 재시도하지 않고 AuthException 을 던진다.")
+    @Test
+    void logoutClientError() {
+        // given
+        responseStatuses.add(401);
+
+        // when & then
+        assertThatThrownBy(() -> kakaoApiClient.logout("12345"))
+                .isInstanceOf(AuthException.class)
+                .extracting("authExceptionErrorCode")
+                .isEqualTo(AuthExceptionErrorCode.AUTH_SIGN_OUT_KAKAO_FAIL);
+        assertThat(requestCount.get()).isEqualTo(1);
+    }
+}
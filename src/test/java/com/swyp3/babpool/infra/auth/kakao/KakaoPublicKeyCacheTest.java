@@ -0,0 +1,204 @@
+package com.swyp3.babpool.infra.auth.kakao;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import com.swyp3.babpool.infra.auth.PublicKeyGenerator;
+import com.swyp3.babpool.infra.auth.exception.AuthException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPairGenerator;
+import java.security.PublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로컬 스텁 JWKS 서버를 띄워 Kakao 공개키 캐시의 동작을 검증한다.
+ */
+class KakaoPublicKeyCacheTest {
+
+    private HttpServer stubJwksServer;
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private volatile String jwksResponse;
+
+    private final List<Runnable> pendingRefreshes = new ArrayList<>();
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+    private KakaoPublicKeyCache kakaoPublicKeyCache;
+    private RSAPublicKey firstKey;
+    private RSAPublicKey secondKey;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        firstKey = generateRsaPublicKey();
+        secondKey = generateRsaPublicKey();
+        jwksResponse = jwks(jwk("kid-1", firstKey));
+
+        stubJwksServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stubJwksServer.createContext("/.well-known/jwks.json", exchange -> {
+            requestCount.incrementAndGet();
+            byte[] body = jwksResponse.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(body);
+            }
+        });
+        stubJwksServer.start();
+
+        String jwksUrl = "http://localhost:" + stubJwksServer.getAddress().getPort() + "/.well-known/jwks.json";
+        KakaoClient stubKakaoClient = () -> fetchJwks(jwksUrl);
+        kakaoPublicKeyCache = new KakaoPublicKeyCache(stubKakaoClient, new PublicKeyGenerator(),
+                Duration.ofHours(1), Duration.ofMinutes(1), clock, pendingRefreshes::add);
+    }
+
+    @AfterEach
+    void tearDown() {
+        stubJwksServer.stop(0);
+    }
+
+    @DisplayName("TTL 이내에는 JWKS 를 다시 조회하지 않고 캐싱된 공개키를 반환한다.")
+    @Test
+    void returnsCachedKeyWithinTtl() {
+        // when
+        PublicKey first = kakaoPublicKeyCache.getPublicKey("kid-1");
+        PublicKey second = kakaoPublicKeyCache.getPublicKey("kid-1");
+
+        // then
+        assertThat(first).isEqualTo(firstKey);
+        assertThat(second).isSameAs(first);
+        assertThat(requestCount.get()).isEqualTo(1);
+    }
+
+    @DisplayName("캐시에 없는 kid 가 들어오면 JWKS 를 갱신하되, 최소 갱신 간격 안에서는 한 번만 조회한다.")
+    @Test
+    void refreshesOnUnknownKidWithRateLimit() {
+        // given
+        kakaoPublicKeyCache.getPublicKey("kid-1");
+        clock.advance(Duration.ofMinutes(2));
+        jwksResponse = jwks(jwk("kid-1", firstKey), jwk("kid-2", secondKey));
+
+        // when
+        PublicKey rotatedKey = kakaoPublicKeyCache.getPublicKey("kid-2");
+
+        // then
+        assertThat(rotatedKey).isEqualTo(secondKey);
+        assertThat(requestCount.get()).isEqualTo(2);
+        assertThatThrownBy(() -> kakaoPublicKeyCache.getPublicKey("kid-unknown"))
+                .isInstanceOf(AuthException.class);
+        assertThat(requestCount.get()).isEqualTo(2);
+    }
+
+    @DisplayName("TTL 이 지나면 기존 공개키로 바로 응답하고, 갱신은 백그라운드에서 한 번만 실행한다.")
+    @Test
+    void refreshesInBackgroundAfterTtl() {
+        // given
+        kakaoPublicKeyCache.getPublicKey("kid-1");
+        clock.advance(Duration.ofHours(2));
+        jwksResponse = jwks(jwk("kid-1", secondKey));
+
+        // when
+        PublicKey staleKey = kakaoPublicKeyCache.getPublicKey("kid-1");
+        kakaoPublicKeyCache.getPublicKey("kid-1");
+        int requestCountBeforeRefresh = requestCount.get();
+        pendingRefreshes.forEach(Runnable::run);
+
+        // then
+        assertThat(staleKey).isEqualTo(firstKey);
+        assertThat(requestCountBeforeRefresh).isEqualTo(1);
+        assertThat(pendingRefreshes).hasSize(1);
+        assertThat(requestCount.get()).isEqualTo(2);
+        assertThat(kakaoPublicKeyCache.getPublicKey("kid-1")).isEqualTo(secondKey);
+    }
+
+    @DisplayName("TTL 이 지난 뒤 Kakao 서버와 통신할 수 없으면 기존 공개키를 계속 사용한다.")
+    @Test
+    void servesStaleKeysWhenJwksServerIsUnreachable() {
+        // given
+        kakaoPublicKeyCache.getPublicKey("kid-1");
+        stubJwksServer.stop(0);
+        clock.advance(Duration.ofHours(2));
+
+        // when
+        PublicKey staleKey = kakaoPublicKeyCache.getPublicKey("kid-1");
+        pendingRefreshes.forEach(Runnable::run);
+
+        // then
+        assertThat(staleKey).isEqualTo(firstKey);
+        assertThat(kakaoPublicKeyCache.getPublicKey("kid-1")).isEqualTo(firstKey);
+    }
+
+    private KakaoPublicKeys fetchJwks(String jwksUrl) {
+        try {
+            HttpResponse<String> response = HttpClient.newHttpClient().send(
+                    HttpRequest.newBuilder(URI.create(jwksUrl)).timeout(Duration.ofSeconds(1)).GET().build(),
+                    HttpResponse.BodyHandlers.ofString());
+            return new ObjectMapper().readValue(response.body(), KakaoPublicKeys.class);
+        } catch (Exception e) {
+            throw new IllegalStateException("JWKS 조회 실패", e);
+        }
+    }
+
+    private static RSAPublicKey generateRsaPublicKey() throws Exception {
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+        keyPairGenerator.initialize(2048);
+        return (RSAPublicKey) keyPairGenerator.generateKeyPair().getPublic();
+    }
+
+    private static String jwk(String kid, RSAPublicKey publicKey) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return "{\"kty\":\"RSA\",\"kid\":\"" + kid + "\",\"use\":\"sig\",\"alg\":\"RS256\","
+                + "\"n\":\"" + encoder.encodeToString(publicKey.getModulus().toByteArray()) + "\","
+                + "\"e\":\"" + encoder.encodeToString(publicKey.getPublicExponent().toByteArray()) + "\"}";
+    }
+
+    private static String jwks(String... keys) {
+        return "{\"keys\":[" + String.join(",", keys) + "]}";
+    }
+
+    private static class MutableClock extends Clock {
+        private volatile Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.swyp3.babpool.infra.auth.unlink;
+
+import com.swyp3.babpool.infra.auth.AuthPlatform;
+import com.swyp3.babpool.infra.redis.EmbeddedLocalRedisConfig;
+import com.swyp3.babpool.infra.redis.RedisRepositoryConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Import({EmbeddedLocalRedisConfig.class, RedisRepositoryConfig.class})
+@DataRedisTest
+@ActiveProfiles("test")
+class SocialUnlinkJobQueueTest {
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    private SocialUnlinkJobQueue socialUnlinkJobQueue;
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate.delete(List.of(SocialUnlinkJobQueue.QUEUE_KEY, SocialUnlinkJobQueue.JOB_KEY, SocialUnlinkJobQueue.DEAD_LETTER_KEY));
+        socialUnlinkJobQueue = new SocialUnlinkJobQueue(stringRedisTemplate, new SimpleMeterRegistry());
+    }
+
+    @DisplayName("등록된 작업은 한 번 가져가면 임대 시간 동안 다시 가져갈 수 없다.")
+    @Test
+    void claimDueJobs() {
+        // given
+        socialUnlinkJobQueue.enqueue(job(1L));
+
+        // when
+        List<SocialUnlinkJob> claimed = socialUnlinkJobQueue.claimDueJobs(10, Duration.ofMinutes(1));
+        List<SocialUnlinkJob> claimedAgain = socialUnlinkJobQueue.claimDueJobs(10, Duration.ofMinutes(1));
+
+        // then
+        assertThat(claimed).hasSize(1);
+        assertThat(claimed.get(0).getPlatformId()).isEqualTo("kakao-1");
+        assertThat(claimed.get(0).getAuthPlatform()).isEqualTo(AuthPlatform.KAKAO);
+        assertThat(claimedAgain).isEmpty();
+        assertThat(socialUnlinkJobQueue.size()).isEqualTo(1);
+    }
+
+    @DisplayName("임대 시간이 지난 작업은 처리 중 서버가 종료된 것으로 보고 다시 가져갈 수 있다.")
+    @Test
+    void reclaimAfterLeaseExpired() {
+        // given
+        socialUnlinkJobQueue.enqueue(job(1L));
+        socialUnlinkJobQueue.claimDueJobs(10, Duration.ZERO);
+
+        // when
+        List<SocialUnlinkJob> reclaimed = socialUnlinkJobQueue.claimDueJobs(10, Duration.ofMinutes(1));
+
+        // then
+        assertThat(reclaimed).extracting("jobId").containsExactly(1L);
+    }
+
+    @DisplayName("재시도 대기 중인 작업은 백오프 시간이 지나기 전까지 가져갈 수 없고, 시도 횟수가 갱신된다.")
+    @Test
+    void retryLater() {
+        // given
+        socialUnlinkJobQueue.enqueue(job(1L));
+        SocialUnlinkJob claimed = socialUnlinkJobQueue.claimDueJobs(10, Duration.ofMinutes(1)).get(0);
+
+        // when
+        socialUnlinkJobQueue.retryLater(claimed.nextAttempt(), Duration.ofHours(1));
+
+        // then
+        assertThat(socialUnlinkJobQueue.claimDueJobs(10, Duration.ofMinutes(1))).isEmpty();
+        assertThat(stringRedisTemplate.opsForHash().get(SocialUnlinkJobQueue.JOB_KEY, "1").toString()).contains("\"attempt\":1");
+    }
+
+    @DisplayName("같은 작업을 다시 등록해도 대기 중인 작업의 실행 시각과 시도 횟수는 바뀌지 않는다.")
+    @Test
+    void enqueueIsIdempotent() {
+        // given
+        socialUnlinkJobQueue.enqueue(job(1L));
+        SocialUnlinkJob claimed = socialUnlinkJobQueue.claimDueJobs(10, Duration.ofMinutes(1)).get(0);
+        socialUnlinkJobQueue.retryLater(claimed.nextAttempt(), Duration.ofHours(1));
+
+        // when
+        socialUnlinkJobQueue.enqueue(job(1L));
+
+        // then
+        assertThat(socialUnlinkJobQueue.size()).isEqualTo(1);
+        assertThat(socialUnlinkJobQueue.claimDueJobs(10, Duration.ofMinutes(1))).isEmpty();
+        assertThat(stringRedisTemplate.opsForHash().get(SocialUnlinkJobQueue.JOB_KEY, "1").toString()).contains("\"attempt\":1");
+    }
+
+    @DisplayName("완료된 작업은 큐에서 제거되고, dead-letter 로 옮긴 작업은 별도 리스트에 보관된다.")
+    @Test
+    void completeAndDeadLetter() {
+        // given
+        socialUnlinkJobQueue.enqueue(job(1L));
+        socialUnlinkJobQueue.enqueue(job(2L));
+
+        // when
+        socialUnlinkJobQueue.complete(job(1L));
+        socialUnlinkJobQueue.deadLetter(job(2L));
+
+        // then
+        assertThat(socialUnlinkJobQueue.size()).isZero();
+        assertThat(socialUnlinkJobQueue.deadLetterSize()).isEqualTo(1);
+        assertThat(stringRedisTemplate.opsForHash().size(SocialUnlinkJobQueue.JOB_KEY)).isZero();
+    }
+
+    private SocialUnlinkJob job(Long jobId) {
+        return SocialUnlinkJob.builder()
+                .jobId(jobId)
+                .userId(100000000000000001L)
+                .authPlatform(AuthPlatform.KAKAO)
+                .platformId("kakao-" + jobId)
+                .build();
+    }
+}
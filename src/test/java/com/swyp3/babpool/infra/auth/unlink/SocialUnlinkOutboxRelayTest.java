@@ -0,0 +1,98 @@
+package com.swyp3.babpool.infra.auth.unlink;
+
+import com.swyp3.babpool.infra.auth.AuthPlatform;
+import com.swyp3.babpool.infra.auth.dao.SocialUnlinkOutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class SocialUnlinkOutboxRelayTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-01T00:10:00Z");
+
+    @Mock
+    private SocialUnlinkOutboxRepository socialUnlinkOutboxRepository;
+
+    @Mock
+    private SocialUnlinkJobQueue socialUnlinkJobQueue;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SocialUnlinkOutboxRelay socialUnlinkOutboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        socialUnlinkOutboxRelay = new SocialUnlinkOutboxRelay(socialUnlinkOutboxRepository, socialUnlinkJobQueue,
+                transactionManager, meterRegistry, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @DisplayName("탈퇴 트랜잭션에서는 아웃박스에만 저장하고, 커밋 이후 작업 큐에 등록한 뒤 아웃박스에서 삭제한다.")
+    @Test
+    void saveAndRelayAfterCommit() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            socialUnlinkOutboxRelay.saveAndRelayAfterCommit(job(1L));
+            verify(socialUnlinkOutboxRepository).save(any(SocialUnlinkJob.class));
+            verifyNoInteractions(socialUnlinkJobQueue);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // then
+        verify(socialUnlinkJobQueue).enqueue(argThat(job -> job.getJobId().equals(1L)));
+        verify(socialUnlinkOutboxRepository).deleteByJobIds(List.of(1L));
+    }
+
+    @DisplayName("작업 큐 등록에 실패한 작업은 아웃박스에 남겨두고, 주기 작업이 오래된 작업을 다시 등록한다.")
+    @Test
+    void relayPendingJobs() {
+        // given
+        doThrow(new RedisConnectionFailureException("redis down")).when(socialUnlinkJobQueue).enqueue(argThat(job -> job.getJobId().equals(1L)));
+        socialUnlinkOutboxRelay.saveAndRelayAfterCommit(job(1L));
+        verify(socialUnlinkOutboxRepository, never()).deleteByJobIds(anyList());
+
+        reset(socialUnlinkJobQueue);
+        when(socialUnlinkOutboxRepository.findCreatedBefore(LocalDateTime.ofInstant(NOW, ZoneOffset.UTC).minus(SocialUnlinkOutboxRelay.RELAY_DELAY),
+                SocialUnlinkOutboxRelay.BATCH_SIZE)).thenReturn(List.of(job(1L), job(2L)));
+
+        // when
+        socialUnlinkOutboxRelay.relayPendingJobs();
+
+        // then
+        verify(socialUnlinkJobQueue, times(2)).enqueue(any(SocialUnlinkJob.class));
+        verify(socialUnlinkOutboxRepository).deleteByJobIds(List.of(1L, 2L));
+        assertThat(meterRegistry.get("social.unlink.outbox.relay.failed").counter().count()).isEqualTo(1);
+    }
+
+    private SocialUnlinkJob job(Long jobId) {
+        return SocialUnlinkJob.builder()
+                .jobId(jobId)
+                .userId(100000000000000001L)
+                .authPlatform(AuthPlatform.KAKAO)
+                .platformId("kakao-" + jobId)
+                .build();
+    }
+}
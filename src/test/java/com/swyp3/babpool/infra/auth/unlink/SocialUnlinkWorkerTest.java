@@ -0,0 +1,96 @@
+package com.swyp3.babpool.infra.auth.unlink;
+
+import com.swyp3.babpool.infra.auth.AuthPlatform;
+import com.swyp3.babpool.infra.auth.exception.AuthException;
+import com.swyp3.babpool.infra.auth.exception.errorcode.AuthExceptionErrorCode;
+import com.swyp3.babpool.infra.auth.service.AuthService;
+import com.swyp3.babpool.infra.redis.RedisRetryQueue;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+class SocialUnlinkWorkerTest {
+
+    @Mock
+    private SocialUnlinkJobQueue socialUnlinkJobQueue;
+
+    @Mock
+    private AuthService authService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SocialUnlinkWorker socialUnlinkWorker;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        socialUnlinkWorker = new SocialUnlinkWorker(socialUnlinkJobQueue, authService, meterRegistry);
+    }
+
+    @DisplayName("연결 끊기에 성공하면 작업을 완료 처리한다.")
+    @Test
+    void processSuccess() {
+        // given
+        SocialUnlinkJob job = job(0);
+
+        // when
+        socialUnlinkWorker.process(job);
+
+        // then
+        verify(authService).disconnectSocialService(AuthPlatform.KAKAO, "kakao-1");
+        verify(socialUnlinkJobQueue).complete(job);
+        assertThat(meterRegistry.get("social.unlink.jobs").tag("result", "succeeded").counter().count()).isEqualTo(1);
+    }
+
+    @DisplayName("연결 끊기에 실패하면 시도 횟수를 늘려 백오프 후 재시도하도록 등록한다.")
+    @Test
+    void processRetry() {
+        // given
+        doThrow(new AuthException(AuthExceptionErrorCode.AUTH_DISCONNECT_KAKAO_FAIL, "kakao unavailable"))
+                .when(authService).disconnectSocialService(any(), any());
+
+        // when
+        socialUnlinkWorker.process(job(0));
+
+        // then
+        verify(socialUnlinkJobQueue).retryLater(argThat(retryJob -> retryJob.getAttempt() == 1), any(Duration.class));
+        verify(socialUnlinkJobQueue, never()).complete(any());
+        assertThat(meterRegistry.get("social.unlink.jobs").tag("result", "retried").counter().count()).isEqualTo(1);
+    }
+
+    @DisplayName("최대 시도 횟수에 도달하면 dead-letter 로 옮긴다.")
+    @Test
+    void processDeadLetter() {
+        // given
+        doThrow(new AuthException(AuthExceptionErrorCode.AUTH_DISCONNECT_KAKAO_FAIL, "kakao unavailable"))
+                .when(authService).disconnectSocialService(any(), any());
+
+        // when
+        socialUnlinkWorker.process(job(RedisRetryQueue.MAX_ATTEMPTS - 1));
+
+        // then
+        verify(socialUnlinkJobQueue).deadLetter(argThat(deadJob -> deadJob.getAttempt() == RedisRetryQueue.MAX_ATTEMPTS));
+        verify(socialUnlinkJobQueue, never()).retryLater(any(), any());
+        assertThat(meterRegistry.get("social.unlink.jobs").tag("result", "dead_lettered").counter().count()).isEqualTo(1);
+    }
+
+    private SocialUnlinkJob job(int attempt) {
+        return SocialUnlinkJob.builder()
+                .jobId(1L)
+                .userId(100000000000000001L)
+                .authPlatform(AuthPlatform.KAKAO)
+                .platformId("kakao-1")
+                .attempt(attempt)
+                .build();
+    }
+}
@@ -0,0 +1,142 @@
+package com.swyp3.babpool.infra.image.application;
+
+import com.swyp3.babpool.infra.image.domain.ImageVariant;
+import com.swyp3.babpool.infra.s3.application.OrientedJpegFixture;
+import com.swyp3.babpool.infra.s3.exception.AwsS3Exception;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageTypeSpecifier;
+import javax.imageio.ImageWriter;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ImageVariantProcessorTest {
+
+    private final ImageVariantProcessor imageVariantProcessor = new ImageVariantProcessor(0.82f, 40_000_000L);
+
+    @DisplayName("큰 이미지는 비율을 유지하여 상세, 목록 카드 크기의 JPEG 으로 줄인다.")
+    @Test
+    void process_resize() throws IOException {
+        // given
+        byte[] png = encode(image(2400, 1600, BufferedImage.TYPE_INT_ARGB), "png");
+        // when
+        List<ProcessedImage> processedImages = imageVariantProcessor.process(png);
+        // then
+        assertThat(processedImages).extracting(ProcessedImage::variant).containsExactly(ImageVariant.DETAIL, ImageVariant.CARD);
+        assertThat(processedImages).extracting(ProcessedImage::contentType).containsOnly("image/jpeg");
+        assertThat(processedImages.get(0)).extracting(ProcessedImage::width, ProcessedImage::height).containsExactly(1080, 720);
+        assertThat(processedImages.get(1)).extracting(ProcessedImage::width, ProcessedImage::height).containsExactly(320, 213);
+        BufferedImage card = ImageIO.read(new ByteArrayInputStream(processedImages.get(1).content()));
+        assertThat(card.getWidth()).isEqualTo(320);
+        assertThat(processedImages.get(1).content().length).isLessThan(processedImages.get(0).content().length);
+    }
+
+    @DisplayName("작은 이미지는 키우지 않는다.")
+    @Test
+    void process_small() throws IOException {
+        // given
+        byte[] jpeg = encode(image(200, 300, BufferedImage.TYPE_INT_RGB), "jpeg");
+        // when
+        List<ProcessedImage> processedImages = imageVariantProcessor.process(jpeg);
+        // then
+        assertThat(processedImages).allSatisfy(processedImage -> {
+            assertThat(processedImage.width()).isEqualTo(200);
+            assertThat(processedImage.height()).isEqualTo(300);
+        });
+    }
+
+    @DisplayName("원본 JPEG 의 메타데이터(주석 등)는 결과 이미지에 남기지 않는다.")
+    @Test
+    void process_stripMetadata() throws IOException {
+        // given
+        byte[] jpeg = jpegWithComment(image(1600, 1200, BufferedImage.TYPE_INT_RGB), "location=37.5665,126.9780");
+        assertThat(new String(jpeg, StandardCharsets.ISO_8859_1)).contains("location=37.5665");
+        // when
+        List<ProcessedImage> processedImages = imageVariantProcessor.process(jpeg);
+        // then
+        assertThat(processedImages).allSatisfy(processedImage ->
+                assertThat(new String(processedImage.content(), StandardCharsets.ISO_8859_1)).doesNotContain("location="));
+    }
+
+    @DisplayName("EXIF Orientation 을 읽고, 값에 따라 돌리거나 뒤집은 크기로 줄인다.")
+    @Test
+    void process_exifOrientation() throws IOException {
+        // given
+        byte[] rotated = OrientedJpegFixture.jpeg(1600, 800, 6);
+        byte[] flipped = OrientedJpegFixture.jpeg(1600, 800, 2);
+        // when
+        List<ProcessedImage> rotatedImages = imageVariantProcessor.process(rotated);
+        List<ProcessedImage> flippedImages = imageVariantProcessor.process(flipped);
+        // then
+        assertThat(ExifOrientation.of(rotated)).isEqualTo(6);
+        assertThat(ExifOrientation.of(encode(image(10, 10, BufferedImage.TYPE_INT_RGB), "png"))).isEqualTo(ExifOrientation.NORMAL);
+        assertThat(rotatedImages.get(0)).extracting(ProcessedImage::width, ProcessedImage::height).containsExactly(540, 1080);
+        assertThat(flippedImages.get(0)).extracting(ProcessedImage::width, ProcessedImage::height).containsExactly(1080, 540);
+        BufferedImage flippedDetail = ImageIO.read(new ByteArrayInputStream(flippedImages.get(0).content()));
+        assertThat(new Color(flippedDetail.getRGB(1080 / 4, 270)).getBlue()).isGreaterThan(150);
+    }
+
+    @DisplayName("이미지가 아니거나 픽셀 수가 상한을 넘는 이미지는 거절한다.")
+    @Test
+    void process_invalid() throws IOException {
+        // given
+        ImageVariantProcessor limited = new ImageVariantProcessor(0.82f, 1_000L);
+        byte[] png = encode(image(100, 100, BufferedImage.TYPE_INT_RGB), "png");
+        // when, then
+        assertThatThrownBy(() -> imageVariantProcessor.process("not an image".getBytes(StandardCharsets.UTF_8)))
+                .isInstanceOf(AwsS3Exception.class);
+        assertThatThrownBy(() -> limited.process(png))
+                .isInstanceOf(AwsS3Exception.class);
+    }
+
+    private static BufferedImage image(int width, int height, int type) {
+        BufferedImage image = new BufferedImage(width, height, type);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(new Color(255, 140, 0));
+        graphics.fillRect(0, 0, width / 2, height);
+        graphics.setColor(new Color(30, 90, 200));
+        graphics.fillOval(width / 4, height / 4, width / 2, height / 2);
+        graphics.dispose();
+        return image;
+    }
+
+    private static byte[] encode(BufferedImage image, String format) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, format, output);
+        return output.toByteArray();
+    }
+
+    private static byte[] jpegWithComment(BufferedImage image, String comment) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        IIOMetadata metadata = writer.getDefaultImageMetadata(new ImageTypeSpecifier(image), null);
+        IIOMetadataNode root = (IIOMetadataNode) metadata.getAsTree("javax_imageio_jpeg_image_1.0");
+        IIOMetadataNode markerSequence = (IIOMetadataNode) root.getElementsByTagName("markerSequence").item(0);
+        IIOMetadataNode com = new IIOMetadataNode("com");
+        com.setAttribute("comment", comment);
+        markerSequence.appendChild(com);
+        metadata.setFromTree("javax_imageio_jpeg_image_1.0", root);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutput = ImageIO.createImageOutputStream(output)) {
+            writer.setOutput(imageOutput);
+            writer.write(new IIOImage(image, null, metadata));
+        } finally {
+            writer.dispose();
+        }
+        return output.toByteArray();
+    }
+}
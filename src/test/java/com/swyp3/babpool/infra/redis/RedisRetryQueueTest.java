@@ -0,0 +1,81 @@
+package com.swyp3.babpool.infra.redis;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Import({EmbeddedLocalRedisConfig.class, RedisRepositoryConfig.class})
+@DataRedisTest
+@ActiveProfiles("test")
+class RedisRetryQueueTest {
+
+    private static final String QUEUE_KEY = "retry-test:queue";
+    private static final String DEAD_LETTER_KEY = "retry-test:dead-letter";
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    private RedisRetryQueue retryQueue;
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate.delete(List.of(QUEUE_KEY, DEAD_LETTER_KEY));
+        retryQueue = new RedisRetryQueue(stringRedisTemplate, QUEUE_KEY, DEAD_LETTER_KEY);
+    }
+
+    @DisplayName("같은 작업은 한 번만 등록되고, 가져간 작업은 임대 시간 동안 다시 가져갈 수 없다.")
+    @Test
+    void claimDue() {
+        // given
+        long added = retryQueue.addIfAbsent(List.of("a", "b"));
+        long addedAgain = retryQueue.addIfAbsent(List.of("a"));
+
+        // when
+        List<String> claimed = retryQueue.claimDue(10, Duration.ofMinutes(1));
+        List<String> claimedAgain = retryQueue.claimDue(10, Duration.ofMinutes(1));
+
+        // then
+        assertThat(added).isEqualTo(2);
+        assertThat(addedAgain).isZero();
+        assertThat(claimed).containsExactlyInAnyOrder("a", "b");
+        assertThat(claimedAgain).isEmpty();
+        assertThat(retryQueue.size()).isEqualTo(2);
+    }
+
+    @DisplayName("재시도 대기 중인 작업은 다시 등록해도 실행 시각이 앞당겨지지 않고, 제거한 작업은 dead-letter 에만 남는다.")
+    @Test
+    void retryLaterAndDeadLetter() {
+        // given
+        retryQueue.addIfAbsent(List.of("a"));
+        retryQueue.retryLater("a", Duration.ofMinutes(10));
+        retryQueue.addIfAbsent(List.of("a"));
+
+        // when
+        List<String> claimed = retryQueue.claimDue(10, Duration.ofMinutes(1));
+        retryQueue.deadLetter("a");
+        retryQueue.remove(List.of("a"));
+
+        // then
+        assertThat(claimed).isEmpty();
+        assertThat(retryQueue.size()).isZero();
+        assertThat(retryQueue.deadLetterSize()).isEqualTo(1);
+    }
+
+    @DisplayName("재시도 간격은 시도 횟수에 따라 2배씩 늘어나며 최대 1시간(지터 포함)을 넘지 않는다.")
+    @Test
+    void backoffOf() {
+        assertThat(RedisRetryQueue.backoffOf(1)).isBetween(Duration.ofSeconds(24), Duration.ofSeconds(36));
+        assertThat(RedisRetryQueue.backoffOf(3)).isBetween(Duration.ofSeconds(96), Duration.ofSeconds(144));
+        assertThat(RedisRetryQueue.backoffOf(30)).isLessThanOrEqualTo(Duration.ofMinutes(72));
+    }
+}
@@ -0,0 +1,96 @@
+package com.swyp3.babpool.infra.redis.dao;
+
+import com.swyp3.babpool.infra.redis.EmbeddedLocalRedisConfig;
+import com.swyp3.babpool.infra.redis.RedisRepositoryConfig;
+import com.swyp3.babpool.infra.redis.domain.TokenForRedis;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Import({EmbeddedLocalRedisConfig.class, RedisRepositoryConfig.class})
+@DataRedisTest
+@ActiveProfiles("test")
+class RefreshTokenStoreTest {
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+    @Autowired
+    private TokenRedisRepository tokenRedisRepository;
+
+    private RefreshTokenStore refreshTokenStore;
+
+    @BeforeEach
+    void setUp() {
+        Set<String> keys = stringRedisTemplate.keys(RefreshTokenStore.TOKEN_KEY_PREFIX + "*");
+        if (keys != null && !keys.isEmpty()) {
+            stringRedisTemplate.delete(keys);
+        }
+        refreshTokenStore = new RefreshTokenStore(stringRedisTemplate, new LegacyRefreshTokenMigrator(tokenRedisRepository, stringRedisTemplate, true));
+    }
+
+    @DisplayName("저장한 Refresh Token 으로 사용자 식별 값을 조회한다.")
+    @Test
+    void findUserId() {
+        // given
+        refreshTokenStore.save("refresh-token-1", 100000000000000001L, Duration.ofDays(7));
+        // when
+        // then
+        assertThat(refreshTokenStore.findUserId("refresh-token-1")).contains(100000000000000001L);
+        assertThat(refreshTokenStore.findUserId("refresh-token-2")).isEmpty();
+    }
+
+    @DisplayName("Refresh Token 을 삭제하면 더 이상 조회되지 않는다.")
+    @Test
+    void delete() {
+        // given
+        refreshTokenStore.save("refresh-token-1", 100000000000000001L, Duration.ofDays(7));
+        // when
+        boolean deleted = refreshTokenStore.delete("refresh-token-1");
+        // then
+        assertThat(deleted).isTrue();
+        assertThat(refreshTokenStore.findUserId("refresh-token-1")).isEmpty();
+        assertThat(refreshTokenStore.delete("refresh-token-1")).isFalse();
+    }
+
+    @DisplayName("사용자의 모든 Refresh Token 을 삭제한다. 다른 사용자의 토큰은 유지된다.")
+    @Test
+    void deleteAllByUserId() {
+        // given
+        refreshTokenStore.save("refresh-token-1", 100000000000000001L, Duration.ofDays(7));
+        refreshTokenStore.save("refresh-token-2", 100000000000000001L, Duration.ofDays(7));
+        refreshTokenStore.save("refresh-token-3", 100000000000000002L, Duration.ofDays(7));
+        // when
+        int deletedCount = refreshTokenStore.deleteAllByUserId(100000000000000001L);
+        // then
+        assertThat(deletedCount).isEqualTo(2);
+        assertThat(refreshTokenStore.findUserId("refresh-token-1")).isEmpty();
+        assertThat(refreshTokenStore.findUserId("refresh-token-2")).isEmpty();
+        assertThat(refreshTokenStore.findUserId("refresh-token-3")).contains(100000000000000002L);
+    }
+
+    @DisplayName("기존 형식으로 저장된 Refresh Token 은 조회 시 새 형식으로 옮겨지고, 기존 키는 삭제된다.")
+    @Test
+    void findUserId_legacyToken() {
+        // given
+        tokenRedisRepository.save(TokenForRedis.builder()
+                .refreshToken("legacy-refresh-token")
+                .userId(100000000000000001L)
+                .refreshExpire(7)
+                .build());
+        // when
+        // then
+        assertThat(refreshTokenStore.findUserId("legacy-refresh-token")).contains(100000000000000001L);
+        assertThat(tokenRedisRepository.findById("legacy-refresh-token")).isEmpty();
+        assertThat(refreshTokenStore.findUserId("legacy-refresh-token")).contains(100000000000000001L);
+    }
+}
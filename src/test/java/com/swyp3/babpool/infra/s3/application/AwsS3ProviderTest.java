@@ -1,12 +1,32 @@
 package com.swyp3.babpool.infra.s3.application;
 
+import com.amazonaws.services.s3.AmazonS3;
 import com.fasterxml.uuid.Generators;
+import com.swyp3.babpool.infra.image.application.ImageVariantProcessor;
+import com.swyp3.babpool.infra.image.application.ImageVariantUrls;
+import com.swyp3.babpool.infra.image.domain.ImageVariant;
+import com.swyp3.babpool.infra.s3.exception.AwsS3Exception;
 import lombok.extern.slf4j.Slf4j;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.util.StringUtils;
 
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @Slf4j
@@ -37,5 +57,144 @@ class AwsS3ProviderTest {
         log.info("finalUrl = {}", finalUrl);
     }
 
+    @DisplayName("업로드한 이미지는 상세, 목록 카드 크기로 줄여 저장소에 올리고, 크기별 URL 을 반환한다.")
+    @Test
+    void uploadImageVariants(@TempDir Path root) throws IOException {
+        // given
+        LocalFileSystemObjectStore objectStore = new LocalFileSystemObjectStore(root, "https://bab-pool.test");
+        AwsS3Provider awsS3Provider = new AwsS3Provider(Mockito.mock(AmazonS3.class), objectStore, new ImageVariantProcessor(0.82f, 40_000_000L));
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(1600, 1600, BufferedImage.TYPE_INT_ARGB), "png", png);
+        MockMultipartFile multipartFile = new MockMultipartFile("profileImageFile", "avatar.png", "image/png", png.toByteArray());
+
+        // when
+        ImageVariantUrls imageVariantUrls = awsS3Provider.uploadImageVariants(multipartFile);
+
+        // then
+        String detailUrl = imageVariantUrls.urlOf(ImageVariant.DETAIL);
+        String cardUrl = imageVariantUrls.urlOf(ImageVariant.CARD);
+        Assertions.assertThat(detailUrl).startsWith("https://bab-pool.test/static/").endsWith("_detail.jpg");
+        Assertions.assertThat(cardUrl).isEqualTo(detailUrl.replace("_detail.jpg", "_card.jpg"));
+        BufferedImage card = ImageIO.read(new ByteArrayInputStream(objectStore.read(cardUrl.substring("https://bab-pool.test/".length()))));
+        Assertions.assertThat(card.getWidth()).isEqualTo(ImageVariant.CARD.getMaxEdge());
+    }
+
+    @DisplayName("EXIF Orientation 이 있는 JPEG 은 표시 방향대로 돌려 저장하고, EXIF 는 남기지 않는다.")
+    @Test
+    void uploadImageVariants_exifOrientation(@TempDir Path root) throws IOException {
+        // given
+        LocalFileSystemObjectStore objectStore = new LocalFileSystemObjectStore(root, "https://bab-pool.test");
+        AwsS3Provider awsS3Provider = new AwsS3Provider(Mockito.mock(AmazonS3.class), objectStore, new ImageVariantProcessor(0.82f, 40_000_000L));
+        // 시계 방향으로 90도 돌려서 봐야 하는 가로 사진 : 저장된 왼쪽 절반이 화면의 위쪽 절반이 된다.
+        MockMultipartFile multipartFile = new MockMultipartFile("profileImageFile", "photo.jpg", "image/jpeg",
+                OrientedJpegFixture.jpeg(1600, 800, 6));
+
+        // when
+        ImageVariantUrls imageVariantUrls = awsS3Provider.uploadImageVariants(multipartFile);
+
+        // then
+        String cardKey = imageVariantUrls.urlOf(ImageVariant.CARD).substring("https://bab-pool.test/".length());
+        byte[] stored = objectStore.read(cardKey);
+        BufferedImage card = ImageIO.read(new ByteArrayInputStream(stored));
+        Assertions.assertThat(card.getWidth()).isEqualTo(ImageVariant.CARD.getMaxEdge() / 2);
+        Assertions.assertThat(card.getHeight()).isEqualTo(ImageVariant.CARD.getMaxEdge());
+        assertColorNear(card.getRGB(card.getWidth() / 2, card.getHeight() / 4), OrientedJpegFixture.LEFT_COLOR);
+        assertColorNear(card.getRGB(card.getWidth() / 2, card.getHeight() * 3 / 4), OrientedJpegFixture.RIGHT_COLOR);
+        Assertions.assertThat(new String(stored, StandardCharsets.ISO_8859_1)).doesNotContain("Exif");
+    }
+
+    @DisplayName("발급받은 URL 로 비공개 경로에 직접 업로드한 이미지는 HEAD 로 확인한 뒤, 크기별 이미지로 다시 만들어 URL 을 반환한다.")
+    @Test
+    void issueImageUploadUrl_confirmUploadedImage(@TempDir Path root) throws IOException {
+        // given
+        LocalFileSystemObjectStore objectStore = new LocalFileSystemObjectStore(root, "https://bab-pool.test");
+        AwsS3Provider awsS3Provider = new AwsS3Provider(Mockito.mock(AmazonS3.class), objectStore, new ImageVariantProcessor(0.82f, 40_000_000L));
+        byte[] image = OrientedJpegFixture.jpeg(1600, 800, 6);
+        PresignedUpload presignedUpload = awsS3Provider.issueImageUploadUrl(1L, "image/jpeg", image.length);
+        objectStore.upload(presignedUpload.url(), presignedUpload.requiredHeaders(), image);
+
+        // when
+        ImageVariantUrls imageVariantUrls = awsS3Provider.confirmUploadedImage(1L, presignedUpload.key());
+
+        // then
+        Assertions.assertThat(presignedUpload.key()).startsWith("upload/").endsWith(".jpg");
+        Assertions.assertThat(presignedUpload.requiredHeaders())
+                .containsEntry("x-amz-meta-uploader-id", "1")
+                .doesNotContainKey("x-amz-acl");
+        String detailUrl = imageVariantUrls.urlOf(ImageVariant.DETAIL);
+        Assertions.assertThat(detailUrl).startsWith("https://bab-pool.test/static/").endsWith("_detail.jpg");
+        Assertions.assertThat(imageVariantUrls.urlOf(ImageVariant.CARD)).isEqualTo(detailUrl.replace("_detail.jpg", "_card.jpg"));
+        byte[] stored = objectStore.read(detailUrl.substring("https://bab-pool.test/".length()));
+        Assertions.assertThat(new String(stored, StandardCharsets.ISO_8859_1)).doesNotContain("Exif");
+    }
+
+    @DisplayName("허용되지 않은 타입이나 크기로는 URL 을 발급하지 않고, 서명 조건과 다른 업로드는 거절된다.")
+    @Test
+    void issueImageUploadUrl_conditions(@TempDir Path root) {
+        // given
+        LocalFileSystemObjectStore objectStore = new LocalFileSystemObjectStore(root, "https://bab-pool.test");
+        AwsS3Provider awsS3Provider = new AwsS3Provider(Mockito.mock(AmazonS3.class), objectStore, new ImageVariantProcessor(0.82f, 40_000_000L));
+        PresignedUpload presignedUpload = awsS3Provider.issueImageUploadUrl(1L, "image/jpeg", 1024);
+        Map<String, String> htmlHeaders = new HashMap<>(presignedUpload.requiredHeaders());
+        htmlHeaders.put("Content-Type", "text/html");
+
+        // when, then
+        Assertions.assertThatThrownBy(() -> awsS3Provider.issueImageUploadUrl(1L, "text/html", 1024))
+                .isInstanceOf(AwsS3Exception.class);
+        Assertions.assertThatThrownBy(() -> awsS3Provider.issueImageUploadUrl(1L, "image/jpeg", 5_000_001))
+                .isInstanceOf(AwsS3Exception.class);
+        Assertions.assertThatThrownBy(() -> objectStore.upload(presignedUpload.url(), presignedUpload.requiredHeaders(), new byte[2048]))
+                .isInstanceOf(IllegalStateException.class);
+        Assertions.assertThatThrownBy(() -> objectStore.upload(presignedUpload.url(), htmlHeaders, new byte[1024]))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @DisplayName("업로드되지 않았거나 다른 사용자가 업로드한 이미지, 발급 형식이 아닌 키는 확인에 실패한다.")
+    @Test
+    void confirmUploadedImage_invalid(@TempDir Path root) {
+        // given
+        LocalFileSystemObjectStore objectStore = new LocalFileSystemObjectStore(root, "https://bab-pool.test");
+        AwsS3Provider awsS3Provider = new AwsS3Provider(Mockito.mock(AmazonS3.class), objectStore, new ImageVariantProcessor(0.82f, 40_000_000L));
+        PresignedUpload notUploaded = awsS3Provider.issueImageUploadUrl(1L, "image/png", 1024);
+        PresignedUpload uploadedByOther = awsS3Provider.issueImageUploadUrl(2L, "image/png", 1024);
+        objectStore.upload(uploadedByOther.url(), uploadedByOther.requiredHeaders(), new byte[1024]);
+
+        // when, then
+        Assertions.assertThatThrownBy(() -> awsS3Provider.confirmUploadedImage(1L, notUploaded.key()))
+                .isInstanceOf(AwsS3Exception.class);
+        Assertions.assertThatThrownBy(() -> awsS3Provider.confirmUploadedImage(1L, uploadedByOther.key()))
+                .isInstanceOf(AwsS3Exception.class);
+        Assertions.assertThatThrownBy(() -> awsS3Provider.confirmUploadedImage(1L, "upload/../secret.png"))
+                .isInstanceOf(AwsS3Exception.class);
+        Assertions.assertThatThrownBy(() -> awsS3Provider.confirmUploadedImage(1L, uploadedByOther.key().replace("upload/", "static/")))
+                .isInstanceOf(AwsS3Exception.class);
+    }
+
+    @DisplayName("S3 에 업로드한 이미지 URL 의 객체 키를 구하고, 크기별 이미지라면 모든 크기의 키를 함께 구한다.")
+    @Test
+    void selfUploadedObjectKeysOf(@TempDir Path root) throws IOException {
+        // given
+        AmazonS3 amazonS3 = Mockito.mock(AmazonS3.class);
+        Mockito.when(amazonS3.getUrl(Mockito.any(), Mockito.eq("static")))
+                .thenReturn(new URL("https://babpool-image-bucket.s3.ap-northeast-2.amazonaws.com/static"));
+        AwsS3Provider awsS3Provider = new AwsS3Provider(amazonS3, new LocalFileSystemObjectStore(root, "https://bab-pool.test"),
+                new ImageVariantProcessor(0.82f, 40_000_000L));
+        String prefix = "https://babpool-image-bucket.s3.ap-northeast-2.amazonaws.com/static/";
+        String uuid = "018df2dd-6b59-7758-9e76-2862767ce099";
 
-}
\ No newline at end of file
+        // when, then
+        Assertions.assertThat(awsS3Provider.selfUploadedObjectKeysOf(prefix + uuid + "_detail.jpg"))
+                .containsExactly("static/" + uuid + "_detail.jpg", "static/" + uuid + "_card.jpg");
+        Assertions.assertThat(awsS3Provider.selfUploadedObjectKeysOf(prefix + uuid + ".png"))
+                .containsExactly("static/" + uuid + ".png");
+        Assertions.assertThat(awsS3Provider.selfUploadedObjectKeysOf("http://k.kakaocdn.net/dn/profile.jpg")).isEmpty();
+        Assertions.assertThat(awsS3Provider.selfUploadedObjectKeysOf(null)).isEmpty();
+    }
+
+    private static void assertColorNear(int rgb, Color expected) {
+        Color actual = new Color(rgb);
+        Assertions.assertThat(actual.getRed()).isCloseTo(expected.getRed(), Assertions.within(16));
+        Assertions.assertThat(actual.getGreen()).isCloseTo(expected.getGreen(), Assertions.within(16));
+        Assertions.assertThat(actual.getBlue()).isCloseTo(expected.getBlue(), Assertions.within(16));
+    }
+}
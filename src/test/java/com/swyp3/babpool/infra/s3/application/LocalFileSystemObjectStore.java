@@ -0,0 +1,161 @@
+package com.swyp3.babpool.infra.s3.application;
+
+import com.swyp3.babpool.infra.s3.exception.AwsS3ErrorCode;
+import com.swyp3.babpool.infra.s3.exception.AwsS3Exception;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 테스트에서 S3 대신 사용하는 로컬 파일 시스템 저장소. 키를 root 아래의 상대 경로로 저장한다.
+ * 서명된 PUT URL 은 발급 조건을 기억해 두었다가, {@link #upload} 에서 S3 처럼 만료 시각, Content-Type, Content-Length,
+ * 서명된 헤더가 맞는지 확인한다.
+ */
+public class LocalFileSystemObjectStore implements ObjectStore {
+
+    private static final String USER_METADATA_PREFIX = "x-amz-meta-";
+
+    private final Path root;
+    private final String baseUrl;
+    private final Map<String, StoredObject> metadataByKey = new ConcurrentHashMap<>();
+    private final Map<String, PresignedPut> presignedPutByUrl = new ConcurrentHashMap<>();
+
+    public LocalFileSystemObjectStore(Path root, String baseUrl) {
+        this.root = root;
+        this.baseUrl = baseUrl;
+    }
+
+    @Override
+    public void putAll(List<ObjectContent> objects) {
+        for (ObjectContent object : objects) {
+            write(object.key(), object.content());
+            metadataByKey.put(object.key(), new StoredObject(object.key(), object.contentType(), object.content().length, Map.of()));
+        }
+    }
+
+    @Override
+    public String urlOf(String key) {
+        return baseUrl + "/" + key;
+    }
+
+    @Override
+    public PresignedUpload presignPut(String key, String contentType, long contentLength, Map<String, String> userMetadata, Instant expiresAt) {
+        String url = urlOf(key) + "?X-Amz-Expires=" + expiresAt.getEpochSecond();
+        Map<String, String> requiredHeaders = new ConcurrentHashMap<>();
+        requiredHeaders.put("Content-Type", contentType);
+        userMetadata.forEach((name, value) -> requiredHeaders.put(USER_METADATA_PREFIX + name, value));
+        presignedPutByUrl.put(url, new PresignedPut(key, contentType, contentLength, Map.copyOf(requiredHeaders), expiresAt));
+        return new PresignedUpload(key, url, Map.copyOf(requiredHeaders), expiresAt);
+    }
+
+    @Override
+    public Optional<StoredObject> head(String key) {
+        return Optional.ofNullable(metadataByKey.get(key));
+    }
+
+    @Override
+    public List<String> deleteAll(List<String> keys) {
+        if (keys.size() > MAX_DELETE_BATCH_SIZE) {
+            throw new IllegalArgumentException("한 번에 삭제할 수 있는 객체는 최대 " + MAX_DELETE_BATCH_SIZE + "개 입니다. size : " + keys.size());
+        }
+        List<String> failedKeys = new ArrayList<>();
+        for (String key : keys) {
+            try {
+                Files.deleteIfExists(pathOf(key));
+                metadataByKey.remove(key);
+            } catch (IOException e) {
+                failedKeys.add(key);
+            }
+        }
+        return failedKeys;
+    }
+
+    @Override
+    public void listKeys(String prefix, Instant modifiedBefore, Consumer<List<String>> pageConsumer) {
+        if (!Files.exists(root)) {
+            return;
+        }
+        List<String> keys;
+        try (Stream<Path> paths = Files.walk(root)) {
+            keys = paths.filter(Files::isRegularFile)
+                    .filter(path -> lastModifiedOf(path).isBefore(modifiedBefore))
+                    .map(path -> root.relativize(path).toString().replace('\\', '/'))
+                    .filter(key -> key.startsWith(prefix))
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        for (int from = 0; from < keys.size(); from += MAX_DELETE_BATCH_SIZE) {
+            pageConsumer.accept(keys.subList(from, Math.min(from + MAX_DELETE_BATCH_SIZE, keys.size())));
+        }
+    }
+
+    /**
+     * 클라이언트가 서명된 URL 로 PUT 하는 것을 흉내 낸다. 서명 조건과 다르면 S3 처럼 업로드를 거절한다.
+     */
+    public void upload(String url, Map<String, String> headers, byte[] content) {
+        PresignedPut presignedPut = presignedPutByUrl.get(url);
+        if (presignedPut == null || Instant.now().isAfter(presignedPut.expiresAt())) {
+            throw new IllegalStateException("AccessDenied : 만료되었거나 발급하지 않은 URL");
+        }
+        boolean signedHeadersMatch = presignedPut.requiredHeaders().entrySet().stream()
+                .allMatch(header -> Objects.equals(header.getValue(), headers.get(header.getKey())));
+        if (!signedHeadersMatch || content.length != presignedPut.contentLength()) {
+            throw new IllegalStateException("SignatureDoesNotMatch : 서명된 헤더 또는 Content-Length 가 다름");
+        }
+        write(presignedPut.key(), content);
+        Map<String, String> userMetadata = new ConcurrentHashMap<>();
+        headers.forEach((name, value) -> {
+            if (name.startsWith(USER_METADATA_PREFIX)) {
+                userMetadata.put(name.substring(USER_METADATA_PREFIX.length()), value);
+            }
+        });
+        metadataByKey.put(presignedPut.key(), new StoredObject(presignedPut.key(), presignedPut.contentType(), content.length, userMetadata));
+    }
+
+    @Override
+    public byte[] read(String key) {
+        try {
+            return Files.readAllBytes(pathOf(key));
+        } catch (IOException e) {
+            throw new AwsS3Exception(AwsS3ErrorCode.AWS_S3_UPLOADED_IMAGE_NOT_FOUND, "Object read fail. key : " + key);
+        }
+    }
+
+    public Path pathOf(String key) {
+        return root.resolve(key);
+    }
+
+    private static Instant lastModifiedOf(Path path) {
+        try {
+            return Files.getLastModifiedTime(path).toInstant();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void write(String key, byte[] content) {
+        try {
+            Path path = pathOf(key);
+            Files.createDirectories(path.getParent());
+            Files.write(path, content);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private record PresignedPut(String key, String contentType, long contentLength, Map<String, String> requiredHeaders, Instant expiresAt) {
+    }
+}
@@ -0,0 +1,53 @@
+package com.swyp3.babpool.infra.s3.application;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+/**
+ * 휴대폰 사진처럼 픽셀은 센서 방향으로 저장하고, 표시 방향은 EXIF Orientation 으로 기록한 JPEG 을 만든다.
+ * 저장된 픽셀은 왼쪽 절반이 LEFT_COLOR, 오른쪽 절반이 RIGHT_COLOR 이다.
+ */
+public final class OrientedJpegFixture {
+
+    public static final Color LEFT_COLOR = new Color(255, 140, 0);
+    public static final Color RIGHT_COLOR = new Color(30, 90, 200);
+
+    private OrientedJpegFixture() {
+    }
+
+    public static byte[] jpeg(int width, int height, int orientation) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(LEFT_COLOR);
+        graphics.fillRect(0, 0, width / 2, height);
+        graphics.setColor(RIGHT_COLOR);
+        graphics.fillRect(width / 2, 0, width - width / 2, height);
+        graphics.dispose();
+        ByteArrayOutputStream jpeg = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpeg", jpeg);
+        return withOrientation(jpeg.toByteArray(), orientation);
+    }
+
+    /**
+     * SOI 바로 뒤에 Orientation 태그 하나만 담은 APP1(Exif, big endian) 세그먼트를 넣는다.
+     */
+    private static byte[] withOrientation(byte[] jpeg, int orientation) {
+        byte[] app1 = {
+                (byte) 0xFF, (byte) 0xE1, 0x00, 0x22,         // APP1, 길이 34
+                'E', 'x', 'i', 'f', 0x00, 0x00,               // Exif 헤더
+                'M', 'M', 0x00, 0x2A, 0x00, 0x00, 0x00, 0x08, // TIFF 헤더, IFD0 위치 8
+                0x00, 0x01,                                   // IFD0 항목 1개
+                0x01, 0x12, 0x00, 0x03, 0x00, 0x00, 0x00, 0x01, (byte) 0x00, (byte) orientation, 0x00, 0x00, // Orientation (SHORT)
+                0x00, 0x00, 0x00, 0x00                        // 다음 IFD 없음
+        };
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        output.write(jpeg, 0, 2);
+        output.write(app1, 0, app1.length);
+        output.write(jpeg, 2, jpeg.length - 2);
+        return output.toByteArray();
+    }
+}
@@ -0,0 +1,47 @@
+package com.swyp3.babpool.infra.s3.dao;
+
+import com.swyp3.babpool.global.mybatis.SchemaMigrations;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@MybatisTest
+class S3DeletionOutboxRepositoryTest {
+
+    @Autowired
+    private S3DeletionOutboxRepository s3DeletionOutboxRepository;
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeEach
+    void applySchemaMigrations() throws Exception {
+        SchemaMigrations.apply(dataSource);
+    }
+
+    @DisplayName("saveAll 매퍼로 저장한 키는 findObjectKeysCreatedBefore 매퍼로 한 번씩 조회되고, deleteByObjectKeys 매퍼로 같은 키의 행이 모두 삭제된다.")
+    @Test
+    void saveFindAndDelete() {
+        // given
+        s3DeletionOutboxRepository.saveAll(List.of("static/old_detail.jpg", "static/old_card.jpg"));
+        s3DeletionOutboxRepository.saveAll(List.of("static/old_detail.jpg"));
+
+        // when
+        List<String> pendingKeys = s3DeletionOutboxRepository.findObjectKeysCreatedBefore(LocalDateTime.now().plusMinutes(1), 100);
+        int deletedRows = s3DeletionOutboxRepository.deleteByObjectKeys(List.of("static/old_detail.jpg", "static/old_card.jpg"));
+
+        // then
+        assertThat(pendingKeys).containsExactlyInAnyOrder("static/old_detail.jpg", "static/old_card.jpg");
+        assertThat(deletedRows).isEqualTo(3);
+        assertThat(s3DeletionOutboxRepository.findObjectKeysCreatedBefore(LocalDateTime.now().plusMinutes(1), 100)).isEmpty();
+    }
+}
@@ -0,0 +1,100 @@
+package com.swyp3.babpool.infra.s3.deletion;
+
+import com.swyp3.babpool.infra.s3.dao.S3DeletionOutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class S3DeletionOutboxRelayTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-01T00:10:00Z");
+
+    @Mock
+    private S3DeletionOutboxRepository s3DeletionOutboxRepository;
+
+    @Mock
+    private S3ObjectDeletionQueue s3ObjectDeletionQueue;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private S3DeletionOutboxRelay s3DeletionOutboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        s3DeletionOutboxRelay = new S3DeletionOutboxRelay(s3DeletionOutboxRepository, s3ObjectDeletionQueue,
+                transactionManager, meterRegistry, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @DisplayName("이미지 수정 트랜잭션에서는 아웃박스에만 저장하고, 커밋 이후 삭제 대기열에 등록한 뒤 아웃박스에서 삭제한다.")
+    @Test
+    void saveAndRelayAfterCommit() {
+        // given
+        List<String> objectKeys = List.of("static/old_detail.jpg", "static/old_card.jpg");
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            s3DeletionOutboxRelay.saveAndRelayAfterCommit(objectKeys);
+            verify(s3DeletionOutboxRepository).saveAll(objectKeys);
+            verifyNoInteractions(s3ObjectDeletionQueue);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // then
+        verify(s3ObjectDeletionQueue).enqueue(objectKeys);
+        verify(s3DeletionOutboxRepository).deleteByObjectKeys(objectKeys);
+    }
+
+    @DisplayName("삭제 대기열 등록에 실패한 키는 아웃박스에 남겨두고, 주기 작업이 오래된 키를 다시 등록한다.")
+    @Test
+    void relayPendingKeys() {
+        // given
+        doThrow(new RedisConnectionFailureException("redis down")).when(s3ObjectDeletionQueue).enqueue(List.of("static/old.png"));
+        s3DeletionOutboxRelay.saveAndRelayAfterCommit(List.of("static/old.png"));
+        verify(s3DeletionOutboxRepository, never()).deleteByObjectKeys(anyCollection());
+
+        reset(s3ObjectDeletionQueue);
+        List<String> pendingKeys = List.of("static/old.png", "upload/staged.jpg");
+        when(s3DeletionOutboxRepository.findObjectKeysCreatedBefore(LocalDateTime.ofInstant(NOW, ZoneOffset.UTC).minus(S3DeletionOutboxRelay.RELAY_DELAY),
+                S3DeletionOutboxRelay.BATCH_SIZE)).thenReturn(pendingKeys);
+
+        // when
+        s3DeletionOutboxRelay.relayPendingKeys();
+
+        // then
+        verify(s3ObjectDeletionQueue).enqueue(pendingKeys);
+        verify(s3DeletionOutboxRepository).deleteByObjectKeys(pendingKeys);
+        assertThat(meterRegistry.get("s3.deletion.outbox.relay.failed").counter().count()).isEqualTo(1);
+    }
+
+    @DisplayName("저장할 키가 없으면 아웃박스와 삭제 대기열을 사용하지 않는다.")
+    @Test
+    void saveAndRelayAfterCommit_empty() {
+        // when
+        s3DeletionOutboxRelay.saveAndRelayAfterCommit(List.of());
+
+        // then
+        verifyNoInteractions(s3DeletionOutboxRepository, s3ObjectDeletionQueue);
+    }
+}
@@ -0,0 +1,103 @@
+package com.swyp3.babpool.infra.s3.deletion;
+
+import com.swyp3.babpool.infra.redis.EmbeddedLocalRedisConfig;
+import com.swyp3.babpool.infra.redis.RedisRepositoryConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Import({EmbeddedLocalRedisConfig.class, RedisRepositoryConfig.class})
+@DataRedisTest
+@ActiveProfiles("test")
+class S3ObjectDeletionQueueTest {
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    private S3ObjectDeletionQueue s3ObjectDeletionQueue;
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate.delete(List.of(S3ObjectDeletionQueue.QUEUE_KEY, S3ObjectDeletionQueue.ATTEMPT_KEY, S3ObjectDeletionQueue.DEAD_LETTER_KEY));
+        s3ObjectDeletionQueue = new S3ObjectDeletionQueue(stringRedisTemplate, new SimpleMeterRegistry());
+    }
+
+    @DisplayName("같은 키는 한 번만 등록되고, 한 번 가져간 키는 임대 시간 동안 다시 가져갈 수 없다.")
+    @Test
+    void claimDueKeys() {
+        // given
+        s3ObjectDeletionQueue.enqueue(List.of("static/a_detail.jpg", "static/a_card.jpg"));
+        s3ObjectDeletionQueue.enqueue(List.of("static/a_detail.jpg"));
+
+        // when
+        List<String> claimed = s3ObjectDeletionQueue.claimDueKeys(1000, Duration.ofMinutes(1));
+        List<String> claimedAgain = s3ObjectDeletionQueue.claimDueKeys(1000, Duration.ofMinutes(1));
+
+        // then
+        assertThat(claimed).containsExactlyInAnyOrder("static/a_detail.jpg", "static/a_card.jpg");
+        assertThat(claimedAgain).isEmpty();
+        assertThat(s3ObjectDeletionQueue.size()).isEqualTo(2);
+    }
+
+    @DisplayName("한 번에 limit 개 까지만 가져가고, 임대 시간이 지난 키는 다시 가져갈 수 있다.")
+    @Test
+    void claimDueKeys_limitAndLease() {
+        // given
+        s3ObjectDeletionQueue.enqueue(List.of("static/a.jpg", "static/b.jpg", "static/c.jpg"));
+
+        // when
+        List<String> claimed = s3ObjectDeletionQueue.claimDueKeys(2, Duration.ZERO);
+        List<String> reclaimed = s3ObjectDeletionQueue.claimDueKeys(3, Duration.ofMinutes(1));
+
+        // then
+        assertThat(claimed).hasSize(2);
+        assertThat(reclaimed).containsExactlyInAnyOrder("static/a.jpg", "static/b.jpg", "static/c.jpg");
+    }
+
+    @DisplayName("재시도 대기 중인 키는 다시 등록해도 실행 시각이 앞당겨지지 않고, 실패 횟수가 누적된다.")
+    @Test
+    void retryLater() {
+        // given
+        s3ObjectDeletionQueue.enqueue(List.of("static/a.jpg"));
+        s3ObjectDeletionQueue.claimDueKeys(10, Duration.ofMinutes(1));
+        int firstAttempt = s3ObjectDeletionQueue.recordFailure("static/a.jpg");
+        int secondAttempt = s3ObjectDeletionQueue.recordFailure("static/a.jpg");
+
+        // when
+        s3ObjectDeletionQueue.retryLater("static/a.jpg", Duration.ofHours(1));
+        s3ObjectDeletionQueue.enqueue(List.of("static/a.jpg"));
+
+        // then
+        assertThat(firstAttempt).isEqualTo(1);
+        assertThat(secondAttempt).isEqualTo(2);
+        assertThat(s3ObjectDeletionQueue.claimDueKeys(10, Duration.ofMinutes(1))).isEmpty();
+    }
+
+    @DisplayName("완료된 키는 실패 횟수와 함께 제거되고, dead-letter 로 옮긴 키는 별도 리스트에 보관된다.")
+    @Test
+    void completeAndDeadLetter() {
+        // given
+        s3ObjectDeletionQueue.enqueue(List.of("static/a.jpg", "static/b.jpg"));
+        s3ObjectDeletionQueue.recordFailure("static/a.jpg");
+
+        // when
+        s3ObjectDeletionQueue.complete(List.of("static/a.jpg"));
+        s3ObjectDeletionQueue.deadLetter("static/b.jpg");
+
+        // then
+        assertThat(s3ObjectDeletionQueue.size()).isZero();
+        assertThat(s3ObjectDeletionQueue.deadLetterSize()).isEqualTo(1);
+        assertThat(stringRedisTemplate.opsForHash().size(S3ObjectDeletionQueue.ATTEMPT_KEY)).isZero();
+    }
+}
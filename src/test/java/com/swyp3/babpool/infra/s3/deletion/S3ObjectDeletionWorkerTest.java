@@ -0,0 +1,92 @@
+package com.swyp3.babpool.infra.s3.deletion;
+
+import com.swyp3.babpool.infra.redis.RedisRetryQueue;
+import com.swyp3.babpool.infra.s3.application.ObjectStore;
+import com.swyp3.babpool.infra.s3.exception.AwsS3ErrorCode;
+import com.swyp3.babpool.infra.s3.exception.AwsS3Exception;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class S3ObjectDeletionWorkerTest {
+
+    @Mock
+    private S3ObjectDeletionQueue s3ObjectDeletionQueue;
+
+    @Mock
+    private ObjectStore objectStore;
+
+    private SimpleMeterRegistry meterRegistry;
+    private S3ObjectDeletionWorker s3ObjectDeletionWorker;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        s3ObjectDeletionWorker = new S3ObjectDeletionWorker(s3ObjectDeletionQueue, objectStore, meterRegistry);
+    }
+
+    @DisplayName("대기열에서 최대 1000개를 가져와 DeleteObjects 한 번으로 삭제하고 완료 처리한다.")
+    @Test
+    void processDueKeys() {
+        // given
+        List<String> objectKeys = List.of("static/a_detail.jpg", "static/a_card.jpg");
+        when(s3ObjectDeletionQueue.claimDueKeys(eq(ObjectStore.MAX_DELETE_BATCH_SIZE), any())).thenReturn(objectKeys);
+        when(objectStore.deleteAll(objectKeys)).thenReturn(List.of());
+
+        // when
+        s3ObjectDeletionWorker.processDueKeys();
+
+        // then
+        verify(objectStore, times(1)).deleteAll(objectKeys);
+        verify(s3ObjectDeletionQueue).complete(objectKeys);
+        verify(s3ObjectDeletionQueue, never()).retryLater(anyString(), any());
+        assertThat(meterRegistry.get("s3.deletion.objects").tag("result", "deleted").counter().count()).isEqualTo(2);
+    }
+
+    @DisplayName("일부 키만 삭제에 실패하면 실패한 키만 백오프 후 재시도한다.")
+    @Test
+    void processPartialFailure() {
+        // given
+        when(objectStore.deleteAll(any())).thenReturn(List.of("static/b.jpg"));
+        when(s3ObjectDeletionQueue.recordFailure("static/b.jpg")).thenReturn(1);
+
+        // when
+        s3ObjectDeletionWorker.process(List.of("static/a.jpg", "static/b.jpg"));
+
+        // then
+        verify(s3ObjectDeletionQueue).complete(List.of("static/a.jpg"));
+        verify(s3ObjectDeletionQueue).retryLater(eq("static/b.jpg"), any(Duration.class));
+        assertThat(meterRegistry.get("s3.deletion.objects").tag("result", "retried").counter().count()).isEqualTo(1);
+    }
+
+    @DisplayName("요청 전체가 실패하면 모든 키를 재시도하고, 최대 시도 횟수에 도달한 키는 dead-letter 로 옮긴다.")
+    @Test
+    void processRequestFailure() {
+        // given
+        when(objectStore.deleteAll(any())).thenThrow(new AwsS3Exception(AwsS3ErrorCode.AWS_S3_IMAGE_DELETE_FAIL, "fail"));
+        when(s3ObjectDeletionQueue.recordFailure("static/a.jpg")).thenReturn(3);
+        when(s3ObjectDeletionQueue.recordFailure("static/b.jpg")).thenReturn(RedisRetryQueue.MAX_ATTEMPTS);
+
+        // when
+        s3ObjectDeletionWorker.process(List.of("static/a.jpg", "static/b.jpg"));
+
+        // then
+        verify(s3ObjectDeletionQueue).complete(List.of());
+        verify(s3ObjectDeletionQueue).retryLater(eq("static/a.jpg"), any(Duration.class));
+        verify(s3ObjectDeletionQueue).deadLetter("static/b.jpg");
+        assertThat(meterRegistry.get("s3.deletion.objects").tag("result", "dead_lettered").counter().count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,99 @@
+package com.swyp3.babpool.infra.s3.deletion;
+
+import com.swyp3.babpool.domain.profile.dao.ProfileRepository;
+import com.swyp3.babpool.infra.s3.application.LocalFileSystemObjectStore;
+import com.swyp3.babpool.infra.s3.application.ObjectContent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class S3OrphanObjectSweeperTest {
+
+    @DisplayName("static/ 아래 객체 중 어떤 프로필도 사용하지 않는 객체만 삭제 대기열에 등록한다.")
+    @Test
+    void sweep(@TempDir Path root) {
+        // given
+        LocalFileSystemObjectStore objectStore = new LocalFileSystemObjectStore(root, "https://bab-pool.test");
+        objectStore.putAll(List.of(
+                new ObjectContent("static/used_detail.jpg", new byte[1], "image/jpeg"),
+                new ObjectContent("static/used_card.jpg", new byte[1], "image/jpeg"),
+                new ObjectContent("static/orphan.png", new byte[1], "image/png"),
+                new ObjectContent("other/not-an-image.txt", new byte[1], "text/plain")));
+        ProfileRepository profileRepository = Mockito.mock(ProfileRepository.class);
+        when(profileRepository.findReferencedImageUrls(anyList()))
+                .thenReturn(List.of("https://bab-pool.test/static/used_detail.jpg", "https://bab-pool.test/static/used_card.jpg"));
+        S3ObjectDeletionQueue s3ObjectDeletionQueue = Mockito.mock(S3ObjectDeletionQueue.class);
+        S3OrphanObjectSweeper sweeper = sweeper(objectStore, profileRepository, s3ObjectDeletionQueue, Instant.now().plus(Duration.ofDays(2)));
+
+        // when
+        long orphans = sweeper.sweep();
+
+        // then
+        ArgumentCaptor<Collection<String>> orphanKeys = ArgumentCaptor.forClass(Collection.class);
+        verify(s3ObjectDeletionQueue).enqueue(orphanKeys.capture());
+        assertThat(orphans).isEqualTo(1);
+        assertThat(orphanKeys.getValue()).containsExactly("static/orphan.png");
+    }
+
+    @DisplayName("upload/ 아래에 확인하지 않고 남은 직접 업로드 원본은 프로필과 비교하지 않고 삭제 대기열에 등록한다.")
+    @Test
+    void sweep_stagedUploads(@TempDir Path root) {
+        // given
+        LocalFileSystemObjectStore objectStore = new LocalFileSystemObjectStore(root, "https://bab-pool.test");
+        objectStore.putAll(List.of(new ObjectContent("upload/unconfirmed.jpg", new byte[1], "image/jpeg")));
+        ProfileRepository profileRepository = Mockito.mock(ProfileRepository.class);
+        S3ObjectDeletionQueue s3ObjectDeletionQueue = Mockito.mock(S3ObjectDeletionQueue.class);
+        S3OrphanObjectSweeper sweeper = sweeper(objectStore, profileRepository, s3ObjectDeletionQueue, Instant.now().plus(Duration.ofDays(2)));
+
+        // when
+        long orphans = sweeper.sweep();
+
+        // then
+        ArgumentCaptor<Collection<String>> orphanKeys = ArgumentCaptor.forClass(Collection.class);
+        verify(s3ObjectDeletionQueue).enqueue(orphanKeys.capture());
+        assertThat(orphans).isEqualTo(1);
+        assertThat(orphanKeys.getValue()).containsExactly("upload/unconfirmed.jpg");
+        Mockito.verifyNoInteractions(profileRepository);
+    }
+
+    @DisplayName("min-age 보다 최근에 저장된 객체는 프로필에 저장되기 전일 수 있으므로 확인하지 않는다.")
+    @Test
+    void sweep_skipRecentObjects(@TempDir Path root) {
+        // given
+        LocalFileSystemObjectStore objectStore = new LocalFileSystemObjectStore(root, "https://bab-pool.test");
+        objectStore.putAll(List.of(new ObjectContent("static/uploading.jpg", new byte[1], "image/jpeg")));
+        ProfileRepository profileRepository = Mockito.mock(ProfileRepository.class);
+        S3ObjectDeletionQueue s3ObjectDeletionQueue = Mockito.mock(S3ObjectDeletionQueue.class);
+        S3OrphanObjectSweeper sweeper = sweeper(objectStore, profileRepository, s3ObjectDeletionQueue, Instant.now());
+
+        // when
+        long orphans = sweeper.sweep();
+
+        // then
+        assertThat(orphans).isZero();
+        Mockito.verifyNoInteractions(profileRepository, s3ObjectDeletionQueue);
+    }
+
+    private static S3OrphanObjectSweeper sweeper(LocalFileSystemObjectStore objectStore, ProfileRepository profileRepository,
+                                                 S3ObjectDeletionQueue s3ObjectDeletionQueue, Instant now) {
+        return new S3OrphanObjectSweeper(objectStore, profileRepository, s3ObjectDeletionQueue, Mockito.mock(StringRedisTemplate.class),
+                new SimpleMeterRegistry(), Duration.ofHours(24), Clock.fixed(now, ZoneOffset.UTC));
+    }
+}